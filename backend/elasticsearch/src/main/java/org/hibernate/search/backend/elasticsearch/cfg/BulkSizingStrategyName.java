@@ -0,0 +1,54 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.cfg;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.util.common.impl.StringHelper;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+public enum BulkSizingStrategyName {
+
+	/**
+	 * Bulks are limited by their number of works,
+	 * as defined by {@link ElasticsearchBackendSettings#INDEXING_MAX_BULK_SIZE}.
+	 */
+	FIXED("fixed"),
+
+	/**
+	 * Bulks are limited by their payload size in bytes,
+	 * as defined by {@link ElasticsearchBackendSettings#INDEXING_MAX_BULK_BYTES},
+	 * in addition to their number of works.
+	 * <p>
+	 * When Elasticsearch rejects works because of excessive load,
+	 * the payload size of bulks is reduced and the rejected works are sent again after a delay.
+	 */
+	ADAPTIVE("adaptive");
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static BulkSizingStrategyName of(String value) {
+		return StringHelper.parseDiscreteValues(
+				BulkSizingStrategyName.values(),
+				BulkSizingStrategyName::getExternalRepresentation,
+				log::invalidBulkSizingStrategyName,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	BulkSizingStrategyName(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	private String getExternalRepresentation() {
+		return externalRepresentation;
+	}
+}
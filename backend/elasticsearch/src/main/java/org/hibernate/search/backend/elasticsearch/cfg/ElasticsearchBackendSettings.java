@@ -184,6 +184,93 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String ANALYSIS_CONFIGURER = "analysis_configurer";
 
+	/**
+	 * The timeout for scrolls, in seconds.
+	 * <p>
+	 * Elasticsearch keeps the resources associated to a scroll alive for that long after each chunk is fetched,
+	 * so this should be higher than the time it takes to process a chunk of hits.
+	 * <p>
+	 * Expects a positive Integer value in seconds, such as {@code 60},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#SCROLL_TIMEOUT}.
+	 */
+	public static final String SCROLL_TIMEOUT = "scroll_timeout";
+
+	/**
+	 * The number of queues of the work orchestrator shared by all indexes of the backend,
+	 * used in particular for mass indexing.
+	 * <p>
+	 * Each queue has its own consumer thread, so higher values allow more bulk requests to be in flight concurrently,
+	 * including for a single index.
+	 * Each changeset is sent to the least busy queue; this orchestrator does not preserve ordering between changesets.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 4},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_QUEUE_COUNT}.
+	 */
+	public static final String INDEXING_QUEUE_COUNT = "indexing.queue_count";
+
+	/**
+	 * The maximum number of changesets waiting to be sent to Elasticsearch
+	 * in each queue of the work orchestrator shared by all indexes of the backend,
+	 * used in particular for mass indexing.
+	 * <p>
+	 * Higher values allow larger bulks, but consume more memory.
+	 * Threads submitting changesets block while the queue is full.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 5000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_QUEUE_SIZE}.
+	 *
+	 * @see ElasticsearchIndexSettings#INDEXING_QUEUE_SIZE The equivalent setting for orchestrators dedicated to each index.
+	 */
+	public static final String INDEXING_QUEUE_SIZE = "indexing.queue_size";
+
+	/**
+	 * How to size the bulk requests sent to Elasticsearch
+	 * through the work orchestrator shared by all indexes of the backend.
+	 * <p>
+	 * Expects a {@link BulkSizingStrategyName} value, or a String representation of such value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_BULK_SIZING}.
+	 *
+	 * @see ElasticsearchIndexSettings#INDEXING_BULK_SIZING The equivalent setting for orchestrators dedicated to each index.
+	 */
+	public static final String INDEXING_BULK_SIZING = "indexing.bulk_sizing";
+
+	/**
+	 * The maximum number of works in a single bulk request sent to Elasticsearch
+	 * through the work orchestrator shared by all indexes of the backend.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 250},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_MAX_BULK_SIZE}.
+	 *
+	 * @see ElasticsearchIndexSettings#INDEXING_MAX_BULK_SIZE The equivalent setting for orchestrators dedicated to each index.
+	 */
+	public static final String INDEXING_MAX_BULK_SIZE = "indexing.max_bulk_size";
+
+	/**
+	 * The maximum payload size of a single bulk request sent to Elasticsearch
+	 * through the work orchestrator shared by all indexes of the backend,
+	 * when the {@link #INDEXING_BULK_SIZING bulk sizing strategy} is {@link BulkSizingStrategyName#ADAPTIVE adaptive}.
+	 * <p>
+	 * The payload size is estimated from the JSON representation of works.
+	 * A single work larger than this limit is still sent, in a bulk of its own.
+	 * <p>
+	 * Expects a strictly positive Integer value in bytes, such as {@code 5242880},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_MAX_BULK_BYTES}.
+	 *
+	 * @see ElasticsearchIndexSettings#INDEXING_MAX_BULK_BYTES The equivalent setting for orchestrators dedicated to each index.
+	 */
+	public static final String INDEXING_MAX_BULK_BYTES = "indexing.max_bulk_bytes";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -204,5 +291,21 @@ private Defaults() {
 		public static final String DISCOVERY_SCHEME = "http";
 		public static final boolean LOG_JSON_PRETTY_PRINTING = false;
 		public static final MultiTenancyStrategyName MULTI_TENANCY_STRATEGY = MultiTenancyStrategyName.NONE;
+		public static final int SCROLL_TIMEOUT = 60;
+		/*
+		 * Setting the queue size involves a bit of guesswork.
+		 * Basically we want the number to be large enough for the orchestrator
+		 * to create bulks of the maximum size most of the time,
+		 * but we also want to keep the number as low as possible to avoid
+		 * consuming too much memory with pending changesets.
+		 * The queue size for the orchestrator shared by all indexes is higher than the queue size
+		 * for orchestrators dedicated to each index, because the shared orchestrator will generally only handle
+		 * single-work changesets, and because it relies on a single consumer thread for all indexes.
+		 */
+		public static final int INDEXING_QUEUE_COUNT = 1;
+		public static final int INDEXING_QUEUE_SIZE = 5000;
+		public static final BulkSizingStrategyName INDEXING_BULK_SIZING = BulkSizingStrategyName.FIXED;
+		public static final int INDEXING_MAX_BULK_SIZE = 250;
+		public static final int INDEXING_MAX_BULK_BYTES = 5 * 1024 * 1024;
 	}
 }
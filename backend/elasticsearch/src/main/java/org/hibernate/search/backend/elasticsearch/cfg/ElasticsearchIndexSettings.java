@@ -47,6 +47,57 @@ private ElasticsearchIndexSettings() {
 
 	public static final String REFRESH_AFTER_WRITE = "refresh_after_write";
 
+	/**
+	 * The maximum number of changesets waiting to be sent to Elasticsearch
+	 * through the work orchestrator dedicated to this index, used in particular for automatic indexing.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 2500},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_QUEUE_SIZE}.
+	 *
+	 * @see ElasticsearchBackendSettings#INDEXING_QUEUE_SIZE
+	 */
+	public static final String INDEXING_QUEUE_SIZE = "indexing.queue_size";
+
+	/**
+	 * How to size the bulk requests sent to Elasticsearch through the work orchestrator dedicated to this index.
+	 * <p>
+	 * Expects a {@link BulkSizingStrategyName} value, or a String representation of such value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_BULK_SIZING}.
+	 *
+	 * @see ElasticsearchBackendSettings#INDEXING_BULK_SIZING
+	 */
+	public static final String INDEXING_BULK_SIZING = "indexing.bulk_sizing";
+
+	/**
+	 * The maximum number of works in a single bulk request sent to Elasticsearch
+	 * through the work orchestrator dedicated to this index.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 250},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_MAX_BULK_SIZE}.
+	 *
+	 * @see ElasticsearchBackendSettings#INDEXING_MAX_BULK_SIZE
+	 */
+	public static final String INDEXING_MAX_BULK_SIZE = "indexing.max_bulk_size";
+
+	/**
+	 * The maximum payload size of a single bulk request sent to Elasticsearch
+	 * through the work orchestrator dedicated to this index,
+	 * when the {@link #INDEXING_BULK_SIZING bulk sizing strategy} is {@link BulkSizingStrategyName#ADAPTIVE adaptive}.
+	 * <p>
+	 * Expects a strictly positive Integer value in bytes, such as {@code 5242880},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_MAX_BULK_BYTES}.
+	 *
+	 * @see ElasticsearchBackendSettings#INDEXING_MAX_BULK_BYTES
+	 */
+	public static final String INDEXING_MAX_BULK_BYTES = "indexing.max_bulk_bytes";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -59,6 +110,10 @@ private Defaults() {
 		public static final ElasticsearchIndexStatus LIFECYCLE_MINIMAL_REQUIRED_STATUS = ElasticsearchIndexStatus.GREEN;
 		public static final int LIFECYCLE_MINIMAL_REQUIRED_STATUS_WAIT_TIMEOUT = 10_000;
 		public static final boolean REFRESH_AFTER_WRITE = false;
+		public static final int INDEXING_QUEUE_SIZE = 2500;
+		public static final BulkSizingStrategyName INDEXING_BULK_SIZING = BulkSizingStrategyName.FIXED;
+		public static final int INDEXING_MAX_BULK_SIZE = 250;
+		public static final int INDEXING_MAX_BULK_BYTES = 5 * 1024 * 1024;
 	}
 
 }
@@ -0,0 +1,42 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.cfg.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+public final class ConfigurationPropertyChecks {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private ConfigurationPropertyChecks() {
+	}
+
+	/**
+	 * @param propertySource The property source.
+	 * @param property The property to retrieve.
+	 * @param eventContext The context to report in case of failure, e.g. a backend or index context.
+	 * @return The value of the property.
+	 * @throws org.hibernate.search.util.common.SearchException If the value of the property is lower than 1.
+	 */
+	public static int getStrictlyPositive(ConfigurationPropertySource propertySource,
+			ConfigurationProperty<Integer> property, EventContext eventContext) {
+		int value = property.get( propertySource );
+		if ( value < 1 ) {
+			throw log.invalidStrictlyPositivePropertyValue(
+					property.resolveOrRaw( propertySource ), value, eventContext
+			);
+		}
+		return value;
+	}
+
+}
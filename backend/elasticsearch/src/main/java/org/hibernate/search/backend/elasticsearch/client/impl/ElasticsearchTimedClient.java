@@ -0,0 +1,44 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClient;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.engine.metrics.spi.Timer;
+
+/**
+ * A client recording the latency of each request, successful or not, in a {@link Timer}.
+ * <p>
+ * Wrapping the client rather than instrumenting {@link ElasticsearchClientImpl}
+ * means latency is also recorded when a custom client factory is configured.
+ */
+public final class ElasticsearchTimedClient implements ElasticsearchClient {
+
+	private final ElasticsearchClient delegate;
+	private final Timer requestTimer;
+
+	public ElasticsearchTimedClient(ElasticsearchClient delegate, Timer requestTimer) {
+		this.delegate = delegate;
+		this.requestTimer = requestTimer;
+	}
+
+	@Override
+	public CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request) {
+		long startNanos = System.nanoTime();
+		CompletableFuture<ElasticsearchResponse> future = delegate.submit( request );
+		future.whenComplete( (response, throwable) -> requestTimer.recordSince( startNanos ) );
+		return future;
+	}
+
+	@Override
+	public <T> T unwrap(Class<T> clientClass) {
+		return delegate.unwrap( clientClass );
+	}
+}
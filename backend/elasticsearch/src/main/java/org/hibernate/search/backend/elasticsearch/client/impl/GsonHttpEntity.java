@@ -28,6 +28,7 @@
 
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 /**
  * Optimised adapter to encode GSON objects into HttpEntity instances.
@@ -55,6 +56,11 @@
  * report the content length; if not the encoding completion will be deferred
  * but not resetting so to avoid repeating encoding work.
  *
+ * All body parts rendered in a single pass go through the same {@link JsonWriter},
+ * and buffer pages are recycled as soon as their content has been handed over
+ * to the HTTP client, so that rendering large bulks produces little garbage
+ * besides the JSON objects themselves.
+ *
  * @author Sanne Grinovero (C) 2017 Red Hat Inc.
  */
 final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
@@ -121,6 +127,12 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 	private ProgressiveCharBufferWriter writer =
 			new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE );
 
+	/**
+	 * JSON writer on top of {@link #writer}, reused for all body parts,
+	 * lazily initialized and discarded along with {@link #writer}.
+	 */
+	private JsonWriter jsonWriter;
+
 	public GsonHttpEntity(Gson gson, List<JsonObject> bodyParts) throws IOException {
 		Contracts.assertNotNull( gson, "gson" );
 		Contracts.assertNotNull( bodyParts, "bodyParts" );
@@ -175,8 +187,9 @@ public void writeTo(OutputStream out) throws IOException {
 		 */
 		CountingOutputStream countingStream = new CountingOutputStream( out );
 		Writer writer = new OutputStreamWriter( countingStream, CHARSET );
+		JsonWriter jsonWriter = gson.newJsonWriter( writer );
 		for ( JsonObject bodyPart : bodyParts ) {
-			gson.toJson( bodyPart, writer );
+			gson.toJson( bodyPart, jsonWriter );
 			writer.append( '\n' );
 		}
 		writer.flush();
@@ -201,6 +214,7 @@ public void close() {
 		this.nextBodyToEncodeIndex = 0;
 		//Discard previous buffers as they might contain in-process content:
 		this.writer = new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE );
+		this.jsonWriter = null;
 	}
 
 	/**
@@ -236,9 +250,13 @@ private void attemptOnePassEncoding() throws IOException {
 	 * @throws IOException If writing fails.
 	 */
 	private void triggerFullWrite() throws IOException {
+		if ( jsonWriter == null ) {
+			jsonWriter = gson.newJsonWriter( writer );
+		}
 		while ( nextBodyToEncodeIndex < bodyParts.size() ) {
 			JsonObject bodyPart = bodyParts.get( nextBodyToEncodeIndex++ );
-			gson.toJson( bodyPart, writer );
+			// The JSON writer writes directly to the underlying writer, without buffering
+			gson.toJson( bodyPart, jsonWriter );
 			writer.append( '\n' );
 			writer.flush();
 			if ( writer.isFlowControlPushingBack() ) {
@@ -32,6 +32,14 @@
  */
 class ProgressiveCharBufferWriter extends Writer {
 
+	/**
+	 * Maximum number of empty pages kept around for reuse.
+	 * Content is usually sent to the output as soon as a page is full,
+	 * so a couple of pages is generally enough to avoid allocating
+	 * a new page for every kilobyte of content.
+	 */
+	private static final int MAX_FREE_PAGES = 4;
+
 	private final CharsetEncoder charsetEncoder;
 
 	/**
@@ -50,6 +58,12 @@ class ProgressiveCharBufferWriter extends Writer {
 	 */
 	private final Deque<ByteBuffer> needWritingPages = new ArrayDeque<>( 5 );
 
+	/**
+	 * Empty buffer pages whose content was fully written to the output,
+	 * to be reused instead of allocating new pages.
+	 */
+	private final Deque<ByteBuffer> freePages = new ArrayDeque<>( MAX_FREE_PAGES );
+
 	/**
 	 * Current buffer page, potentially null,
 	 * which may have some content but isn't full yet.
@@ -196,7 +210,7 @@ public int byteBufferContentSize() {
 	private void writeToByteBuffer(CharBuffer input) throws IOException {
 		while ( true ) {
 			if ( currentPage == null ) {
-				currentPage = ByteBuffer.allocate( pageSize );
+				currentPage = nextFreePage();
 			}
 			CoderResult coderResult = charsetEncoder.encode( input, currentPage, false );
 			if ( coderResult.equals( CoderResult.UNDERFLOW ) ) {
@@ -244,6 +258,7 @@ private void attemptFlushPendingBuffers(boolean flushCurrentPage) throws IOExcep
 			boolean written = write( buffer );
 			if ( written ) {
 				iterator.remove();
+				recyclePage( buffer );
 			}
 			else {
 				flowControlPushingBack = true;
@@ -253,7 +268,10 @@ private void attemptFlushPendingBuffers(boolean flushCurrentPage) throws IOExcep
 			// The encoder still accepts some input, and we are allowed to flush the current page. Let's do.
 			currentPage.flip();
 			boolean written = write( currentPage );
-			if ( !written ) {
+			if ( written ) {
+				recyclePage( currentPage );
+			}
+			else {
 				flowControlPushingBack = true;
 				needWritingPages.add( currentPage );
 			}
@@ -261,6 +279,22 @@ private void attemptFlushPendingBuffers(boolean flushCurrentPage) throws IOExcep
 		}
 	}
 
+	private ByteBuffer nextFreePage() {
+		ByteBuffer page = freePages.pollFirst();
+		if ( page == null ) {
+			page = ByteBuffer.allocate( pageSize );
+		}
+		return page;
+	}
+
+	private void recyclePage(ByteBuffer page) {
+		// The content of the page was fully consumed by the output, so we can safely reuse the page
+		if ( freePages.size() < MAX_FREE_PAGES ) {
+			page.clear();
+			freePages.addFirst( page );
+		}
+	}
+
 	private boolean write(ByteBuffer buffer) throws IOException {
 		final int toWrite = buffer.remaining();
 		// We should never do 0-length writes, see HSEARCH-2854
@@ -12,10 +12,12 @@
 import org.hibernate.search.backend.elasticsearch.analysis.ElasticsearchAnalysisConfigurer;
 import org.hibernate.search.backend.elasticsearch.analysis.model.dsl.impl.ElasticsearchAnalysisDefinitionContainerContextImpl;
 import org.hibernate.search.backend.elasticsearch.analysis.model.impl.ElasticsearchAnalysisDefinitionRegistry;
+import org.hibernate.search.backend.elasticsearch.cfg.BulkSizingStrategyName;
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchDialectName;
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchVersion;
 import org.hibernate.search.backend.elasticsearch.cfg.MultiTenancyStrategyName;
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
+import org.hibernate.search.backend.elasticsearch.cfg.impl.ConfigurationPropertyChecks;
 import org.hibernate.search.backend.elasticsearch.cfg.spi.ElasticsearchBackendSpiSettings;
 import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientUtils;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientFactory;
@@ -25,9 +27,11 @@
 import org.hibernate.search.backend.elasticsearch.gson.impl.DefaultGsonProvider;
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.metrics.impl.ElasticsearchBackendMetrics;
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.DiscriminatorMultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.NoMultiTenancyStrategy;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchBulkingConfiguration;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchSearchResultExtractorFactory;
 import org.hibernate.search.backend.elasticsearch.types.dsl.provider.impl.ElasticsearchIndexFieldTypeFactoryContextProvider;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
@@ -75,6 +79,42 @@ public class ElasticsearchBackendFactory implements BackendFactory {
 					.withDefault( ElasticsearchBackendSettings.Defaults.LOG_JSON_PRETTY_PRINTING )
 					.build();
 
+	private static final ConfigurationProperty<Integer> SCROLL_TIMEOUT =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.SCROLL_TIMEOUT )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.SCROLL_TIMEOUT )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_QUEUE_COUNT =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.INDEXING_QUEUE_COUNT )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.INDEXING_QUEUE_COUNT )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_QUEUE_SIZE =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.INDEXING_QUEUE_SIZE )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.INDEXING_QUEUE_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<BulkSizingStrategyName> INDEXING_BULK_SIZING =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.INDEXING_BULK_SIZING )
+					.as( BulkSizingStrategyName.class, BulkSizingStrategyName::of )
+					.withDefault( ElasticsearchBackendSettings.Defaults.INDEXING_BULK_SIZING )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_MAX_BULK_SIZE =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.INDEXING_MAX_BULK_SIZE )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.INDEXING_MAX_BULK_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_MAX_BULK_BYTES =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.INDEXING_MAX_BULK_BYTES )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.INDEXING_MAX_BULK_BYTES )
+					.build();
+
 	private static final ConfigurationProperty<BeanReference<? extends ElasticsearchClientFactory>> CLIENT_FACTORY =
 			ConfigurationProperty.forKey( ElasticsearchBackendSpiSettings.CLIENT_FACTORY )
 					.asBeanReference( ElasticsearchClientFactory.class )
@@ -90,6 +130,12 @@ public class ElasticsearchBackendFactory implements BackendFactory {
 	public BackendImplementor<?> create(String name, BackendBuildContext buildContext, ConfigurationPropertySource propertySource) {
 		EventContext backendContext = EventContexts.fromBackendName( name );
 
+		// Validate the indexing settings before connecting to the cluster
+		int indexingQueueCount = ConfigurationPropertyChecks.getStrictlyPositive(
+				propertySource, INDEXING_QUEUE_COUNT, backendContext
+		);
+		ElasticsearchBulkingConfiguration bulkingConfiguration = getBulkingConfiguration( backendContext, propertySource );
+
 		boolean logPrettyPrinting = LOG_JSON_PRETTY_PRINTING.get( propertySource );
 		/*
 		 * The Elasticsearch client only converts JsonObjects to String and
@@ -101,6 +147,7 @@ public BackendImplementor<?> create(String name, BackendBuildContext buildContex
 		ElasticsearchDialectName dialectName = DIALECT.get( propertySource );
 
 		BeanProvider beanProvider = buildContext.getBeanProvider();
+		ElasticsearchBackendMetrics metrics = new ElasticsearchBackendMetrics( buildContext.getMetricsRegistry(), name );
 		BeanHolder<? extends ElasticsearchClientFactory> clientFactoryHolder = null;
 		ElasticsearchClientImplementor client = null;
 		try {
@@ -113,7 +160,7 @@ public BackendImplementor<?> create(String name, BackendBuildContext buildContex
 				// We must determine the appropriate dialect, and thus instantiate the client, right now.
 				client = clientFactoryHolder.get().create( propertySource, defaultGsonProvider );
 				clientFactoryHolder.close(); // We won't need this anymore
-				clientProvider = new ElasticsearchClientProvider( client );
+				clientProvider = new ElasticsearchClientProvider( client, metrics.getRequest() );
 
 				ElasticsearchVersion version = ElasticsearchClientUtils.getElasticsearchVersion( client );
 				dialectName = dialectFactory.getAppropriateDialectName( version );
@@ -122,7 +169,7 @@ public BackendImplementor<?> create(String name, BackendBuildContext buildContex
 			else {
 				// We can delay the client instantiation to when the backend starts; we'll check that the dialect is appropriate then.
 				clientProvider = new ElasticsearchClientProvider(
-						clientFactoryHolder, defaultGsonProvider, dialectFactory, dialectName
+						clientFactoryHolder, defaultGsonProvider, dialectFactory, dialectName, metrics.getRequest()
 				);
 
 				dialect = dialectFactory.create( dialectName );
@@ -153,7 +200,11 @@ public BackendImplementor<?> create(String name, BackendBuildContext buildContex
 					searchResultExtractorFactory,
 					userFacingGson,
 					analysisDefinitionRegistry,
-					getMultiTenancyStrategy( name, propertySource )
+					getMultiTenancyStrategy( name, propertySource ),
+					SCROLL_TIMEOUT.get( propertySource ),
+					indexingQueueCount,
+					bulkingConfiguration,
+					metrics
 			);
 		}
 		catch (RuntimeException e) {
@@ -164,6 +215,14 @@ public BackendImplementor<?> create(String name, BackendBuildContext buildContex
 		}
 	}
 
+	private ElasticsearchBulkingConfiguration getBulkingConfiguration(EventContext backendContext,
+			ConfigurationPropertySource propertySource) {
+		return ElasticsearchBulkingConfiguration.create(
+				propertySource, backendContext,
+				INDEXING_QUEUE_SIZE, INDEXING_BULK_SIZING, INDEXING_MAX_BULK_SIZE, INDEXING_MAX_BULK_BYTES
+		);
+	}
+
 	private MultiTenancyStrategy getMultiTenancyStrategy(String backendName, ConfigurationPropertySource propertySource) {
 		MultiTenancyStrategyName multiTenancyStrategyName = MULTI_TENANCY_STRATEGY.get( propertySource );
 
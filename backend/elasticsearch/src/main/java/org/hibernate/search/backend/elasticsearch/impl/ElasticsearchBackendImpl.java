@@ -14,6 +14,7 @@
 import org.hibernate.search.backend.elasticsearch.analysis.model.impl.ElasticsearchAnalysisDefinitionRegistry;
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
 import org.hibernate.search.backend.elasticsearch.index.settings.impl.ElasticsearchIndexSettingsBuilder;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchBulkingConfiguration;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchSharedWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestratorProvider;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchSearchResultExtractorFactory;
@@ -26,6 +27,7 @@
 import org.hibernate.search.backend.elasticsearch.document.model.dsl.impl.ElasticsearchIndexSchemaRootNodeBuilder;
 import org.hibernate.search.backend.elasticsearch.index.impl.ElasticsearchIndexManagerBuilder;
 import org.hibernate.search.backend.elasticsearch.index.impl.IndexingBackendContext;
+import org.hibernate.search.backend.elasticsearch.metrics.impl.ElasticsearchBackendMetrics;
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.SearchBackendContext;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
@@ -78,7 +80,10 @@ class ElasticsearchBackendImpl implements BackendImplementor<ElasticsearchDocume
 			ElasticsearchSearchResultExtractorFactory searchResultExtractorFactory,
 			Gson userFacingGson,
 			ElasticsearchAnalysisDefinitionRegistry analysisDefinitionRegistry,
-			MultiTenancyStrategy multiTenancyStrategy) {
+			MultiTenancyStrategy multiTenancyStrategy,
+			int scrollTimeout,
+			int indexingQueueCount, ElasticsearchBulkingConfiguration bulkingConfiguration,
+			ElasticsearchBackendMetrics metrics) {
 		this.clientProvider = clientProvider;
 		this.name = name;
 
@@ -86,7 +91,8 @@ class ElasticsearchBackendImpl implements BackendImplementor<ElasticsearchDocume
 				"Elasticsearch parallel work orchestrator for backend " + name,
 				clientProvider, dialectSpecificGsonProvider, workFactory,
 				// TODO the LogErrorHandler should be replaced with a user-configurable instance at some point. See HSEARCH-3110.
-				new LogErrorHandler()
+				new LogErrorHandler(),
+				indexingQueueCount, bulkingConfiguration, metrics
 		);
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
 		this.multiTenancyStrategy = multiTenancyStrategy;
@@ -107,7 +113,7 @@ class ElasticsearchBackendImpl implements BackendImplementor<ElasticsearchDocume
 					}
 					return result;
 				},
-				multiTenancyStrategy, queryOrchestrator
+				multiTenancyStrategy, queryOrchestrator, scrollTimeout
 		);
 	}
 
@@ -12,6 +12,7 @@
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchDialectName;
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchVersion;
 import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientUtils;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchTimedClient;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClient;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientFactory;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientImplementor;
@@ -19,6 +20,7 @@
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.metrics.spi.Timer;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.Closer;
 
@@ -28,38 +30,45 @@ class ElasticsearchClientProvider implements Supplier<ElasticsearchClient> {
 	private final GsonProvider defaultGsonProvider;
 	private final ElasticsearchDialectFactory dialectFactory;
 	private final ElasticsearchDialectName configuredDialectName;
+	private final Timer requestTimer;
 
 	private ElasticsearchClientImplementor clientImplementor;
+	private ElasticsearchClient timedClient;
 
 	ElasticsearchClientProvider(BeanHolder<? extends ElasticsearchClientFactory> clientFactoryHolder,
 			GsonProvider defaultGsonProvider,
 			ElasticsearchDialectFactory dialectFactory,
-			ElasticsearchDialectName configuredDialectName) {
+			ElasticsearchDialectName configuredDialectName,
+			Timer requestTimer) {
 		this.clientFactoryHolder = clientFactoryHolder;
 		this.defaultGsonProvider = defaultGsonProvider;
 		this.dialectFactory = dialectFactory;
 		this.configuredDialectName = configuredDialectName;
+		this.requestTimer = requestTimer;
 		this.clientImplementor = null;
+		this.timedClient = null;
 	}
 
-	ElasticsearchClientProvider(ElasticsearchClientImplementor clientImplementor) {
+	ElasticsearchClientProvider(ElasticsearchClientImplementor clientImplementor, Timer requestTimer) {
 		this.clientFactoryHolder = null;
 		this.defaultGsonProvider = null;
 		this.dialectFactory = null;
 		this.configuredDialectName = null;
+		this.requestTimer = requestTimer;
 		this.clientImplementor = clientImplementor;
+		this.timedClient = new ElasticsearchTimedClient( clientImplementor, requestTimer );
 	}
 
 	@Override
 	public ElasticsearchClient get() {
-		if ( clientImplementor == null ) {
+		if ( timedClient == null ) {
 			throw new AssertionFailure(
 					"Cannot retrieve the Elasticsearch client, which means the backend was not started."
 							+ "There is probably a bug in Hibernate Search, please report it."
 			);
 		}
 		else {
-			return clientImplementor;
+			return timedClient;
 		}
 	}
 
@@ -69,6 +78,7 @@ void onStart(ConfigurationPropertySource propertySource) {
 			clientFactoryHolder.close(); // We won't need it anymore
 			ElasticsearchVersion version = ElasticsearchClientUtils.getElasticsearchVersion( clientImplementor );
 			dialectFactory.checkAppropriate( configuredDialectName, version );
+			timedClient = new ElasticsearchTimedClient( clientImplementor, requestTimer );
 		}
 	}
 
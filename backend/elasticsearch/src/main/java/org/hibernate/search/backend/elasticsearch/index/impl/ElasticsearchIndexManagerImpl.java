@@ -9,6 +9,7 @@
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 
+import org.hibernate.search.backend.elasticsearch.cfg.BulkSizingStrategyName;
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexLifecycleStrategyName;
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexStatus;
@@ -19,6 +20,7 @@
 import org.hibernate.search.backend.elasticsearch.index.admin.impl.ElasticsearchIndexLifecycleExecutionOptions;
 import org.hibernate.search.backend.elasticsearch.index.management.impl.ElasticsearchIndexLifecycleStrategy;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchBulkingConfiguration;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchSharedWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.SearchBackendContext;
@@ -73,6 +75,30 @@ class ElasticsearchIndexManagerImpl implements IndexManagerImplementor<Elasticse
 					.withDefault( ElasticsearchIndexSettings.Defaults.LIFECYCLE_MINIMAL_REQUIRED_STATUS_WAIT_TIMEOUT )
 					.build();
 
+	private static final ConfigurationProperty<Integer> INDEXING_QUEUE_SIZE =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_QUEUE_SIZE )
+					.asInteger()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_QUEUE_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<BulkSizingStrategyName> INDEXING_BULK_SIZING =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_BULK_SIZING )
+					.as( BulkSizingStrategyName.class, BulkSizingStrategyName::of )
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_BULK_SIZING )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_MAX_BULK_SIZE =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_MAX_BULK_SIZE )
+					.asInteger()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_MAX_BULK_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_MAX_BULK_BYTES =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_MAX_BULK_BYTES )
+					.asInteger()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_MAX_BULK_BYTES )
+					.build();
+
 	private final IndexingBackendContext indexingBackendContext;
 	private final SearchBackendContext searchBackendContext;
 
@@ -111,12 +137,15 @@ public void start(IndexManagerStartContext context) {
 			lifecycleStrategy = createLifecycleStrategy( context.getConfigurationPropertySource() );
 
 			/*
-			 * Create orchestrators late to allow the refresh_after_write setting to be changed
+			 * Create orchestrators late to allow the refresh_after_write and indexing settings to be changed
 			 * after the first phase of bootstrap (useful for compile-time boot).
 			 */
 			refreshAfterWrite = REFRESH_AFTER_WRITE.get( context.getConfigurationPropertySource() );
 			parallelOrchestrator = indexingBackendContext.createParallelOrchestrator( elasticsearchIndexName.original );
-			serialOrchestrator = indexingBackendContext.createSerialOrchestrator( elasticsearchIndexName.original, refreshAfterWrite );
+			serialOrchestrator = indexingBackendContext.createSerialOrchestrator(
+					elasticsearchIndexName.original, refreshAfterWrite,
+					getBulkingConfiguration( context.getConfigurationPropertySource() )
+			);
 
 			lifecycleStrategy.onStart( administrationClient, context );
 			serialOrchestrator.start();
@@ -227,4 +256,10 @@ private ElasticsearchIndexLifecycleStrategy createLifecycleStrategy(Configuratio
 		);
 	}
 
+	private ElasticsearchBulkingConfiguration getBulkingConfiguration(ConfigurationPropertySource propertySource) {
+		return ElasticsearchBulkingConfiguration.create(
+				propertySource, getBackendAndIndexEventContext(),
+				INDEXING_QUEUE_SIZE, INDEXING_BULK_SIZING, INDEXING_MAX_BULK_SIZE, INDEXING_MAX_BULK_BYTES
+		);
+	}
 }
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.index.impl;
 
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchBulkingConfiguration;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchSharedWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.document.impl.ElasticsearchDocumentObjectBuilder;
@@ -58,9 +59,11 @@ ElasticsearchIndexAdministrationClient createAdministrationClient(URLEncodedStri
 		);
 	}
 
-	ElasticsearchSharedWorkOrchestrator createSerialOrchestrator(String indexName, boolean refreshAfterWrite) {
+	ElasticsearchSharedWorkOrchestrator createSerialOrchestrator(String indexName, boolean refreshAfterWrite,
+			ElasticsearchBulkingConfiguration bulkingConfiguration) {
 		return orchestratorProvider.createSerialOrchestrator(
-				"Elasticsearch serial work orchestrator for index " + indexName, refreshAfterWrite
+				"Elasticsearch serial work orchestrator for index " + indexName, refreshAfterWrite,
+				bulkingConfiguration
 		);
 	}
 
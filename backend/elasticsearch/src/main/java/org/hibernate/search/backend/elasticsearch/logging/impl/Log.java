@@ -22,12 +22,14 @@
 import org.hibernate.search.backend.elasticsearch.types.sort.impl.ElasticsearchFieldSortBuilderFactory;
 import org.hibernate.search.engine.backend.index.spi.IndexSearchScopeBuilder;
 import org.hibernate.search.engine.backend.types.converter.spi.ToDocumentIdentifierValueConverter;
+import org.hibernate.search.engine.search.SearchAggregation;
 import org.hibernate.search.engine.search.SearchPredicate;
 import org.hibernate.search.engine.search.SearchProjection;
 import org.hibernate.search.engine.search.SearchSort;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.reporting.EventContext;
 import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.SearchTimeoutException;
 import org.hibernate.search.util.common.logging.impl.MessageConstants;
 import org.hibernate.search.util.common.logging.impl.ClassFormatter;
 import org.jboss.logging.BasicLogger;
@@ -489,4 +491,55 @@ SearchException unexpectedElasticsearchVersion(ElasticsearchVersion actualVersio
 
 	@Message(id = ID_OFFSET_3 + 60, value = "Elasticsearch backend does not support skip analysis on not analyzed field: '%1$s'.")
 	SearchException skipAnalysisOnKeywordField(String absoluteFieldPath, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_3 + 61, value = "Query exceeded the timeout of %1$s: '%2$s'.")
+	SearchTimeoutException searchTimedOut(String timeout, String queryString);
+
+	@Message(id = ID_OFFSET_3 + 62, value = "Invalid bulk sizing strategy name: '%1$s'."
+			+ " Valid names are: %2$s.")
+	SearchException invalidBulkSizingStrategyName(String invalidRepresentation, List<String> validRepresentations);
+
+	@LogMessage(level = Level.DEBUG)
+	@Message(id = ID_OFFSET_3 + 63, value = "Elasticsearch rejected %1$d bulked works because of excessive load."
+			+ " Sending them again in %2$d ms (attempt %3$d), with bulks of at most %4$d bytes.")
+	void retryingRejectedBulkedWorks(int rejectedWorkCount, long delayMillis, int attempt, long maxBulkBytes);
+
+	@Message(id = ID_OFFSET_3 + 64,
+			value = "An Elasticsearch query cannot include search aggregations built using a non-Elasticsearch search scope."
+					+ " Given aggregation was: '%1$s'")
+	SearchException cannotMixElasticsearchSearchAggregationWithOtherAggregations(SearchAggregation<?> aggregation);
+
+	@Message(id = ID_OFFSET_3 + 65,
+			value = "Terms aggregations are not supported by this field's type. Only String fields support terms aggregations.")
+	SearchException termsAggregationsNotSupportedByFieldType(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_3 + 66,
+			value = "Range aggregations are not supported by this field's type.")
+	SearchException rangeAggregationsNotSupportedByFieldType(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_3 + 67,
+			value = "Aggregations are not enabled for field '%1$s'. Make sure the field is marked as sortable.")
+	SearchException unaggregatableField(String absoluteFieldPath, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_3 + 68,
+			value = "Multiple conflicting types to build an aggregation for field '%1$s': '%2$s' vs. '%3$s'.")
+	SearchException conflictingFieldTypesForAggregation(String absoluteFieldPath,
+			ElasticsearchFieldSortBuilderFactory component1, ElasticsearchFieldSortBuilderFactory component2,
+			@Param EventContext context);
+
+	@Message(id = ID_OFFSET_3 + 69,
+			value = "Unexpected number of responses to a multi-search request: expected %1$d, got %2$d.")
+	SearchException unexpectedMultiSearchResponseCount(int expected, int actual);
+
+	@Message(id = ID_OFFSET_3 + 70,
+			value = "The query at position %1$d in a multi-search request failed. Error: %2$s")
+	SearchException multiSearchQueryFailed(int position, String error);
+
+	@Message(id = ID_OFFSET_3 + 71,
+			value = "Unable to fetch the next chunk of hits: this scroll was closed.")
+	SearchException scrollClosed(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_3 + 72,
+			value = "Invalid value for configuration property '%1$s': '%2$s'. The value must be strictly positive.")
+	SearchException invalidStrictlyPositivePropertyValue(String propertyKey, int value, @Param EventContext context);
 }
@@ -0,0 +1,67 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.metrics.impl;
+
+import java.util.concurrent.BlockingQueue;
+
+import org.hibernate.search.engine.metrics.spi.Histogram;
+import org.hibernate.search.engine.metrics.spi.MetricsRegistry;
+import org.hibernate.search.engine.metrics.spi.Timer;
+
+/**
+ * The metrics reported by an Elasticsearch backend.
+ * <p>
+ * Reported metrics, all tagged with the name of the backend:
+ * <ul>
+ *     <li>{@value #REQUEST}: a timer measuring the latency of requests sent to the cluster,
+ *     from their submission to the reception of the response.
+ *     <li>{@value #BULK_SIZE}: a histogram of the number of works in each bulk request.
+ *     <li>{@value #QUEUE_DEPTH}: a gauge of the number of changesets waiting in each indexing queue,
+ *     additionally tagged with the name of the queue.
+ *     <li>{@value #QUEUE_SATURATION}: a gauge of the ratio between the depth and the capacity of each indexing queue,
+ *     additionally tagged with the name of the queue.
+ *     A value close to {@code 1} means submitting threads are likely to block.
+ * </ul>
+ */
+public final class ElasticsearchBackendMetrics {
+
+	public static final String REQUEST = "hibernate.search.backend.elasticsearch.request";
+	public static final String BULK_SIZE = "hibernate.search.backend.elasticsearch.bulk.size";
+	public static final String QUEUE_DEPTH = "hibernate.search.backend.elasticsearch.queue.depth";
+	public static final String QUEUE_SATURATION = "hibernate.search.backend.elasticsearch.queue.saturation";
+
+	private static final String BACKEND_TAG = "backend";
+	private static final String QUEUE_TAG = "queue";
+
+	private final MetricsRegistry registry;
+	private final String backendName;
+
+	private final Timer request;
+	private final Histogram bulkSize;
+
+	public ElasticsearchBackendMetrics(MetricsRegistry registry, String backendName) {
+		this.registry = registry;
+		this.backendName = backendName;
+		this.request = registry.timer( REQUEST, BACKEND_TAG, backendName );
+		this.bulkSize = registry.histogram( BULK_SIZE, BACKEND_TAG, backendName );
+	}
+
+	public Timer getRequest() {
+		return request;
+	}
+
+	public Histogram getBulkSize() {
+		return bulkSize;
+	}
+
+	public void registerQueue(String queueName, BlockingQueue<?> queue) {
+		double capacity = queue.size() + queue.remainingCapacity();
+		registry.gauge( QUEUE_DEPTH, queue::size, BACKEND_TAG, backendName, QUEUE_TAG, queueName );
+		registry.gauge( QUEUE_SATURATION, () -> queue.size() / capacity,
+				BACKEND_TAG, backendName, QUEUE_TAG, queueName );
+	}
+}
@@ -0,0 +1,213 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchBulkRejectionHandler;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * Adapts the payload size of bulks to the load of the Elasticsearch cluster.
+ * <p>
+ * Bulks are limited by their estimated payload size in bytes.
+ * When Elasticsearch rejects bulked works because of excessive load,
+ * the payload limit is halved and the rejected works are sent again after an exponential backoff.
+ * Each bulk accepted afterwards raises the limit again a little, up to the configured maximum.
+ */
+class ElasticsearchAdaptiveBulkSizer implements ElasticsearchBulkRejectionHandler {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	/*
+	 * The following constants are mostly guesswork.
+	 * Rejections are expected to be transient, so we retry quite a few times
+	 * before giving up, and we never shrink bulks to the point where we'd send works one by one.
+	 */
+	private static final int MIN_BULK_BYTES_DIVISOR = 32;
+	private static final int BULK_BYTES_INCREMENT_DIVISOR = 16;
+	private static final int MAX_ATTEMPTS = 10;
+	private static final long INITIAL_BACKOFF_MILLIS = 100;
+	private static final long MAX_BACKOFF_MILLIS = 10_000;
+
+	private static final char LINE_SEPARATOR = 0x2028;
+	private static final char PARAGRAPH_SEPARATOR = 0x2029;
+
+	private final boolean htmlSafe;
+	private final boolean serializeNulls;
+	private final ScheduledExecutorService scheduler;
+
+	private final long maxBulkBytes;
+	private final long minBulkBytes;
+	private final long bulkBytesIncrement;
+	private final AtomicLong currentMaxBulkBytes;
+
+	ElasticsearchAdaptiveBulkSizer(Gson gson, ScheduledExecutorService scheduler, long maxBulkBytes) {
+		this.htmlSafe = gson.htmlSafe();
+		this.serializeNulls = gson.serializeNulls();
+		this.scheduler = scheduler;
+		this.maxBulkBytes = maxBulkBytes;
+		this.minBulkBytes = Math.max( 1L, maxBulkBytes / MIN_BULK_BYTES_DIVISOR );
+		this.bulkBytesIncrement = Math.max( 1L, maxBulkBytes / BULK_BYTES_INCREMENT_DIVISOR );
+		this.currentMaxBulkBytes = new AtomicLong( maxBulkBytes );
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "maxBulkBytes=" ).append( maxBulkBytes )
+				.append( ", currentMaxBulkBytes=" ).append( currentMaxBulkBytes.get() )
+				.append( "]" )
+				.toString();
+	}
+
+	/**
+	 * @return The current maximum payload size of a single bulk, in bytes.
+	 */
+	long getMaxBulkBytes() {
+		return currentMaxBulkBytes.get();
+	}
+
+	/**
+	 * Estimates the size of a work in the payload of a bulk request.
+	 * <p>
+	 * The JSON trees of the work are walked to compute the number of UTF-8 bytes
+	 * their serialized form will take, without actually serializing them:
+	 * the payload is serialized only once, when the request body is written.
+	 *
+	 * @param work A bulkable work.
+	 * @return An estimate of the size of the work in the payload of a bulk request, in bytes.
+	 */
+	long estimateSize(BulkableElasticsearchWork<?> work) {
+		// Account for the line break after each JSON object
+		long size = estimateSize( work.getBulkableActionMetadata() ) + 1;
+		JsonObject actionBody = work.getBulkableActionBody();
+		if ( actionBody != null ) {
+			size += estimateSize( actionBody ) + 1;
+		}
+		return size;
+	}
+
+	@Override
+	public void onAccepted() {
+		currentMaxBulkBytes.accumulateAndGet( bulkBytesIncrement,
+				(current, increment) -> Math.min( maxBulkBytes, current + increment ) );
+	}
+
+	@Override
+	public CompletableFuture<?> onRejected(int rejectedWorkCount, int attempt) {
+		long newMaxBulkBytes = currentMaxBulkBytes.accumulateAndGet( minBulkBytes,
+				(current, min) -> Math.max( min, current / 2 ) );
+
+		if ( attempt >= MAX_ATTEMPTS ) {
+			return null;
+		}
+
+		long backoffMillis = Math.min( MAX_BACKOFF_MILLIS, INITIAL_BACKOFF_MILLIS << ( attempt - 1 ) );
+		// Add some jitter so that rejected bulks from different orchestrators are not sent again simultaneously
+		long delayMillis = backoffMillis / 2 + ThreadLocalRandom.current().nextLong( backoffMillis / 2 + 1 );
+		log.retryingRejectedBulkedWorks( rejectedWorkCount, delayMillis, attempt, newMaxBulkBytes );
+
+		CompletableFuture<Void> future = new CompletableFuture<>();
+		scheduler.schedule( () -> future.complete( null ), delayMillis, TimeUnit.MILLISECONDS );
+		return future;
+	}
+
+	private long estimateSize(JsonElement element) {
+		if ( element.isJsonObject() ) {
+			// Braces
+			long size = 2;
+			boolean first = true;
+			for ( Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet() ) {
+				JsonElement value = entry.getValue();
+				if ( value.isJsonNull() && !serializeNulls ) {
+					continue;
+				}
+				if ( !first ) {
+					// Comma
+					++size;
+				}
+				first = false;
+				// Colon
+				size += estimateStringSize( entry.getKey() ) + 1 + estimateSize( value );
+			}
+			return size;
+		}
+		else if ( element.isJsonArray() ) {
+			JsonArray array = element.getAsJsonArray();
+			// Brackets and commas
+			long size = 2 + Math.max( 0, array.size() - 1 );
+			for ( JsonElement item : array ) {
+				size += estimateSize( item );
+			}
+			return size;
+		}
+		else if ( element.isJsonPrimitive() ) {
+			JsonPrimitive primitive = element.getAsJsonPrimitive();
+			if ( primitive.isString() ) {
+				return estimateStringSize( primitive.getAsString() );
+			}
+			else {
+				// Booleans and numbers are written as ASCII
+				return primitive.getAsString().length();
+			}
+		}
+		else {
+			// "null"
+			return 4;
+		}
+	}
+
+	private long estimateStringSize(String string) {
+		// Quotes
+		long size = 2;
+		for ( int i = 0; i < string.length(); i++ ) {
+			char c = string.charAt( i );
+			if ( c == '"' || c == '\\' ) {
+				size += 2;
+			}
+			else if ( c < 0x20 ) {
+				// Control characters are escaped, either with a short escape sequence or as a unicode escape
+				size += c == '\t' || c == '\b' || c == '\n' || c == '\r' || c == '\f' ? 2 : 6;
+			}
+			else if ( c == LINE_SEPARATOR || c == PARAGRAPH_SEPARATOR
+					|| htmlSafe && ( c == '<' || c == '>' || c == '&' || c == '=' || c == '\'' ) ) {
+				// Escaped as a unicode escape
+				size += 6;
+			}
+			else if ( c < 0x80 ) {
+				size += 1;
+			}
+			else if ( c < 0x800 ) {
+				size += 2;
+			}
+			else if ( Character.isSurrogate( c ) ) {
+				// A surrogate pair is encoded on 4 bytes
+				size += 2;
+			}
+			else {
+				size += 3;
+			}
+		}
+		return size;
+	}
+}
@@ -85,6 +85,10 @@ public void start() {
 		executor = Executors.newFixedThreadPool( 1, getName() );
 	}
 
+	BlockingQueue<?> getChangesetQueue() {
+		return changesetQueue;
+	}
+
 	/**
 	 * Create a child orchestrator.
 	 * <p>
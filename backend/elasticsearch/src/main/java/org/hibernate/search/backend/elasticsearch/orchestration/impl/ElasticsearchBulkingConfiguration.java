@@ -0,0 +1,94 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import org.hibernate.search.backend.elasticsearch.cfg.BulkSizingStrategyName;
+import org.hibernate.search.backend.elasticsearch.cfg.impl.ConfigurationPropertyChecks;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+/**
+ * Defines how an orchestrator queues changesets and groups their works into bulks.
+ */
+public final class ElasticsearchBulkingConfiguration {
+
+	private final int maxChangesetsPerBatch;
+	private final BulkSizingStrategyName bulkSizingStrategy;
+	private final int maxBulkSize;
+	private final int maxBulkBytes;
+
+	/**
+	 * @param maxChangesetsPerBatch The maximum number of changesets waiting in the queue of the orchestrator.
+	 * @param bulkSizingStrategy How to size bulks.
+	 * @param maxBulkSize The maximum number of works in a single bulk.
+	 * @param maxBulkBytes The maximum payload size of a single bulk, in bytes.
+	 * Only used with the {@link BulkSizingStrategyName#ADAPTIVE adaptive} strategy.
+	 */
+	public ElasticsearchBulkingConfiguration(int maxChangesetsPerBatch,
+			BulkSizingStrategyName bulkSizingStrategy, int maxBulkSize, int maxBulkBytes) {
+		this.maxChangesetsPerBatch = maxChangesetsPerBatch;
+		this.bulkSizingStrategy = bulkSizingStrategy;
+		this.maxBulkSize = maxBulkSize;
+		this.maxBulkBytes = maxBulkBytes;
+	}
+
+	/**
+	 * Create a configuration from properties, validating their values.
+	 * <p>
+	 * Used for both backend-level and index-level configuration, which rely on different properties.
+	 *
+	 * @param propertySource The property source.
+	 * @param eventContext The context to report in case of invalid values.
+	 * @param queueSizeProperty The property holding the maximum number of changesets waiting in the queue.
+	 * @param bulkSizingProperty The property holding the bulk sizing strategy.
+	 * @param maxBulkSizeProperty The property holding the maximum number of works in a single bulk.
+	 * @param maxBulkBytesProperty The property holding the maximum payload size of a single bulk.
+	 * @return The configuration.
+	 */
+	public static ElasticsearchBulkingConfiguration create(ConfigurationPropertySource propertySource,
+			EventContext eventContext,
+			ConfigurationProperty<Integer> queueSizeProperty,
+			ConfigurationProperty<BulkSizingStrategyName> bulkSizingProperty,
+			ConfigurationProperty<Integer> maxBulkSizeProperty,
+			ConfigurationProperty<Integer> maxBulkBytesProperty) {
+		return new ElasticsearchBulkingConfiguration(
+				ConfigurationPropertyChecks.getStrictlyPositive( propertySource, queueSizeProperty, eventContext ),
+				bulkSizingProperty.get( propertySource ),
+				ConfigurationPropertyChecks.getStrictlyPositive( propertySource, maxBulkSizeProperty, eventContext ),
+				ConfigurationPropertyChecks.getStrictlyPositive( propertySource, maxBulkBytesProperty, eventContext )
+		);
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "maxChangesetsPerBatch=" ).append( maxChangesetsPerBatch )
+				.append( ", bulkSizingStrategy=" ).append( bulkSizingStrategy )
+				.append( ", maxBulkSize=" ).append( maxBulkSize )
+				.append( ", maxBulkBytes=" ).append( maxBulkBytes )
+				.append( "]" )
+				.toString();
+	}
+
+	int getMaxChangesetsPerBatch() {
+		return maxChangesetsPerBatch;
+	}
+
+	BulkSizingStrategyName getBulkSizingStrategy() {
+		return bulkSizingStrategy;
+	}
+
+	int getMaxBulkSize() {
+		return maxBulkSize;
+	}
+
+	int getMaxBulkBytes() {
+		return maxBulkBytes;
+	}
+}
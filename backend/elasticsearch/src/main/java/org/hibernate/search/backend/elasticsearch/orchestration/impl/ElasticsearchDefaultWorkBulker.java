@@ -15,6 +15,7 @@
 import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkableElasticsearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.engine.metrics.spi.Histogram;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.Futures;
 
@@ -24,10 +25,13 @@ class ElasticsearchDefaultWorkBulker implements ElasticsearchWorkBulker {
 	private final Function<List<? extends BulkableElasticsearchWork<?>>, ElasticsearchWork<BulkResult>> bulkWorkFactory;
 	private final int minBulkSize;
 	private final int maxBulkSize;
+	private final ElasticsearchAdaptiveBulkSizer adaptiveBulkSizer;
+	private final Histogram bulkSizeHistogram;
 
 	private final List<BulkableElasticsearchWork<?>> currentBulkItems;
 	private final List<CompletableFuture<?>> currentBulkItemsFutures;
 	private int currentBulkFirstNonAddedItem;
+	private long currentBulkBytes;
 	private CompletableFuture<ElasticsearchWork<BulkResult>> currentBulkWorkFuture;
 	private CompletableFuture<BulkResult> currentBulkResultFuture;
 
@@ -42,28 +46,49 @@ class ElasticsearchDefaultWorkBulker implements ElasticsearchWorkBulker {
 	 * {@link #addWorksToSequence() add the bulk work and work extractions to the sequence}
 	 * and {@link #finalizeBulkWork() finalize the bulk work}
 	 * to the underlying sequence builder.
+	 * @param adaptiveBulkSizer The sizer limiting the payload size of bulks,
+	 * or {@code null} to only limit bulks by their number of works.
+	 * Works will not be added to a bulk if that would push the bulk above the payload size limit,
+	 * unless the bulk is empty.
+	 * @param bulkSizeHistogram The histogram recording the number of works in each bulk.
 	 */
 	public ElasticsearchDefaultWorkBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder,
 			Function<List<? extends BulkableElasticsearchWork<?>>, ElasticsearchWork<BulkResult>> bulkWorkFactory,
-			int minBulkSize, int maxBulkSize) {
+			int minBulkSize, int maxBulkSize, ElasticsearchAdaptiveBulkSizer adaptiveBulkSizer,
+			Histogram bulkSizeHistogram) {
 		this.sequenceBuilder = sequenceBuilder;
 		this.bulkWorkFactory = bulkWorkFactory;
 		this.minBulkSize = minBulkSize;
 		this.maxBulkSize = maxBulkSize;
+		this.adaptiveBulkSizer = adaptiveBulkSizer;
+		this.bulkSizeHistogram = bulkSizeHistogram;
 
 		this.currentBulkItems = new ArrayList<>();
 		this.currentBulkItemsFutures = new ArrayList<>();
 		this.currentBulkFirstNonAddedItem = 0;
+		this.currentBulkBytes = 0L;
 		this.currentBulkWorkFuture = null;
 		this.currentBulkResultFuture = null;
 	}
 
 	@Override
 	public <T> CompletableFuture<T> add(BulkableElasticsearchWork<T> work) {
+		if ( adaptiveBulkSizer != null ) {
+			long workBytes = adaptiveBulkSizer.estimateSize( work );
+			if ( !currentBulkItems.isEmpty()
+					&& currentBulkBytes + workBytes > adaptiveBulkSizer.getMaxBulkBytes() ) {
+				// This work would make the current bulk too large: start a new one
+				addWorksToSequence();
+				finalizeBulkWork();
+			}
+			currentBulkBytes += workBytes;
+		}
+
 		CompletableFuture<T> future = new CompletableFuture<>();
 		currentBulkItems.add( work );
 		currentBulkItemsFutures.add( future );
-		if ( currentBulkItems.size() >= maxBulkSize ) {
+		if ( currentBulkItems.size() >= maxBulkSize
+				|| adaptiveBulkSizer != null && currentBulkBytes >= adaptiveBulkSizer.getMaxBulkBytes() ) {
 			addWorksToSequence();
 			finalizeBulkWork();
 		}
@@ -118,6 +143,7 @@ public void finalizeBulkWork() {
 		}
 
 		ElasticsearchWork<BulkResult> bulkWork = bulkWorkFactory.apply( currentBulkItems );
+		bulkSizeHistogram.record( currentBulkItems.size() );
 		currentBulkWorkFuture.complete( bulkWork );
 		reset();
 	}
@@ -127,6 +153,7 @@ public void reset() {
 		this.currentBulkItems.clear();
 		this.currentBulkItemsFutures.clear();
 		this.currentBulkFirstNonAddedItem = 0;
+		this.currentBulkBytes = 0L;
 		this.currentBulkWorkFuture = null;
 		this.currentBulkResultFuture = null;
 	}
@@ -0,0 +1,151 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * An orchestrator spreading changesets over multiple {@link ElasticsearchBatchingSharedWorkOrchestrator partitions},
+ * each with its own queue and consumer thread,
+ * so that multiple batches of changesets can be processed concurrently.
+ * <p>
+ * Each changeset, whether submitted directly to this orchestrator or through a child orchestrator,
+ * is assigned to the partition with the fewest queued changesets, ties being broken in turns.
+ * Thus a single child orchestrator (e.g. for a single index) can have multiple bulks in flight concurrently,
+ * and busy children do not end up competing for the same partition while others are idle.
+ * As a consequence, changesets are not executed in the order they were submitted,
+ * which is fine for <a href="ElasticsearchWorkOrchestratorProvider.html#parallel-orchestrators">parallel orchestrators</a>.
+ */
+class ElasticsearchPartitionedSharedWorkOrchestrator extends AbstractElasticsearchSharedWorkOrchestrator
+		implements ElasticsearchSharedWorkOrchestrator, AutoCloseable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final List<ElasticsearchBatchingSharedWorkOrchestrator> partitions;
+
+	private final AtomicInteger nextPartition = new AtomicInteger( 0 );
+
+	/**
+	 * @param name The name of this orchestrator when reporting errors
+	 * @param partitions The partitions, each being a batching orchestrator with its own resources.
+	 */
+	ElasticsearchPartitionedSharedWorkOrchestrator(String name,
+			List<ElasticsearchBatchingSharedWorkOrchestrator> partitions) {
+		super( name );
+		this.partitions = Collections.unmodifiableList( new ArrayList<>( partitions ) );
+	}
+
+	@Override
+	public void start() {
+		for ( ElasticsearchBatchingSharedWorkOrchestrator partition : partitions ) {
+			partition.start();
+		}
+	}
+
+	/**
+	 * Create a child orchestrator.
+	 * <p>
+	 * The child orchestrator will use the resources of all partitions:
+	 * each changeset submitted through the child will be assigned to the least busy partition.
+	 * <p>
+	 * Closing the child will not close the parent,
+	 * but will make the current thread wait for the completion of previously submitted works,
+	 * and will prevent any more work to be submitted through the child.
+	 *
+	 * @param name The name of the child orchestrator when reporting errors
+	 */
+	public ElasticsearchSharedWorkOrchestrator createChild(String name) {
+		return new ChildOrchestrator( name );
+	}
+
+	@Override
+	protected void doSubmit(Changeset changeset) {
+		selectPartition().submit( changeset );
+	}
+
+	@Override
+	public void awaitCompletion() throws InterruptedException {
+		for ( ElasticsearchBatchingSharedWorkOrchestrator partition : partitions ) {
+			partition.awaitCompletion();
+		}
+	}
+
+	@Override
+	protected void doClose() {
+		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			closer.pushAll( ElasticsearchBatchingSharedWorkOrchestrator::close, partitions );
+		}
+	}
+
+	private void awaitCompletionBeforeClose() {
+		try {
+			awaitCompletion();
+		}
+		catch (InterruptedException e) {
+			log.interruptedWhileWaitingForIndexActivity( getName(), e );
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * @return The partition with the fewest queued changesets.
+	 * The search starts from a different partition each time,
+	 * so that partitions are picked in turns when they are equally busy.
+	 */
+	private ElasticsearchBatchingSharedWorkOrchestrator selectPartition() {
+		int partitionCount = partitions.size();
+		int start = Math.floorMod( nextPartition.getAndIncrement(), partitionCount );
+		ElasticsearchBatchingSharedWorkOrchestrator selected = partitions.get( start );
+		int selectedQueueSize = selected.getChangesetQueue().size();
+		for ( int i = 1; i < partitionCount && selectedQueueSize > 0; i++ ) {
+			ElasticsearchBatchingSharedWorkOrchestrator candidate = partitions.get( ( start + i ) % partitionCount );
+			int candidateQueueSize = candidate.getChangesetQueue().size();
+			if ( candidateQueueSize < selectedQueueSize ) {
+				selected = candidate;
+				selectedQueueSize = candidateQueueSize;
+			}
+		}
+		return selected;
+	}
+
+	private class ChildOrchestrator extends AbstractElasticsearchSharedWorkOrchestrator
+			implements ElasticsearchSharedWorkOrchestrator {
+
+		protected ChildOrchestrator(String name) {
+			super( name );
+		}
+
+		@Override
+		public void start() {
+			// uses the resources of the parent orchestrator
+		}
+
+		@Override
+		protected void doSubmit(Changeset changeset) {
+			ElasticsearchPartitionedSharedWorkOrchestrator.this.submit( changeset );
+		}
+
+		@Override
+		public void awaitCompletion() throws InterruptedException {
+			ElasticsearchPartitionedSharedWorkOrchestrator.this.awaitCompletion();
+		}
+
+		@Override
+		protected void doClose() {
+			ElasticsearchPartitionedSharedWorkOrchestrator.this.awaitCompletionBeforeClose();
+		}
+	}
+
+}
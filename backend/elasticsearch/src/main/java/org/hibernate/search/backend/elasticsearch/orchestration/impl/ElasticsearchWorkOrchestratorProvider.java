@@ -7,13 +7,21 @@
 package org.hibernate.search.backend.elasticsearch.orchestration.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Supplier;
 
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClient;
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.metrics.impl.ElasticsearchBackendMetrics;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
 import org.hibernate.search.engine.common.spi.ErrorHandler;
+import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.impl.Executors;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 /**
@@ -43,7 +51,9 @@
  * </ul>
  * <p>
  * Parallel orchestrators from a single {@link ElasticsearchWorkOrchestratorProvider} (i.e. from a single backend)
- * rely on the same resources (same queue and consumer thread).
+ * rely on the same resources: a configurable number of queues, each with its own consumer thread.
+ * Each changeset is assigned to the least busy queue,
+ * so that a single parallel orchestrator (e.g. for a single index) can have multiple bulks in flight concurrently.
  *
  * <h3 id="serial-orchestrators">Serial orchestrators</h3>
  *
@@ -83,21 +93,6 @@ public class ElasticsearchWorkOrchestratorProvider implements AutoCloseable {
 	 * work to bulk), which would result in terrible performance.
 	 */
 	private static final int PARALLEL_MIN_BULK_SIZE = 1;
-	private static final int MAX_BULK_SIZE = 250;
-
-	/*
-	 * Setting the following constants involves a bit of guesswork.
-	 * Basically we want the number to be large enough for the orchestrator
-	 * to create bulks of the maximum size defined above most of the time,
-	 * but we also want to keep the number as low as possible to avoid
-	 * consuming too much memory with pending changesets.
-	 * Here we set the number for parallel orchestrators higher than the number
-	 * for serial orchestrators, because parallel orchestrators will generally only handle
-	 * single-work changesets, and also because the parallel orchestrators rely on a single
-	 * consumer thread shared between all index managers.
-	 */
-	private static final int SERIAL_MAX_CHANGESETS_PER_BATCH = 10 * MAX_BULK_SIZE;
-	private static final int PARALLEL_MAX_CHANGESETS_PER_BATCH = 20 * MAX_BULK_SIZE;
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -105,17 +100,28 @@ public class ElasticsearchWorkOrchestratorProvider implements AutoCloseable {
 	private final GsonProvider gsonProvider;
 	private final ElasticsearchWorkBuilderFactory workFactory;
 	private final ErrorHandler errorHandler;
+	private final ElasticsearchBackendMetrics metrics;
 
-	private final ElasticsearchBatchingSharedWorkOrchestrator rootParallelOrchestrator;
+	/*
+	 * Used to delay sending works again after Elasticsearch rejected them.
+	 * Threads are only created when necessary, so this is cheap when using fixed bulk sizing.
+	 */
+	private final ScheduledExecutorService bulkRetryScheduler;
+
+	private final ElasticsearchPartitionedSharedWorkOrchestrator rootParallelOrchestrator;
 
 	public ElasticsearchWorkOrchestratorProvider(String rootParallelOrchestratorName,
 			Supplier<ElasticsearchClient> clientSupplier,
 			GsonProvider gsonProvider, ElasticsearchWorkBuilderFactory workFactory,
-			ErrorHandler errorHandler) {
+			ErrorHandler errorHandler,
+			int rootParallelQueueCount, ElasticsearchBulkingConfiguration rootParallelBulkingConfiguration,
+			ElasticsearchBackendMetrics metrics) {
 		this.clientSupplier = clientSupplier;
 		this.gsonProvider = gsonProvider;
 		this.workFactory = workFactory;
 		this.errorHandler = errorHandler;
+		this.metrics = metrics;
+		this.bulkRetryScheduler = Executors.newScheduledThreadPool( rootParallelOrchestratorName + " - bulk retries" );
 
 		/*
 		 * The following orchestrator doesn't require a strict execution ordering
@@ -125,12 +131,22 @@ public ElasticsearchWorkOrchestratorProvider(String rootParallelOrchestratorName
 		 * Also, since works are not applied in order, and since API users have no way
 		 * to determine whether a work finished or not, explicit refreshes are useless,
 		 * so we disable refreshes both in the bulk API call and in the execution contexts.
+		 * Each queue has its own consumer thread and thread-unsafe delegate,
+		 * but they all share the same bulk sizing, so that they adapt together to the load of the cluster.
 		 */
-		this.rootParallelOrchestrator = createBatchingSharedOrchestrator(
-				rootParallelOrchestratorName,
-				PARALLEL_MAX_CHANGESETS_PER_BATCH,
-				false, // Do not care about ordering when queuing changesets
-				createThreadUnsafeParallelOrchestrator( this::createIgnoreDirtyWorkExecutionContext, false ) );
+		ElasticsearchAdaptiveBulkSizer adaptiveBulkSizer = createAdaptiveBulkSizer( rootParallelBulkingConfiguration );
+		List<ElasticsearchBatchingSharedWorkOrchestrator> partitions = new ArrayList<>( rootParallelQueueCount );
+		for ( int i = 0; i < rootParallelQueueCount; i++ ) {
+			partitions.add( createBatchingSharedOrchestrator(
+					rootParallelQueueCount == 1 ? rootParallelOrchestratorName : rootParallelOrchestratorName + " - queue " + i,
+					rootParallelBulkingConfiguration.getMaxChangesetsPerBatch(),
+					false, // Do not care about ordering when queuing changesets
+					createThreadUnsafeParallelOrchestrator( this::createIgnoreDirtyWorkExecutionContext, false,
+							rootParallelBulkingConfiguration, adaptiveBulkSizer ) ) );
+		}
+		this.rootParallelOrchestrator = new ElasticsearchPartitionedSharedWorkOrchestrator(
+				rootParallelOrchestratorName, partitions
+		);
 	}
 
 	@Override
@@ -143,7 +159,10 @@ public void close() {
 			throw log.interruptedWhileWaitingForRequestCompletion( e );
 		}
 		finally {
-			rootParallelOrchestrator.close();
+			try ( Closer<RuntimeException> closer = new Closer<>() ) {
+				closer.push( ElasticsearchPartitionedSharedWorkOrchestrator::close, rootParallelOrchestrator );
+				closer.push( ExecutorService::shutdownNow, bulkRetryScheduler );
+			}
 		}
 	}
 
@@ -155,15 +174,18 @@ public void start() {
 	 * @return The root parallel orchestrator. Useful to execute operations after an index manager was closed,
 	 * such as index dropping.
 	 */
-	public ElasticsearchBatchingSharedWorkOrchestrator getRootParallelOrchestrator() {
+	public ElasticsearchPartitionedSharedWorkOrchestrator getRootParallelOrchestrator() {
 		return rootParallelOrchestrator;
 	}
 
 	/**
 	 * @param name The name of the orchestrator to create.
+	 * @param refreshAfterWrite Whether to refresh indexes after each changeset.
+	 * @param bulkingConfiguration How to queue changesets and group their works into bulks.
 	 * @return A <a href="#serial-orchestrators">serial orchestrator</a>.
 	 */
-	public ElasticsearchSharedWorkOrchestrator createSerialOrchestrator(String name, boolean refreshAfterWrite) {
+	public ElasticsearchSharedWorkOrchestrator createSerialOrchestrator(String name, boolean refreshAfterWrite,
+			ElasticsearchBulkingConfiguration bulkingConfiguration) {
 		/*
 		 * Since works are applied in order, refreshing the index after changesets
 		 * is actually an option, and if enabled we use refreshing execution contexts.
@@ -183,11 +205,12 @@ public ElasticsearchSharedWorkOrchestrator createSerialOrchestrator(String name,
 		}
 
 		ElasticsearchAccumulatingWorkOrchestrator delegate =
-				createThreadUnsafeSerialOrchestrator( contextSupplier, refreshInBulkApiCall );
+				createThreadUnsafeSerialOrchestrator( contextSupplier, refreshInBulkApiCall, bulkingConfiguration,
+						createAdaptiveBulkSizer( bulkingConfiguration ) );
 
 		return createBatchingSharedOrchestrator(
 				name,
-				SERIAL_MAX_CHANGESETS_PER_BATCH,
+				bulkingConfiguration.getMaxChangesetsPerBatch(),
 				true /* enqueue changesets in the exact order they were submitted */,
 				delegate
 				);
@@ -204,23 +227,30 @@ public ElasticsearchSharedWorkOrchestrator createParallelOrchestrator(String nam
 	private ElasticsearchBatchingSharedWorkOrchestrator createBatchingSharedOrchestrator(
 			String name, int maxChangesetsPerBatch, boolean fair,
 			ElasticsearchAccumulatingWorkOrchestrator delegate) {
-		return new ElasticsearchBatchingSharedWorkOrchestrator( name, maxChangesetsPerBatch, fair,
-				delegate, errorHandler );
+		ElasticsearchBatchingSharedWorkOrchestrator orchestrator = new ElasticsearchBatchingSharedWorkOrchestrator(
+				name, maxChangesetsPerBatch, fair, delegate, errorHandler
+		);
+		metrics.registerQueue( name, orchestrator.getChangesetQueue() );
+		return orchestrator;
 	}
 
 	private ElasticsearchAccumulatingWorkOrchestrator createThreadUnsafeSerialOrchestrator(
 			Supplier<ElasticsearchRefreshableWorkExecutionContext> contextSupplier,
-			boolean refreshInBulkAPICall) {
+			boolean refreshInBulkAPICall, ElasticsearchBulkingConfiguration bulkingConfiguration,
+			ElasticsearchAdaptiveBulkSizer adaptiveBulkSizer) {
 		ElasticsearchWorkSequenceBuilder sequenceBuilder = createSequenceBuilder( contextSupplier );
-		ElasticsearchWorkBulker bulker = createBulker( sequenceBuilder, SERIAL_MIN_BULK_SIZE, refreshInBulkAPICall );
+		ElasticsearchWorkBulker bulker = createBulker( sequenceBuilder, SERIAL_MIN_BULK_SIZE, refreshInBulkAPICall,
+				true, bulkingConfiguration, adaptiveBulkSizer );
 		return new ElasticsearchSerialChangesetsWorkOrchestrator( sequenceBuilder, bulker );
 	}
 
 	private ElasticsearchAccumulatingWorkOrchestrator createThreadUnsafeParallelOrchestrator(
 			Supplier<ElasticsearchRefreshableWorkExecutionContext> contextSupplier,
-			boolean refreshInBulkAPICall) {
+			boolean refreshInBulkAPICall, ElasticsearchBulkingConfiguration bulkingConfiguration,
+			ElasticsearchAdaptiveBulkSizer adaptiveBulkSizer) {
 		ElasticsearchWorkSequenceBuilder sequenceBuilder = createSequenceBuilder( contextSupplier );
-		ElasticsearchWorkBulker bulker = createBulker( sequenceBuilder, PARALLEL_MIN_BULK_SIZE, refreshInBulkAPICall );
+		ElasticsearchWorkBulker bulker = createBulker( sequenceBuilder, PARALLEL_MIN_BULK_SIZE, refreshInBulkAPICall,
+				false, bulkingConfiguration, adaptiveBulkSizer );
 		return new ElasticsearchParallelChangesetsWorkOrchestrator( sequenceBuilder, bulker );
 	}
 
@@ -231,11 +261,30 @@ private ElasticsearchWorkSequenceBuilder createSequenceBuilder(Supplier<Elastics
 				);
 	}
 
-	private ElasticsearchWorkBulker createBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder, int minBulkSize, boolean refreshInBulkAPICall) {
+	private ElasticsearchAdaptiveBulkSizer createAdaptiveBulkSizer(ElasticsearchBulkingConfiguration bulkingConfiguration) {
+		switch ( bulkingConfiguration.getBulkSizingStrategy() ) {
+			case FIXED:
+				return null;
+			case ADAPTIVE:
+				return new ElasticsearchAdaptiveBulkSizer(
+						gsonProvider.getGson(), bulkRetryScheduler, bulkingConfiguration.getMaxBulkBytes()
+				);
+			default:
+				throw new AssertionFailure( "Unexpected bulk sizing strategy: " + bulkingConfiguration.getBulkSizingStrategy() );
+		}
+	}
+
+	private ElasticsearchWorkBulker createBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder, int minBulkSize,
+			boolean refreshInBulkAPICall, boolean orderedBulks, ElasticsearchBulkingConfiguration bulkingConfiguration,
+			ElasticsearchAdaptiveBulkSizer adaptiveBulkSizer) {
 		return new ElasticsearchDefaultWorkBulker(
 				sequenceBuilder,
-				worksToBulk -> workFactory.bulk( worksToBulk ).refresh( refreshInBulkAPICall ).build(),
-				minBulkSize, MAX_BULK_SIZE
+				worksToBulk -> workFactory.bulk( worksToBulk ).refresh( refreshInBulkAPICall )
+						.rejectionHandler( adaptiveBulkSizer )
+						.ordered( orderedBulks )
+						.build(),
+				minBulkSize, bulkingConfiguration.getMaxBulkSize(), adaptiveBulkSizer,
+				metrics.getBulkSize()
 				);
 	}
 
@@ -0,0 +1,30 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.aggregation.impl;
+
+import org.hibernate.search.engine.search.SearchAggregation;
+
+import com.google.gson.JsonObject;
+
+/**
+ * @param <A> The type of the aggregation result.
+ */
+public interface ElasticsearchSearchAggregation<A> extends SearchAggregation<A> {
+
+	/**
+	 * @return The JSON of this aggregation, to be added to the {@code aggregations} section of the search request.
+	 */
+	JsonObject toJsonAggregation();
+
+	/**
+	 * @param aggregationResult The JSON result of this aggregation,
+	 * from the {@code aggregations} section of the search response.
+	 * @return The result of this aggregation.
+	 */
+	A extract(JsonObject aggregationResult);
+
+}
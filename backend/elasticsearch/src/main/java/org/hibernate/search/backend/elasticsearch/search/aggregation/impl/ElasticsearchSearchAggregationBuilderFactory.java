@@ -0,0 +1,98 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.aggregation.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexSchemaFieldNode;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchScopedIndexFieldComponent;
+import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchContext;
+import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchScopeModel;
+import org.hibernate.search.backend.elasticsearch.search.impl.IndexSchemaFieldNodeComponentRetrievalStrategy;
+import org.hibernate.search.backend.elasticsearch.types.sort.impl.ElasticsearchFieldSortBuilderFactory;
+import org.hibernate.search.engine.search.SearchAggregation;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationBuilderFactory;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+public class ElasticsearchSearchAggregationBuilderFactory
+		implements SearchAggregationBuilderFactory<ElasticsearchSearchAggregationCollector> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	/*
+	 * Aggregations rely on the same doc values as sorts,
+	 * so they are created by the same field-scoped factories.
+	 */
+	private static final AggregationBuilderFactoryRetrievalStrategy AGGREGATION_BUILDER_FACTORY_RETRIEVAL_STRATEGY =
+			new AggregationBuilderFactoryRetrievalStrategy();
+
+	private final ElasticsearchSearchContext searchContext;
+	private final ElasticsearchSearchScopeModel scopeModel;
+
+	public ElasticsearchSearchAggregationBuilderFactory(ElasticsearchSearchContext searchContext,
+			ElasticsearchSearchScopeModel scopeModel) {
+		this.searchContext = searchContext;
+		this.scopeModel = scopeModel;
+	}
+
+	@Override
+	public <A> void contribute(ElasticsearchSearchAggregationCollector collector, AggregationKey<A> key,
+			SearchAggregation<A> aggregation) {
+		if ( !( aggregation instanceof ElasticsearchSearchAggregation ) ) {
+			throw log.cannotMixElasticsearchSearchAggregationWithOtherAggregations( aggregation );
+		}
+		collector.collectAggregation( key, (ElasticsearchSearchAggregation<A>) aggregation );
+	}
+
+	@Override
+	public TermsAggregationBuilder createTermsAggregationBuilder(String absoluteFieldPath) {
+		return scopeModel
+				.getSchemaNodeComponent( absoluteFieldPath, AGGREGATION_BUILDER_FACTORY_RETRIEVAL_STRATEGY )
+				.getComponent().createTermsAggregationBuilder( absoluteFieldPath );
+	}
+
+	@Override
+	public <K> RangeAggregationBuilder<K> createRangeAggregationBuilder(String absoluteFieldPath, Class<K> expectedType) {
+		ElasticsearchScopedIndexFieldComponent<ElasticsearchFieldSortBuilderFactory> fieldComponent = scopeModel
+				.getSchemaNodeComponent( absoluteFieldPath, AGGREGATION_BUILDER_FACTORY_RETRIEVAL_STRATEGY );
+		return fieldComponent.getComponent().createRangeAggregationBuilder(
+				searchContext, absoluteFieldPath, fieldComponent.getConverterCompatibilityChecker()
+		);
+	}
+
+	private static class AggregationBuilderFactoryRetrievalStrategy
+			implements IndexSchemaFieldNodeComponentRetrievalStrategy<ElasticsearchFieldSortBuilderFactory> {
+
+		@Override
+		public ElasticsearchFieldSortBuilderFactory extractComponent(ElasticsearchIndexSchemaFieldNode<?> schemaNode) {
+			return schemaNode.getSortBuilderFactory();
+		}
+
+		@Override
+		public boolean hasCompatibleCodec(ElasticsearchFieldSortBuilderFactory component1, ElasticsearchFieldSortBuilderFactory component2) {
+			return component1.hasCompatibleCodec( component2 );
+		}
+
+		@Override
+		public boolean hasCompatibleConverter(ElasticsearchFieldSortBuilderFactory component1, ElasticsearchFieldSortBuilderFactory component2) {
+			return component1.hasCompatibleConverter( component2 );
+		}
+
+		@Override
+		public SearchException createCompatibilityException(String absoluteFieldPath,
+				ElasticsearchFieldSortBuilderFactory component1, ElasticsearchFieldSortBuilderFactory component2,
+				EventContext context) {
+			return log.conflictingFieldTypesForAggregation( absoluteFieldPath, component1, component2, context );
+		}
+	}
+}
@@ -0,0 +1,19 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.aggregation.impl;
+
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+
+/**
+ * A search aggregation collector,
+ * i.e. the interface through which a search aggregation contributes to a search query.
+ */
+public interface ElasticsearchSearchAggregationCollector {
+
+	<A> void collectAggregation(AggregationKey<A> key, ElasticsearchSearchAggregation<A> aggregation);
+
+}
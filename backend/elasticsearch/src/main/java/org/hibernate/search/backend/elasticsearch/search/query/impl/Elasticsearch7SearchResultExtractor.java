@@ -8,13 +8,17 @@
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonObjectAccessor;
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregation;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionExtractContext;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
 
 import com.google.gson.JsonArray;
@@ -32,18 +36,31 @@
 	private static final JsonAccessor<Long> HITS_TOTAL_ACCESSOR =
 			HITS_ACCESSOR.property( "total" ).property( "value" ).asLong();
 
+	private static final JsonAccessor<String> SCROLL_ID_ACCESSOR =
+			JsonAccessor.root().property( "_scroll_id" ).asString();
+
+	private static final JsonAccessor<Boolean> TIMED_OUT_ACCESSOR =
+			JsonAccessor.root().property( "timed_out" ).asBoolean();
+
+	private static final JsonObjectAccessor AGGREGATIONS_ACCESSOR =
+			JsonAccessor.root().property( "aggregations" ).asObject();
+
 	private final ProjectionHitMapper<?, ?> projectionHitMapper;
 	private final ElasticsearchSearchProjection<?, T> rootProjection;
 
 	private final SearchProjectionExtractContext searchProjectionExecutionContext;
 
+	private final Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations;
+
 	Elasticsearch7SearchResultExtractor(
 			ProjectionHitMapper<?, ?> projectionHitMapper,
 			ElasticsearchSearchProjection<?, T> rootProjection,
-			SearchProjectionExtractContext searchProjectionExecutionContext) {
+			SearchProjectionExtractContext searchProjectionExecutionContext,
+			Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations) {
 		this.projectionHitMapper = projectionHitMapper;
 		this.rootProjection = rootProjection;
 		this.searchProjectionExecutionContext = searchProjectionExecutionContext;
+		this.aggregations = aggregations;
 	}
 
 	@Override
@@ -52,13 +69,38 @@ public ElasticsearchLoadableSearchResult<T> extract(JsonObject responseBody) {
 
 		final List<Object> extractedData = hitCount > 0 ? extractHits( responseBody ) : Collections.emptyList();
 
-		return new ElasticsearchLoadableSearchResult<>( projectionHitMapper, rootProjection, hitCount, extractedData );
+		return new ElasticsearchLoadableSearchResult<>( projectionHitMapper, rootProjection, hitCount, extractedData,
+				SCROLL_ID_ACCESSOR.get( responseBody ).orElse( null ),
+				TIMED_OUT_ACCESSOR.get( responseBody ).orElse( false ),
+				extractAggregations( responseBody ) );
 	}
 
 	protected long extractHitCount(JsonObject responseBody) {
 		return HITS_TOTAL_ACCESSOR.get( responseBody ).orElse( 0L );
 	}
 
+	private Map<AggregationKey<?>, ?> extractAggregations(JsonObject responseBody) {
+		if ( aggregations.isEmpty() ) {
+			return Collections.emptyMap();
+		}
+
+		JsonObject jsonAggregations = AGGREGATIONS_ACCESSOR.get( responseBody ).orElseGet( JsonObject::new );
+
+		Map<AggregationKey<?>, Object> extractedAggregations = new LinkedHashMap<>( aggregations.size() );
+
+		for ( Map.Entry<AggregationKey<?>, ElasticsearchSearchAggregation<?>> entry : aggregations.entrySet() ) {
+			AggregationKey<?> key = entry.getKey();
+			JsonElement jsonAggregation = jsonAggregations.get( key.getName() );
+			if ( jsonAggregation == null || !jsonAggregation.isJsonObject() ) {
+				// May happen when scrolling: only the first response includes aggregations
+				continue;
+			}
+			extractedAggregations.put( key, entry.getValue().extract( jsonAggregation.getAsJsonObject() ) );
+		}
+
+		return extractedAggregations;
+	}
+
 	private List<Object> extractHits(JsonObject responseBody) {
 		JsonArray jsonHits = HITS_HITS_ACCESSOR.get( responseBody ).orElseGet( JsonArray::new );
 
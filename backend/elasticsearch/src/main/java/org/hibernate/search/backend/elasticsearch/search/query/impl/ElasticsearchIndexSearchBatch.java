@@ -0,0 +1,83 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.MultiSearchWorkBuilder;
+import org.hibernate.search.engine.search.query.spi.IndexSearchBatch;
+import org.hibernate.search.engine.search.query.spi.IndexSearchQuery;
+import org.hibernate.search.engine.search.query.spi.LoadableIndexSearchResult;
+
+/**
+ * A batch executing all its queries in a single call to the Elasticsearch multi-search API.
+ */
+class ElasticsearchIndexSearchBatch implements IndexSearchBatch {
+
+	private final ElasticsearchWorkBuilderFactory workFactory;
+	private final ElasticsearchWorkOrchestrator queryOrchestrator;
+
+	private final List<ElasticsearchIndexSearchQuery<?>> queries = new ArrayList<>();
+	private final List<Long> limits = new ArrayList<>();
+	private final List<Long> offsets = new ArrayList<>();
+
+	ElasticsearchIndexSearchBatch(ElasticsearchWorkBuilderFactory workFactory,
+			ElasticsearchWorkOrchestrator queryOrchestrator) {
+		this.workFactory = workFactory;
+		this.queryOrchestrator = queryOrchestrator;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[queries=" + queries + "]";
+	}
+
+	@Override
+	public boolean add(IndexSearchQuery<?> query, Long limit, Long offset) {
+		if ( !( query instanceof ElasticsearchIndexSearchQuery ) ) {
+			return false;
+		}
+		ElasticsearchIndexSearchQuery<?> elasticsearchQuery = (ElasticsearchIndexSearchQuery<?>) query;
+		if ( !elasticsearchQuery.isExecutedBy( queryOrchestrator ) ) {
+			// The query targets another backend
+			return false;
+		}
+		queries.add( elasticsearchQuery );
+		limits.add( limit );
+		offsets.add( offset );
+		return true;
+	}
+
+	@Override
+	public CompletionStage<List<LoadableIndexSearchResult<?>>> execute() {
+		if ( queries.isEmpty() ) {
+			return CompletableFuture.completedFuture( Collections.emptyList() );
+		}
+		return queryOrchestrator.submit( createMultiSearchWork().build() )
+				.thenApply( loadableResults -> {
+					List<LoadableIndexSearchResult<?>> results = new ArrayList<>( queries.size() );
+					for ( int i = 0; i < queries.size(); i++ ) {
+						results.add( queries.get( i ).toLoadable( loadableResults.get( i ) ) );
+					}
+					return results;
+				} );
+	}
+
+	private MultiSearchWorkBuilder createMultiSearchWork() {
+		MultiSearchWorkBuilder builder = workFactory.multiSearch();
+		for ( int i = 0; i < queries.size(); i++ ) {
+			queries.get( i ).contribute( builder, limits.get( i ), offsets.get( i ) );
+		}
+		return builder;
+	}
+}
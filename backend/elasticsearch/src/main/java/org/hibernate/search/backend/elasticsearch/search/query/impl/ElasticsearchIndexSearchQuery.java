@@ -6,19 +6,28 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import java.lang.invoke.MethodHandles;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.MultiSearchWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
+import org.hibernate.search.engine.search.query.spi.IndexSearchBatch;
 import org.hibernate.search.engine.search.query.spi.IndexSearchQuery;
 import org.hibernate.search.engine.search.query.spi.IndexSearchResult;
+import org.hibernate.search.engine.search.query.spi.IndexSearchScroll;
+import org.hibernate.search.engine.search.query.spi.LoadableIndexSearchResult;
+import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import com.google.gson.JsonObject;
 
@@ -28,6 +37,8 @@
  */
 public class ElasticsearchIndexSearchQuery<T> implements IndexSearchQuery<T> {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	/**
 	 * ES default limit for (limit + offset); any search query beyond that limit will be rejected.
 	 */
@@ -40,13 +51,18 @@
 	private final Set<String> routingKeys;
 	private final JsonObject payload;
 	private final ElasticsearchSearchResultExtractor<T> searchResultExtractor;
+	private final String scrollTimeout;
+	private final String timeout;
+	private final boolean exceptionOnTimeout;
 
 	public ElasticsearchIndexSearchQuery(ElasticsearchWorkBuilderFactory workFactory,
 			ElasticsearchWorkOrchestrator queryOrchestrator,
 			Set<URLEncodedString> indexNames,
 			SessionContextImplementor sessionContext,
 			Set<String> routingKeys,
-			JsonObject payload, ElasticsearchSearchResultExtractor<T> searchResultExtractor) {
+			JsonObject payload, ElasticsearchSearchResultExtractor<T> searchResultExtractor,
+			String scrollTimeout,
+			String timeout, boolean exceptionOnTimeout) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
 		this.indexNames = indexNames;
@@ -54,6 +70,9 @@ public ElasticsearchIndexSearchQuery(ElasticsearchWorkBuilderFactory workFactory
 		this.routingKeys = routingKeys;
 		this.payload = payload;
 		this.searchResultExtractor = searchResultExtractor;
+		this.scrollTimeout = scrollTimeout;
+		this.timeout = timeout;
+		this.exceptionOnTimeout = exceptionOnTimeout;
 	}
 
 	@Override
@@ -68,25 +87,38 @@ public String toString() {
 
 	@Override
 	public IndexSearchResult<T> fetch(Long limit, Long offset) {
-		// TODO restore scrolling support. See HSEARCH-3323
-		ElasticsearchWork<ElasticsearchLoadableSearchResult<T>> work = workFactory.search( payload, searchResultExtractor )
-				.indexes( indexNames )
-				.paging( defaultedLimit( limit, offset ), offset )
-				.routingKeys( routingKeys ).build();
-
-		return Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) )
+		ElasticsearchLoadableSearchResult<T> result =
+				Futures.unwrappedExceptionJoin( queryOrchestrator.submit( createSearchWork( limit, offset ) ) );
+		checkTimeout( result );
+		return result
 				/*
 				 * WARNING: the following call must run in the user thread.
-				 * If we introduce async query execution, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and ObjectLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
+				 * Use fetchAsync for mappers that support loading without blocking.
 				 */
 				.loadBlocking( sessionContext );
 	}
 
+	@Override
+	public CompletionStage<IndexSearchResult<T>> fetchAsync(Long limit, Long offset) {
+		return queryOrchestrator.submit( createSearchWork( limit, offset ) )
+				.thenCompose( result -> {
+					checkTimeout( result );
+					// This will run in an HTTP client thread: the mapper must not block here
+					return result.loadAsync( sessionContext );
+				} );
+	}
+
 	@Override
 	public long fetchTotalHitCount() {
+		return Futures.unwrappedExceptionJoin( fetchTotalHitCountAsync().toCompletableFuture() );
+	}
+
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		/*
+		 * The count API only accepts a query in its payload, and does not support timeouts:
+		 * the timeout set on this query, if any, does not apply to counts.
+		 */
 		JsonObject filteredPayload = new JsonObject();
 		Optional<JsonObject> querySubTree = JsonAccessor.root().property( "query" ).asObject().get( payload );
 		if ( querySubTree.isPresent() ) {
@@ -94,7 +126,72 @@ public long fetchTotalHitCount() {
 		}
 
 		ElasticsearchWork<Long> work = workFactory.count( indexNames ).query( filteredPayload ).routingKeys( routingKeys ).build();
-		return queryOrchestrator.submit( work ).join();
+		return queryOrchestrator.submit( work );
+	}
+
+	@Override
+	public IndexSearchScroll<T> scroll(int chunkSize) {
+		Contracts.assertStrictlyPositive( chunkSize, "chunkSize" );
+		return new ElasticsearchIndexSearchScroll<>(
+				workFactory, queryOrchestrator,
+				indexNames, sessionContext, routingKeys,
+				payload, searchResultExtractor,
+				scrollTimeout, chunkSize,
+				this::checkTimeout
+		);
+	}
+
+	@Override
+	public IndexSearchBatch createBatch() {
+		return new ElasticsearchIndexSearchBatch( workFactory, queryOrchestrator );
+	}
+
+	boolean isExecutedBy(ElasticsearchWorkOrchestrator queryOrchestrator) {
+		return this.queryOrchestrator == queryOrchestrator;
+	}
+
+	void contribute(MultiSearchWorkBuilder multiSearchWorkBuilder, Long limit, Long offset) {
+		multiSearchWorkBuilder.search( indexNames, routingKeys, payload, defaultedLimit( limit, offset ), offset,
+				searchResultExtractor );
+	}
+
+	/**
+	 * @param result A result extracted from the response to a request contributed by
+	 * {@link #contribute(MultiSearchWorkBuilder, Long, Long)}.
+	 */
+	LoadableIndexSearchResult<T> toLoadable(ElasticsearchLoadableSearchResult<?> result) {
+		ElasticsearchLoadableSearchResult<T> castedResult = castResult( result );
+		return new LoadableIndexSearchResult<T>() {
+			@Override
+			public IndexSearchResult<T> loadBlocking() {
+				checkTimeout( castedResult );
+				return castedResult.loadBlocking( sessionContext );
+			}
+
+			@Override
+			public CompletionStage<IndexSearchResult<T>> loadAsync() {
+				checkTimeout( castedResult );
+				return castedResult.loadAsync( sessionContext );
+			}
+		};
+	}
+
+	@SuppressWarnings("unchecked") // The result was extracted by our own extractor, so it has the right type
+	private ElasticsearchLoadableSearchResult<T> castResult(ElasticsearchLoadableSearchResult<?> result) {
+		return (ElasticsearchLoadableSearchResult<T>) result;
+	}
+
+	private ElasticsearchWork<ElasticsearchLoadableSearchResult<T>> createSearchWork(Long limit, Long offset) {
+		return workFactory.search( payload, searchResultExtractor )
+				.indexes( indexNames )
+				.paging( defaultedLimit( limit, offset ), offset )
+				.routingKeys( routingKeys ).build();
+	}
+
+	private void checkTimeout(ElasticsearchLoadableSearchResult<T> result) {
+		if ( exceptionOnTimeout && result.isTimedOut() ) {
+			throw log.searchTimedOut( timeout, getQueryString() );
+		}
 	}
 
 	private Long defaultedLimit(Long limit, Long offset) {
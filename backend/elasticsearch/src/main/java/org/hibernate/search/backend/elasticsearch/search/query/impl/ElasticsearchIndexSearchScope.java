@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregationBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchContext;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchQueryElementCollector;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchScopeModel;
@@ -21,6 +22,7 @@
 	private final ElasticsearchSearchScopeModel model;
 	private final ElasticsearchSearchPredicateBuilderFactoryImpl searchPredicateFactory;
 	private final ElasticsearchSearchSortBuilderFactoryImpl searchSortFactory;
+	private final ElasticsearchSearchAggregationBuilderFactory searchAggregationFactory;
 	private final ElasticsearchSearchQueryBuilderFactory searchQueryFactory;
 	private final ElasticsearchSearchProjectionBuilderFactory searchProjectionFactory;
 
@@ -32,6 +34,7 @@ public ElasticsearchIndexSearchScope(
 		this.model = model;
 		this.searchPredicateFactory = new ElasticsearchSearchPredicateBuilderFactoryImpl( searchContext, model );
 		this.searchSortFactory = new ElasticsearchSearchSortBuilderFactoryImpl( searchContext, model );
+		this.searchAggregationFactory = new ElasticsearchSearchAggregationBuilderFactory( searchContext, model );
 		this.searchProjectionFactory = new ElasticsearchSearchProjectionBuilderFactory(
 				searchBackendContext.getSearchProjectionBackendContext(),
 				model
@@ -59,6 +62,11 @@ public ElasticsearchSearchSortBuilderFactoryImpl getSearchSortBuilderFactory() {
 		return searchSortFactory;
 	}
 
+	@Override
+	public ElasticsearchSearchAggregationBuilderFactory getSearchAggregationBuilderFactory() {
+		return searchAggregationFactory;
+	}
+
 	@Override
 	public ElasticsearchSearchQueryBuilderFactory getSearchQueryBuilderFactory() {
 		return searchQueryFactory;
@@ -0,0 +1,123 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.query.spi.IndexSearchResult;
+import org.hibernate.search.engine.search.query.spi.IndexSearchScroll;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import com.google.gson.JsonObject;
+
+/**
+ * A scroll relying on Elasticsearch's scroll API.
+ * <p>
+ * The first chunk is fetched with a search request that opens a scroll context,
+ * and the following chunks are fetched with scroll requests.
+ * The scroll context is cleared when the scroll is closed.
+ *
+ * @param <T> The type of results.
+ */
+class ElasticsearchIndexSearchScroll<T> implements IndexSearchScroll<T> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final ElasticsearchWorkBuilderFactory workFactory;
+	private final ElasticsearchWorkOrchestrator queryOrchestrator;
+	private final Set<URLEncodedString> indexNames;
+	private final SessionContextImplementor sessionContext;
+	private final Set<String> routingKeys;
+	private final JsonObject payload;
+	private final ElasticsearchSearchResultExtractor<T> searchResultExtractor;
+	private final String scrollTimeout;
+	private final int chunkSize;
+	private final Consumer<ElasticsearchLoadableSearchResult<T>> timeoutChecker;
+
+	private String scrollId;
+	private boolean closed;
+
+	ElasticsearchIndexSearchScroll(ElasticsearchWorkBuilderFactory workFactory,
+			ElasticsearchWorkOrchestrator queryOrchestrator,
+			Set<URLEncodedString> indexNames,
+			SessionContextImplementor sessionContext,
+			Set<String> routingKeys,
+			JsonObject payload, ElasticsearchSearchResultExtractor<T> searchResultExtractor,
+			String scrollTimeout, int chunkSize,
+			Consumer<ElasticsearchLoadableSearchResult<T>> timeoutChecker) {
+		this.workFactory = workFactory;
+		this.queryOrchestrator = queryOrchestrator;
+		this.indexNames = indexNames;
+		this.sessionContext = sessionContext;
+		this.routingKeys = routingKeys;
+		this.payload = payload;
+		this.searchResultExtractor = searchResultExtractor;
+		this.scrollTimeout = scrollTimeout;
+		this.chunkSize = chunkSize;
+		this.timeoutChecker = timeoutChecker;
+	}
+
+	@Override
+	public IndexSearchResult<T> next() {
+		if ( closed ) {
+			// Never start a new scroll from the first hit: this scroll's position was lost when it was closed
+			throw log.scrollClosed( getEventContext() );
+		}
+		ElasticsearchWork<ElasticsearchLoadableSearchResult<T>> work;
+		if ( scrollId == null ) {
+			work = workFactory.search( payload, searchResultExtractor )
+					.indexes( indexNames )
+					.scrolling( chunkSize, scrollTimeout )
+					.routingKeys( routingKeys ).build();
+		}
+		else {
+			work = workFactory.scroll( scrollId, scrollTimeout, searchResultExtractor ).build();
+		}
+
+		ElasticsearchLoadableSearchResult<T> result = Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) );
+		scrollId = result.getScrollId();
+		timeoutChecker.accept( result );
+
+		// WARNING: this call must run in the user thread, see ElasticsearchIndexSearchQuery#fetch.
+		return result.loadBlocking( sessionContext );
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+		if ( scrollId != null ) {
+			Futures.unwrappedExceptionJoin( queryOrchestrator.submit( workFactory.clearScroll( scrollId ).build() ) );
+			scrollId = null;
+		}
+	}
+
+	private EventContext getEventContext() {
+		Set<String> originalIndexNames = new LinkedHashSet<>();
+		for ( URLEncodedString indexName : indexNames ) {
+			originalIndexNames.add( indexName.original );
+		}
+		return EventContexts.fromIndexNames( originalIndexNames );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[query=" + payload + ", chunkSize=" + chunkSize + "]";
+	}
+}
@@ -10,10 +10,13 @@
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionTransformContext;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.query.spi.IndexSearchResult;
 import org.hibernate.search.engine.search.query.spi.LoadingResult;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
@@ -36,20 +39,56 @@
 
 	private final long hitCount;
 	private List<Object> extractedData;
+	private final String scrollId;
+	private final boolean timedOut;
+	private final Map<AggregationKey<?>, ?> aggregationResults;
 
 	ElasticsearchLoadableSearchResult(ProjectionHitMapper<?, ?> projectionHitMapper,
 			ElasticsearchSearchProjection<?, T> rootProjection,
-			long hitCount, List<Object> extractedData) {
+			long hitCount, List<Object> extractedData, String scrollId, boolean timedOut,
+			Map<AggregationKey<?>, ?> aggregationResults) {
 		this.projectionHitMapper = projectionHitMapper;
 		this.rootProjection = rootProjection;
 		this.hitCount = hitCount;
 		this.extractedData = extractedData;
+		this.scrollId = scrollId;
+		this.timedOut = timedOut;
+		this.aggregationResults = aggregationResults;
+	}
+
+	/**
+	 * @return The scroll ID to use to fetch the next chunk of hits, or {@code null} if this result is not part of a scroll.
+	 */
+	String getScrollId() {
+		return scrollId;
+	}
+
+	/**
+	 * @return {@code true} if Elasticsearch reported that the query exceeded its timeout, {@code false} otherwise.
+	 */
+	boolean isTimedOut() {
+		return timedOut;
 	}
 
 	IndexSearchResult<T> loadBlocking(SessionContextImplementor sessionContext) {
-		SearchProjectionTransformContext transformContext = new SearchProjectionTransformContext( sessionContext );
+		return transform( sessionContext, projectionHitMapper.loadBlocking() );
+	}
+
+	/**
+	 * Load data from the mapper without blocking the current thread.
+	 * <p>
+	 * Unlike {@link #loadBlocking(SessionContextImplementor)}, this may run in a backend thread.
+	 *
+	 * @param sessionContext The session context.
+	 * @return A stage that will be completed with the search result.
+	 */
+	CompletionStage<IndexSearchResult<T>> loadAsync(SessionContextImplementor sessionContext) {
+		return projectionHitMapper.loadAsync()
+				.thenApply( loadingResult -> transform( sessionContext, loadingResult ) );
+	}
 
-		LoadingResult<?> loadingResult = projectionHitMapper.loadBlocking();
+	private IndexSearchResult<T> transform(SessionContextImplementor sessionContext, LoadingResult<?> loadingResult) {
+		SearchProjectionTransformContext transformContext = new SearchProjectionTransformContext( sessionContext );
 
 		for ( int i = 0; i < extractedData.size(); i++ ) {
 			T transformed = transformUnsafe( rootProjection, loadingResult, extractedData.get( i ), transformContext );
@@ -63,6 +102,6 @@ IndexSearchResult<T> loadBlocking(SessionContextImplementor sessionContext) {
 		// Make sure that if someone uses this object incorrectly, it will always fail, and will fail early.
 		extractedData = null;
 
-		return new SimpleIndexSearchResult<>( hitCount, loadedHits );
+		return new SimpleIndexSearchResult<>( hitCount, loadedHits, timedOut, aggregationResults );
 	}
 }
@@ -7,11 +7,14 @@
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregation;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchQueryElementCollector;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionExtractContext;
@@ -19,6 +22,7 @@
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.query.spi.IndexSearchQuery;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
@@ -33,6 +37,7 @@
 	private final ElasticsearchSearchResultExtractorFactory searchResultExtractorFactory;
 	private final ElasticsearchWorkOrchestrator queryOrchestrator;
 	private final MultiTenancyStrategy multiTenancyStrategy;
+	private final String scrollTimeout;
 
 	private final Set<URLEncodedString> indexNames;
 	private final SessionContextImplementor sessionContext;
@@ -42,11 +47,15 @@
 	private final ProjectionHitMapper<?, ?> projectionHitMapper;
 	private final ElasticsearchSearchProjection<?, T> rootProjection;
 
+	private String timeout;
+	private boolean exceptionOnTimeout;
+
 	ElasticsearchSearchQueryBuilder(
 			ElasticsearchWorkBuilderFactory workFactory,
 			ElasticsearchSearchResultExtractorFactory searchResultExtractorFactory,
 			ElasticsearchWorkOrchestrator queryOrchestrator,
 			MultiTenancyStrategy multiTenancyStrategy,
+			String scrollTimeout,
 			Set<URLEncodedString> indexNames,
 			SessionContextImplementor sessionContext,
 			ProjectionHitMapper<?, ?> projectionHitMapper,
@@ -55,6 +64,7 @@
 		this.searchResultExtractorFactory = searchResultExtractorFactory;
 		this.queryOrchestrator = queryOrchestrator;
 		this.multiTenancyStrategy = multiTenancyStrategy;
+		this.scrollTimeout = scrollTimeout;
 
 		this.indexNames = indexNames;
 		this.sessionContext = sessionContext;
@@ -75,6 +85,18 @@ public void addRoutingKey(String routingKey) {
 		this.routingKeys.add( routingKey );
 	}
 
+	@Override
+	public void failAfter(long timeout, TimeUnit timeUnit) {
+		this.timeout = toElasticsearchTimeValue( timeout, timeUnit );
+		this.exceptionOnTimeout = true;
+	}
+
+	@Override
+	public void truncateAfter(long timeout, TimeUnit timeUnit) {
+		this.timeout = toElasticsearchTimeValue( timeout, timeUnit );
+		this.exceptionOnTimeout = false;
+	}
+
 	private IndexSearchQuery<T> build() {
 		JsonObject payload = new JsonObject();
 
@@ -88,22 +110,48 @@ private IndexSearchQuery<T> build() {
 			payload.add( "sort", jsonSort );
 		}
 
+		Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations = elementCollector.getAggregations();
+		if ( !aggregations.isEmpty() ) {
+			JsonObject jsonAggregations = new JsonObject();
+			for ( Map.Entry<AggregationKey<?>, ElasticsearchSearchAggregation<?>> entry : aggregations.entrySet() ) {
+				jsonAggregations.add( entry.getKey().getName(), entry.getValue().toJsonAggregation() );
+			}
+			payload.add( "aggregations", jsonAggregations );
+		}
+
 		SearchProjectionExtractContext searchProjectionExecutionContext = elementCollector
 				.toSearchProjectionExecutionContext();
 
+		if ( timeout != null ) {
+			// Elasticsearch stops collecting hits and returns partial results once this timeout is exceeded
+			payload.addProperty( "timeout", timeout );
+		}
+
 		rootProjection.contributeRequest( payload, searchProjectionExecutionContext );
 
 		ElasticsearchSearchResultExtractor<T> searchResultExtractor =
-				searchResultExtractorFactory.createResultExtractor( projectionHitMapper, rootProjection, searchProjectionExecutionContext );
+				searchResultExtractorFactory.createResultExtractor( projectionHitMapper, rootProjection, searchProjectionExecutionContext,
+						aggregations );
 
 		return new ElasticsearchIndexSearchQuery<>(
 				workFactory, queryOrchestrator,
 				indexNames, sessionContext, routingKeys,
 				payload,
-				searchResultExtractor
+				searchResultExtractor,
+				scrollTimeout,
+				timeout, exceptionOnTimeout
 		);
 	}
 
+	private static String toElasticsearchTimeValue(long timeout, TimeUnit timeUnit) {
+		long timeoutMillis = timeUnit.toMillis( timeout );
+		if ( timeUnit.convert( timeoutMillis, TimeUnit.MILLISECONDS ) < timeout ) {
+			// Round up, so that sub-millisecond timeouts are not truncated to 0
+			++timeoutMillis;
+		}
+		return timeoutMillis + "ms";
+	}
+
 	private JsonObject getJsonQuery() {
 		return multiTenancyStrategy.decorateJsonQuery( elementCollector.toJsonPredicate(), sessionContext.getTenantIdentifier() );
 	}
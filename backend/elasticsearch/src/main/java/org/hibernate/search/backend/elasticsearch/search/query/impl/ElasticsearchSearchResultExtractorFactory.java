@@ -6,9 +6,13 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import java.util.Map;
+
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregation;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionExtractContext;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
 
 public interface ElasticsearchSearchResultExtractorFactory {
@@ -16,6 +20,7 @@ public interface ElasticsearchSearchResultExtractorFactory {
 	<T> ElasticsearchSearchResultExtractor<T> createResultExtractor(
 			ProjectionHitMapper<?, ?> projectionHitMapper,
 			ElasticsearchSearchProjection<?, T> rootProjection,
-			SearchProjectionExtractContext searchProjectionExecutionContext);
+			SearchProjectionExtractContext searchProjectionExecutionContext,
+			Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations);
 
 }
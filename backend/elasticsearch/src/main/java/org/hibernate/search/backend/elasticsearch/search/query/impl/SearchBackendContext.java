@@ -33,6 +33,7 @@ public class SearchBackendContext {
 	private final MultiTenancyStrategy multiTenancyStrategy;
 
 	private final ElasticsearchWorkOrchestrator orchestrator;
+	private final String scrollTimeout;
 
 	private final SearchProjectionBackendContext searchProjectionBackendContext;
 
@@ -44,13 +45,15 @@ public SearchBackendContext(EventContext eventContext,
 			Gson userFacingGson,
 			Function<String, String> indexNameConverter,
 			MultiTenancyStrategy multiTenancyStrategy,
-			ElasticsearchWorkOrchestrator orchestrator) {
+			ElasticsearchWorkOrchestrator orchestrator,
+			int scrollTimeout) {
 		this.eventContext = eventContext;
 		this.workFactory = workFactory;
 		this.searchResultExtractorFactory = searchResultExtractorFactory;
 		this.userFacingGson = userFacingGson;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.orchestrator = orchestrator;
+		this.scrollTimeout = scrollTimeout + "s";
 
 		this.documentReferenceExtractorHelper =
 				new DocumentReferenceExtractorHelper( indexNameConverter, multiTenancyStrategy );
@@ -89,7 +92,7 @@ <T> ElasticsearchSearchQueryBuilder<T> createSearchQueryBuilder(
 			ElasticsearchSearchProjection<?, T> rootProjection) {
 		multiTenancyStrategy.checkTenantId( sessionContext.getTenantIdentifier(), eventContext );
 		return new ElasticsearchSearchQueryBuilder<>(
-				workFactory, searchResultExtractorFactory, orchestrator, multiTenancyStrategy,
+				workFactory, searchResultExtractorFactory, orchestrator, multiTenancyStrategy, scrollTimeout,
 				indexNames, sessionContext, projectionHitMapper, rootProjection
 		);
 	}
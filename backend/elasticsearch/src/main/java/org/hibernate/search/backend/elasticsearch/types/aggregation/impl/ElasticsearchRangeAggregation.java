@@ -0,0 +1,61 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.types.aggregation.impl;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonObjectAccessor;
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregation;
+import org.hibernate.search.engine.search.aggregation.Range;
+
+import com.google.gson.JsonObject;
+
+/**
+ * @param <K> The type of range bounds exposed to the user.
+ */
+class ElasticsearchRangeAggregation<K> implements ElasticsearchSearchAggregation<Map<Range<K>, Long>> {
+
+	private static final JsonObjectAccessor BUCKETS_ACCESSOR = JsonAccessor.root().property( "buckets" ).asObject();
+	private static final JsonAccessor<Long> DOC_COUNT_ACCESSOR = JsonAccessor.root().property( "doc_count" ).asLong();
+
+	private final JsonObject jsonAggregation;
+	private final List<Range<K>> ranges;
+
+	/**
+	 * @param jsonAggregation A keyed range aggregation, whose range keys are the index of each range in {@code ranges}.
+	 * @param ranges The ranges, in the order they were defined.
+	 */
+	ElasticsearchRangeAggregation(JsonObject jsonAggregation, List<Range<K>> ranges) {
+		this.jsonAggregation = jsonAggregation;
+		this.ranges = ranges;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + jsonAggregation + "]";
+	}
+
+	@Override
+	public JsonObject toJsonAggregation() {
+		return jsonAggregation;
+	}
+
+	@Override
+	public Map<Range<K>, Long> extract(JsonObject aggregationResult) {
+		JsonObject buckets = BUCKETS_ACCESSOR.get( aggregationResult ).orElseGet( JsonObject::new );
+		Map<Range<K>, Long> result = new LinkedHashMap<>();
+		for ( int i = 0; i < ranges.size(); i++ ) {
+			JsonObject bucket = buckets.getAsJsonObject( String.valueOf( i ) );
+			long docCount = bucket == null ? 0L : DOC_COUNT_ACCESSOR.get( bucket ).orElse( 0L );
+			result.put( ranges.get( i ), docCount );
+		}
+		return result;
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.types.aggregation.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchConverterCompatibilityChecker;
+import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchContext;
+import org.hibernate.search.backend.elasticsearch.types.codec.impl.ElasticsearchFieldCodec;
+import org.hibernate.search.engine.backend.types.converter.ToDocumentFieldValueConverter;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.SearchAggregation;
+import org.hibernate.search.engine.search.aggregation.Range;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * @param <K> The type of range bounds exposed to the user.
+ * @param <F> The field type exposed to the mapper.
+ */
+public class ElasticsearchRangeAggregationBuilder<K, F> implements RangeAggregationBuilder<K> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final JsonAccessor<String> FIELD_ACCESSOR = JsonAccessor.root().property( "field" ).asString();
+	private static final JsonAccessor<Boolean> KEYED_ACCESSOR = JsonAccessor.root().property( "keyed" ).asBoolean();
+	private static final JsonAccessor<JsonElement> RANGES_ACCESSOR = JsonAccessor.root().property( "ranges" );
+	private static final JsonAccessor<String> KEY_ACCESSOR = JsonAccessor.root().property( "key" ).asString();
+	private static final JsonAccessor<JsonElement> FROM_ACCESSOR = JsonAccessor.root().property( "from" );
+	private static final JsonAccessor<JsonElement> TO_ACCESSOR = JsonAccessor.root().property( "to" );
+
+	private final ElasticsearchSearchContext searchContext;
+
+	private final String absoluteFieldPath;
+
+	private final ToDocumentFieldValueConverter<?, ? extends F> converter;
+	private final ElasticsearchConverterCompatibilityChecker converterChecker;
+
+	private final ElasticsearchFieldCodec<F> codec;
+
+	private final List<Range<K>> ranges = new ArrayList<>();
+
+	public ElasticsearchRangeAggregationBuilder(ElasticsearchSearchContext searchContext,
+			String absoluteFieldPath,
+			ToDocumentFieldValueConverter<?, ? extends F> converter,
+			ElasticsearchConverterCompatibilityChecker converterChecker, ElasticsearchFieldCodec<F> codec) {
+		this.searchContext = searchContext;
+		this.absoluteFieldPath = absoluteFieldPath;
+		this.converter = converter;
+		this.converterChecker = converterChecker;
+		this.codec = codec;
+	}
+
+	@Override
+	public void range(Range<K> range) {
+		ranges.add( range );
+	}
+
+	@Override
+	public SearchAggregation<Map<Range<K>, Long>> build() {
+		converterChecker.failIfNotCompatible();
+
+		JsonArray rangesJson = new JsonArray();
+		for ( int i = 0; i < ranges.size(); i++ ) {
+			Range<K> range = ranges.get( i );
+			JsonObject rangeJson = new JsonObject();
+			// Elasticsearch may reorder buckets, so we use keys to match them with ranges
+			KEY_ACCESSOR.set( rangeJson, String.valueOf( i ) );
+			K lowerBound = range.getLowerBoundInclusive();
+			if ( lowerBound != null ) {
+				FROM_ACCESSOR.set( rangeJson, encode( lowerBound ) );
+			}
+			K upperBound = range.getUpperBoundExclusive();
+			if ( upperBound != null ) {
+				TO_ACCESSOR.set( rangeJson, encode( upperBound ) );
+			}
+			rangesJson.add( rangeJson );
+		}
+
+		JsonObject innerObject = new JsonObject();
+		FIELD_ACCESSOR.set( innerObject, absoluteFieldPath );
+		KEYED_ACCESSOR.set( innerObject, true );
+		RANGES_ACCESSOR.set( innerObject, rangesJson );
+
+		JsonObject outerObject = new JsonObject();
+		outerObject.add( "range", innerObject );
+		return new ElasticsearchRangeAggregation<>( outerObject, new ArrayList<>( ranges ) );
+	}
+
+	private JsonElement encode(K value) {
+		try {
+			F converted = converter.convertUnknown( value, searchContext.getToDocumentFieldValueConvertContext() );
+			return codec.encode( converted );
+		}
+		catch (RuntimeException e) {
+			throw log.cannotConvertDslParameter(
+					e.getMessage(), e, EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath )
+			);
+		}
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.types.aggregation.impl;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregation;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+class ElasticsearchTermsAggregation implements ElasticsearchSearchAggregation<Map<String, Long>> {
+
+	private static final JsonAccessor<JsonArray> BUCKETS_ACCESSOR =
+			JsonAccessor.root().property( "buckets" ).asArray();
+	private static final JsonAccessor<String> KEY_ACCESSOR = JsonAccessor.root().property( "key" ).asString();
+	private static final JsonAccessor<Long> DOC_COUNT_ACCESSOR = JsonAccessor.root().property( "doc_count" ).asLong();
+
+	private final JsonObject jsonAggregation;
+
+	ElasticsearchTermsAggregation(JsonObject jsonAggregation) {
+		this.jsonAggregation = jsonAggregation;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + jsonAggregation + "]";
+	}
+
+	@Override
+	public JsonObject toJsonAggregation() {
+		return jsonAggregation;
+	}
+
+	@Override
+	public Map<String, Long> extract(JsonObject aggregationResult) {
+		Map<String, Long> result = new LinkedHashMap<>();
+		// Buckets are already ordered as requested
+		for ( JsonElement bucket : BUCKETS_ACCESSOR.get( aggregationResult ).orElseGet( JsonArray::new ) ) {
+			JsonObject bucketObject = bucket.getAsJsonObject();
+			result.put(
+					KEY_ACCESSOR.get( bucketObject ).orElse( null ),
+					DOC_COUNT_ACCESSOR.get( bucketObject ).orElse( 0L )
+			);
+		}
+		return result;
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.types.aggregation.impl;
+
+import java.util.Map;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.engine.search.SearchAggregation;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+public class ElasticsearchTermsAggregationBuilder implements TermsAggregationBuilder {
+
+	private static final JsonAccessor<String> FIELD_ACCESSOR = JsonAccessor.root().property( "field" ).asString();
+	private static final JsonAccessor<Integer> SIZE_ACCESSOR = JsonAccessor.root().property( "size" ).asInteger();
+	private static final JsonAccessor<Integer> MIN_DOC_COUNT_ACCESSOR =
+			JsonAccessor.root().property( "min_doc_count" ).asInteger();
+	private static final JsonAccessor<JsonElement> ORDER_ACCESSOR = JsonAccessor.root().property( "order" );
+
+	private final String absoluteFieldPath;
+
+	private int maxTermCount = 100;
+	private int minDocumentCount = 1;
+
+	public ElasticsearchTermsAggregationBuilder(String absoluteFieldPath) {
+		this.absoluteFieldPath = absoluteFieldPath;
+	}
+
+	@Override
+	public void maxTermCount(int maxTermCount) {
+		this.maxTermCount = maxTermCount;
+	}
+
+	@Override
+	public void minDocumentCount(int minDocumentCount) {
+		this.minDocumentCount = minDocumentCount;
+	}
+
+	@Override
+	public SearchAggregation<Map<String, Long>> build() {
+		JsonObject innerObject = new JsonObject();
+		FIELD_ACCESSOR.set( innerObject, absoluteFieldPath );
+		SIZE_ACCESSOR.set( innerObject, maxTermCount );
+		MIN_DOC_COUNT_ACCESSOR.set( innerObject, minDocumentCount );
+		// Same order as the Lucene backend: descending count, then ascending term
+		JsonArray order = new JsonArray();
+		order.add( orderClause( "_count", "desc" ) );
+		order.add( orderClause( "_key", "asc" ) );
+		ORDER_ACCESSOR.set( innerObject, order );
+
+		JsonObject outerObject = new JsonObject();
+		outerObject.add( "terms", innerObject );
+		return new ElasticsearchTermsAggregation( outerObject );
+	}
+
+	private static JsonObject orderClause(String property, String direction) {
+		JsonObject clause = new JsonObject();
+		clause.addProperty( property, direction );
+		return clause;
+	}
+}
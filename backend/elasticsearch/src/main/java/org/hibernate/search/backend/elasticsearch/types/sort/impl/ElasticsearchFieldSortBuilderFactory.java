@@ -9,6 +9,8 @@
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchConverterCompatibilityChecker;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchContext;
 import org.hibernate.search.backend.elasticsearch.search.sort.impl.ElasticsearchSearchSortBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
 import org.hibernate.search.engine.search.predicate.DslConverter;
 import org.hibernate.search.engine.search.sort.spi.DistanceSortBuilder;
 import org.hibernate.search.engine.search.sort.spi.FieldSortBuilder;
@@ -29,6 +31,9 @@
  * having a per-field factory allows us to throw detailed exceptions
  * when users try to create a sort that just cannot work on a particular field
  * (either because it has the wrong type, or it's not configured in a way that allows it).
+ * <p>
+ * Aggregations rely on the same doc values as sorts,
+ * so this factory also creates aggregation builders.
  */
 public interface ElasticsearchFieldSortBuilderFactory {
 
@@ -38,6 +43,11 @@ FieldSortBuilder<ElasticsearchSearchSortBuilder> createFieldSortBuilder(
 	DistanceSortBuilder<ElasticsearchSearchSortBuilder> createDistanceSortBuilder(String absoluteFieldPath,
 			GeoPoint center);
 
+	TermsAggregationBuilder createTermsAggregationBuilder(String absoluteFieldPath);
+
+	<K> RangeAggregationBuilder<K> createRangeAggregationBuilder(ElasticsearchSearchContext searchContext,
+			String absoluteFieldPath, ElasticsearchConverterCompatibilityChecker converterChecker);
+
 	boolean hasCompatibleCodec(ElasticsearchFieldSortBuilderFactory other);
 
 	boolean hasCompatibleConverter(ElasticsearchFieldSortBuilderFactory other);
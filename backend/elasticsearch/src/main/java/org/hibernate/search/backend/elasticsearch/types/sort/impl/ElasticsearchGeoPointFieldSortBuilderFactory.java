@@ -14,6 +14,8 @@
 import org.hibernate.search.backend.elasticsearch.search.sort.impl.ElasticsearchDistanceSortBuilder;
 import org.hibernate.search.backend.elasticsearch.search.sort.impl.ElasticsearchSearchSortBuilder;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
 import org.hibernate.search.engine.search.sort.spi.DistanceSortBuilder;
 import org.hibernate.search.engine.search.sort.spi.FieldSortBuilder;
 import org.hibernate.search.engine.spatial.GeoPoint;
@@ -46,6 +48,21 @@ public DistanceSortBuilder<ElasticsearchSearchSortBuilder> createDistanceSortBui
 		return new ElasticsearchDistanceSortBuilder( absoluteFieldPath, center );
 	}
 
+	@Override
+	public TermsAggregationBuilder createTermsAggregationBuilder(String absoluteFieldPath) {
+		throw log.termsAggregationsNotSupportedByFieldType(
+				EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath )
+		);
+	}
+
+	@Override
+	public <K> RangeAggregationBuilder<K> createRangeAggregationBuilder(ElasticsearchSearchContext searchContext,
+			String absoluteFieldPath, ElasticsearchConverterCompatibilityChecker converterChecker) {
+		throw log.rangeAggregationsNotSupportedByFieldType(
+				EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath )
+		);
+	}
+
 	@Override
 	public boolean hasCompatibleCodec(ElasticsearchFieldSortBuilderFactory other) {
 		if ( other.getClass() != this.getClass() ) {
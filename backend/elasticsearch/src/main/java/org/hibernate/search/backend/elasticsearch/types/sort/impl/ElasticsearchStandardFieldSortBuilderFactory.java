@@ -13,9 +13,14 @@
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchContext;
 import org.hibernate.search.backend.elasticsearch.search.sort.impl.ElasticsearchFieldSortBuilder;
 import org.hibernate.search.backend.elasticsearch.search.sort.impl.ElasticsearchSearchSortBuilder;
+import org.hibernate.search.backend.elasticsearch.types.aggregation.impl.ElasticsearchRangeAggregationBuilder;
+import org.hibernate.search.backend.elasticsearch.types.aggregation.impl.ElasticsearchTermsAggregationBuilder;
 import org.hibernate.search.backend.elasticsearch.types.codec.impl.ElasticsearchFieldCodec;
+import org.hibernate.search.backend.elasticsearch.types.codec.impl.ElasticsearchStringFieldCodec;
 import org.hibernate.search.engine.backend.types.converter.ToDocumentFieldValueConverter;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
 import org.hibernate.search.engine.search.sort.spi.DistanceSortBuilder;
 import org.hibernate.search.engine.search.sort.spi.FieldSortBuilder;
 import org.hibernate.search.engine.spatial.GeoPoint;
@@ -58,6 +63,31 @@ public DistanceSortBuilder<ElasticsearchSearchSortBuilder> createDistanceSortBui
 		);
 	}
 
+	@Override
+	public TermsAggregationBuilder createTermsAggregationBuilder(String absoluteFieldPath) {
+		if ( !( codec instanceof ElasticsearchStringFieldCodec ) ) {
+			throw log.termsAggregationsNotSupportedByFieldType(
+					EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath )
+			);
+		}
+		checkAggregatable( absoluteFieldPath, sortable );
+
+		return new ElasticsearchTermsAggregationBuilder( absoluteFieldPath );
+	}
+
+	@Override
+	public <K> RangeAggregationBuilder<K> createRangeAggregationBuilder(ElasticsearchSearchContext searchContext,
+			String absoluteFieldPath, ElasticsearchConverterCompatibilityChecker converterChecker) {
+		if ( codec instanceof ElasticsearchStringFieldCodec ) {
+			throw log.rangeAggregationsNotSupportedByFieldType(
+					EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath )
+			);
+		}
+		checkAggregatable( absoluteFieldPath, sortable );
+
+		return new ElasticsearchRangeAggregationBuilder<>( searchContext, absoluteFieldPath, converter, converterChecker, codec );
+	}
+
 	@Override
 	public boolean hasCompatibleCodec(ElasticsearchFieldSortBuilderFactory obj) {
 		if ( this == obj ) {
@@ -90,4 +120,11 @@ private static void checkSortable(String absoluteFieldPath, boolean sortable) {
 					EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) );
 		}
 	}
+
+	private static void checkAggregatable(String absoluteFieldPath, boolean sortable) {
+		if ( !sortable ) {
+			throw log.unaggregatableField( absoluteFieldPath,
+					EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) );
+		}
+	}
 }
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.builder.impl;
 
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchBulkRejectionHandler;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
 
@@ -16,4 +17,8 @@ public interface BulkWorkBuilder extends ElasticsearchWorkBuilder<ElasticsearchW
 
 	BulkWorkBuilder refresh(boolean refresh);
 
+	BulkWorkBuilder rejectionHandler(ElasticsearchBulkRejectionHandler rejectionHandler);
+
+	BulkWorkBuilder ordered(boolean ordered);
+
 }
@@ -0,0 +1,26 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.builder.impl;
+
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchLoadableSearchResult;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+
+import com.google.gson.JsonObject;
+
+public interface MultiSearchWorkBuilder
+		extends ElasticsearchWorkBuilder<ElasticsearchWork<List<ElasticsearchLoadableSearchResult<?>>>> {
+
+	MultiSearchWorkBuilder search(Set<URLEncodedString> indexNames, Set<String> routingKeys,
+			JsonObject payload, Long limit, Long offset,
+			ElasticsearchSearchResultExtractor<?> resultExtractor);
+
+}
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
@@ -26,6 +27,7 @@
 import java.lang.invoke.MethodHandles;
 
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 /**
@@ -36,6 +38,9 @@ public class BulkWork implements ElasticsearchWork<BulkResult> {
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private static final JsonAccessor<JsonArray> BULK_ITEMS = JsonAccessor.root().property( "items" ).asArray();
+	private static final JsonAccessor<Integer> BULK_ITEM_STATUS_CODE = JsonAccessor.root().property( "status" ).asInteger();
+
+	private static final int TOO_MANY_REQUESTS_HTTP_STATUS_CODE = 429;
 
 	private final ElasticsearchRequest request;
 
@@ -53,11 +58,28 @@ public class BulkWork implements ElasticsearchWork<BulkResult> {
 	 */
 	private final boolean refreshInAPICall;
 
+	/**
+	 * The handler for works rejected because of excessive load, or {@code null} to never send works again.
+	 */
+	private final ElasticsearchBulkRejectionHandler rejectionHandler;
+
+	/**
+	 * Whether the works of this bulk must be applied in the order they were added to the bulk.
+	 * <p>
+	 * If {@code true}, when some works are rejected, the first rejected work and all works after it
+	 * will be sent again, even those that were accepted,
+	 * so that works on the same document are never applied out of order.
+	 * Otherwise, only rejected works will be sent again.
+	 */
+	private final boolean ordered;
+
 	protected BulkWork(Builder builder) {
 		super();
 		this.request = builder.buildRequest();
 		this.works = new ArrayList<>( builder.bulkableWorks );
 		this.refreshInAPICall = builder.refreshInBulkAPICall;
+		this.rejectionHandler = builder.rejectionHandler;
+		this.ordered = builder.ordered;
 	}
 
 	@Override
@@ -67,18 +89,28 @@ public String toString() {
 				.append( "[" )
 				.append( "works = " ).append( works )
 				.append( ", refreshInAPICall = " ).append( refreshInAPICall )
+				.append( ", ordered = " ).append( ordered )
 				.append( "]" )
 				.toString();
 	}
 
 	@Override
 	public CompletableFuture<BulkResult> execute(ElasticsearchWorkExecutionContext context) {
-		return Futures.create( () -> context.getClient().submit( request ) )
-				.thenApply( this::generateResult )
-				.exceptionally( Futures.handler(
-						throwable -> {
-							throw log.elasticsearchRequestFailed( request, null, Throwables.expectException( throwable ) ); }
-				) );
+		if ( rejectionHandler == null ) {
+			return Futures.create( () -> context.getClient().submit( request ) )
+					.thenApply( this::generateResult )
+					.exceptionally( Futures.handler(
+							throwable -> {
+								throw log.elasticsearchRequestFailed( request, null, Throwables.expectException( throwable ) ); }
+					) );
+		}
+		else {
+			List<Integer> allIndices = new ArrayList<>( works.size() );
+			for ( int i = 0; i < works.size(); i++ ) {
+				allIndices.add( i );
+			}
+			return executeAndSendRejectedWorksAgain( context, request, allIndices, new JsonElement[works.size()], 1 );
+		}
 	}
 
 	@Override
@@ -97,6 +129,113 @@ private BulkResult generateResult(ElasticsearchResponse response) {
 		return new BulkResultDefualt( resultItems, refreshInAPICall );
 	}
 
+	/**
+	 * @param context The execution context.
+	 * @param attemptRequest The request for this attempt, including only the works at {@code sentIndices}.
+	 * @param sentIndices The indices of the works sent in this attempt, in the list of works of this bulk.
+	 * @param resultItems The result items of every work of this bulk, populated as responses come in.
+	 * @param attempt The number of times the works at {@code sentIndices} were sent, including this attempt.
+	 * @return A future eventually returning the result of this bulk.
+	 */
+	private CompletableFuture<BulkResult> executeAndSendRejectedWorksAgain(ElasticsearchWorkExecutionContext context,
+			ElasticsearchRequest attemptRequest, List<Integer> sentIndices, JsonElement[] resultItems, int attempt) {
+		return Futures.create( () -> context.getClient().submit( attemptRequest ) )
+				.exceptionally( Futures.handler(
+						throwable -> {
+							throw log.elasticsearchRequestFailed( attemptRequest, null, Throwables.expectException( throwable ) ); }
+				) )
+				.thenCompose( response -> {
+					List<Integer> rejectedIndices = collectResultItems( response, sentIndices, resultItems );
+					if ( ordered && !rejectedIndices.isEmpty() ) {
+						/*
+						 * Works sent after the first rejected work may target the same documents:
+						 * send all of them again, so that they are applied after the rejected work.
+						 */
+						int firstRejectedPosition = sentIndices.indexOf( rejectedIndices.get( 0 ) );
+						rejectedIndices = sentIndices.subList( firstRejectedPosition, sentIndices.size() );
+					}
+					if ( rejectedIndices.isEmpty() ) {
+						rejectionHandler.onAccepted();
+						return CompletableFuture.completedFuture( generateResult( resultItems ) );
+					}
+
+					CompletableFuture<?> sendAgainFuture = rejectionHandler.onRejected( rejectedIndices.size(), attempt );
+					if ( sendAgainFuture == null ) {
+						if ( response.getStatusCode() == TOO_MANY_REQUESTS_HTTP_STATUS_CODE ) {
+							throw log.elasticsearchRequestFailed( attemptRequest, response, null );
+						}
+						// Result items of rejected works will be reported as failures
+						return CompletableFuture.completedFuture( generateResult( resultItems ) );
+					}
+
+					List<BulkableElasticsearchWork<?>> rejectedWorks = new ArrayList<>( rejectedIndices.size() );
+					for ( Integer index : rejectedIndices ) {
+						rejectedWorks.add( works.get( index ) );
+					}
+					ElasticsearchRequest nextAttemptRequest = buildRequest( rejectedWorks, refreshInAPICall );
+					List<Integer> nextAttemptIndices = rejectedIndices;
+					return sendAgainFuture.thenCompose( ignored -> executeAndSendRejectedWorksAgain(
+							context, nextAttemptRequest, nextAttemptIndices, resultItems, attempt + 1
+					) );
+				} );
+	}
+
+	/**
+	 * @return The indices of rejected works, in the list of works of this bulk.
+	 */
+	private static List<Integer> collectResultItems(ElasticsearchResponse response, List<Integer> sentIndices,
+			JsonElement[] resultItems) {
+		if ( response.getStatusCode() == TOO_MANY_REQUESTS_HTTP_STATUS_CODE ) {
+			// The whole request was rejected
+			return sentIndices;
+		}
+		JsonArray responseItems = BULK_ITEMS.get( response.getBody() ).orElseGet( JsonArray::new );
+		List<Integer> rejectedIndices = new ArrayList<>();
+		for ( int i = 0; i < sentIndices.size() && i < responseItems.size(); i++ ) {
+			int index = sentIndices.get( i );
+			JsonObject responseItem = responseItems.get( i ).getAsJsonObject();
+			resultItems[index] = responseItem;
+			if ( isRejected( responseItem ) ) {
+				rejectedIndices.add( index );
+			}
+		}
+		return rejectedIndices.isEmpty() ? Collections.emptyList() : rejectedIndices;
+	}
+
+	private static boolean isRejected(JsonObject bulkResponseItem) {
+		// Result items have the following format: { "actionName" : { "status" : 201, ... } }
+		JsonObject actionResponse = bulkResponseItem.entrySet().iterator().next().getValue().getAsJsonObject();
+		return BULK_ITEM_STATUS_CODE.get( actionResponse )
+				.map( statusCode -> statusCode == TOO_MANY_REQUESTS_HTTP_STATUS_CODE )
+				.orElse( false );
+	}
+
+	private BulkResult generateResult(JsonElement[] resultItems) {
+		JsonArray resultItemsArray = new JsonArray();
+		for ( JsonElement resultItem : resultItems ) {
+			resultItemsArray.add( resultItem );
+		}
+		return new BulkResultDefualt( resultItemsArray, refreshInAPICall );
+	}
+
+	private static ElasticsearchRequest buildRequest(List<? extends BulkableElasticsearchWork<?>> bulkableWorks,
+			boolean refreshInBulkAPICall) {
+		ElasticsearchRequest.Builder builder =
+				ElasticsearchRequest.post()
+				.pathComponent( Paths._BULK )
+				.param( "refresh", refreshInBulkAPICall );
+
+		for ( BulkableElasticsearchWork<?> work : bulkableWorks ) {
+			builder.body( work.getBulkableActionMetadata() );
+			JsonObject actionBody = work.getBulkableActionBody();
+			if ( actionBody != null ) {
+				builder.body( actionBody );
+			}
+		}
+
+		return builder.build();
+	}
+
 	private static class NoIndexDirtyBulkExecutionContext extends ElasticsearchForwardingWorkExecutionContext {
 
 		public NoIndexDirtyBulkExecutionContext(ElasticsearchWorkExecutionContext delegate) {
@@ -112,6 +251,8 @@ public void registerIndexToRefresh(URLEncodedString indexName) {
 	public static class Builder implements BulkWorkBuilder {
 		private final List<? extends BulkableElasticsearchWork<?>> bulkableWorks;
 		private boolean refreshInBulkAPICall;
+		private ElasticsearchBulkRejectionHandler rejectionHandler;
+		private boolean ordered;
 
 		public Builder(List<? extends BulkableElasticsearchWork<?>> bulkableWorks) {
 			this.bulkableWorks = bulkableWorks;
@@ -123,21 +264,20 @@ public Builder refresh(boolean refresh) {
 			return this;
 		}
 
-		protected ElasticsearchRequest buildRequest() {
-			ElasticsearchRequest.Builder builder =
-					ElasticsearchRequest.post()
-					.pathComponent( Paths._BULK )
-					.param( "refresh", refreshInBulkAPICall );
-
-			for ( BulkableElasticsearchWork<?> work : bulkableWorks ) {
-				builder.body( work.getBulkableActionMetadata() );
-				JsonObject actionBody = work.getBulkableActionBody();
-				if ( actionBody != null ) {
-					builder.body( actionBody );
-				}
-			}
+		@Override
+		public Builder rejectionHandler(ElasticsearchBulkRejectionHandler rejectionHandler) {
+			this.rejectionHandler = rejectionHandler;
+			return this;
+		}
 
-			return builder.build();
+		@Override
+		public Builder ordered(boolean ordered) {
+			this.ordered = ordered;
+			return this;
+		}
+
+		protected ElasticsearchRequest buildRequest() {
+			return BulkWork.buildRequest( bulkableWorks, refreshInBulkAPICall );
 		}
 
 		@Override
@@ -0,0 +1,32 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Decides what to do with bulked works that Elasticsearch rejected because of excessive load,
+ * i.e. with a "429 Too Many Requests" status.
+ * <p>
+ * Implementations must be thread-safe.
+ */
+public interface ElasticsearchBulkRejectionHandler {
+
+	/**
+	 * Called when Elasticsearch accepted every work sent in a bulk request.
+	 */
+	void onAccepted();
+
+	/**
+	 * @param rejectedWorkCount The number of works Elasticsearch rejected.
+	 * @param attempt The number of times these works were sent, starting at 1.
+	 * @return A future that will complete when the rejected works should be sent again,
+	 * or {@code null} if they should not be sent again and should be reported as failed.
+	 */
+	CompletableFuture<?> onRejected(int rejectedWorkCount, int attempt);
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchLoadableSearchResult;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.MultiSearchWorkBuilder;
+import org.hibernate.search.util.common.logging.impl.DefaultLogCategories;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * A work executing multiple search queries in a single call to the multi-search API.
+ * <p>
+ * Each query is described by a header, holding the target indexes and routing keys,
+ * followed by a body, holding the query payload and paging.
+ */
+public class MultiSearchWork extends AbstractSimpleElasticsearchWork<List<ElasticsearchLoadableSearchResult<?>>> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final Log QUERY_LOG = LoggerFactory.make( Log.class, DefaultLogCategories.QUERY );
+
+	private static final JsonAccessor<JsonArray> RESPONSES_ACCESSOR =
+			JsonAccessor.root().property( "responses" ).asArray();
+
+	private final List<ElasticsearchSearchResultExtractor<?>> resultExtractors;
+
+	protected MultiSearchWork(Builder builder) {
+		super( builder );
+		this.resultExtractors = new ArrayList<>( builder.resultExtractors );
+	}
+
+	@Override
+	protected CompletableFuture<?> beforeExecute(ElasticsearchWorkExecutionContext executionContext, ElasticsearchRequest request) {
+		QUERY_LOG.executingElasticsearchQuery(
+				request.getPath(),
+				request.getParameters(),
+				executionContext.getGsonProvider().getLogHelper().toString( request.getBodyParts() )
+				);
+		return super.beforeExecute( executionContext, request );
+	}
+
+	@Override
+	protected List<ElasticsearchLoadableSearchResult<?>> generateResult(ElasticsearchWorkExecutionContext context,
+			ElasticsearchResponse response) {
+		JsonArray responses = RESPONSES_ACCESSOR.get( response.getBody() ).orElseGet( JsonArray::new );
+		if ( responses.size() != resultExtractors.size() ) {
+			throw log.unexpectedMultiSearchResponseCount( resultExtractors.size(), responses.size() );
+		}
+		List<ElasticsearchLoadableSearchResult<?>> results = new ArrayList<>( responses.size() );
+		for ( int i = 0; i < responses.size(); i++ ) {
+			JsonObject itemResponse = responses.get( i ).getAsJsonObject();
+			JsonElement error = itemResponse.get( "error" );
+			if ( error != null ) {
+				throw log.multiSearchQueryFailed( i, error.toString() );
+			}
+			results.add( resultExtractors.get( i ).extract( itemResponse ) );
+		}
+		return results;
+	}
+
+	public static class Builder extends AbstractBuilder<Builder> implements MultiSearchWorkBuilder {
+
+		public static Builder forElasticsearch6AndBelow() {
+			// No "track_total_hits": this parameter does not exist in ES6 and below, and total hits are always tracked
+			return new Builder( null );
+		}
+
+		public static Builder forElasticsearch7AndAbove() {
+			return new Builder( true );
+		}
+
+		private final Boolean trackTotalHits;
+		private final List<JsonObject> headers = new ArrayList<>();
+		private final List<JsonObject> bodies = new ArrayList<>();
+		private final List<ElasticsearchSearchResultExtractor<?>> resultExtractors = new ArrayList<>();
+
+		private Builder(Boolean trackTotalHits) {
+			super( null, DefaultElasticsearchRequestSuccessAssessor.INSTANCE );
+			this.trackTotalHits = trackTotalHits;
+		}
+
+		@Override
+		public Builder search(Set<URLEncodedString> indexNames, Set<String> routingKeys,
+				JsonObject payload, Long limit, Long offset,
+				ElasticsearchSearchResultExtractor<?> resultExtractor) {
+			JsonObject header = new JsonObject();
+			JsonArray indexArray = new JsonArray();
+			for ( URLEncodedString indexName : indexNames ) {
+				indexArray.add( indexName.original );
+			}
+			header.add( "index", indexArray );
+			if ( !routingKeys.isEmpty() ) {
+				header.addProperty( "routing", String.join( ",", routingKeys ) );
+			}
+
+			// Do not alter the payload, which is shared with other executions of the same query
+			JsonObject body = new JsonObject();
+			for ( Map.Entry<String, JsonElement> entry : payload.entrySet() ) {
+				body.add( entry.getKey(), entry.getValue() );
+			}
+			if ( offset != null ) {
+				body.addProperty( "from", offset );
+			}
+			if ( limit != null ) {
+				body.addProperty( "size", limit );
+			}
+			if ( trackTotalHits != null ) {
+				body.addProperty( "track_total_hits", trackTotalHits );
+			}
+
+			headers.add( header );
+			bodies.add( body );
+			resultExtractors.add( resultExtractor );
+			return this;
+		}
+
+		@Override
+		protected ElasticsearchRequest buildRequest() {
+			ElasticsearchRequest.Builder builder =
+					ElasticsearchRequest.post()
+					.pathComponent( Paths._MSEARCH );
+
+			for ( int i = 0; i < headers.size(); i++ ) {
+				builder.body( headers.get( i ) );
+				builder.body( bodies.get( i ) );
+			}
+
+			return builder.build();
+		}
+
+		@Override
+		public MultiSearchWork build() {
+			return new MultiSearchWork( this );
+		}
+	}
+}
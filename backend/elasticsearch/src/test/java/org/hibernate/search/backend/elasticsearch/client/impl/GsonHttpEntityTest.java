@@ -0,0 +1,134 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.apache.http.nio.ContentEncoder;
+
+public class GsonHttpEntityTest {
+
+	private static final Gson gson = new Gson();
+
+	@Test
+	public void smallContent() throws IOException {
+		List<JsonObject> bodyParts = new ArrayList<>();
+		bodyParts.add( new JsonObject() );
+		bodyParts.add( versionObject( "5.5.0" ) );
+		byte[] expected = naiveEncoding( bodyParts );
+
+		try ( GsonHttpEntity entity = new GsonHttpEntity( gson, bodyParts ) ) {
+			// Small content should be encoded upfront, so its length should be known
+			assertThat( entity.getContentLength() ).isEqualTo( expected.length );
+			assertThat( produceContent( entity, Integer.MAX_VALUE ) ).isEqualTo( expected );
+		}
+	}
+
+	@Test
+	public void largeContent_flowControl() throws IOException {
+		List<JsonObject> bodyParts = largeBulk();
+		byte[] expected = naiveEncoding( bodyParts );
+
+		try ( GsonHttpEntity entity = new GsonHttpEntity( gson, bodyParts ) ) {
+			// Content spanning many buffer pages, with the output accepting only a few bytes at a time
+			assertThat( produceContent( entity, 700 ) ).isEqualTo( expected );
+			entity.close();
+			// The entity is repeatable
+			assertThat( produceContent( entity, 3 ) ).isEqualTo( expected );
+		}
+	}
+
+	@Test
+	public void largeContent_writeTo() throws IOException {
+		List<JsonObject> bodyParts = largeBulk();
+		byte[] expected = naiveEncoding( bodyParts );
+
+		try ( GsonHttpEntity entity = new GsonHttpEntity( gson, bodyParts ) ) {
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+			entity.writeTo( outputStream );
+			assertThat( outputStream.toByteArray() ).isEqualTo( expected );
+			assertThat( entity.getContentLength() ).isEqualTo( expected.length );
+		}
+	}
+
+	private static byte[] produceContent(GsonHttpEntity entity, int maxBytesPerWrite) throws IOException {
+		HeapContentEncoder encoder = new HeapContentEncoder( maxBytesPerWrite );
+		while ( !encoder.isCompleted() ) {
+			entity.produceContent( encoder, null );
+		}
+		return encoder.output.toByteArray();
+	}
+
+	private static byte[] naiveEncoding(List<JsonObject> bodyParts) {
+		StringBuilder builder = new StringBuilder();
+		for ( JsonObject bodyPart : bodyParts ) {
+			gson.toJson( bodyPart, builder );
+			builder.append( '\n' );
+		}
+		return builder.toString().getBytes( StandardCharsets.UTF_8 );
+	}
+
+	private static List<JsonObject> largeBulk() {
+		List<JsonObject> bodyParts = new ArrayList<>();
+		for ( int i = 0; i < 500; i++ ) {
+			// Include multi-byte characters to check they are not split across buffer pages
+			bodyParts.add( versionObject( i + "-é𐤄" ) );
+		}
+		return bodyParts;
+	}
+
+	private static JsonObject versionObject(String number) {
+		JsonObject version = new JsonObject();
+		version.addProperty( "number", number );
+		JsonObject object = new JsonObject();
+		object.add( "version", version );
+		return object;
+	}
+
+	private static final class HeapContentEncoder implements ContentEncoder {
+
+		private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+		private final int maxBytesPerWrite;
+		private boolean completed = false;
+
+		private HeapContentEncoder(int maxBytesPerWrite) {
+			this.maxBytesPerWrite = maxBytesPerWrite;
+		}
+
+		@Override
+		public int write(ByteBuffer src) {
+			int toWrite = Math.min( src.remaining(), maxBytesPerWrite );
+			for ( int i = 0; i < toWrite; i++ ) {
+				output.write( src.get() );
+			}
+			return toWrite;
+		}
+
+		@Override
+		public void complete() {
+			assertThat( completed ).isFalse();
+			completed = true;
+		}
+
+		@Override
+		public boolean isCompleted() {
+			return completed;
+		}
+	}
+
+}
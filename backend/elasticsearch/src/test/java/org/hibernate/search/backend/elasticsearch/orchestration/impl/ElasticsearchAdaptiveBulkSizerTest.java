@@ -0,0 +1,73 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.easymock.EasyMock.expect;
+
+import java.nio.charset.StandardCharsets;
+
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableElasticsearchWork;
+
+import org.junit.Test;
+
+import org.easymock.EasyMockSupport;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+
+public class ElasticsearchAdaptiveBulkSizerTest extends EasyMockSupport {
+
+	@Test
+	public void estimateSize_exactUtf8Size() {
+		JsonObject metadata = new JsonObject();
+		JsonObject action = new JsonObject();
+		action.addProperty( "_index", "myIndex" );
+		action.addProperty( "_id", "42" );
+		metadata.add( "index", action );
+
+		JsonObject body = new JsonObject();
+		body.addProperty( "ascii", "Some text with \"quotes\", a \\ backslash,\na line break and a \u0001 control character" );
+		body.addProperty( "html", "<b>Bold</b> & 'quoted' = escaped" );
+		body.addProperty( "nonAscii", "café € 😀  " );
+		body.addProperty( "integer", 42 );
+		body.addProperty( "decimal", -1.5e10 );
+		body.addProperty( "boolean", true );
+		body.add( "null", JsonNull.INSTANCE );
+		JsonArray array = new JsonArray();
+		array.add( "first" );
+		array.add( 2 );
+		array.add( new JsonObject() );
+		array.add( new JsonArray() );
+		body.add( "array", array );
+
+		checkEstimatedSize( new Gson(), metadata, body );
+		checkEstimatedSize( new GsonBuilder().disableHtmlEscaping().serializeNulls().create(), metadata, body );
+		checkEstimatedSize( new Gson(), metadata, null );
+	}
+
+	private void checkEstimatedSize(Gson gson, JsonObject metadata, JsonObject body) {
+		@SuppressWarnings("unchecked")
+		BulkableElasticsearchWork<Void> work = createMock( BulkableElasticsearchWork.class );
+		expect( work.getBulkableActionMetadata() ).andReturn( metadata );
+		expect( work.getBulkableActionBody() ).andReturn( body );
+		replayAll();
+		long estimatedSize = new ElasticsearchAdaptiveBulkSizer( gson, null, 1000 ).estimateSize( work );
+		verifyAll();
+		resetAll();
+
+		StringBuilder payload = new StringBuilder();
+		payload.append( gson.toJson( metadata ) ).append( '\n' );
+		if ( body != null ) {
+			payload.append( gson.toJson( body ) ).append( '\n' );
+		}
+		assertThat( estimatedSize ).isEqualTo( payload.toString().getBytes( StandardCharsets.UTF_8 ).length );
+	}
+}
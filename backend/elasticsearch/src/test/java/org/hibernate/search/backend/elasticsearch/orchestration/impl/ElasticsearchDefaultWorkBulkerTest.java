@@ -21,6 +21,9 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkableElasticsearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
+import org.hibernate.search.engine.metrics.spi.Histogram;
+
+import org.assertj.core.api.Assertions;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -28,6 +31,9 @@
 import org.easymock.Capture;
 import org.easymock.EasyMockSupport;
 
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
 /**
  * @author Yoann Rodiere
  */
@@ -41,6 +47,9 @@ public class ElasticsearchDefaultWorkBulkerTest extends EasyMockSupport {
 	private ElasticsearchWorkSequenceBuilder.BulkResultExtractionStep bulkResultExtractionStepMock;
 	private Function<List<? extends BulkableElasticsearchWork<?>>, ElasticsearchWork<BulkResult>> bulkWorkFactoryMock;
 
+	private final List<Long> recordedBulkSizes = new ArrayList<>();
+	private final Histogram bulkSizeHistogram = recordedBulkSizes::add;
+
 	@Before
 	public void initMocks() {
 		sequenceBuilderMock = createStrictMock( ElasticsearchWorkSequenceBuilder.class );
@@ -65,7 +74,7 @@ public void simple() {
 		replayAll();
 		ElasticsearchDefaultWorkBulker bulker =
 				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock,
-						DEFAULT_MIN_BULK_SIZE, DEFAULT_MAX_BULK_SIZE );
+						DEFAULT_MIN_BULK_SIZE, DEFAULT_MAX_BULK_SIZE, null, bulkSizeHistogram );
 		verifyAll();
 
 		resetAll();
@@ -123,7 +132,7 @@ public void noBulkIfBelowThreshold() {
 		ElasticsearchDefaultWorkBulker bulker =
 				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock,
 						2 /* Mandate minimum 2 works per bulk */,
-						DEFAULT_MAX_BULK_SIZE );
+						DEFAULT_MAX_BULK_SIZE, null, bulkSizeHistogram );
 		verifyAll();
 
 		resetAll();
@@ -167,7 +176,7 @@ public void alwaysBulkIfAboveThreshold() {
 		ElasticsearchDefaultWorkBulker bulker =
 				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock,
 						1 /* No threshold, even 1 work per bulk is okay */,
-						DEFAULT_MAX_BULK_SIZE );
+						DEFAULT_MAX_BULK_SIZE, null, bulkSizeHistogram );
 		verifyAll();
 
 		resetAll();
@@ -212,7 +221,7 @@ public void sameBulkOnFlushBulked() {
 		replayAll();
 		ElasticsearchDefaultWorkBulker bulker =
 				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock,
-						DEFAULT_MIN_BULK_SIZE, DEFAULT_MAX_BULK_SIZE );
+						DEFAULT_MIN_BULK_SIZE, DEFAULT_MAX_BULK_SIZE, null, bulkSizeHistogram );
 		verifyAll();
 
 		resetAll();
@@ -277,7 +286,7 @@ public void newBulkOnFlushBulk() {
 		replayAll();
 		ElasticsearchDefaultWorkBulker bulker =
 				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock,
-						DEFAULT_MIN_BULK_SIZE, DEFAULT_MAX_BULK_SIZE );
+						DEFAULT_MIN_BULK_SIZE, DEFAULT_MAX_BULK_SIZE, null, bulkSizeHistogram );
 		verifyAll();
 
 		resetAll();
@@ -353,7 +362,7 @@ public void newBulkOnTooManyBulkedWorks() {
 		replayAll();
 		ElasticsearchDefaultWorkBulker bulker =
 				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock,
-						DEFAULT_MIN_BULK_SIZE, DEFAULT_MAX_BULK_SIZE );
+						DEFAULT_MIN_BULK_SIZE, DEFAULT_MAX_BULK_SIZE, null, bulkSizeHistogram );
 		verifyAll();
 
 		resetAll();
@@ -394,6 +403,71 @@ public void newBulkOnTooManyBulkedWorks() {
 		bulker.finalizeBulkWork();
 		verifyAll();
 		assertThat( bulkWork2FutureCapture.getValue() ).isSuccessful( bulkWork2 );
+
+		Assertions.assertThat( recordedBulkSizes ).containsExactly( (long) DEFAULT_MAX_BULK_SIZE, 2L );
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void newBulkIfAboveMaxBulkBytes() {
+		BulkableElasticsearchWork<Void> work1 = bulkableWork( 1 );
+		BulkableElasticsearchWork<Void> work2 = bulkableWork( 2 );
+		ElasticsearchWork<BulkResult> bulkWork1 = work( 3 );
+		ElasticsearchWork<BulkResult> bulkWork2 = work( 4 );
+
+		// Each work is about 60 bytes: two works exceed the limit, but one work does not
+		JsonObject metadata = new JsonObject();
+		JsonObject body = new JsonObject();
+		body.addProperty( "field", "0123456789012345678901234567890123456789" );
+		ElasticsearchAdaptiveBulkSizer adaptiveBulkSizer = new ElasticsearchAdaptiveBulkSizer( new Gson(), null, 100 );
+
+		CompletableFuture<Void> work1FutureFromSequenceBuilder = new CompletableFuture<>();
+		CompletableFuture<Void> work2FutureFromSequenceBuilder = new CompletableFuture<>();
+		CompletableFuture<BulkResult> bulkWork1ResultFuture = new CompletableFuture<>();
+		CompletableFuture<BulkResult> bulkWork2ResultFuture = new CompletableFuture<>();
+		Capture<CompletableFuture<ElasticsearchWork<BulkResult>>> bulkWork1FutureCapture = newCapture();
+		Capture<CompletableFuture<ElasticsearchWork<BulkResult>>> bulkWork2FutureCapture = newCapture();
+
+		replayAll();
+		ElasticsearchDefaultWorkBulker bulker =
+				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock,
+						DEFAULT_MIN_BULK_SIZE, DEFAULT_MAX_BULK_SIZE, adaptiveBulkSizer, bulkSizeHistogram );
+		verifyAll();
+
+		resetAll();
+		expect( work1.getBulkableActionMetadata() ).andReturn( metadata );
+		expect( work1.getBulkableActionBody() ).andReturn( body );
+		replayAll();
+		bulker.add( work1 );
+		verifyAll();
+
+		resetAll();
+		expect( work2.getBulkableActionMetadata() ).andReturn( metadata );
+		expect( work2.getBulkableActionBody() ).andReturn( body );
+		expect( sequenceBuilderMock.addBulkExecution( capture( bulkWork1FutureCapture ) ) ).andReturn( bulkWork1ResultFuture );
+		expect( sequenceBuilderMock.addBulkResultExtraction( bulkWork1ResultFuture ) ).andReturn( bulkResultExtractionStepMock );
+		expect( bulkResultExtractionStepMock.add( work1, 0 ) ).andReturn( work1FutureFromSequenceBuilder );
+		expect( bulkWorkFactoryMock.apply( Arrays.asList( work1 ) ) ).andReturn( (ElasticsearchWork) bulkWork1 );
+		replayAll();
+		bulker.add( work2 );
+		verifyAll();
+		assertThat( bulkWork1FutureCapture.getValue() ).isSuccessful( bulkWork1 );
+
+		resetAll();
+		expect( sequenceBuilderMock.addBulkExecution( capture( bulkWork2FutureCapture ) ) ).andReturn( bulkWork2ResultFuture );
+		expect( sequenceBuilderMock.addBulkResultExtraction( bulkWork2ResultFuture ) ).andReturn( bulkResultExtractionStepMock );
+		expect( bulkResultExtractionStepMock.add( work2, 0 ) ).andReturn( work2FutureFromSequenceBuilder );
+		replayAll();
+		bulker.addWorksToSequence();
+		verifyAll();
+		assertThat( bulkWork2FutureCapture.getValue() ).isPending();
+
+		resetAll();
+		expect( bulkWorkFactoryMock.apply( Arrays.asList( work2 ) ) ).andReturn( (ElasticsearchWork) bulkWork2 );
+		replayAll();
+		bulker.finalizeBulkWork();
+		verifyAll();
+		assertThat( bulkWork2FutureCapture.getValue() ).isSuccessful( bulkWork2 );
 	}
 
 	private <T> ElasticsearchWork<T> work(int index) {
@@ -0,0 +1,234 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import static org.hibernate.search.util.impl.test.FutureAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.engine.common.spi.ErrorHandler;
+
+import org.assertj.core.api.Assertions;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.easymock.EasyMockSupport;
+
+public class ElasticsearchPartitionedSharedWorkOrchestratorTest extends EasyMockSupport {
+
+	private static final int MAX_CHANGESETS_PER_BATCH = 10;
+
+	private ErrorHandler errorHandlerMock;
+
+	private final List<StubAccumulatingOrchestrator> delegates = new ArrayList<>();
+	private ElasticsearchPartitionedSharedWorkOrchestrator orchestrator;
+
+	@Before
+	public void initMocks() {
+		errorHandlerMock = createStrictMock( ErrorHandler.class );
+	}
+
+	@After
+	public void close() {
+		if ( orchestrator != null ) {
+			// Unblock the consumer threads
+			for ( StubAccumulatingOrchestrator delegate : delegates ) {
+				delegate.completeAllBatches();
+			}
+			orchestrator.close();
+		}
+	}
+
+	@Test
+	public void singleChild_concurrentBulks() throws InterruptedException {
+		ElasticsearchWork<Void> work1 = work( 1 );
+		ElasticsearchWork<Void> work2 = work( 2 );
+
+		replayAll();
+		startOrchestrator( 2 );
+		ElasticsearchSharedWorkOrchestrator child = orchestrator.createChild( "child" );
+
+		CompletableFuture<Void> future1 = child.submit( work1 );
+		CompletableFuture<Void> future2 = child.submit( work2 );
+
+		// Both changesets of the same child are being executed concurrently, each by a different partition
+		CompletableFuture<Void> batch1 = delegates.get( 0 ).awaitBatchInFlight();
+		CompletableFuture<Void> batch2 = delegates.get( 1 ).awaitBatchInFlight();
+		Assertions.assertThat( delegates.get( 0 ).submittedWorks ).containsExactly( work1 );
+		Assertions.assertThat( delegates.get( 1 ).submittedWorks ).containsExactly( work2 );
+		assertThat( future1 ).isPending();
+		assertThat( future2 ).isPending();
+
+		batch2.complete( null );
+		assertThat( future1 ).isPending();
+		assertThat( future2 ).isSuccessful();
+
+		batch1.complete( null );
+		assertThat( future1 ).isSuccessful();
+
+		child.close();
+		verifyAll();
+	}
+
+	@Test
+	public void busyPartitionAvoided() throws InterruptedException {
+		ElasticsearchWork<Void> work1 = work( 1 );
+		ElasticsearchWork<Void> work2 = work( 2 );
+		ElasticsearchWork<Void> work3 = work( 3 );
+		ElasticsearchWork<Void> work4 = work( 4 );
+		ElasticsearchWork<Void> work5 = work( 5 );
+
+		replayAll();
+		startOrchestrator( 2 );
+		ElasticsearchSharedWorkOrchestrator child = orchestrator.createChild( "child" );
+
+		child.submit( work1 );
+		child.submit( work2 );
+		// The first partition stays busy with work1...
+		CompletableFuture<Void> batch1 = delegates.get( 0 ).awaitBatchInFlight();
+		// ... while the second partition is done with work2
+		delegates.get( 1 ).awaitBatchInFlight().complete( null );
+
+		// The first partition is next in turn, and its queue is empty: work3 is queued there
+		child.submit( work3 );
+		// The second partition is next in turn: work4 is executed immediately
+		child.submit( work4 );
+		CompletableFuture<Void> batch4 = delegates.get( 1 ).awaitBatchInFlight();
+		Assertions.assertThat( delegates.get( 1 ).submittedWorks ).containsExactly( work2, work4 );
+
+		// The first partition is next in turn, but it already has a queued changeset: work5 goes to the second partition
+		child.submit( work5 );
+		batch4.complete( null );
+		delegates.get( 1 ).awaitBatchInFlight().complete( null );
+		Assertions.assertThat( delegates.get( 1 ).submittedWorks ).containsExactly( work2, work4, work5 );
+
+		batch1.complete( null );
+		delegates.get( 0 ).awaitBatchInFlight().complete( null );
+		Assertions.assertThat( delegates.get( 0 ).submittedWorks ).containsExactly( work1, work3 );
+
+		child.close();
+		verifyAll();
+	}
+
+	@Test
+	public void childClose_awaitsAllPartitions() throws InterruptedException {
+		ElasticsearchWork<Void> work1 = work( 1 );
+		ElasticsearchWork<Void> work2 = work( 2 );
+		ElasticsearchWork<Void> work3 = work( 3 );
+
+		replayAll();
+		startOrchestrator( 2 );
+		ElasticsearchSharedWorkOrchestrator child = orchestrator.createChild( "child" );
+
+		CompletableFuture<Void> future1 = child.submit( work1 );
+		CompletableFuture<Void> future2 = child.submit( work2 );
+		delegates.get( 0 ).awaitBatchInFlight().complete( null );
+		CompletableFuture<Void> batch2 = delegates.get( 1 ).awaitBatchInFlight();
+
+		Thread closeThread = new Thread( child::close );
+		closeThread.start();
+		closeThread.join( 200 );
+		// Closing waits for the changeset still being executed by the second partition
+		Assertions.assertThat( closeThread.isAlive() ).isTrue();
+
+		batch2.complete( null );
+		closeThread.join( TimeUnit.SECONDS.toMillis( 5 ) );
+		Assertions.assertThat( closeThread.isAlive() ).isFalse();
+		assertThat( future1 ).isSuccessful();
+		assertThat( future2 ).isSuccessful();
+
+		// The parent orchestrator is still open
+		CompletableFuture<Void> future3 = orchestrator.submit( work3 );
+		delegates.get( 0 ).awaitBatchInFlight().complete( null );
+		orchestrator.awaitCompletion();
+		assertThat( future3 ).isSuccessful();
+		verifyAll();
+	}
+
+	private void startOrchestrator(int partitionCount) {
+		List<ElasticsearchBatchingSharedWorkOrchestrator> partitions = new ArrayList<>();
+		for ( int i = 0; i < partitionCount; i++ ) {
+			StubAccumulatingOrchestrator delegate = new StubAccumulatingOrchestrator();
+			delegates.add( delegate );
+			partitions.add( new ElasticsearchBatchingSharedWorkOrchestrator(
+					"partition " + i, MAX_CHANGESETS_PER_BATCH, false, delegate, errorHandlerMock
+			) );
+		}
+		orchestrator = new ElasticsearchPartitionedSharedWorkOrchestrator( "orchestrator", partitions );
+		orchestrator.start();
+	}
+
+	private <T> ElasticsearchWork<T> work(int index) {
+		return createStrictMock( "work" + index, ElasticsearchWork.class );
+	}
+
+	/**
+	 * A delegate whose batches only complete when the test says so,
+	 * blocking the consumer thread of the partition in the meantime.
+	 */
+	private static class StubAccumulatingOrchestrator implements ElasticsearchAccumulatingWorkOrchestrator {
+
+		private final List<ElasticsearchWork<?>> submittedWorks = Collections.synchronizedList( new ArrayList<>() );
+		private final BlockingQueue<CompletableFuture<Void>> batchesInFlight = new LinkedBlockingQueue<>();
+		private final List<CompletableFuture<Void>> allBatches = Collections.synchronizedList( new ArrayList<>() );
+
+		private CompletableFuture<Void> currentBatch;
+
+		@Override
+		public <T> CompletableFuture<T> submit(ElasticsearchWork<T> work) {
+			submittedWorks.add( work );
+			return currentBatch.thenApply( ignored -> null );
+		}
+
+		@Override
+		public CompletableFuture<?> submit(List<ElasticsearchWork<?>> works) {
+			submittedWorks.addAll( works );
+			return currentBatch;
+		}
+
+		@Override
+		public CompletableFuture<?> executeSubmitted() {
+			batchesInFlight.add( currentBatch );
+			return currentBatch;
+		}
+
+		@Override
+		public void reset() {
+			currentBatch = new CompletableFuture<>();
+			allBatches.add( currentBatch );
+		}
+
+		CompletableFuture<Void> awaitBatchInFlight() throws InterruptedException {
+			CompletableFuture<Void> batch = batchesInFlight.poll( 5, TimeUnit.SECONDS );
+			Assertions.assertThat( batch ).as( "Batch in flight" ).isNotNull();
+			return batch;
+		}
+
+		void completeAllBatches() {
+			synchronized ( allBatches ) {
+				for ( CompletableFuture<Void> batch : allBatches ) {
+					batch.complete( null );
+				}
+			}
+		}
+
+		@Override
+		public String toString() {
+			return getClass().getSimpleName() + Arrays.toString( submittedWorks.toArray() );
+		}
+	}
+}
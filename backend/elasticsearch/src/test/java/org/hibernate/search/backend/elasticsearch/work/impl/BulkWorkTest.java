@@ -0,0 +1,187 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import static org.easymock.EasyMock.capture;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.newCapture;
+import static org.hibernate.search.util.impl.test.FutureAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClient;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResultItemExtractor;
+
+import org.assertj.core.api.Assertions;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.easymock.Capture;
+import org.easymock.CaptureType;
+import org.easymock.EasyMockSupport;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+public class BulkWorkTest extends EasyMockSupport {
+
+	private ElasticsearchWorkExecutionContext contextMock;
+	private ElasticsearchClient clientMock;
+	private ElasticsearchBulkRejectionHandler rejectionHandlerMock;
+
+	private final Capture<ElasticsearchRequest> requestCapture = newCapture( CaptureType.ALL );
+
+	@Before
+	public void initMocks() {
+		contextMock = createStrictMock( ElasticsearchWorkExecutionContext.class );
+		clientMock = createStrictMock( ElasticsearchClient.class );
+		rejectionHandlerMock = createStrictMock( ElasticsearchBulkRejectionHandler.class );
+	}
+
+	@Test
+	public void partialRejection_unordered() {
+		List<BulkableElasticsearchWork<Void>> works = Arrays.asList( bulkableWork( 1 ), bulkableWork( 2 ), bulkableWork( 3 ) );
+
+		JsonObject secondAttemptItem2 = resultItem( 201 );
+
+		expect( contextMock.getClient() ).andReturn( clientMock );
+		expect( clientMock.submit( capture( requestCapture ) ) ).andReturn( response(
+				resultItem( 201 ), resultItem( 429 ), resultItem( 201 )
+		) );
+		expect( rejectionHandlerMock.onRejected( 1, 1 ) ).andReturn( CompletableFuture.completedFuture( null ) );
+		expect( contextMock.getClient() ).andReturn( clientMock );
+		expect( clientMock.submit( capture( requestCapture ) ) ).andReturn( response( secondAttemptItem2 ) );
+		rejectionHandlerMock.onAccepted();
+		replayAll();
+		CompletableFuture<BulkResult> future = bulkWork( works, false ).execute( contextMock );
+		verifyAll();
+		assertThat( future ).isSuccessful();
+
+		// Only the rejected work was sent again
+		Assertions.assertThat( requestCapture.getValues() ).hasSize( 2 );
+		Assertions.assertThat( sentDocumentIds( requestCapture.getValues().get( 0 ) ) ).containsExactly( "1", "2", "3" );
+		Assertions.assertThat( sentDocumentIds( requestCapture.getValues().get( 1 ) ) ).containsExactly( "2" );
+
+		checkResultItem( future, works.get( 1 ), 1, secondAttemptItem2 );
+	}
+
+	@Test
+	public void partialRejection_ordered() {
+		List<BulkableElasticsearchWork<Void>> works = Arrays.asList( bulkableWork( 1 ), bulkableWork( 2 ), bulkableWork( 3 ) );
+
+		JsonObject secondAttemptItem2 = resultItem( 201 );
+		JsonObject secondAttemptItem3 = resultItem( 200 );
+
+		expect( contextMock.getClient() ).andReturn( clientMock );
+		expect( clientMock.submit( capture( requestCapture ) ) ).andReturn( response(
+				resultItem( 201 ), resultItem( 429 ), resultItem( 201 )
+		) );
+		expect( rejectionHandlerMock.onRejected( 2, 1 ) ).andReturn( CompletableFuture.completedFuture( null ) );
+		expect( contextMock.getClient() ).andReturn( clientMock );
+		expect( clientMock.submit( capture( requestCapture ) ) ).andReturn( response(
+				secondAttemptItem2, secondAttemptItem3
+		) );
+		rejectionHandlerMock.onAccepted();
+		replayAll();
+		CompletableFuture<BulkResult> future = bulkWork( works, true ).execute( contextMock );
+		verifyAll();
+		assertThat( future ).isSuccessful();
+
+		// The rejected work and every work after it were sent again, so that they are applied in order
+		Assertions.assertThat( requestCapture.getValues() ).hasSize( 2 );
+		Assertions.assertThat( sentDocumentIds( requestCapture.getValues().get( 0 ) ) ).containsExactly( "1", "2", "3" );
+		Assertions.assertThat( sentDocumentIds( requestCapture.getValues().get( 1 ) ) ).containsExactly( "2", "3" );
+
+		checkResultItem( future, works.get( 1 ), 1, secondAttemptItem2 );
+		checkResultItem( future, works.get( 2 ), 2, secondAttemptItem3 );
+	}
+
+	@Test
+	public void partialRejection_ordered_rejectedAgain() {
+		List<BulkableElasticsearchWork<Void>> works = Arrays.asList( bulkableWork( 1 ), bulkableWork( 2 ), bulkableWork( 3 ) );
+
+		expect( contextMock.getClient() ).andReturn( clientMock );
+		expect( clientMock.submit( capture( requestCapture ) ) ).andReturn( response(
+				resultItem( 201 ), resultItem( 201 ), resultItem( 429 )
+		) );
+		expect( rejectionHandlerMock.onRejected( 1, 1 ) ).andReturn( CompletableFuture.completedFuture( null ) );
+		expect( contextMock.getClient() ).andReturn( clientMock );
+		expect( clientMock.submit( capture( requestCapture ) ) ).andReturn( response( resultItem( 429 ) ) );
+		expect( rejectionHandlerMock.onRejected( 1, 2 ) ).andReturn( null );
+		replayAll();
+		CompletableFuture<BulkResult> future = bulkWork( works, true ).execute( contextMock );
+		verifyAll();
+		// Result items of rejected works will be reported as failures by each work
+		assertThat( future ).isSuccessful();
+
+		Assertions.assertThat( requestCapture.getValues() ).hasSize( 2 );
+		Assertions.assertThat( sentDocumentIds( requestCapture.getValues().get( 1 ) ) ).containsExactly( "3" );
+	}
+
+	private BulkWork bulkWork(List<BulkableElasticsearchWork<Void>> works, boolean ordered) {
+		return new BulkWork.Builder( works )
+				.rejectionHandler( rejectionHandlerMock )
+				.ordered( ordered )
+				.build();
+	}
+
+	private void checkResultItem(CompletableFuture<BulkResult> future, BulkableElasticsearchWork<Void> work,
+			int index, JsonObject expectedResultItem) {
+		BulkResultItemExtractor extractor = future.join().withContext( contextMock );
+		resetAll();
+		expect( work.handleBulkResult( contextMock, expectedResultItem ) )
+				.andReturn( CompletableFuture.completedFuture( null ) );
+		replayAll();
+		extractor.extract( work, index );
+		verifyAll();
+	}
+
+	private BulkableElasticsearchWork<Void> bulkableWork(int id) {
+		@SuppressWarnings("unchecked")
+		BulkableElasticsearchWork<Void> mock = createStrictMock( "bulkableWork" + id, BulkableElasticsearchWork.class );
+		JsonObject metadata = new JsonObject();
+		JsonObject action = new JsonObject();
+		action.addProperty( "_id", String.valueOf( id ) );
+		metadata.add( "index", action );
+		expect( mock.getBulkableActionMetadata() ).andStubReturn( metadata );
+		expect( mock.getBulkableActionBody() ).andStubReturn( null );
+		return mock;
+	}
+
+	private static List<String> sentDocumentIds(ElasticsearchRequest request) {
+		List<String> ids = new ArrayList<>();
+		for ( JsonObject bodyPart : request.getBodyParts() ) {
+			ids.add( bodyPart.getAsJsonObject( "index" ).get( "_id" ).getAsString() );
+		}
+		return ids;
+	}
+
+	private static JsonObject resultItem(int status) {
+		JsonObject actionResult = new JsonObject();
+		actionResult.addProperty( "status", status );
+		JsonObject item = new JsonObject();
+		item.add( "index", actionResult );
+		return item;
+	}
+
+	private static CompletableFuture<ElasticsearchResponse> response(JsonObject ... items) {
+		JsonArray itemsArray = new JsonArray();
+		for ( JsonObject item : items ) {
+			itemsArray.add( item );
+		}
+		JsonObject body = new JsonObject();
+		body.add( "items", itemsArray );
+		return CompletableFuture.completedFuture( new ElasticsearchResponse( 200, "OK", body ) );
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.cfg;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.common.impl.StringHelper;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+public enum CommitPolicyName {
+
+	/**
+	 * Changes are committed after each batch of changesets applied to the index,
+	 * before the corresponding works are reported as complete.
+	 * <p>
+	 * Changesets submitted concurrently are grouped in a single commit whenever possible.
+	 */
+	TRANSACTION("transaction"),
+
+	/**
+	 * Changes are committed periodically,
+	 * at most {@link LuceneBackendSettings#COMMIT_INTERVAL} milliseconds after they were applied.
+	 */
+	INTERVAL("interval"),
+
+	/**
+	 * Changes are committed as soon as the number of uncommitted index works
+	 * reaches {@link LuceneBackendSettings#COMMIT_DOCUMENT_COUNT}.
+	 */
+	DOCUMENT_COUNT("document_count"),
+
+	/**
+	 * Changes are only committed when the index is explicitly flushed, or when it is closed.
+	 */
+	FLUSH("flush");
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static CommitPolicyName of(String value) {
+		return StringHelper.parseDiscreteValues(
+				CommitPolicyName.values(),
+				CommitPolicyName::getExternalRepresentation,
+				log::invalidCommitPolicyName,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	CommitPolicyName(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	private String getExternalRepresentation() {
+		return externalRepresentation;
+	}
+}
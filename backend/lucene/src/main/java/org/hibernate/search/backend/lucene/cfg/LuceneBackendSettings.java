@@ -40,12 +40,66 @@ private LuceneBackendSettings() {
 	 */
 	public static final String LUCENE_VERSION = "lucene_version";
 
-	// TODO HSEARCH-3440 document this property
+	/**
+	 * The directory provider, i.e. where and how indexes are stored.
+	 * <p>
+	 * Expects one of the following Strings:
+	 * <ul>
+	 *     <li>{@code local_directory}: indexes are stored in the local filesystem, under the {@link #ROOT_DIRECTORY},
+	 *     and index files are memory-mapped.</li>
+	 *     <li>{@code local_nio_directory}: indexes are stored in the local filesystem, under the {@link #ROOT_DIRECTORY},
+	 *     and index files are read through file channels, which is slower but does not consume virtual memory.
+	 *     Useful in environments with tight virtual memory limits.</li>
+	 *     <li>{@code local_heap}: indexes are stored in the JVM heap, and lost when the application stops.
+	 *     Only useful for ephemeral indexes and tests.</li>
+	 * </ul>
+	 * <p>
+	 * No default: must be set.
+	 */
 	public static final String DIRECTORY_PROVIDER = "directory_provider";
 
 	// TODO HSEARCH-3440 document this property
 	public static final String ROOT_DIRECTORY = "root_directory";
 
+	/**
+	 * Whether directories should cache small, freshly flushed segments in memory
+	 * until they are committed or merged.
+	 * <p>
+	 * This saves disk round trips when reopening index readers after changes,
+	 * which reduces the latency of searches under heavy write load.
+	 * Only useful with directory providers storing indexes in the filesystem.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#DIRECTORY_NRT_CACHING_ENABLED}.
+	 */
+	public static final String DIRECTORY_NRT_CACHING_ENABLED = "directory.nrt_caching.enabled";
+
+	/**
+	 * The maximum size of segments produced by merges that will be cached in memory,
+	 * when {@link #DIRECTORY_NRT_CACHING_ENABLED NRT caching} is enabled.
+	 * <p>
+	 * Expects a strictly positive Integer value in megabytes, such as {@code 5},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#DIRECTORY_NRT_CACHING_MAX_MERGE_SIZE}.
+	 */
+	public static final String DIRECTORY_NRT_CACHING_MAX_MERGE_SIZE = "directory.nrt_caching.max_merge_size";
+
+	/**
+	 * The maximum size of all files cached in memory for each index (or each shard),
+	 * when {@link #DIRECTORY_NRT_CACHING_ENABLED NRT caching} is enabled.
+	 * <p>
+	 * Files that would exceed this size are written directly to the underlying directory.
+	 * <p>
+	 * Expects a strictly positive Integer value in megabytes, such as {@code 60},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#DIRECTORY_NRT_CACHING_MAX_CACHED_SIZE}.
+	 */
+	public static final String DIRECTORY_NRT_CACHING_MAX_CACHED_SIZE = "directory.nrt_caching.max_cached_size";
+
 	/**
 	 * The multi-tenancy strategy to use.
 	 * <p>
@@ -67,6 +121,100 @@ private LuceneBackendSettings() {
 	 */
 	public static final String ANALYSIS_CONFIGURER = "analysis_configurer";
 
+	/**
+	 * The commit policy to use, i.e. when to commit changes applied to an index,
+	 * making them durable.
+	 * <p>
+	 * Expects a {@link CommitPolicyName} value, or a String representation of such value.
+	 * <p>
+	 * Defaults to {@link Defaults#COMMIT_POLICY}.
+	 */
+	public static final String COMMIT_POLICY = "commit_policy";
+
+	/**
+	 * The maximum time between the moment changes are applied to an index and the moment they are committed,
+	 * when the {@link #COMMIT_POLICY commit policy} is {@link CommitPolicyName#INTERVAL}.
+	 * <p>
+	 * Expects a positive Integer value in milliseconds, such as {@code 1000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#COMMIT_INTERVAL}.
+	 */
+	public static final String COMMIT_INTERVAL = "commit_interval";
+
+	/**
+	 * The number of uncommitted index works (document additions, updates and deletions)
+	 * that will trigger a commit,
+	 * when the {@link #COMMIT_POLICY commit policy} is {@link CommitPolicyName#DOCUMENT_COUNT}.
+	 * <p>
+	 * Expects a positive Integer value, such as {@code 1000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#COMMIT_DOCUMENT_COUNT}.
+	 */
+	public static final String COMMIT_DOCUMENT_COUNT = "commit_document_count";
+
+	/**
+	 * The minimum time between two refreshes of the index readers used for searching,
+	 * which is also the maximum time a search may lag behind changes applied to an index.
+	 * <p>
+	 * Index readers are shared between queries, and refreshed lazily, when a query starts,
+	 * if changes were applied to the index since the last refresh.
+	 * When set to {@code 0}, every query sees all the changes whose index works completed before it started;
+	 * higher values refresh readers at most once per interval,
+	 * avoiding frequent refreshes under heavy read and write load at the cost of staler search results.
+	 * <p>
+	 * Expects a positive Integer value in milliseconds, such as {@code 1000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#READER_REFRESH_INTERVAL}.
+	 */
+	public static final String READER_REFRESH_INTERVAL = "reader.refresh_interval";
+
+	/**
+	 * The number of threads used to search the segments of indexes in parallel.
+	 * <p>
+	 * When set to {@code 0}, each query searches every segment sequentially, in the thread executing the query.
+	 * Higher values allow a single query to use multiple cores,
+	 * which reduces the latency of queries on large indexes made of many segments,
+	 * at the cost of some overhead for each query.
+	 * <p>
+	 * Expects a positive Integer value, such as {@code 4},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_THREAD_POOL_SIZE}.
+	 */
+	public static final String SEARCH_THREAD_POOL_SIZE = "search.thread_pool_size";
+
+	/**
+	 * The number of threads used to execute queries.
+	 * <p>
+	 * Queries are executed concurrently, each in a single thread of this pool,
+	 * so this is the maximum number of queries executing at the same time in the backend.
+	 * It is unrelated to {@link #SEARCH_THREAD_POOL_SIZE}, which is about searching the segments
+	 * of a single query in parallel.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 8},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_THREAD_POOL_SIZE}.
+	 */
+	public static final String QUERY_THREAD_POOL_SIZE = "query.thread_pool_size";
+
+	/**
+	 * The maximum number of queries waiting for a thread when all {@link #QUERY_THREAD_POOL_SIZE query threads}
+	 * are busy.
+	 * <p>
+	 * Queries submitted while the queue is full are rejected with an exception,
+	 * instead of waiting indefinitely.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 1000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_QUEUE_SIZE}.
+	 */
+	public static final String QUERY_QUEUE_SIZE = "query.queue_size";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -77,6 +225,29 @@ private Defaults() {
 
 		public static final Version LUCENE_VERSION = Version.LATEST;
 
+		public static final boolean DIRECTORY_NRT_CACHING_ENABLED = false;
+
+		public static final int DIRECTORY_NRT_CACHING_MAX_MERGE_SIZE = 5;
+
+		public static final int DIRECTORY_NRT_CACHING_MAX_CACHED_SIZE = 60;
+
 		public static final MultiTenancyStrategyName MULTI_TENANCY_STRATEGY = MultiTenancyStrategyName.NONE;
+
+		public static final CommitPolicyName COMMIT_POLICY = CommitPolicyName.TRANSACTION;
+
+		public static final int COMMIT_INTERVAL = 1000;
+
+		public static final int COMMIT_DOCUMENT_COUNT = 1000;
+
+		public static final int READER_REFRESH_INTERVAL = 0;
+
+		public static final int SEARCH_THREAD_POOL_SIZE = 0;
+
+		/**
+		 * The number of processors available to the JVM when the backend is created.
+		 */
+		public static final int QUERY_THREAD_POOL_SIZE = Runtime.getRuntime().availableProcessors();
+
+		public static final int QUERY_QUEUE_SIZE = 1000;
 	}
 }
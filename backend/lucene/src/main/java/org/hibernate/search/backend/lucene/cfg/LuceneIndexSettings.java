@@ -0,0 +1,199 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.cfg;
+
+/**
+ * Configuration properties for Lucene indexes.
+ * <p>
+ * Constants in this class are to be appended to a prefix to form a property key;
+ * see {@link org.hibernate.search.engine.cfg.IndexSettings} for details.
+ */
+public final class LuceneIndexSettings {
+
+	private LuceneIndexSettings() {
+	}
+
+	/**
+	 * The amount of memory the index writer may use to buffer added documents and deletions
+	 * before flushing them to the directory.
+	 * <p>
+	 * Expects a strictly positive Integer value in megabytes, such as {@code 16},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#IO_WRITER_RAM_BUFFER_SIZE}.
+	 */
+	public static final String IO_WRITER_RAM_BUFFER_SIZE = "io.writer.ram_buffer_size";
+
+	/**
+	 * The number of buffered documents that triggers a flush of the index writer,
+	 * regardless of the {@link #IO_WRITER_RAM_BUFFER_SIZE RAM buffer size}.
+	 * <p>
+	 * Expects an Integer value of at least {@code 2}, such as {@code 1000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to no value, meaning flushes are triggered by the RAM buffer size only.
+	 */
+	public static final String IO_WRITER_MAX_BUFFERED_DOCS = "io.writer.max_buffered_docs";
+
+	/**
+	 * Whether segments should be written in the compound file format,
+	 * which uses fewer file handles at the cost of slower indexing.
+	 * <p>
+	 * When disabled, merged segments do not use the compound file format either.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#IO_WRITER_USE_COMPOUND_FILE}.
+	 */
+	public static final String IO_WRITER_USE_COMPOUND_FILE = "io.writer.use_compound_file";
+
+	/**
+	 * The maximum size of a segment produced by a regular merge.
+	 * <p>
+	 * Expects a strictly positive Integer value in megabytes, such as {@code 5120},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#IO_MERGE_MAX_MERGED_SEGMENT_SIZE}.
+	 */
+	public static final String IO_MERGE_MAX_MERGED_SEGMENT_SIZE = "io.merge.max_merged_segment_size";
+
+	/**
+	 * The size under which segments are considered as having this size when selecting merges,
+	 * so that tiny segments are merged aggressively.
+	 * <p>
+	 * Expects a strictly positive Integer value in megabytes, such as {@code 2},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#IO_MERGE_FLOOR_SEGMENT_SIZE}.
+	 */
+	public static final String IO_MERGE_FLOOR_SEGMENT_SIZE = "io.merge.floor_segment_size";
+
+	/**
+	 * The number of segments allowed per tier before merging.
+	 * <p>
+	 * Lower values mean fewer segments, thus faster searches, at the cost of more merging during indexing.
+	 * <p>
+	 * Expects an Integer value of at least {@code 2}, such as {@code 10},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#IO_MERGE_SEGMENTS_PER_TIER}.
+	 */
+	public static final String IO_MERGE_SEGMENTS_PER_TIER = "io.merge.segments_per_tier";
+
+	/**
+	 * The maximum number of segments merged at once during a regular merge.
+	 * <p>
+	 * Expects an Integer value of at least {@code 2}, such as {@code 10},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#IO_MERGE_MAX_MERGE_AT_ONCE}.
+	 */
+	public static final String IO_MERGE_MAX_MERGE_AT_ONCE = "io.merge.max_merge_at_once";
+
+	/**
+	 * The maximum number of threads running merges concurrently for this index.
+	 * <p>
+	 * Up to 5 additional merges may be pending before indexing threads are stalled.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 1},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to no value, meaning the thread count is detected automatically
+	 * depending on the number of processors and on whether the index is stored on a spinning disk.
+	 */
+	public static final String IO_MERGE_SCHEDULER_MAX_THREAD_COUNT = "io.merge.scheduler.max_thread_count";
+
+	/**
+	 * Whether the I/O rate of merges should be throttled automatically,
+	 * so that merges do not starve indexing and searches of disk bandwidth.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#IO_MERGE_SCHEDULER_AUTO_THROTTLE}.
+	 */
+	public static final String IO_MERGE_SCHEDULER_AUTO_THROTTLE = "io.merge.scheduler.auto_throttle";
+
+	/**
+	 * The amount of memory the index writer may use to buffer documents during bulk indexing,
+	 * for example during mass indexing.
+	 * <p>
+	 * During bulk indexing, the other settings of the index writer are overridden too:
+	 * flushes are triggered by the RAM buffer size only,
+	 * segments are not written in the compound file format,
+	 * and the I/O rate of merges is throttled automatically.
+	 * Index readers are not refreshed either, so that queries do not flush small segments:
+	 * search results do not reflect the changes applied during bulk indexing until it ends.
+	 * The regular settings are restored once bulk indexing ends.
+	 * <p>
+	 * Expects a strictly positive Integer value in megabytes, such as {@code 256},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#IO_BULK_RAM_BUFFER_SIZE}.
+	 */
+	public static final String IO_BULK_RAM_BUFFER_SIZE = "io.bulk.ram_buffer_size";
+
+	/**
+	 * The sharding strategy, i.e. how to split the index into multiple Lucene indexes,
+	 * each with its own directory and index writer.
+	 * <p>
+	 * Sharding allows indexing documents concurrently in each shard, and keeps segments smaller,
+	 * which speeds up merges.
+	 * Queries target all shards, unless they define routing keys,
+	 * in which case they only target the shards documents with these routing keys are assigned to.
+	 * <p>
+	 * Expects a {@link ShardingStrategyName} value, or a String representation of such value.
+	 * <p>
+	 * Defaults to {@link Defaults#SHARDING_STRATEGY}.
+	 */
+	public static final String SHARDING_STRATEGY = "sharding.strategy";
+
+	/**
+	 * The number of shards,
+	 * when the {@link #SHARDING_STRATEGY sharding strategy} is {@link ShardingStrategyName#HASH hash}.
+	 * <p>
+	 * Changing the number of shards requires re-indexing, as documents are assigned to different shards.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 4},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * No default: must be set when the sharding strategy is {@link ShardingStrategyName#HASH hash}.
+	 */
+	public static final String SHARDING_NUMBER_OF_SHARDS = "sharding.number_of_shards";
+
+	/**
+	 * The identifiers of shards,
+	 * when the {@link #SHARDING_STRATEGY sharding strategy} is {@link ShardingStrategyName#EXPLICIT explicit}.
+	 * <p>
+	 * Expects a String containing multiple shard identifiers separated by commas,
+	 * or a {@code Collection<String>} containing such shard identifiers.
+	 * <p>
+	 * No default: must be set when the sharding strategy is {@link ShardingStrategyName#EXPLICIT explicit}.
+	 */
+	public static final String SHARDING_SHARD_IDENTIFIERS = "sharding.shard_identifiers";
+
+	/**
+	 * Default values for the different settings if no values are given.
+	 */
+	public static final class Defaults {
+
+		private Defaults() {
+		}
+
+		public static final int IO_WRITER_RAM_BUFFER_SIZE = 16;
+		public static final boolean IO_WRITER_USE_COMPOUND_FILE = true;
+		public static final int IO_MERGE_MAX_MERGED_SEGMENT_SIZE = 5 * 1024;
+		public static final int IO_MERGE_FLOOR_SEGMENT_SIZE = 2;
+		public static final int IO_MERGE_SEGMENTS_PER_TIER = 10;
+		public static final int IO_MERGE_MAX_MERGE_AT_ONCE = 10;
+		public static final boolean IO_MERGE_SCHEDULER_AUTO_THROTTLE = true;
+		public static final int IO_BULK_RAM_BUFFER_SIZE = 256;
+		public static final ShardingStrategyName SHARDING_STRATEGY = ShardingStrategyName.NONE;
+	}
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.cfg;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.common.impl.StringHelper;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+public enum ShardingStrategyName {
+
+	/**
+	 * No sharding: the index is stored in a single Lucene index.
+	 */
+	NONE("none"),
+
+	/**
+	 * The index is split into {@link LuceneIndexSettings#SHARDING_NUMBER_OF_SHARDS a given number of shards},
+	 * and each document is assigned to a shard based on the hash of its routing key,
+	 * or of its identifier if it does not have a routing key.
+	 */
+	HASH("hash"),
+
+	/**
+	 * The index is split into shards with {@link LuceneIndexSettings#SHARDING_SHARD_IDENTIFIERS explicit identifiers},
+	 * and each document is assigned to the shard whose identifier is its routing key.
+	 * Every document must have a routing key, matching one of the shard identifiers.
+	 */
+	EXPLICIT("explicit");
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static ShardingStrategyName of(String value) {
+		return StringHelper.parseDiscreteValues(
+				ShardingStrategyName.values(),
+				ShardingStrategyName::getExternalRepresentation,
+				log::invalidShardingStrategyName,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	ShardingStrategyName(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	private String getExternalRepresentation() {
+		return externalRepresentation;
+	}
+}
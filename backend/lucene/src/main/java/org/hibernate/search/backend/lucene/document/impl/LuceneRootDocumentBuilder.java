@@ -55,6 +55,7 @@ private List<Document> assembleDocuments(String indexName, MultiTenancyStrategy
 		}
 
 		multiTenancyStrategy.contributeToIndexedDocument( rootDocument, tenantId );
+		multiTenancyStrategy.contributeToIndexedRootDocument( rootDocument, tenantId, id );
 
 		// all the ancestors of a subdocument must be added after it
 		List<Document> documents = new ArrayList<>();
@@ -49,8 +49,8 @@ public LuceneIndexFieldTypeFactoryContext getTypeFactory() {
 
 	@Override
 	public void explicitRouting() {
-		// TODO GSM support explicit routing?
-		throw new UnsupportedOperationException( "explicitRouting not supported right now" );
+		// Nothing to do: routing keys are only used to assign documents to shards,
+		// and documents without a routing key are assigned to a shard based on their identifier.
 	}
 
 	@Override
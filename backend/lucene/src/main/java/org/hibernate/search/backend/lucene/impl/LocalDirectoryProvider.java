@@ -10,6 +10,7 @@
 import java.lang.invoke.MethodHandles;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Optional;
 
 import org.hibernate.search.backend.lucene.index.impl.DirectoryProvider;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
@@ -17,18 +18,44 @@
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
 import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.store.NIOFSDirectory;
 
-class MMapDirectoryProvider implements DirectoryProvider {
+/**
+ * Stores each index in a directory of the local filesystem.
+ */
+class LocalDirectoryProvider implements DirectoryProvider {
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	/**
+	 * Memory-maps index files: the fastest option on 64-bit platforms,
+	 * but consumes virtual memory proportionally to the size of indexes.
+	 */
+	static LocalDirectoryProvider mmap(EventContext backendContext, Path rootDirectory) {
+		return new LocalDirectoryProvider( backendContext, rootDirectory, MMapDirectory::new );
+	}
+
+	/**
+	 * Reads index files with positional reads through file channels:
+	 * slower than memory-mapping, but does not consume virtual memory,
+	 * which matters in environments with tight virtual memory limits such as some containers.
+	 */
+	static LocalDirectoryProvider nio(EventContext backendContext, Path rootDirectory) {
+		return new LocalDirectoryProvider( backendContext, rootDirectory, NIOFSDirectory::new );
+	}
+
 	private final EventContext backendContext;
 
 	private final Path rootDirectory;
 
-	MMapDirectoryProvider(EventContext backendContext, Path rootDirectory) {
+	private final FileSystemDirectoryFactory directoryFactory;
+
+	private LocalDirectoryProvider(EventContext backendContext, Path rootDirectory,
+			FileSystemDirectoryFactory directoryFactory) {
 		this.backendContext = backendContext;
 		this.rootDirectory = rootDirectory;
+		this.directoryFactory = directoryFactory;
 	}
 
 	@Override
@@ -40,10 +67,13 @@ public String toString() {
 	}
 
 	@Override
-	public Directory createDirectory(String indexName) throws IOException {
+	public Directory createDirectory(String indexName, Optional<String> shardId) throws IOException {
 		Path directoryPath = rootDirectory.resolve( indexName );
+		if ( shardId.isPresent() ) {
+			directoryPath = directoryPath.resolve( shardId.get() );
+		}
 		initializeIndexDirectory( directoryPath );
-		return new MMapDirectory( directoryPath );
+		return directoryFactory.create( directoryPath );
 	}
 
 	private void initializeIndexDirectory(Path indexDirectory) {
@@ -61,4 +91,9 @@ private void initializeIndexDirectory(Path indexDirectory) {
 			}
 		}
 	}
+
+	@FunctionalInterface
+	private interface FileSystemDirectoryFactory {
+		FSDirectory create(Path path) throws IOException;
+	}
 }
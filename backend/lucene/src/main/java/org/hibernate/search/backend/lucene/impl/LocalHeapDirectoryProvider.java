@@ -0,0 +1,32 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.impl;
+
+import java.util.Optional;
+
+import org.hibernate.search.backend.lucene.index.impl.DirectoryProvider;
+
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+
+/**
+ * Stores each index in the JVM heap.
+ * <p>
+ * Indexes are lost when the backend is stopped: this is only suitable for ephemeral indexes and tests.
+ */
+class LocalHeapDirectoryProvider implements DirectoryProvider {
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName();
+	}
+
+	@Override
+	public Directory createDirectory(String indexName, Optional<String> shardId) {
+		return new ByteBuffersDirectory();
+	}
+}
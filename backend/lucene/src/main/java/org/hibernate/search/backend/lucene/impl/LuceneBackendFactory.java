@@ -18,13 +18,16 @@
 import org.hibernate.search.backend.lucene.analysis.impl.LuceneAnalysisComponentFactory;
 import org.hibernate.search.backend.lucene.analysis.model.dsl.impl.InitialLuceneAnalysisDefinitionContainerContext;
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
+import org.hibernate.search.backend.lucene.cfg.CommitPolicyName;
 import org.hibernate.search.backend.lucene.cfg.MultiTenancyStrategyName;
 import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
 import org.hibernate.search.backend.lucene.index.impl.DirectoryProvider;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.metrics.impl.LuceneBackendMetrics;
 import org.hibernate.search.backend.lucene.multitenancy.impl.DiscriminatorMultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.NoMultiTenancyStrategy;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneCommitPolicy;
 import org.hibernate.search.backend.lucene.work.impl.LuceneStubWorkFactory;
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
 import org.hibernate.search.engine.backend.spi.BackendFactory;
@@ -66,12 +69,72 @@ public class LuceneBackendFactory implements BackendFactory {
 					.withDefault( () -> Paths.get( "." ) )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> DIRECTORY_NRT_CACHING_ENABLED =
+			ConfigurationProperty.forKey( LuceneBackendSettings.DIRECTORY_NRT_CACHING_ENABLED )
+					.asBoolean()
+					.withDefault( LuceneBackendSettings.Defaults.DIRECTORY_NRT_CACHING_ENABLED )
+					.build();
+
+	private static final ConfigurationProperty<Integer> DIRECTORY_NRT_CACHING_MAX_MERGE_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.DIRECTORY_NRT_CACHING_MAX_MERGE_SIZE )
+					.asInteger()
+					.withDefault( LuceneBackendSettings.Defaults.DIRECTORY_NRT_CACHING_MAX_MERGE_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> DIRECTORY_NRT_CACHING_MAX_CACHED_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.DIRECTORY_NRT_CACHING_MAX_CACHED_SIZE )
+					.asInteger()
+					.withDefault( LuceneBackendSettings.Defaults.DIRECTORY_NRT_CACHING_MAX_CACHED_SIZE )
+					.build();
+
 	private static final ConfigurationProperty<MultiTenancyStrategyName> MULTI_TENANCY_STRATEGY =
 			ConfigurationProperty.forKey( LuceneBackendSettings.MULTI_TENANCY_STRATEGY )
 					.as( MultiTenancyStrategyName.class, MultiTenancyStrategyName::of )
 					.withDefault( LuceneBackendSettings.Defaults.MULTI_TENANCY_STRATEGY )
 					.build();
 
+	private static final ConfigurationProperty<CommitPolicyName> COMMIT_POLICY =
+			ConfigurationProperty.forKey( LuceneBackendSettings.COMMIT_POLICY )
+					.as( CommitPolicyName.class, CommitPolicyName::of )
+					.withDefault( LuceneBackendSettings.Defaults.COMMIT_POLICY )
+					.build();
+
+	private static final ConfigurationProperty<Integer> COMMIT_INTERVAL =
+			ConfigurationProperty.forKey( LuceneBackendSettings.COMMIT_INTERVAL )
+					.asInteger()
+					.withDefault( LuceneBackendSettings.Defaults.COMMIT_INTERVAL )
+					.build();
+
+	private static final ConfigurationProperty<Integer> COMMIT_DOCUMENT_COUNT =
+			ConfigurationProperty.forKey( LuceneBackendSettings.COMMIT_DOCUMENT_COUNT )
+					.asInteger()
+					.withDefault( LuceneBackendSettings.Defaults.COMMIT_DOCUMENT_COUNT )
+					.build();
+
+	private static final ConfigurationProperty<Integer> READER_REFRESH_INTERVAL =
+			ConfigurationProperty.forKey( LuceneBackendSettings.READER_REFRESH_INTERVAL )
+					.asInteger()
+					.withDefault( LuceneBackendSettings.Defaults.READER_REFRESH_INTERVAL )
+					.build();
+
+	private static final ConfigurationProperty<Integer> SEARCH_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_THREAD_POOL_SIZE )
+					.asInteger()
+					.withDefault( LuceneBackendSettings.Defaults.SEARCH_THREAD_POOL_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> QUERY_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_THREAD_POOL_SIZE )
+					.asInteger()
+					.withDefault( LuceneBackendSettings.Defaults.QUERY_THREAD_POOL_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> QUERY_QUEUE_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_QUEUE_SIZE )
+					.asInteger()
+					.withDefault( LuceneBackendSettings.Defaults.QUERY_QUEUE_SIZE )
+					.build();
+
 	private static final OptionalConfigurationProperty<BeanReference<? extends LuceneAnalysisConfigurer>> ANALYSIS_CONFIGURER =
 			ConfigurationProperty.forKey( LuceneBackendSettings.ANALYSIS_CONFIGURER )
 					.asBeanReference( LuceneAnalysisConfigurer.class )
@@ -97,7 +160,13 @@ public BackendImplementor<?> create(String name, BackendBuildContext buildContex
 				directoryProvider,
 				new LuceneStubWorkFactory( multiTenancyStrategy ),
 				analysisDefinitionRegistry,
-				multiTenancyStrategy
+				multiTenancyStrategy,
+				getCommitPolicy( backendContext, propertySource ),
+				getPositiveOrZero( backendContext, propertySource, READER_REFRESH_INTERVAL ),
+				getPositiveOrZero( backendContext, propertySource, SEARCH_THREAD_POOL_SIZE ),
+				getStrictlyPositive( backendContext, propertySource, QUERY_THREAD_POOL_SIZE ),
+				getStrictlyPositive( backendContext, propertySource, QUERY_QUEUE_SIZE ),
+				new LuceneBackendMetrics( buildContext.getMetricsRegistry(), name )
 		);
 	}
 
@@ -128,15 +197,41 @@ private DirectoryProvider getDirectoryProvider(EventContext backendContext, Conf
 				propertySource, propertyKey -> log.undefinedLuceneDirectoryProvider( propertyKey, backendContext )
 		);
 
-		if ( "local_directory".equals( directoryProviderString ) ) {
-			// TODO GSM: implement the checks properly
-			Path rootDirectory = ROOT_DIRECTORY.get( propertySource ).toAbsolutePath();
+		DirectoryProvider directoryProvider;
+		switch ( directoryProviderString ) {
+			case "local_directory":
+				directoryProvider = LocalDirectoryProvider.mmap(
+						backendContext, getRootDirectory( backendContext, propertySource )
+				);
+				break;
+			case "local_nio_directory":
+				directoryProvider = LocalDirectoryProvider.nio(
+						backendContext, getRootDirectory( backendContext, propertySource )
+				);
+				break;
+			case "local_heap":
+				directoryProvider = new LocalHeapDirectoryProvider();
+				break;
+			default:
+				throw log.unrecognizedLuceneDirectoryProvider( directoryProviderString, backendContext );
+		}
 
-			initializeRootDirectory( rootDirectory, backendContext );
-			return new MMapDirectoryProvider( backendContext, rootDirectory );
+		if ( DIRECTORY_NRT_CACHING_ENABLED.get( propertySource ) ) {
+			directoryProvider = new NRTCachingDirectoryProvider(
+					directoryProvider,
+					getStrictlyPositive( backendContext, propertySource, DIRECTORY_NRT_CACHING_MAX_MERGE_SIZE ),
+					getStrictlyPositive( backendContext, propertySource, DIRECTORY_NRT_CACHING_MAX_CACHED_SIZE )
+			);
 		}
 
-		throw log.unrecognizedLuceneDirectoryProvider( directoryProviderString, backendContext );
+		return directoryProvider;
+	}
+
+	private Path getRootDirectory(EventContext backendContext, ConfigurationPropertySource propertySource) {
+		// TODO GSM: implement the checks properly
+		Path rootDirectory = ROOT_DIRECTORY.get( propertySource ).toAbsolutePath();
+		initializeRootDirectory( rootDirectory, backendContext );
+		return rootDirectory;
 	}
 
 	private MultiTenancyStrategy getMultiTenancyStrategy(EventContext backendContext, ConfigurationPropertySource propertySource) {
@@ -156,6 +251,36 @@ private MultiTenancyStrategy getMultiTenancyStrategy(EventContext backendContext
 		}
 	}
 
+	private LuceneCommitPolicy getCommitPolicy(EventContext backendContext, ConfigurationPropertySource propertySource) {
+		return new LuceneCommitPolicy(
+				COMMIT_POLICY.get( propertySource ),
+				getStrictlyPositive( backendContext, propertySource, COMMIT_INTERVAL ),
+				getStrictlyPositive( backendContext, propertySource, COMMIT_DOCUMENT_COUNT )
+		);
+	}
+
+	private int getStrictlyPositive(EventContext backendContext, ConfigurationPropertySource propertySource,
+			ConfigurationProperty<Integer> property) {
+		int value = property.get( propertySource );
+		if ( value < 1 ) {
+			throw log.invalidStrictlyPositivePropertyValue(
+					property.resolveOrRaw( propertySource ), value, backendContext
+			);
+		}
+		return value;
+	}
+
+	private int getPositiveOrZero(EventContext backendContext, ConfigurationPropertySource propertySource,
+			ConfigurationProperty<Integer> property) {
+		int value = property.get( propertySource );
+		if ( value < 0 ) {
+			throw log.invalidPositiveOrZeroPropertyValue(
+					property.resolveOrRaw( propertySource ), value, backendContext
+			);
+		}
+		return value;
+	}
+
 	private LuceneAnalysisDefinitionRegistry getAnalysisDefinitionRegistry(EventContext backendContext,
 			BackendBuildContext buildContext, ConfigurationPropertySource propertySource,
 			Version luceneVersion) {
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.concurrent.ExecutorService;
 
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
 import org.hibernate.search.backend.lucene.document.model.dsl.impl.LuceneIndexSchemaRootNodeBuilder;
@@ -20,18 +21,22 @@
 import org.hibernate.search.backend.lucene.index.impl.IndexingBackendContext;
 import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerBuilder;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.metrics.impl.LuceneBackendMetrics;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneCommitPolicy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneQueryWorkOrchestrator;
-import org.hibernate.search.backend.lucene.orchestration.impl.LuceneStubQueryWorkOrchestrator;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelQueryWorkOrchestrator;
 import org.hibernate.search.backend.lucene.search.query.impl.SearchBackendContext;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
 import org.hibernate.search.engine.backend.spi.BackendStartContext;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.common.spi.LogErrorHandler;
 import org.hibernate.search.engine.backend.spi.BackendBuildContext;
 import org.hibernate.search.util.common.reporting.EventContext;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.impl.Executors;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 /**
@@ -48,6 +53,7 @@ public class LuceneBackendImpl implements BackendImplementor<LuceneRootDocumentB
 	private final LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry;
 
 	private final LuceneQueryWorkOrchestrator queryOrchestrator;
+	private final ExecutorService searchExecutor;
 	private final MultiTenancyStrategy multiTenancyStrategy;
 
 	private final EventContext eventContext;
@@ -56,22 +62,38 @@ public class LuceneBackendImpl implements BackendImplementor<LuceneRootDocumentB
 
 	LuceneBackendImpl(String name, DirectoryProvider directoryProvider, LuceneWorkFactory workFactory,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
-			MultiTenancyStrategy multiTenancyStrategy) {
+			MultiTenancyStrategy multiTenancyStrategy,
+			LuceneCommitPolicy commitPolicy,
+			int readerRefreshInterval,
+			int searchThreadPoolSize,
+			int queryThreadPoolSize, int queryQueueSize,
+			LuceneBackendMetrics metrics) {
 		this.name = name;
 		this.directoryProvider = directoryProvider;
 
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
 
-		this.queryOrchestrator = new LuceneStubQueryWorkOrchestrator();
+		this.queryOrchestrator = new LuceneParallelQueryWorkOrchestrator(
+				"Lucene query orchestrator for backend " + name,
+				queryThreadPoolSize, queryQueueSize, metrics.getSearch()
+		);
+		// A null executor means segments will be searched sequentially
+		this.searchExecutor = searchThreadPoolSize > 0
+				? Executors.newFixedThreadPool( searchThreadPoolSize, "Lucene search executor for backend " + name )
+				: null;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 
 		this.eventContext = EventContexts.fromBackendName( name );
 		this.indexingContext = new IndexingBackendContext(
 				eventContext, directoryProvider,
-				workFactory, multiTenancyStrategy
+				workFactory, multiTenancyStrategy, commitPolicy, readerRefreshInterval,
+				// TODO the LogErrorHandler should be replaced with a user-configurable instance at some point. See HSEARCH-3110.
+				new LogErrorHandler(),
+				metrics
 		);
 		this.searchContext = new SearchBackendContext(
-				eventContext, workFactory, multiTenancyStrategy, queryOrchestrator, analysisDefinitionRegistry
+				eventContext, workFactory, multiTenancyStrategy, queryOrchestrator, searchExecutor,
+				analysisDefinitionRegistry
 		);
 	}
 
@@ -119,7 +141,7 @@ public IndexManagerBuilder<LuceneRootDocumentBuilder> createIndexManagerBuilder(
 		 */
 		return new LuceneIndexManagerBuilder(
 				indexingContext, searchContext,
-				indexName, indexSchemaRootNodeBuilder
+				indexName, indexSchemaRootNodeBuilder, propertySource
 		);
 	}
 
@@ -127,6 +149,7 @@ public IndexManagerBuilder<LuceneRootDocumentBuilder> createIndexManagerBuilder(
 	public void close() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.push( LuceneQueryWorkOrchestrator::close, queryOrchestrator );
+			closer.push( ExecutorService::shutdownNow, searchExecutor );
 		}
 	}
 
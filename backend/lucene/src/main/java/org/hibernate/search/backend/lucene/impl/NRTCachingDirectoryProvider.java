@@ -0,0 +1,53 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.impl;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import org.hibernate.search.backend.lucene.index.impl.DirectoryProvider;
+
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.NRTCachingDirectory;
+
+/**
+ * Wraps the directories of another provider so that small, freshly flushed segments
+ * are kept in memory until they are committed or merged,
+ * which saves disk round trips when reopening near-real-time readers.
+ */
+class NRTCachingDirectoryProvider implements DirectoryProvider {
+
+	private final DirectoryProvider delegate;
+	private final int maxMergeSize;
+	private final int maxCachedSize;
+
+	/**
+	 * @param delegate The provider of the directories to wrap.
+	 * @param maxMergeSize The maximum size of merged segments to cache, in megabytes.
+	 * @param maxCachedSize The maximum size of all cached files, per directory, in megabytes.
+	 */
+	NRTCachingDirectoryProvider(DirectoryProvider delegate, int maxMergeSize, int maxCachedSize) {
+		this.delegate = delegate;
+		this.maxMergeSize = maxMergeSize;
+		this.maxCachedSize = maxCachedSize;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() +
+				"[" +
+				"delegate=" + delegate +
+				", maxMergeSize=" + maxMergeSize +
+				", maxCachedSize=" + maxCachedSize +
+				"]";
+	}
+
+	@Override
+	public Directory createDirectory(String indexName, Optional<String> shardId) throws IOException {
+		return new NRTCachingDirectory( delegate.createDirectory( indexName, shardId ), maxMergeSize, maxCachedSize );
+	}
+}
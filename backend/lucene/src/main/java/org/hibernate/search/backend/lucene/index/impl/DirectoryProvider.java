@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.index.impl;
 
 import java.io.IOException;
+import java.util.Optional;
 
 import org.apache.lucene.store.Directory;
 
@@ -27,10 +28,15 @@ public interface DirectoryProvider {
 	 * Lower-casing the index name, for example, is not an acceptable encoding scheme,
 	 * as two index names differing only in case could end up using the same directory.
 	 *
+	 * <p>
+	 * Each shard of a sharded index gets its own directory, distinct from the directories of other shards
+	 * and from the directory of the index when it is not sharded.
+	 *
 	 * @param indexName The name of the index in Hibernate Search.
-	 * @return The directory to use for that index name
+	 * @param shardId The identifier of the shard, or an empty optional if the index is not sharded.
+	 * @return The directory to use for that index name and shard.
 	 * @throws IOException If an error occurs while initializing the directory.
 	 */
-	Directory createDirectory(String indexName) throws IOException;
+	Directory createDirectory(String indexName, Optional<String> shardId) throws IOException;
 
 }
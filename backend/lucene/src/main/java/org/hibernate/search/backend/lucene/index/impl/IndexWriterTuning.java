@@ -0,0 +1,252 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.util.Optional;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.index.ConcurrentMergeScheduler;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LiveIndexWriterConfig;
+import org.apache.lucene.index.MergeScheduler;
+import org.apache.lucene.index.TieredMergePolicy;
+
+/**
+ * The configuration of the index writer of a single index,
+ * with the ability to temporarily switch to a configuration optimized for bulk indexing.
+ * <p>
+ * Bulk indexing methods must only be called from the thread of the index work orchestrator.
+ */
+class IndexWriterTuning {
+
+	private static final ConfigurationProperty<Integer> RAM_BUFFER_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_WRITER_RAM_BUFFER_SIZE )
+					.asInteger()
+					.withDefault( LuceneIndexSettings.Defaults.IO_WRITER_RAM_BUFFER_SIZE )
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> MAX_BUFFERED_DOCS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_WRITER_MAX_BUFFERED_DOCS )
+					.asInteger()
+					.build();
+
+	private static final ConfigurationProperty<Boolean> USE_COMPOUND_FILE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_WRITER_USE_COMPOUND_FILE )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.IO_WRITER_USE_COMPOUND_FILE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> MAX_MERGED_SEGMENT_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_MERGE_MAX_MERGED_SEGMENT_SIZE )
+					.asInteger()
+					.withDefault( LuceneIndexSettings.Defaults.IO_MERGE_MAX_MERGED_SEGMENT_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> FLOOR_SEGMENT_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_MERGE_FLOOR_SEGMENT_SIZE )
+					.asInteger()
+					.withDefault( LuceneIndexSettings.Defaults.IO_MERGE_FLOOR_SEGMENT_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> SEGMENTS_PER_TIER =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_MERGE_SEGMENTS_PER_TIER )
+					.asInteger()
+					.withDefault( LuceneIndexSettings.Defaults.IO_MERGE_SEGMENTS_PER_TIER )
+					.build();
+
+	private static final ConfigurationProperty<Integer> MAX_MERGE_AT_ONCE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_MERGE_MAX_MERGE_AT_ONCE )
+					.asInteger()
+					.withDefault( LuceneIndexSettings.Defaults.IO_MERGE_MAX_MERGE_AT_ONCE )
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> MERGE_SCHEDULER_MAX_THREAD_COUNT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_MERGE_SCHEDULER_MAX_THREAD_COUNT )
+					.asInteger()
+					.build();
+
+	private static final ConfigurationProperty<Boolean> MERGE_SCHEDULER_AUTO_THROTTLE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_MERGE_SCHEDULER_AUTO_THROTTLE )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.IO_MERGE_SCHEDULER_AUTO_THROTTLE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> BULK_RAM_BUFFER_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_BULK_RAM_BUFFER_SIZE )
+					.asInteger()
+					.withDefault( LuceneIndexSettings.Defaults.IO_BULK_RAM_BUFFER_SIZE )
+					.build();
+
+	/*
+	 * Merges that may be pending in addition to running ones before indexing threads are stalled,
+	 * same as when the merge scheduler detects its settings automatically.
+	 */
+	private static final int ADDITIONAL_PENDING_MERGE_COUNT = 5;
+
+	static IndexWriterTuning create(ConfigurationPropertySource propertySource) {
+		return new IndexWriterTuning(
+				RAM_BUFFER_SIZE.get( propertySource ),
+				MAX_BUFFERED_DOCS.get( propertySource ),
+				USE_COMPOUND_FILE.get( propertySource ),
+				MAX_MERGED_SEGMENT_SIZE.get( propertySource ),
+				FLOOR_SEGMENT_SIZE.get( propertySource ),
+				SEGMENTS_PER_TIER.get( propertySource ),
+				MAX_MERGE_AT_ONCE.get( propertySource ),
+				MERGE_SCHEDULER_MAX_THREAD_COUNT.get( propertySource ),
+				MERGE_SCHEDULER_AUTO_THROTTLE.get( propertySource ),
+				BULK_RAM_BUFFER_SIZE.get( propertySource )
+		);
+	}
+
+	private final int ramBufferSize;
+	private final Optional<Integer> maxBufferedDocs;
+	private final boolean useCompoundFile;
+	private final int maxMergedSegmentSize;
+	private final int floorSegmentSize;
+	private final int segmentsPerTier;
+	private final int maxMergeAtOnce;
+	private final Optional<Integer> mergeSchedulerMaxThreadCount;
+	private final boolean mergeSchedulerAutoThrottle;
+	private final int bulkRamBufferSize;
+
+	// Only accessed from the thread of the index work orchestrator
+	private int bulkIndexingDepth = 0;
+
+	private IndexWriterTuning(int ramBufferSize, Optional<Integer> maxBufferedDocs, boolean useCompoundFile,
+			int maxMergedSegmentSize, int floorSegmentSize, int segmentsPerTier, int maxMergeAtOnce,
+			Optional<Integer> mergeSchedulerMaxThreadCount, boolean mergeSchedulerAutoThrottle,
+			int bulkRamBufferSize) {
+		this.ramBufferSize = ramBufferSize;
+		this.maxBufferedDocs = maxBufferedDocs;
+		this.useCompoundFile = useCompoundFile;
+		this.maxMergedSegmentSize = maxMergedSegmentSize;
+		this.floorSegmentSize = floorSegmentSize;
+		this.segmentsPerTier = segmentsPerTier;
+		this.maxMergeAtOnce = maxMergeAtOnce;
+		this.mergeSchedulerMaxThreadCount = mergeSchedulerMaxThreadCount;
+		this.mergeSchedulerAutoThrottle = mergeSchedulerAutoThrottle;
+		this.bulkRamBufferSize = bulkRamBufferSize;
+	}
+
+	IndexWriterConfig createConfig(Analyzer analyzer) {
+		IndexWriterConfig config = new IndexWriterConfig( analyzer );
+
+		TieredMergePolicy mergePolicy = new TieredMergePolicy();
+		mergePolicy.setMaxMergedSegmentMB( maxMergedSegmentSize );
+		mergePolicy.setFloorSegmentMB( floorSegmentSize );
+		mergePolicy.setSegmentsPerTier( segmentsPerTier );
+		mergePolicy.setMaxMergeAtOnce( maxMergeAtOnce );
+		config.setMergePolicy( mergePolicy );
+
+		ConcurrentMergeScheduler mergeScheduler = new ConcurrentMergeScheduler();
+		if ( mergeSchedulerMaxThreadCount.isPresent() ) {
+			int maxThreadCount = mergeSchedulerMaxThreadCount.get();
+			mergeScheduler.setMaxMergesAndThreads( maxThreadCount + ADDITIONAL_PENDING_MERGE_COUNT, maxThreadCount );
+		}
+		config.setMergeScheduler( mergeScheduler );
+
+		applyRegularSettings( config );
+		applyRegularMergeThrottling( config.getMergeScheduler() );
+
+		return config;
+	}
+
+	/**
+	 * @param indexWriter The index writer to configure.
+	 * @return {@code true} if the index writer switched to bulk indexing mode,
+	 * {@code false} if it already was in bulk indexing mode.
+	 */
+	boolean startBulkIndexing(IndexWriter indexWriter) {
+		++bulkIndexingDepth;
+		if ( bulkIndexingDepth > 1 ) {
+			// Already in bulk indexing mode
+			return false;
+		}
+		LiveIndexWriterConfig config = indexWriter.getConfig();
+		// Enable the RAM buffer first: Lucene requires at least one flush trigger at all times
+		config.setRAMBufferSizeMB( bulkRamBufferSize );
+		config.setMaxBufferedDocs( IndexWriterConfig.DISABLE_AUTO_FLUSH );
+		config.setUseCompoundFile( false );
+		config.getMergePolicy().setNoCFSRatio( 0.0 );
+		MergeScheduler mergeScheduler = config.getMergeScheduler();
+		if ( mergeScheduler instanceof ConcurrentMergeScheduler ) {
+			( (ConcurrentMergeScheduler) mergeScheduler ).enableAutoIOThrottle();
+		}
+		return true;
+	}
+
+	/**
+	 * @param indexWriter The index writer to configure.
+	 * @return {@code true} if the index writer switched back to regular settings,
+	 * {@code false} if it is still in bulk indexing mode for another caller, or never was.
+	 */
+	boolean endBulkIndexing(IndexWriter indexWriter) {
+		if ( bulkIndexingDepth == 0 ) {
+			// Not in bulk indexing mode
+			return false;
+		}
+		--bulkIndexingDepth;
+		if ( bulkIndexingDepth > 0 ) {
+			// Still in bulk indexing mode for another caller
+			return false;
+		}
+		LiveIndexWriterConfig config = indexWriter.getConfig();
+		applyRegularSettings( config );
+		applyRegularMergeThrottling( config.getMergeScheduler() );
+		return true;
+	}
+
+	private void applyRegularSettings(LiveIndexWriterConfig config) {
+		if ( maxBufferedDocs.isPresent() ) {
+			// Enable the document count trigger first: Lucene requires at least one flush trigger at all times
+			config.setMaxBufferedDocs( maxBufferedDocs.get() );
+		}
+		config.setRAMBufferSizeMB( ramBufferSize );
+		if ( !maxBufferedDocs.isPresent() ) {
+			config.setMaxBufferedDocs( IndexWriterConfig.DISABLE_AUTO_FLUSH );
+		}
+		config.setUseCompoundFile( useCompoundFile );
+		config.getMergePolicy().setNoCFSRatio( useCompoundFile ? TieredMergePolicy.DEFAULT_NO_CFS_RATIO : 0.0 );
+	}
+
+	private void applyRegularMergeThrottling(MergeScheduler mergeScheduler) {
+		if ( !( mergeScheduler instanceof ConcurrentMergeScheduler ) ) {
+			return;
+		}
+		ConcurrentMergeScheduler concurrentMergeScheduler = (ConcurrentMergeScheduler) mergeScheduler;
+		if ( mergeSchedulerAutoThrottle ) {
+			concurrentMergeScheduler.enableAutoIOThrottle();
+		}
+		else {
+			concurrentMergeScheduler.disableAutoIOThrottle();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "ramBufferSize=" ).append( ramBufferSize )
+				.append( ", maxBufferedDocs=" ).append( maxBufferedDocs )
+				.append( ", useCompoundFile=" ).append( useCompoundFile )
+				.append( ", maxMergedSegmentSize=" ).append( maxMergedSegmentSize )
+				.append( ", floorSegmentSize=" ).append( floorSegmentSize )
+				.append( ", segmentsPerTier=" ).append( segmentsPerTier )
+				.append( ", maxMergeAtOnce=" ).append( maxMergeAtOnce )
+				.append( ", mergeSchedulerMaxThreadCount=" ).append( mergeSchedulerMaxThreadCount )
+				.append( ", mergeSchedulerAutoThrottle=" ).append( mergeSchedulerAutoThrottle )
+				.append( ", bulkRamBufferSize=" ).append( bulkRamBufferSize )
+				.append( "]" )
+				.toString();
+	}
+}
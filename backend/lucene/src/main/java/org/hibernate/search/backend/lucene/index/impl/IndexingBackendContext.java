@@ -7,34 +7,62 @@
 package org.hibernate.search.backend.lucene.index.impl;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Optional;
 
 import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.backend.lucene.document.impl.LuceneRootDocumentBuilder;
+import org.hibernate.search.backend.lucene.metrics.impl.LuceneBackendMetrics;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
-import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneBatchingIndexWorkOrchestrator;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneCommitPolicy;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
+import org.hibernate.search.engine.common.spi.ErrorHandler;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.reporting.EventContext;
 
+import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.store.Directory;
 
 public class IndexingBackendContext {
+
+	/*
+	 * Setting the following constant involves a bit of guesswork.
+	 * We want the number to be large enough for the orchestrator to apply many changesets
+	 * in a single batch when under heavy load, but we also want to keep the number
+	 * as low as possible to avoid consuming too much memory with pending changesets.
+	 */
+	private static final int MAX_CHANGESETS_PER_BATCH = 1000;
+
 	private final EventContext eventContext;
 
 	private final DirectoryProvider directoryProvider;
 	private final LuceneWorkFactory workFactory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
+	private final LuceneCommitPolicy commitPolicy;
+	private final int readerRefreshInterval;
+	private final ErrorHandler errorHandler;
+	private final LuceneBackendMetrics metrics;
 
 	public IndexingBackendContext(EventContext eventContext,
 			DirectoryProvider directoryProvider,
 			LuceneWorkFactory workFactory,
-			MultiTenancyStrategy multiTenancyStrategy) {
+			MultiTenancyStrategy multiTenancyStrategy,
+			LuceneCommitPolicy commitPolicy,
+			int readerRefreshInterval,
+			ErrorHandler errorHandler,
+			LuceneBackendMetrics metrics) {
 		this.eventContext = eventContext;
 		this.directoryProvider = directoryProvider;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.workFactory = workFactory;
+		this.commitPolicy = commitPolicy;
+		this.readerRefreshInterval = readerRefreshInterval;
+		this.errorHandler = errorHandler;
+		this.metrics = metrics;
 	}
 
 	@Override
@@ -46,29 +74,56 @@ EventContext getEventContext() {
 		return eventContext;
 	}
 
-	Directory createDirectory(String indexName) throws IOException {
-		return directoryProvider.createDirectory( indexName );
+	Directory createDirectory(String indexName, Optional<String> shardId) throws IOException {
+		return directoryProvider.createDirectory( indexName, shardId );
+	}
+
+	LuceneBatchingIndexWorkOrchestrator createOrchestrator(String indexName, Optional<String> shardId,
+			IndexWriter indexWriter, Runnable afterBatchAction) {
+		String name = "Lucene index work orchestrator for index " + indexName
+				+ ( shardId.isPresent() ? " - shard " + shardId.get() : "" );
+		return new LuceneBatchingIndexWorkOrchestrator(
+				name, indexWriter, workFactory.commit( indexName ), commitPolicy, afterBatchAction,
+				MAX_CHANGESETS_PER_BATCH, errorHandler, metrics.createCommitTimer( indexName )
+		);
+	}
+
+	void registerQueueMetrics(String indexName, Collection<LuceneBatchingIndexWorkOrchestrator> orchestrators) {
+		// Report a single queue per index, regardless of the number of shards
+		metrics.registerQueue(
+				indexName,
+				() -> orchestrators.stream().mapToInt( LuceneBatchingIndexWorkOrchestrator::getQueueDepth ).sum(),
+				MAX_CHANGESETS_PER_BATCH * orchestrators.size()
+		);
+	}
+
+	NearRealTimeReaderProvider createReaderProvider(String indexName, IndexWriter indexWriter) {
+		return new NearRealTimeReaderProvider(
+				eventContext.append( EventContexts.fromIndexName( indexName ) ),
+				indexWriter, readerRefreshInterval
+		);
 	}
 
 	IndexWorkPlan<LuceneRootDocumentBuilder> createWorkPlan(
-			LuceneIndexWorkOrchestrator orchestrator,
+			ShardHolder shardHolder,
 			String indexName, SessionContextImplementor sessionContext) {
 		multiTenancyStrategy.checkTenantId( sessionContext.getTenantIdentifier(), eventContext );
 
-		return new LuceneIndexWorkPlan( workFactory, multiTenancyStrategy, orchestrator,
+		return new LuceneIndexWorkPlan( workFactory, multiTenancyStrategy, shardHolder,
 				indexName, sessionContext );
 	}
 
 	IndexDocumentWorkExecutor<LuceneRootDocumentBuilder> createDocumentWorkExecutor(
-			LuceneIndexWorkOrchestrator orchestrator,
+			ShardHolder shardHolder,
 			String indexName, SessionContextImplementor sessionContext) {
 		multiTenancyStrategy.checkTenantId( sessionContext.getTenantIdentifier(), eventContext );
 
-		return new LuceneIndexDocumentWorkExecutor( workFactory, multiTenancyStrategy, orchestrator,
+		return new LuceneIndexDocumentWorkExecutor( workFactory, multiTenancyStrategy, shardHolder,
 				indexName, sessionContext );
 	}
 
-	public IndexWorkExecutor createWorkExecutor(LuceneIndexWorkOrchestrator orchestrator, String indexName) {
-		return new LuceneIndexWorkExecutor( workFactory, multiTenancyStrategy, orchestrator, indexName, eventContext );
+	IndexWorkExecutor createWorkExecutor(ShardHolder shardHolder, String indexName) {
+		return new LuceneIndexWorkExecutor( workFactory, multiTenancyStrategy, shardHolder, indexName,
+				eventContext );
 	}
 }
@@ -6,15 +6,11 @@
  */
 package org.hibernate.search.backend.lucene.index.impl;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
 import org.hibernate.search.backend.lucene.document.impl.LuceneRootDocumentBuilder;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
-import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
-import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWork;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.backend.index.spi.DocumentContributor;
 import org.hibernate.search.engine.backend.index.spi.DocumentReferenceProvider;
@@ -25,16 +21,16 @@ class LuceneIndexDocumentWorkExecutor implements IndexDocumentWorkExecutor<Lucen
 
 	private final LuceneWorkFactory factory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
-	private final LuceneIndexWorkOrchestrator orchestrator;
+	private final ShardHolder shardHolder;
 	private final String indexName;
 	private final String tenantId;
 
 	LuceneIndexDocumentWorkExecutor(LuceneWorkFactory factory, MultiTenancyStrategy multiTenancyStrategy,
-			LuceneIndexWorkOrchestrator orchestrator,
+			ShardHolder shardHolder,
 			String indexName, SessionContextImplementor sessionContext) {
 		this.factory = factory;
 		this.multiTenancyStrategy = multiTenancyStrategy;
-		this.orchestrator = orchestrator;
+		this.shardHolder = shardHolder;
 		this.indexName = indexName;
 		this.tenantId = sessionContext.getTenantIdentifier();
 	}
@@ -48,11 +44,6 @@ public CompletableFuture<?> add(DocumentReferenceProvider referenceProvider, Doc
 		documentContributor.contribute( builder );
 		LuceneIndexEntry indexEntry = builder.build( indexName, multiTenancyStrategy, tenantId, id );
 
-		List<LuceneIndexWork<?>> works = new ArrayList<>();
-		works.add( factory.add( indexName, tenantId, id, routingKey, indexEntry ) );
-		// FIXME remove this explicit commit
-		works.add( factory.commit( indexName ) );
-
-		return orchestrator.submit( works );
+		return shardHolder.getOrchestrator( id, routingKey ).submit( factory.add( indexName, tenantId, id, routingKey, indexEntry ) );
 	}
 }
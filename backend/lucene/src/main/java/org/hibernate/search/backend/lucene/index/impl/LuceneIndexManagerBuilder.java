@@ -8,17 +8,32 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
 
 import org.hibernate.search.engine.backend.document.model.dsl.spi.IndexSchemaRootNodeBuilder;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerBuilder;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.cfg.ShardingStrategyName;
 import org.hibernate.search.backend.lucene.document.impl.LuceneRootDocumentBuilder;
 import org.hibernate.search.backend.lucene.document.model.dsl.impl.LuceneIndexSchemaRootNodeBuilder;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.search.query.impl.SearchBackendContext;
+import org.hibernate.search.backend.lucene.sharding.impl.ExplicitShardingStrategy;
+import org.hibernate.search.backend.lucene.sharding.impl.HashShardingStrategy;
+import org.hibernate.search.backend.lucene.sharding.impl.NoShardingStrategy;
+import org.hibernate.search.backend.lucene.sharding.impl.ShardingStrategy;
 import org.hibernate.search.util.common.reporting.EventContext;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 
 import org.apache.lucene.index.IndexWriter;
@@ -32,20 +47,40 @@ public class LuceneIndexManagerBuilder implements IndexManagerBuilder<LuceneRoot
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final ConfigurationProperty<ShardingStrategyName> SHARDING_STRATEGY =
+			ConfigurationProperty.forKey( LuceneIndexSettings.SHARDING_STRATEGY )
+					.as( ShardingStrategyName.class, ShardingStrategyName::of )
+					.withDefault( LuceneIndexSettings.Defaults.SHARDING_STRATEGY )
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> SHARDING_NUMBER_OF_SHARDS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<List<String>> SHARDING_SHARD_IDENTIFIERS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.SHARDING_SHARD_IDENTIFIERS )
+					.asString()
+					.multivalued( Pattern.compile( "\\s*,\\s*" ) )
+					.build();
+
 	private final IndexingBackendContext indexingBackendContext;
 	private final SearchBackendContext searchBackendContext;
 
 	private final String indexName;
 	private final LuceneIndexSchemaRootNodeBuilder schemaRootNodeBuilder;
+	private final ConfigurationPropertySource propertySource;
 
 	public LuceneIndexManagerBuilder(IndexingBackendContext indexingBackendContext,
 			SearchBackendContext searchBackendContext,
 			String indexName,
-			LuceneIndexSchemaRootNodeBuilder schemaRootNodeBuilder) {
+			LuceneIndexSchemaRootNodeBuilder schemaRootNodeBuilder,
+			ConfigurationPropertySource propertySource) {
 		this.indexingBackendContext = indexingBackendContext;
 		this.searchBackendContext = searchBackendContext;
 		this.indexName = indexName;
 		this.schemaRootNodeBuilder = schemaRootNodeBuilder;
+		this.propertySource = propertySource;
 	}
 
 	@Override
@@ -61,30 +96,79 @@ public IndexSchemaRootNodeBuilder getSchemaRootNodeBuilder() {
 	@Override
 	public LuceneIndexManagerImpl build() {
 		LuceneIndexModel model = null;
-		IndexWriter indexWriter = null;
+		List<IndexWriter> indexWriters = new ArrayList<>();
 		try {
 			model = schemaRootNodeBuilder.build( indexName );
-			indexWriter = createIndexWriter( model );
+			ShardingStrategy shardingStrategy = createShardingStrategy();
+			List<Shard> shards = new ArrayList<>();
+			List<String> shardIdentifiers = shardingStrategy.getShardIdentifiers();
+			if ( shardIdentifiers.isEmpty() ) {
+				shards.add( createShard( model, Optional.empty(), indexWriters ) );
+			}
+			else {
+				for ( String shardIdentifier : shardIdentifiers ) {
+					shards.add( createShard( model, Optional.of( shardIdentifier ), indexWriters ) );
+				}
+			}
 			return new LuceneIndexManagerImpl(
-					indexingBackendContext, searchBackendContext, indexName, model, indexWriter
+					indexingBackendContext, searchBackendContext, indexName, model,
+					new ShardHolder( shardingStrategy, shards )
 			);
 		}
 		catch (RuntimeException e) {
 			new SuppressingCloser( e )
 					.push( model )
-					.push( indexWriter );
+					.pushAll( indexWriters );
 			throw e;
 		}
 	}
 
-	private IndexWriter createIndexWriter(LuceneIndexModel model) {
-		IndexWriterConfig indexWriterConfig = new IndexWriterConfig( model.getScopedAnalyzer() );
+	private ShardingStrategy createShardingStrategy() {
+		ShardingStrategyName strategyName = SHARDING_STRATEGY.get( propertySource );
+		switch ( strategyName ) {
+			case NONE:
+				return new NoShardingStrategy();
+			case HASH:
+				int numberOfShards = SHARDING_NUMBER_OF_SHARDS.get( propertySource )
+						.orElseThrow( () -> log.invalidNumberOfShards( null, strategyName, getEventContext() ) );
+				if ( numberOfShards < 1 ) {
+					throw log.invalidNumberOfShards( numberOfShards, strategyName, getEventContext() );
+				}
+				return new HashShardingStrategy( numberOfShards );
+			case EXPLICIT:
+				List<String> shardIdentifiers = SHARDING_SHARD_IDENTIFIERS.get( propertySource )
+						.orElseThrow( () -> log.missingShardIdentifiers( strategyName, getEventContext() ) );
+				if ( shardIdentifiers.isEmpty() ) {
+					throw log.missingShardIdentifiers( strategyName, getEventContext() );
+				}
+				return new ExplicitShardingStrategy( shardIdentifiers, getEventContext() );
+			default:
+				throw new AssertionFailure( String.format(
+						Locale.ROOT, "Unsupported sharding strategy '%1$s'. %2$s",
+						strategyName,
+						getEventContext().render()
+				) );
+		}
+	}
+
+	private Shard createShard(LuceneIndexModel model, Optional<String> shardId, List<IndexWriter> indexWriters) {
+		// Each shard has its own tuning, because the bulk indexing state is specific to each index writer
+		IndexWriterTuning indexWriterTuning = IndexWriterTuning.create( propertySource );
+		IndexWriter indexWriter = createIndexWriter( model, shardId, indexWriterTuning );
+		indexWriters.add( indexWriter );
+		return new Shard( shardId, indexWriter, indexWriterTuning );
+	}
+
+	private IndexWriter createIndexWriter(LuceneIndexModel model, Optional<String> shardId,
+			IndexWriterTuning indexWriterTuning) {
 		try {
-			Directory directory = indexingBackendContext.createDirectory( indexName );
+			IndexWriterConfig indexWriterConfig = indexWriterTuning.createConfig( model.getScopedAnalyzer() );
+			Directory directory = indexingBackendContext.createDirectory( indexName, shardId );
 			try {
 				return new IndexWriter( directory, indexWriterConfig );
 			}
-			catch (RuntimeException e) {
+			catch (IOException | RuntimeException e) {
+				// Release the directory and its lock: the index writer will never close it
 				new SuppressingCloser( e ).push( directory );
 				throw e;
 			}
@@ -8,6 +8,7 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.Set;
 
 import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
 import org.hibernate.search.engine.backend.index.IndexManager;
@@ -21,8 +22,7 @@
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
 import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
-import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
-import org.hibernate.search.backend.lucene.orchestration.impl.LuceneStubIndexWorkOrchestrator;
+import org.hibernate.search.backend.lucene.search.impl.LuceneSearchIndexContext;
 import org.hibernate.search.backend.lucene.search.query.impl.SearchBackendContext;
 import org.hibernate.search.engine.mapper.mapping.context.spi.MappingContextImplementor;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
@@ -31,17 +31,11 @@
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
-import org.apache.lucene.index.DirectoryReader;
-import org.apache.lucene.index.IndexReader;
-import org.apache.lucene.index.IndexWriter;
-
-
 /**
  * @author Guillaume Smet
  */
-// TODO in the end the IndexManager won't implement ReaderProvider as it's far more complex than that
 class LuceneIndexManagerImpl
-		implements IndexManagerImplementor<LuceneRootDocumentBuilder>, LuceneIndexManager, ReaderProvider {
+		implements IndexManagerImplementor<LuceneRootDocumentBuilder>, LuceneIndexManager, LuceneSearchIndexContext {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -51,47 +45,44 @@
 	private final String indexName;
 	private final LuceneIndexModel model;
 
-	private final LuceneIndexWorkOrchestrator serialOrchestrator;
-	private final LuceneIndexWorkOrchestrator parallelOrchestrator;
-	private final IndexWriter indexWriter;
+	private final ShardHolder shardHolder;
 
 	LuceneIndexManagerImpl(IndexingBackendContext indexingBackendContext,
 			SearchBackendContext searchBackendContext,
 			String indexName, LuceneIndexModel model,
-			IndexWriter indexWriter) {
+			ShardHolder shardHolder) {
 		this.indexingBackendContext = indexingBackendContext;
 		this.searchBackendContext = searchBackendContext;
 
 		this.indexName = indexName;
 		this.model = model;
 
-		this.serialOrchestrator = new LuceneStubIndexWorkOrchestrator( indexWriter );
-		this.parallelOrchestrator = new LuceneStubIndexWorkOrchestrator( indexWriter );
-		this.indexWriter = indexWriter;
+		this.shardHolder = shardHolder;
 	}
 
-	LuceneIndexModel getModel() {
+	@Override
+	public LuceneIndexModel getModel() {
 		return model;
 	}
 
 	@Override
 	public void start(IndexManagerStartContext context) {
-		// TODO HSEARCH-3528 start thread(s) and allocate resources specific to this index manager here
+		shardHolder.start( indexingBackendContext, indexName );
 	}
 
 	@Override
 	public IndexWorkPlan<LuceneRootDocumentBuilder> createWorkPlan(SessionContextImplementor sessionContext) {
-		return indexingBackendContext.createWorkPlan( serialOrchestrator, indexName, sessionContext );
+		return indexingBackendContext.createWorkPlan( shardHolder, indexName, sessionContext );
 	}
 
 	@Override
 	public IndexDocumentWorkExecutor<LuceneRootDocumentBuilder> createDocumentWorkExecutor(SessionContextImplementor sessionContext) {
-		return indexingBackendContext.createDocumentWorkExecutor( parallelOrchestrator, indexName, sessionContext );
+		return indexingBackendContext.createDocumentWorkExecutor( shardHolder, indexName, sessionContext );
 	}
 
 	@Override
 	public IndexWorkExecutor createWorkExecutor() {
-		return indexingBackendContext.createWorkExecutor( parallelOrchestrator, indexName );
+		return indexingBackendContext.createWorkExecutor( shardHolder, indexName );
 	}
 
 	@Override
@@ -123,10 +114,7 @@ public String toString() {
 	@Override
 	public void close() {
 		try ( Closer<IOException> closer = new Closer<>() ) {
-			closer.push( LuceneIndexWorkOrchestrator::close, serialOrchestrator );
-			closer.push( LuceneIndexWorkOrchestrator::close, parallelOrchestrator );
-			// Close the index writer after the orchestrators, when we're sure all works have been performed
-			closer.push( IndexWriter::close, indexWriter );
+			closer.push( ShardHolder::close, shardHolder );
 			closer.push( LuceneIndexModel::close, model );
 		}
 		catch (IOException | RuntimeException e) {
@@ -134,28 +122,9 @@ public void close() {
 		}
 	}
 
-	ReaderProvider getReaderProvider() {
-		return this;
-	}
-
 	@Override
-	public IndexReader openIndexReader() {
-		try {
-			return DirectoryReader.open( indexWriter );
-		}
-		catch (IOException e) {
-			throw log.unableToCreateIndexReader( getBackendAndIndexEventContext(), e );
-		}
-	}
-
-	@Override
-	public void closeIndexReader(IndexReader reader) {
-		try {
-			reader.close();
-		}
-		catch (IOException e) {
-			log.unableToCloseIndexReader( getBackendAndIndexEventContext(), e );
-		}
+	public Set<ReaderProvider> getReaderProviders(Set<String> routingKeys) {
+		return shardHolder.getReaderProviders( routingKeys );
 	}
 
 	@Override
@@ -9,11 +9,8 @@
 import java.lang.invoke.MethodHandles;
 import java.util.LinkedHashSet;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchScopeModel;
-import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
-import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.search.query.impl.LuceneIndexSearchScope;
 import org.hibernate.search.backend.lucene.search.query.impl.SearchBackendContext;
@@ -51,15 +48,7 @@ void add(SearchBackendContext searchBackendContext, LuceneIndexManagerImpl index
 
 	@Override
 	public IndexSearchScope<?> build() {
-		// Use LinkedHashSet to ensure stable order when generating requests
-		Set<LuceneIndexModel> indexModels = indexManagers.stream().map( LuceneIndexManagerImpl::getModel )
-				.collect( Collectors.toCollection( LinkedHashSet::new ) );
-
-		// TODO obviously, this will have to be changed once we have the full storage complexity from Search 5
-		Set<ReaderProvider> readerProviders = indexManagers.stream().map( LuceneIndexManagerImpl::getReaderProvider )
-				.collect( Collectors.toCollection( LinkedHashSet::new ) );
-
-		LuceneSearchScopeModel model = new LuceneSearchScopeModel( indexModels, readerProviders );
+		LuceneSearchScopeModel model = new LuceneSearchScopeModel( indexManagers );
 
 		return new LuceneIndexSearchScope( searchBackendContext, mappingContext, model );
 	}
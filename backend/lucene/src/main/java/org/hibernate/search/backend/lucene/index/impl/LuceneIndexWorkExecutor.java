@@ -6,10 +6,12 @@
  */
 package org.hibernate.search.backend.lucene.index.impl;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
-import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
+import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWork;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
 import org.hibernate.search.util.common.reporting.EventContext;
@@ -18,32 +20,56 @@ class LuceneIndexWorkExecutor implements IndexWorkExecutor {
 
 	private final LuceneWorkFactory factory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
-	private final LuceneIndexWorkOrchestrator orchestrator;
+	private final ShardHolder shardHolder;
 	private final String indexName;
 	private final EventContext eventContext;
 
-	LuceneIndexWorkExecutor(LuceneWorkFactory factory, MultiTenancyStrategy multiTenancyStrategy, LuceneIndexWorkOrchestrator orchestrator, String indexName,
+	LuceneIndexWorkExecutor(LuceneWorkFactory factory, MultiTenancyStrategy multiTenancyStrategy, ShardHolder shardHolder, String indexName,
 			EventContext eventContext) {
 		this.factory = factory;
 		this.multiTenancyStrategy = multiTenancyStrategy;
-		this.orchestrator = orchestrator;
+		this.shardHolder = shardHolder;
 		this.indexName = indexName;
 		this.eventContext = eventContext;
 	}
 
 	@Override
 	public CompletableFuture<?> optimize() {
-		return orchestrator.submit( factory.optimize( indexName ) );
+		return shardHolder.applyToAllShards(
+				shard -> shard.getOrchestrator().submit( factory.optimize( indexName ) )
+		);
 	}
 
 	@Override
 	public CompletableFuture<?> purge(String tenantId) {
 		multiTenancyStrategy.checkTenantId( tenantId, eventContext );
-		return orchestrator.submit( factory.deleteAll( indexName, tenantId ) );
+		return shardHolder.applyToAllShards(
+				shard -> shard.getOrchestrator().submit( factory.deleteAll( indexName, tenantId ) )
+		);
 	}
 
 	@Override
 	public CompletableFuture<?> flush() {
-		return orchestrator.submit( factory.flush( indexName ) );
+		return shardHolder.applyToAllShards( shard -> {
+			// Flushing must make previous changes durable regardless of the commit policy
+			List<LuceneIndexWork<?>> works = new ArrayList<>();
+			works.add( factory.flush( indexName ) );
+			works.add( factory.commit( indexName ) );
+			return shard.getOrchestrator().submit( works );
+		} );
+	}
+
+	@Override
+	public CompletableFuture<?> startBulkIndexing() {
+		return shardHolder.applyToAllShards( shard -> shard.getOrchestrator().submit(
+				factory.configureIndexWriter( indexName, shard::startBulkIndexing )
+		) );
+	}
+
+	@Override
+	public CompletableFuture<?> endBulkIndexing() {
+		return shardHolder.applyToAllShards( shard -> shard.getOrchestrator().submit(
+				factory.configureIndexWriter( indexName, shard::endBulkIndexing )
+		) );
 	}
 }
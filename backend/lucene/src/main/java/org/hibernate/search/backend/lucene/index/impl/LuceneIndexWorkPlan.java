@@ -7,7 +7,9 @@
 package org.hibernate.search.backend.lucene.index.impl;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
@@ -29,18 +31,19 @@ class LuceneIndexWorkPlan implements IndexWorkPlan<LuceneRootDocumentBuilder> {
 
 	private final LuceneWorkFactory factory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
-	private final LuceneIndexWorkOrchestrator orchestrator;
+	private final ShardHolder shardHolder;
 	private final String indexName;
 	private final String tenantId;
 
-	private final List<LuceneIndexWork<?>> works = new ArrayList<>();
+	// Use LinkedHashMap to ensure stable order when submitting works
+	private final Map<LuceneIndexWorkOrchestrator, List<LuceneIndexWork<?>>> worksByOrchestrator = new LinkedHashMap<>();
 
 	LuceneIndexWorkPlan(LuceneWorkFactory factory, MultiTenancyStrategy multiTenancyStrategy,
-			LuceneIndexWorkOrchestrator orchestrator,
+			ShardHolder shardHolder,
 			String indexName, SessionContextImplementor sessionContext) {
 		this.factory = factory;
 		this.multiTenancyStrategy = multiTenancyStrategy;
-		this.orchestrator = orchestrator;
+		this.shardHolder = shardHolder;
 		this.indexName = indexName;
 		this.tenantId = sessionContext.getTenantIdentifier();
 	}
@@ -55,9 +58,7 @@ public void add(DocumentReferenceProvider referenceProvider,
 		documentContributor.contribute( builder );
 		LuceneIndexEntry indexEntry = builder.build( indexName, multiTenancyStrategy, tenantId, id );
 
-		collect( factory.add( indexName, tenantId, id, routingKey, indexEntry ) );
-		// FIXME remove this explicit commit
-		collect( factory.commit( indexName ) );
+		collect( id, routingKey, factory.add( indexName, tenantId, id, routingKey, indexEntry ) );
 	}
 
 	@Override
@@ -70,9 +71,7 @@ public void update(DocumentReferenceProvider referenceProvider,
 		documentContributor.contribute( builder );
 		LuceneIndexEntry indexEntry = builder.build( indexName, multiTenancyStrategy, tenantId, id );
 
-		collect( factory.update( indexName, tenantId, id, routingKey, indexEntry ) );
-		// FIXME remove this explicit commit
-		collect( factory.commit( indexName ) );
+		collect( id, routingKey, factory.update( indexName, tenantId, id, routingKey, indexEntry ) );
 	}
 
 	@Override
@@ -80,27 +79,38 @@ public void delete(DocumentReferenceProvider referenceProvider) {
 		String id = referenceProvider.getIdentifier();
 		String routingKey = referenceProvider.getRoutingKey();
 
-		collect( factory.delete( indexName, tenantId, id, routingKey ) );
-		// FIXME remove this explicit commit
-		collect( factory.commit( indexName ) );
+		collect( id, routingKey, factory.delete( indexName, tenantId, id, routingKey ) );
 	}
 
 	@Override
 	public void prepare() {
-		// Nothing to do: we only have to send the works to the orchestrator
+		// Nothing to do: we only have to send the works to the orchestrator,
+		// which will take care of committing according to the commit policy
 	}
 
 	@Override
 	public CompletableFuture<?> execute() {
 		try {
-			return orchestrator.submit( works );
+			if ( worksByOrchestrator.size() == 1 ) {
+				Map.Entry<LuceneIndexWorkOrchestrator, List<LuceneIndexWork<?>>> entry =
+						worksByOrchestrator.entrySet().iterator().next();
+				return entry.getKey().submit( entry.getValue() );
+			}
+			CompletableFuture<?>[] futures = new CompletableFuture<?>[worksByOrchestrator.size()];
+			int i = 0;
+			for ( Map.Entry<LuceneIndexWorkOrchestrator, List<LuceneIndexWork<?>>> entry : worksByOrchestrator.entrySet() ) {
+				futures[i] = entry.getKey().submit( entry.getValue() );
+				++i;
+			}
+			return CompletableFuture.allOf( futures );
 		}
 		finally {
-			works.clear();
+			worksByOrchestrator.clear();
 		}
 	}
 
-	private void collect(LuceneIndexWork<?> work) {
-		works.add( work );
+	private void collect(String id, String routingKey, LuceneIndexWork<?> work) {
+		LuceneIndexWorkOrchestrator orchestrator = shardHolder.getOrchestrator( id, routingKey );
+		worksByOrchestrator.computeIfAbsent( orchestrator, ignored -> new ArrayList<>() ).add( work );
 	}
 }
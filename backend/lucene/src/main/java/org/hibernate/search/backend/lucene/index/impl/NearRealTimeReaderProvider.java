@@ -0,0 +1,180 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.ReaderManager;
+
+/**
+ * A {@link ReaderProvider} sharing near-real-time readers opened from the index writer
+ * between all the queries targeting the index.
+ * <p>
+ * Readers are reference-counted: they are acquired when a query starts, released when it ends,
+ * and only closed once they have been replaced with a fresher reader and released by every query.
+ * <p>
+ * Readers are never refreshed on the write path: refreshing flushes buffered documents to a new segment,
+ * so refreshing after each batch of works would defeat batching and produce many tiny segments.
+ * Instead, the orchestrator thread only marks the reader as stale after changes are applied to the index writer,
+ * and the reader is refreshed lazily, when it is acquired.
+ * <p>
+ * With a refresh interval of {@code 0}, a stale reader is refreshed as soon as it is acquired,
+ * blocking if another thread is already refreshing it:
+ * every query sees all the changes whose works completed before it started.
+ * <p>
+ * With a higher refresh interval, a stale reader is only refreshed
+ * if it was last refreshed more than {@code refreshInterval} milliseconds ago,
+ * and never blocks: queries use the current reader while another thread refreshes it.
+ * The refresh interval thus bounds how stale search results may be.
+ * <p>
+ * Refreshes can be suspended, e.g. during bulk indexing,
+ * in which case queries keep using the current reader until refreshes are resumed.
+ */
+class NearRealTimeReaderProvider implements ReaderProvider, AutoCloseable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final EventContext eventContext;
+	private final long refreshIntervalNanos;
+	private final LongSupplier nanoTimeSource;
+	private final ReaderManager readerManager;
+
+	// Incremented every time changes are applied to the index writer
+	private final AtomicLong changeGeneration = new AtomicLong( 0L );
+	// The latest change generation guaranteed to be visible in the current reader
+	private final AtomicLong refreshedGeneration = new AtomicLong( 0L );
+
+	private volatile long lastRefreshNanos;
+	private volatile boolean refreshSuspended = false;
+
+	NearRealTimeReaderProvider(EventContext eventContext, IndexWriter indexWriter, int refreshInterval) {
+		this( eventContext, indexWriter, refreshInterval, System::nanoTime );
+	}
+
+	NearRealTimeReaderProvider(EventContext eventContext, IndexWriter indexWriter, int refreshInterval,
+			LongSupplier nanoTimeSource) {
+		this.eventContext = eventContext;
+		this.refreshIntervalNanos = TimeUnit.MILLISECONDS.toNanos( refreshInterval );
+		this.nanoTimeSource = nanoTimeSource;
+		try {
+			this.readerManager = new ReaderManager( indexWriter, true, false );
+		}
+		catch (IOException e) {
+			throw log.unableToCreateIndexReader( eventContext, e );
+		}
+		this.lastRefreshNanos = nanoTimeSource.getAsLong();
+	}
+
+	@Override
+	public IndexReader openIndexReader() {
+		try {
+			refreshIfNecessary();
+			return readerManager.acquire();
+		}
+		catch (IOException e) {
+			throw log.unableToCreateIndexReader( eventContext, e );
+		}
+	}
+
+	@Override
+	public void closeIndexReader(IndexReader reader) {
+		try {
+			readerManager.release( (DirectoryReader) reader );
+		}
+		catch (IOException e) {
+			log.unableToCloseIndexReader( eventContext, e );
+		}
+	}
+
+	/**
+	 * To be called from the orchestrator thread after changes were applied to the index writer.
+	 */
+	void afterChangesApplied() {
+		// Only mark the reader as stale: the next query to acquire it will refresh it
+		changeGeneration.incrementAndGet();
+	}
+
+	/**
+	 * To be called from the orchestrator thread.
+	 */
+	void suspendRefresh() {
+		refreshSuspended = true;
+	}
+
+	/**
+	 * To be called from the orchestrator thread.
+	 * <p>
+	 * Refreshes the reader right away if changes were applied while refreshes were suspended,
+	 * so that the first queries do not have to.
+	 */
+	void resumeRefresh() {
+		refreshSuspended = false;
+		long generation = changeGeneration.get();
+		if ( refreshedGeneration.get() >= generation ) {
+			return;
+		}
+		try {
+			readerManager.maybeRefreshBlocking();
+		}
+		catch (IOException e) {
+			throw log.unableToCreateIndexReader( eventContext, e );
+		}
+		refreshedGeneration.accumulateAndGet( generation, Math::max );
+		lastRefreshNanos = nanoTimeSource.getAsLong();
+	}
+
+	@Override
+	public void close() throws IOException {
+		readerManager.close();
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "eventContext=" ).append( eventContext )
+				.append( ", refreshInterval=" ).append( TimeUnit.NANOSECONDS.toMillis( refreshIntervalNanos ) )
+				.append( "]" )
+				.toString();
+	}
+
+	private void refreshIfNecessary() throws IOException {
+		if ( refreshSuspended ) {
+			return;
+		}
+		// Read the generation before refreshing: the refreshed reader will include at least these changes
+		long generation = changeGeneration.get();
+		if ( refreshedGeneration.get() >= generation ) {
+			// The current reader is up-to-date
+			return;
+		}
+		long now = nanoTimeSource.getAsLong();
+		if ( refreshIntervalNanos == 0L ) {
+			// Block if another thread is already refreshing, so as to include all the changes applied so far
+			readerManager.maybeRefreshBlocking();
+		}
+		else if ( now - lastRefreshNanos < refreshIntervalNanos
+				// Do not block: if another thread is already refreshing, just use the current reader
+				|| !readerManager.maybeRefresh() ) {
+			return;
+		}
+		refreshedGeneration.accumulateAndGet( generation, Math::max );
+		lastRefreshNanos = now;
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneBatchingIndexWorkOrchestrator;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
+import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.impl.SuppressingCloser;
+
+import org.apache.lucene.index.IndexWriter;
+
+/**
+ * A single Lucene index, with its own index writer, work orchestrator and reader provider,
+ * holding all or part of the documents of an index.
+ */
+class Shard {
+
+	private final Optional<String> shardId;
+	private final IndexWriter indexWriter;
+	private final IndexWriterTuning indexWriterTuning;
+
+	private LuceneBatchingIndexWorkOrchestrator orchestrator;
+	private NearRealTimeReaderProvider readerProvider;
+
+	Shard(Optional<String> shardId, IndexWriter indexWriter, IndexWriterTuning indexWriterTuning) {
+		this.shardId = shardId;
+		this.indexWriter = indexWriter;
+		this.indexWriterTuning = indexWriterTuning;
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "shardId=" ).append( shardId.orElse( null ) )
+				.append( "]" )
+				.toString();
+	}
+
+	void start(IndexingBackendContext indexingBackendContext, String indexName) {
+		try {
+			readerProvider = indexingBackendContext.createReaderProvider( indexName, indexWriter );
+
+			/*
+			 * All works targeting this shard, be they submitted through work plans,
+			 * document work executors or work executors, go through the same orchestrator,
+			 * and are thus applied to the index writer by a single, dedicated thread.
+			 */
+			orchestrator = indexingBackendContext.createOrchestrator( indexName, shardId, indexWriter,
+					readerProvider::afterChangesApplied );
+			orchestrator.start();
+		}
+		catch (RuntimeException e) {
+			new SuppressingCloser( e )
+					.push( orchestrator )
+					.push( readerProvider );
+			throw e;
+		}
+	}
+
+	void close() throws IOException {
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			closer.push( LuceneIndexWorkOrchestrator::close, orchestrator );
+			orchestrator = null;
+			closer.push( NearRealTimeReaderProvider::close, readerProvider );
+			readerProvider = null;
+			// Close the index writer after the orchestrator, when we're sure all works have been performed
+			closer.push( IndexWriter::close, indexWriter );
+		}
+	}
+
+	LuceneBatchingIndexWorkOrchestrator getOrchestrator() {
+		return orchestrator;
+	}
+
+	ReaderProvider getReaderProvider() {
+		return readerProvider;
+	}
+
+	/**
+	 * To be called from the orchestrator thread.
+	 */
+	void startBulkIndexing(IndexWriter indexWriter) {
+		if ( indexWriterTuning.startBulkIndexing( indexWriter ) ) {
+			// Refreshing readers would flush the RAM buffer and defeat the bulk indexing settings
+			readerProvider.suspendRefresh();
+		}
+	}
+
+	/**
+	 * To be called from the orchestrator thread.
+	 */
+	void endBulkIndexing(IndexWriter indexWriter) {
+		if ( indexWriterTuning.endBulkIndexing( indexWriter ) ) {
+			readerProvider.resumeRefresh();
+		}
+	}
+}
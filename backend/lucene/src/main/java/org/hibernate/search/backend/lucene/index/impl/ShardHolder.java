@@ -0,0 +1,112 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneBatchingIndexWorkOrchestrator;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
+import org.hibernate.search.backend.lucene.sharding.impl.ShardingStrategy;
+import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.impl.SuppressingCloser;
+
+/**
+ * The shards of an index, and the strategy assigning documents to these shards.
+ */
+class ShardHolder {
+
+	private final ShardingStrategy shardingStrategy;
+	private final List<Shard> shards;
+
+	ShardHolder(ShardingStrategy shardingStrategy, List<Shard> shards) {
+		this.shardingStrategy = shardingStrategy;
+		this.shards = shards;
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "shardingStrategy=" ).append( shardingStrategy )
+				.append( "]" )
+				.toString();
+	}
+
+	void start(IndexingBackendContext indexingBackendContext, String indexName) {
+		try {
+			List<LuceneBatchingIndexWorkOrchestrator> orchestrators = new ArrayList<>( shards.size() );
+			for ( Shard shard : shards ) {
+				shard.start( indexingBackendContext, indexName );
+				orchestrators.add( shard.getOrchestrator() );
+			}
+			indexingBackendContext.registerQueueMetrics( indexName, orchestrators );
+		}
+		catch (RuntimeException e) {
+			new SuppressingCloser( e ).pushAll( Shard::close, shards );
+			throw e;
+		}
+	}
+
+	void close() throws IOException {
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			closer.pushAll( Shard::close, shards );
+		}
+	}
+
+	/**
+	 * @param documentId The identifier of a document.
+	 * @param routingKey The routing key of that document, or {@code null}.
+	 * @return The orchestrator of the shard the document is assigned to.
+	 */
+	LuceneIndexWorkOrchestrator getOrchestrator(String documentId, String routingKey) {
+		if ( shards.size() == 1 ) {
+			return shards.get( 0 ).getOrchestrator();
+		}
+		return shards.get( shardingStrategy.toShardIndex( documentId, routingKey ) ).getOrchestrator();
+	}
+
+	/**
+	 * @param operation An operation to apply to a shard.
+	 * @return A future completing once the operation completed on every shard.
+	 */
+	CompletableFuture<?> applyToAllShards(Function<Shard, CompletableFuture<?>> operation) {
+		if ( shards.size() == 1 ) {
+			return operation.apply( shards.get( 0 ) );
+		}
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[shards.size()];
+		for ( int i = 0; i < shards.size(); i++ ) {
+			futures[i] = operation.apply( shards.get( i ) );
+		}
+		return CompletableFuture.allOf( futures );
+	}
+
+	/**
+	 * @param routingKeys The routing keys of a query, or an empty set to target all shards.
+	 * @return The reader providers of the shards that documents with the given routing keys may be assigned to.
+	 */
+	Set<ReaderProvider> getReaderProviders(Set<String> routingKeys) {
+		Set<ReaderProvider> result = new LinkedHashSet<>();
+		if ( routingKeys.isEmpty() ) {
+			for ( Shard shard : shards ) {
+				result.add( shard.getReaderProvider() );
+			}
+		}
+		else {
+			for ( Integer shardIndex : shardingStrategy.toShardIndexes( routingKeys ) ) {
+				result.add( shards.get( shardIndex ).getReaderProvider() );
+			}
+		}
+		return result;
+	}
+}
@@ -10,21 +10,26 @@
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.lucene.search.Query;
 import org.apache.lucene.util.Version;
+import org.hibernate.search.backend.lucene.cfg.ShardingStrategyName;
 import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
 import org.hibernate.search.backend.lucene.types.predicate.impl.LuceneFieldPredicateBuilderFactory;
 import org.hibernate.search.backend.lucene.types.projection.impl.LuceneFieldProjectionBuilderFactory;
 import org.hibernate.search.backend.lucene.types.sort.impl.LuceneFieldSortBuilderFactory;
 import org.hibernate.search.engine.backend.index.spi.IndexSearchScopeBuilder;
 import org.hibernate.search.engine.backend.types.converter.spi.ToDocumentIdentifierValueConverter;
+import org.hibernate.search.engine.search.SearchAggregation;
 import org.hibernate.search.engine.search.SearchPredicate;
 import org.hibernate.search.engine.search.SearchProjection;
 import org.hibernate.search.engine.search.SearchSort;
 import org.hibernate.search.util.common.reporting.EventContext;
 import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.SearchTimeoutException;
 import org.hibernate.search.util.common.logging.impl.MessageConstants;
 import org.hibernate.search.util.common.logging.impl.ClassFormatter;
 import org.hibernate.search.util.common.logging.impl.EventContextFormatter;
@@ -428,4 +433,97 @@ SearchException conflictingIdentifierTypesForPredicate(ToDocumentIdentifierValue
 			value = "Multiple calls to toReference() for the same field definition."
 					+ " You must call toReference() exactly once.")
 	SearchException cannotCreateReferenceMultipleTimes(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 73,
+			value = "The thread was interrupted while a changeset was being submitted to '%1$s'."
+					+ " The changeset has been discarded." )
+	SearchException threadInterruptedWhileSubmittingChangeset(String orchestratorName);
+
+	@Message(id = ID_OFFSET_2 + 74,
+			value = "A changeset was submitted after Hibernate Search shutdown was requested to '%1$s'."
+					+ " The changeset has been discarded." )
+	SearchException orchestratorShutDownBeforeSubmittingChangeset(String orchestratorName);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET_2 + 75,
+			value = "'%1$s' was interrupted while waiting for index activity to finish. Index might be inconsistent or have a stale lock.")
+	void interruptedWhileWaitingForIndexActivity(String name, @Cause InterruptedException e);
+
+	@Message(id = ID_OFFSET_2 + 76,
+			value = "Invalid commit policy name: '%1$s'. Valid names are: %2$s.")
+	SearchException invalidCommitPolicyName(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET_2 + 77,
+			value = "Query exceeded the timeout of %1$s %2$s: '%3$s'.")
+	SearchTimeoutException searchTimedOut(long timeout, TimeUnit timeUnit, String queryString,
+			@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 78,
+			value = "A Lucene query cannot include search aggregations built using a non-Lucene search scope."
+			+ " Given aggregation was: '%1$s'")
+	SearchException cannotMixLuceneSearchAggregationWithOtherAggregations(SearchAggregation<?> aggregation);
+
+	@Message(id = ID_OFFSET_2 + 79,
+			value = "Terms aggregations are not supported by this field's type. Only String fields support terms aggregations.")
+	SearchException termsAggregationsNotSupportedByFieldType(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 80,
+			value = "Range aggregations are not supported by this field's type.")
+	SearchException rangeAggregationsNotSupportedByFieldType(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 81,
+			value = "Aggregations are not enabled for field '%1$s'. Make sure the field is marked as sortable.")
+	SearchException unaggregatableField(String absoluteFieldPath, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 82,
+			value = "Multiple conflicting types to build an aggregation for field '%1$s': '%2$s' vs. '%3$s'.")
+	SearchException conflictingFieldTypesForAggregation(String absoluteFieldPath,
+			LuceneFieldSortBuilderFactory component1, LuceneFieldSortBuilderFactory component2,
+			@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 83,
+			value = "Too many queries are waiting to be executed by '%1$s': %2$s queries are already queued."
+					+ " The query has been rejected. Retry later, or increase the size of the query thread pool or queue." )
+	SearchException tooManyPendingQueries(String orchestratorName, int queueSize, @Cause Throwable cause);
+
+	@Message(id = ID_OFFSET_2 + 84,
+			value = "A query was submitted after Hibernate Search shutdown was requested to '%1$s'."
+					+ " The query has been discarded." )
+	SearchException orchestratorShutDownBeforeSubmittingQuery(String orchestratorName, @Cause Throwable cause);
+
+	@LogMessage(level = Level.WARN)
+	@Message(id = ID_OFFSET_2 + 85,
+			value = "Interrupted while waiting for the queries of '%1$s' to complete. Pending queries have been cancelled." )
+	void interruptedWhileWaitingForQueryCompletion(String orchestratorName, @Cause Throwable cause);
+
+	@Message(id = ID_OFFSET_2 + 86,
+			value = "Invalid sharding strategy name: '%1$s'. Valid names are: %2$s.")
+	SearchException invalidShardingStrategyName(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET_2 + 87,
+			value = "Invalid number of shards: '%1$s'. The '%2$s' sharding strategy requires a strictly positive number of shards.")
+	SearchException invalidNumberOfShards(Integer numberOfShards, ShardingStrategyName strategyName,
+			@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 88,
+			value = "No shard identifiers. The '%1$s' sharding strategy requires at least one shard identifier.")
+	SearchException missingShardIdentifiers(ShardingStrategyName strategyName, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 89,
+			value = "Invalid routing key: '%1$s'. With the '%2$s' sharding strategy, the routing key of each document"
+					+ " must be one of the shard identifiers: %3$s.")
+	SearchException invalidRoutingKeyForExplicitSharding(String routingKey, ShardingStrategyName strategyName,
+			Collection<String> shardIdentifiers, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 90,
+			value = "Invalid value for configuration property '%1$s': '%2$s'. The value must be strictly positive.")
+	SearchException invalidStrictlyPositivePropertyValue(String propertyKey, int value, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 91,
+			value = "Unable to fetch the next chunk of hits: this scroll was closed.")
+	SearchException scrollClosed(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 92,
+			value = "Invalid value for configuration property '%1$s': '%2$s'. The value must be positive or zero.")
+	SearchException invalidPositiveOrZeroPropertyValue(String propertyKey, int value, @Param EventContext context);
 }
@@ -0,0 +1,64 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.metrics.impl;
+
+import java.util.function.IntSupplier;
+
+import org.hibernate.search.engine.metrics.spi.MetricsRegistry;
+import org.hibernate.search.engine.metrics.spi.Timer;
+
+/**
+ * The metrics reported by a Lucene backend.
+ * <p>
+ * Reported metrics, all tagged with the name of the backend:
+ * <ul>
+ *     <li>{@value #SEARCH}: a timer measuring the execution time of search queries.
+ *     <li>{@value #COMMIT}: a timer measuring the duration of commits triggered by the commit policy,
+ *     additionally tagged with the name of the index.
+ *     <li>{@value #QUEUE_DEPTH}: a gauge of the number of changesets waiting in the indexing queue of each index,
+ *     additionally tagged with the name of the index.
+ *     <li>{@value #QUEUE_SATURATION}: a gauge of the ratio between the depth and the capacity
+ *     of the indexing queue of each index, additionally tagged with the name of the index.
+ *     A value close to {@code 1} means submitting threads are likely to block.
+ * </ul>
+ */
+public final class LuceneBackendMetrics {
+
+	public static final String SEARCH = "hibernate.search.backend.lucene.search";
+	public static final String COMMIT = "hibernate.search.backend.lucene.commit";
+	public static final String QUEUE_DEPTH = "hibernate.search.backend.lucene.queue.depth";
+	public static final String QUEUE_SATURATION = "hibernate.search.backend.lucene.queue.saturation";
+
+	private static final String BACKEND_TAG = "backend";
+	private static final String INDEX_TAG = "index";
+
+	private final MetricsRegistry registry;
+	private final String backendName;
+
+	private final Timer search;
+
+	public LuceneBackendMetrics(MetricsRegistry registry, String backendName) {
+		this.registry = registry;
+		this.backendName = backendName;
+		this.search = registry.timer( SEARCH, BACKEND_TAG, backendName );
+	}
+
+	public Timer getSearch() {
+		return search;
+	}
+
+	public Timer createCommitTimer(String indexName) {
+		return registry.timer( COMMIT, BACKEND_TAG, backendName, INDEX_TAG, indexName );
+	}
+
+	public void registerQueue(String indexName, IntSupplier depth, int capacity) {
+		double doubleCapacity = capacity;
+		registry.gauge( QUEUE_DEPTH, depth::getAsInt, BACKEND_TAG, backendName, INDEX_TAG, indexName );
+		registry.gauge( QUEUE_SATURATION, () -> depth.getAsInt() / doubleCapacity,
+				BACKEND_TAG, backendName, INDEX_TAG, indexName );
+	}
+}
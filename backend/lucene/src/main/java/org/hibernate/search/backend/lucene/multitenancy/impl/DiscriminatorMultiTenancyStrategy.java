@@ -13,14 +13,15 @@
 import org.hibernate.search.backend.lucene.search.impl.LuceneQueries;
 import org.hibernate.search.backend.lucene.util.impl.LuceneFields;
 import org.hibernate.search.backend.lucene.work.impl.LuceneQueryBasedDeleteAllEntriesWork;
-import org.hibernate.search.backend.lucene.work.impl.LuceneQueryBasedDeleteEntryWork;
-import org.hibernate.search.backend.lucene.work.impl.LuceneQueryBasedUpdateEntryWork;
+import org.hibernate.search.backend.lucene.work.impl.LuceneTermBasedDeleteEntryWork;
+import org.hibernate.search.backend.lucene.work.impl.LuceneTermBasedUpdateEntryWork;
 import org.hibernate.search.util.common.reporting.EventContext;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field.Store;
 import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.Term;
 import org.apache.lucene.search.Query;
 
 public class DiscriminatorMultiTenancyStrategy implements MultiTenancyStrategy {
@@ -37,19 +38,24 @@ public void contributeToIndexedDocument(Document document, String tenantId) {
 		document.add( new StringField( LuceneFields.tenantIdFieldName(), tenantId, Store.YES ) );
 	}
 
+	@Override
+	public void contributeToIndexedRootDocument(Document rootDocument, String tenantId, String id) {
+		rootDocument.add( new StringField( LuceneFields.tenantIdAndIdFieldName(), tenantIdAndId( tenantId, id ), Store.NO ) );
+	}
+
 	@Override
 	public Query decorateLuceneQuery(Query originalLuceneQuery, String tenantId) {
 		return LuceneQueries.wrapWithDiscriminatorTenantIdQuery( originalLuceneQuery, tenantId );
 	}
 
 	@Override
-	public LuceneQueryBasedUpdateEntryWork createUpdateEntryLuceneWork(String indexName, String tenantId, String id, LuceneIndexEntry indexEntry) {
-		return new LuceneQueryBasedUpdateEntryWork( indexName, tenantId, id, indexEntry );
+	public LuceneTermBasedUpdateEntryWork createUpdateEntryLuceneWork(String indexName, String tenantId, String id, LuceneIndexEntry indexEntry) {
+		return new LuceneTermBasedUpdateEntryWork( indexName, tenantId, id, tenantIdAndIdTerm( tenantId, id ), indexEntry );
 	}
 
 	@Override
-	public LuceneQueryBasedDeleteEntryWork createDeleteEntryLuceneWork(String indexName, String tenantId, String id) {
-		return new LuceneQueryBasedDeleteEntryWork( indexName, tenantId, id );
+	public LuceneTermBasedDeleteEntryWork createDeleteEntryLuceneWork(String indexName, String tenantId, String id) {
+		return new LuceneTermBasedDeleteEntryWork( indexName, tenantId, id, tenantIdAndIdTerm( tenantId, id ) );
 	}
 
 	@Override
@@ -63,4 +69,21 @@ public void checkTenantId(String tenantId, EventContext backendContext) {
 			throw log.multiTenancyEnabledButNoTenantIdProvided( backendContext );
 		}
 	}
+
+	private static Term tenantIdAndIdTerm(String tenantId, String id) {
+		return new Term( LuceneFields.tenantIdAndIdFieldName(), tenantIdAndId( tenantId, id ) );
+	}
+
+	/*
+	 * Prefixing with the length of the tenant ID guarantees that two different (tenant ID, ID) pairs
+	 * never result in the same value, whatever characters the tenant ID and ID contain.
+	 */
+	private static String tenantIdAndId(String tenantId, String id) {
+		return new StringBuilder( tenantId.length() + id.length() + 12 )
+				.append( tenantId.length() )
+				.append( ':' )
+				.append( tenantId )
+				.append( id )
+				.toString();
+	}
 }
@@ -35,6 +35,16 @@ public interface MultiTenancyStrategy {
 	 */
 	void contributeToIndexedDocument(Document document, String tenantId);
 
+	/**
+	 * Contributes the fields allowing to find the root document of an entry by its identifier,
+	 * in addition to the ID field, so that updates and deletes can rely on a single term.
+	 *
+	 * @param rootDocument The indexed root document.
+	 * @param tenantId The tenant id.
+	 * @param id The document id.
+	 */
+	void contributeToIndexedRootDocument(Document rootDocument, String tenantId, String id);
+
 	/**
 	 * Decorate the query with the tenant constraint.
 	 *
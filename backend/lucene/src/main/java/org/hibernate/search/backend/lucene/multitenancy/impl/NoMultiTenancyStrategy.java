@@ -9,9 +9,11 @@
 import java.lang.invoke.MethodHandles;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.index.Term;
 import org.apache.lucene.search.Query;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.util.impl.LuceneFields;
 import org.hibernate.search.backend.lucene.work.impl.LuceneDeleteAllEntriesWork;
 import org.hibernate.search.backend.lucene.work.impl.LuceneTermBasedDeleteEntryWork;
 import org.hibernate.search.backend.lucene.work.impl.LuceneTermBasedUpdateEntryWork;
@@ -32,6 +34,11 @@ public void contributeToIndexedDocument(Document document, String tenantId) {
 		// No need to add anything to documents, the ID field (already added elsewhere) is enough
 	}
 
+	@Override
+	public void contributeToIndexedRootDocument(Document rootDocument, String tenantId, String id) {
+		// No need to add anything to documents, the ID field (already added elsewhere) is enough
+	}
+
 	@Override
 	public Query decorateLuceneQuery(Query originalLuceneQuery, String tenantId) {
 		return originalLuceneQuery;
@@ -39,12 +46,12 @@ public Query decorateLuceneQuery(Query originalLuceneQuery, String tenantId) {
 
 	@Override
 	public LuceneTermBasedUpdateEntryWork createUpdateEntryLuceneWork(String indexName, String tenantId, String id, LuceneIndexEntry indexEntry) {
-		return new LuceneTermBasedUpdateEntryWork( indexName, tenantId, id, indexEntry );
+		return new LuceneTermBasedUpdateEntryWork( indexName, tenantId, id, idTerm( id ), indexEntry );
 	}
 
 	@Override
 	public LuceneTermBasedDeleteEntryWork createDeleteEntryLuceneWork(String indexName, String tenantId, String id) {
-		return new LuceneTermBasedDeleteEntryWork( indexName, tenantId, id );
+		return new LuceneTermBasedDeleteEntryWork( indexName, tenantId, id, idTerm( id ) );
 	}
 
 	@Override
@@ -58,4 +65,8 @@ public void checkTenantId(String tenantId, EventContext backendContext) {
 			throw log.tenantIdProvidedButMultiTenancyDisabled( tenantId, backendContext );
 		}
 	}
+
+	private static Term idTerm(String id) {
+		return new Term( LuceneFields.idFieldName(), id );
+	}
 }
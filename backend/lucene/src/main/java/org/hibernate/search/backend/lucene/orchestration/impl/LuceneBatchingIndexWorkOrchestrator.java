@@ -0,0 +1,543 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.lucene.index.IndexWriter;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWork;
+import org.hibernate.search.engine.common.spi.ErrorHandler;
+import org.hibernate.search.engine.metrics.spi.Timer;
+import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.impl.Executors;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * An orchestrator executing index works in a dedicated thread,
+ * batching together changesets submitted from different threads.
+ * <p>
+ * More precisely, the submitted changesets are sent to a bounded queue which is drained
+ * by a single background thread.
+ * Each time the queue is drained, all the changesets retrieved from the queue are applied
+ * to the index writer as a single batch, in the order they were submitted.
+ * <p>
+ * This allows submitting threads to return as soon as their changeset is queued,
+ * instead of waiting for other threads to release the index writer.
+ * <p>
+ * Changes are committed according to a {@link LuceneCommitPolicy}:
+ * when committing after each batch, a single commit covers all the changesets of that batch,
+ * and the futures of those changesets are only completed once the commit is done.
+ */
+public class LuceneBatchingIndexWorkOrchestrator implements LuceneIndexWorkOrchestrator {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final String name;
+	private final LuceneIndexWorkExecutionContextImpl context;
+	private final LuceneIndexWork<?> commitWork;
+	private final LuceneCommitPolicy commitPolicy;
+	private final Runnable afterBatchAction;
+	private final ErrorHandler errorHandler;
+	private final int changesetsPerBatch;
+	private final Timer commitTimer;
+
+	private final BlockingQueue<Changeset> changesetQueue;
+	private final List<Changeset> changesetBuffer;
+	private final AtomicBoolean processingScheduled;
+
+	private boolean open = true; // Guarded by shutdownLock
+	private final ReadWriteLock shutdownLock = new ReentrantReadWriteLock();
+
+	private ScheduledExecutorService executor;
+
+	// Accessed from the orchestrator thread only
+	private int uncommittedWorkCount = 0;
+	private ScheduledFuture<?> scheduledCommit;
+
+	private final Phaser phaser = new Phaser() {
+		@Override
+		protected boolean onAdvance(int phase, int registeredParties) {
+			// This phaser never terminates on its own, allowing re-use
+			return false;
+		}
+	};
+
+	/**
+	 * @param name The name of the orchestrator thread (and of this orchestrator when reporting errors)
+	 * @param indexWriter The index writer to execute works against.
+	 * @param commitWork The work to execute in order to commit changes to the index writer.
+	 * @param commitPolicy The policy determining when changes should be committed.
+	 * @param afterBatchAction An action to execute in the orchestrator thread after each batch was applied
+	 * to the index writer (and committed if necessary), before the futures of its changesets are completed.
+	 * @param maxChangesetsPerBatch The maximum number of changesets to
+	 * process in a single batch, which is also the maximum number of changesets
+	 * waiting in the queue. Higher values mean lesser chance of blocking submitting threads,
+	 * but higher heap consumption.
+	 * @param errorHandler An error handler to report failures of the background thread.
+	 * @param commitTimer The timer recording the duration of commits triggered by the commit policy.
+	 */
+	public LuceneBatchingIndexWorkOrchestrator(String name, IndexWriter indexWriter,
+			LuceneIndexWork<?> commitWork, LuceneCommitPolicy commitPolicy, Runnable afterBatchAction,
+			int maxChangesetsPerBatch, ErrorHandler errorHandler, Timer commitTimer) {
+		this.name = name;
+		this.context = new LuceneIndexWorkExecutionContextImpl( indexWriter );
+		this.commitWork = commitWork;
+		this.commitPolicy = commitPolicy;
+		this.afterBatchAction = afterBatchAction;
+		this.errorHandler = errorHandler;
+		this.changesetsPerBatch = maxChangesetsPerBatch;
+		this.commitTimer = commitTimer;
+		// Always enqueue changesets in the exact order they were submitted
+		changesetQueue = new ArrayBlockingQueue<>( maxChangesetsPerBatch, true );
+		changesetBuffer = new ArrayList<>( maxChangesetsPerBatch );
+		processingScheduled = new AtomicBoolean( false );
+	}
+
+	/**
+	 * Start the background thread.
+	 * <p>
+	 * Called by the owner of this orchestrator once after bootstrap,
+	 * before any other method is called.
+	 */
+	public void start() {
+		// Single-threaded, so that batches and periodic commits never execute concurrently
+		executor = Executors.newScheduledThreadPool( name );
+	}
+
+	@Override
+	public <T> CompletableFuture<T> submit(LuceneIndexWork<T> work) {
+		CompletableFuture<T> future = new CompletableFuture<>();
+		submit( new SingleWorkChangeset<>( work, future ) );
+		return future;
+	}
+
+	@Override
+	public CompletableFuture<?> submit(List<LuceneIndexWork<?>> works) {
+		CompletableFuture<Object> future = new CompletableFuture<>();
+		submit( new MultipleWorkChangeset( works, future ) );
+		return future;
+	}
+
+	/**
+	 * @return The number of changesets waiting to be processed.
+	 */
+	public int getQueueDepth() {
+		return changesetQueue.size();
+	}
+
+	/**
+	 * Block until there is no more work to execute.
+	 * <p>
+	 * N.B. if more works are submitted in the meantime, this might delay the wait.
+	 *
+	 * @throws InterruptedException if thread interrupted while waiting
+	 */
+	public void awaitCompletion() throws InterruptedException {
+		int phaseBeforeUnarrivedPartiesCheck = phaser.getPhase();
+		if ( phaser.getUnarrivedParties() > 0 ) {
+			phaser.awaitAdvanceInterruptibly( phaseBeforeUnarrivedPartiesCheck );
+		}
+	}
+
+	@Override
+	public void close() {
+		shutdownLock.writeLock().lock();
+		try {
+			if ( !open ) {
+				return;
+			}
+			open = false;
+			try ( Closer<RuntimeException> closer = new Closer<>() ) {
+				closer.push( LuceneBatchingIndexWorkOrchestrator::awaitCompletionBeforeClose, this );
+				closer.push( LuceneBatchingIndexWorkOrchestrator::commitBeforeClose, this );
+				closer.push( ExecutorService::shutdownNow, executor );
+				//It's possible that a task was successfully scheduled but had no chance to run,
+				//so we need to release waiting threads:
+				closer.push( Phaser::forceTermination, phaser );
+			}
+		}
+		finally {
+			shutdownLock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "name=" ).append( name ).append( ", " )
+				.append( "commitPolicy=" ).append( commitPolicy )
+				.append( "]" )
+				.toString();
+	}
+
+	private void submit(Changeset changeset) {
+		if ( !shutdownLock.readLock().tryLock() ) {
+			// The orchestrator is shutting down: abort.
+			throw log.orchestratorShutDownBeforeSubmittingChangeset( name );
+		}
+		try {
+			if ( !open ) {
+				// The orchestrator has shut down: abort.
+				throw log.orchestratorShutDownBeforeSubmittingChangeset( name );
+			}
+			changesetQueue.put( changeset );
+			ensureProcessingScheduled();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw log.threadInterruptedWhileSubmittingChangeset( name );
+		}
+		finally {
+			shutdownLock.readLock().unlock();
+		}
+	}
+
+	private void ensureProcessingScheduled() {
+		// Set up worker if needed
+		if ( !processingScheduled.get() ) {
+			/*
+			 * Register to the phaser exactly here:
+			 *  * registering after scheduling would mean running the risk
+			 *  of finishing the work processing before we even registered to the phaser,
+			 *  likely resulting in an exception when de-registering from the phaser;
+			 *  * registering after compareAndSet would mean running the risk
+			 *  of another thread calling this method just after we called compareAndSet,
+			 *  then moving on to a call to awaitCompletion() before we had the chance to
+			 *  register to the phaser. This other thread would thus believe that the submitted
+			 *  work was executed while in fact it wasn't.
+			 */
+			phaser.register();
+			try {
+				if ( processingScheduled.compareAndSet( false, true ) ) {
+					try {
+						executor.submit( this::processBatch );
+					}
+					catch (Throwable e) {
+						/*
+						 * Make sure a failure to submit the processing task
+						 * doesn't leave other threads waiting indefinitely
+						 */
+						try {
+							processingScheduled.set( false );
+						}
+						catch (Throwable e2) {
+							e.addSuppressed( e2 );
+						}
+						throw e;
+					}
+				}
+				else {
+					/*
+					 * Corner case: another thread submitted a processing task
+					 * just after we registered the phaser.
+					 * Cancel our own registration.
+					 */
+					phaser.arriveAndDeregister();
+				}
+			}
+			catch (Throwable e) {
+				/*
+				 * Make sure a failure to submit the processing task
+				 * doesn't leave other threads waiting indefinitely
+				 */
+				try {
+					phaser.arriveAndDeregister();
+				}
+				catch (Throwable e2) {
+					e.addSuppressed( e2 );
+				}
+				throw e;
+			}
+		}
+	}
+
+	private void awaitCompletionBeforeClose() {
+		try {
+			awaitCompletion();
+		}
+		catch (InterruptedException e) {
+			log.interruptedWhileWaitingForIndexActivity( name, e );
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Commits the changes that were not committed yet according to the commit policy,
+	 * so that durability on shutdown doesn't depend on the index writer committing on close.
+	 */
+	private void commitBeforeClose() {
+		try {
+			executor.submit( this::processCommitBeforeClose ).get();
+		}
+		catch (InterruptedException e) {
+			log.interruptedWhileWaitingForIndexActivity( name, e );
+			Thread.currentThread().interrupt();
+		}
+		catch (ExecutionException e) {
+			errorHandler.handleException( "Error while committing Lucene works", e.getCause() );
+		}
+	}
+
+	/**
+	 * Takes a batch of changesets from the queue and processes them.
+	 */
+	private void processBatch() {
+		try {
+			changesetBuffer.clear();
+			changesetQueue.drainTo( changesetBuffer, changesetsPerBatch );
+
+			for ( Changeset changeset : changesetBuffer ) {
+				changeset.execute( context );
+				uncommittedWorkCount += changeset.getWorkCount();
+			}
+
+			Throwable commitFailure = null;
+			try {
+				commitAfterBatchIfNecessary();
+			}
+			catch (Throwable e) {
+				commitFailure = e;
+			}
+
+			try {
+				afterBatchAction.run();
+			}
+			catch (Throwable e) {
+				// The changes were applied: do not fail the changesets, just report the failure
+				errorHandler.handleException( "Error while executing actions after applying Lucene works", e );
+			}
+
+			for ( Changeset changeset : changesetBuffer ) {
+				changeset.complete( commitFailure );
+			}
+
+			if ( commitFailure != null ) {
+				throw commitFailure;
+			}
+		}
+		catch (Throwable e) {
+			errorHandler.handleException( "Error while processing Lucene works", e );
+		}
+		finally {
+			changesetBuffer.clear();
+			try {
+				/*
+				 * Allow processing to be scheduled again.
+				 * This won't lead to concurrent processing,
+				 * since there's only one thread in the pool.
+				 */
+				processingScheduled.set( false );
+
+				/*
+				 * Just in case changesets were added to the queue between
+				 * when we drained the queue and the resetting of
+				 * processingScheduled above.
+				 * This must be executed before we arrive at the phaser to ensure that
+				 * threads calling submit(), then awaitCompletion() will not be unblocked
+				 * before we called ensureProcessingScheduled() below.
+				 */
+				if ( !changesetQueue.isEmpty() ) {
+					ensureProcessingScheduled();
+				}
+			}
+			catch (Throwable e) {
+				errorHandler.handleException(
+						"Error while ensuring the next submitted asynchronous Lucene works will be processed",
+						e );
+			}
+			finally {
+				/*
+				 * Regardless of the outcome (exception or not),
+				 * arrive at the phaser after all the works completed.
+				 *
+				 * Also note this must be executed *after* the block above,
+				 * so we are sure we won't arrive at the phaser before ensuring we're not
+				 * in a situation where no processing is scheduled even though
+				 * the queue is not empty.
+				 */
+				phaser.arriveAndDeregister();
+			}
+		}
+	}
+
+	private void commitAfterBatchIfNecessary() {
+		if ( uncommittedWorkCount == 0 ) {
+			return;
+		}
+		switch ( commitPolicy.getName() ) {
+			case TRANSACTION:
+				commit();
+				break;
+			case DOCUMENT_COUNT:
+				if ( uncommittedWorkCount >= commitPolicy.getCommitDocumentCount() ) {
+					commit();
+				}
+				break;
+			case INTERVAL:
+				if ( scheduledCommit == null ) {
+					scheduledCommit = executor.schedule(
+							this::processScheduledCommit, commitPolicy.getCommitInterval(), TimeUnit.MILLISECONDS
+					);
+				}
+				break;
+			case FLUSH:
+				// Changes will be committed by explicit flushes, or when the index writer is closed.
+				break;
+		}
+	}
+
+	private void processScheduledCommit() {
+		scheduledCommit = null;
+		try {
+			commit();
+		}
+		catch (Throwable e) {
+			errorHandler.handleException( "Error while committing Lucene works", e );
+		}
+	}
+
+	private void processCommitBeforeClose() {
+		if ( scheduledCommit != null ) {
+			scheduledCommit.cancel( false );
+			scheduledCommit = null;
+		}
+		if ( uncommittedWorkCount > 0 ) {
+			commit();
+		}
+	}
+
+	private void commit() {
+		uncommittedWorkCount = 0;
+		long startNanos = System.nanoTime();
+		Futures.unwrappedExceptionJoin( commitWork.execute( context ) );
+		commitTimer.recordSince( startNanos );
+	}
+
+	private abstract static class Changeset {
+		private CompletableFuture<?> executionFuture;
+
+		/**
+		 * Apply the works of this changeset to the index writer.
+		 * <p>
+		 * Does not complete the future returned to the submitter:
+		 * this is only done in {@link #complete(Throwable)}, after the changes were committed if necessary.
+		 */
+		final void execute(LuceneIndexWorkExecutionContextImpl context) {
+			executionFuture = Futures.create( () -> doExecute( context ) );
+		}
+
+		final void complete(Throwable commitFailure) {
+			if ( commitFailure != null ) {
+				executionFuture.whenComplete( Futures.handler( (ignored, throwable) -> {
+					if ( throwable != null ) {
+						throwable.addSuppressed( commitFailure );
+						getFuture().completeExceptionally( throwable );
+					}
+					else {
+						getFuture().completeExceptionally( commitFailure );
+					}
+				} ) );
+			}
+			else {
+				copyResult( executionFuture );
+			}
+		}
+
+		abstract int getWorkCount();
+
+		protected abstract CompletableFuture<?> doExecute(LuceneIndexWorkExecutionContextImpl context);
+
+		protected abstract CompletableFuture<?> getFuture();
+
+		protected abstract void copyResult(CompletableFuture<?> executionFuture);
+	}
+
+	private static class MultipleWorkChangeset extends Changeset {
+		private final List<LuceneIndexWork<?>> works;
+		private final CompletableFuture<Object> future;
+
+		MultipleWorkChangeset(List<LuceneIndexWork<?>> works, CompletableFuture<Object> future) {
+			this.works = new ArrayList<>( works );
+			this.future = future;
+		}
+
+		@Override
+		int getWorkCount() {
+			return works.size();
+		}
+
+		@Override
+		protected CompletableFuture<?> doExecute(LuceneIndexWorkExecutionContextImpl context) {
+			CompletableFuture<?> sequenceFuture = CompletableFuture.completedFuture( null );
+			for ( LuceneIndexWork<?> work : works ) {
+				sequenceFuture = sequenceFuture.thenCompose( Futures.safeComposer(
+						ignored -> work.execute( context )
+				) );
+			}
+			return sequenceFuture;
+		}
+
+		@Override
+		protected CompletableFuture<?> getFuture() {
+			return future;
+		}
+
+		@Override
+		protected void copyResult(CompletableFuture<?> executionFuture) {
+			executionFuture.whenComplete( Futures.copyHandler( future ) );
+		}
+	}
+
+	private static class SingleWorkChangeset<T> extends Changeset {
+		private final LuceneIndexWork<T> work;
+		private final CompletableFuture<T> future;
+
+		SingleWorkChangeset(LuceneIndexWork<T> work, CompletableFuture<T> future) {
+			this.work = work;
+			this.future = future;
+		}
+
+		@Override
+		int getWorkCount() {
+			return 1;
+		}
+
+		@Override
+		protected CompletableFuture<?> doExecute(LuceneIndexWorkExecutionContextImpl context) {
+			return work.execute( context );
+		}
+
+		@Override
+		protected CompletableFuture<?> getFuture() {
+			return future;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked") // The execution future is the one returned by doExecute
+		protected void copyResult(CompletableFuture<?> executionFuture) {
+			( (CompletableFuture<T>) executionFuture ).whenComplete( Futures.copyHandler( future ) );
+		}
+	}
+
+}
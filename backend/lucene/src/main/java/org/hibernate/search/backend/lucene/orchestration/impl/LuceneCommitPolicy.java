@@ -0,0 +1,48 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import org.hibernate.search.backend.lucene.cfg.CommitPolicyName;
+
+/**
+ * Determines when {@link LuceneBatchingIndexWorkOrchestrator} commits the changes applied to the index writer.
+ */
+public final class LuceneCommitPolicy {
+
+	private final CommitPolicyName name;
+	private final int commitInterval;
+	private final int commitDocumentCount;
+
+	public LuceneCommitPolicy(CommitPolicyName name, int commitInterval, int commitDocumentCount) {
+		this.name = name;
+		this.commitInterval = commitInterval;
+		this.commitDocumentCount = commitDocumentCount;
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "name=" ).append( name ).append( ", " )
+				.append( "commitInterval=" ).append( commitInterval ).append( ", " )
+				.append( "commitDocumentCount=" ).append( commitDocumentCount )
+				.append( "]" )
+				.toString();
+	}
+
+	CommitPolicyName getName() {
+		return name;
+	}
+
+	int getCommitInterval() {
+		return commitInterval;
+	}
+
+	int getCommitDocumentCount() {
+		return commitDocumentCount;
+	}
+}
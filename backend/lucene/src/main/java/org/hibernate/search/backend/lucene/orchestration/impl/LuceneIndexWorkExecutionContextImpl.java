@@ -12,11 +12,11 @@
 /**
  * @author Guillaume Smet
  */
-public class LuceneStubIndexWorkExecutionContext implements LuceneIndexWorkExecutionContext {
+public class LuceneIndexWorkExecutionContextImpl implements LuceneIndexWorkExecutionContext {
 
 	private final IndexWriter indexWriter;
 
-	public LuceneStubIndexWorkExecutionContext(IndexWriter indexWriter) {
+	public LuceneIndexWorkExecutionContextImpl(IndexWriter indexWriter) {
 		this.indexWriter = indexWriter;
 	}
 
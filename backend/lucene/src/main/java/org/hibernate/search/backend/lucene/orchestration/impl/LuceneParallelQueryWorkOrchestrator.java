@@ -0,0 +1,107 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.work.impl.LuceneQueryWork;
+import org.hibernate.search.engine.metrics.spi.Timer;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.impl.SearchThreadFactory;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * An orchestrator executing query works concurrently in a thread pool.
+ * <p>
+ * Queries are independent from each other, so they are executed in no particular order,
+ * as soon as a thread is available.
+ * Queries submitted while all threads are busy wait in a bounded queue;
+ * when the queue is full, submitting a query fails immediately
+ * instead of blocking the submitting thread,
+ * so that a burst of queries cannot exhaust the resources of the application.
+ */
+public class LuceneParallelQueryWorkOrchestrator implements LuceneQueryWorkOrchestrator {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final String name;
+	private final LuceneStubQueryWorkExecutionContext context;
+	private final ThreadPoolExecutor executor;
+	private final Timer searchTimer;
+
+	/**
+	 * @param name The name of the orchestrator threads (and of this orchestrator when reporting errors)
+	 * @param threadPoolSize The number of threads executing queries.
+	 * @param queueSize The maximum number of queries waiting for a thread.
+	 * @param searchTimer The timer recording the execution time of queries.
+	 */
+	public LuceneParallelQueryWorkOrchestrator(String name, int threadPoolSize, int queueSize, Timer searchTimer) {
+		this.name = name;
+		this.context = new LuceneStubQueryWorkExecutionContext();
+		this.executor = new ThreadPoolExecutor(
+				threadPoolSize, threadPoolSize,
+				0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>( queueSize ),
+				new SearchThreadFactory( name ),
+				new ThreadPoolExecutor.AbortPolicy()
+		);
+		this.searchTimer = searchTimer;
+	}
+
+	@Override
+	public <T> CompletableFuture<T> submit(LuceneQueryWork<T> work) {
+		CompletableFuture<CompletableFuture<T>> executionFuture;
+		try {
+			executionFuture = CompletableFuture.supplyAsync( () -> execute( work ), executor );
+		}
+		catch (RejectedExecutionException e) {
+			if ( executor.isShutdown() ) {
+				throw log.orchestratorShutDownBeforeSubmittingQuery( name, e );
+			}
+			throw log.tooManyPendingQueries( name, executor.getQueue().size(), e );
+		}
+		return executionFuture.thenCompose( Futures.safeComposer( future -> future ) );
+	}
+
+	@Override
+	public void close() {
+		// Let pending queries complete, as they may still be using index readers
+		executor.shutdown();
+		try {
+			executor.awaitTermination( Long.MAX_VALUE, TimeUnit.MILLISECONDS );
+		}
+		catch (InterruptedException e) {
+			log.interruptedWhileWaitingForQueryCompletion( name, e );
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "name=" ).append( name ).append( ", " )
+				.append( "threadPoolSize=" ).append( executor.getMaximumPoolSize() )
+				.append( "]" )
+				.toString();
+	}
+
+	private <T> CompletableFuture<T> execute(LuceneQueryWork<T> work) {
+		long startNanos = System.nanoTime();
+		CompletableFuture<T> future = Futures.create( () -> work.execute( context ) );
+		// Works may complete asynchronously: only record the execution time once the result is available
+		future.whenComplete( (result, throwable) -> searchTimer.recordSince( startNanos ) );
+		return future;
+	}
+}
@@ -6,7 +6,6 @@
  */
 package org.hibernate.search.backend.lucene.orchestration.impl;
 
-import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.work.impl.LuceneQueryWork;
@@ -18,8 +17,6 @@ public interface LuceneQueryWorkOrchestrator extends AutoCloseable {
 
 	<T> CompletableFuture<T> submit(LuceneQueryWork<T> work);
 
-	CompletableFuture<?> submit(List<LuceneQueryWork<?>> work);
-
 	@Override
 	default void close() {
 	}
@@ -0,0 +1,23 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.aggregation.impl;
+
+import org.apache.lucene.search.CollectorManager;
+import org.hibernate.search.engine.search.SearchAggregation;
+
+/**
+ * @param <A> The type of the aggregation result.
+ */
+public interface LuceneSearchAggregation<A> extends SearchAggregation<A> {
+
+	/**
+	 * @return A new collector manager computing the result of this aggregation.
+	 * Called once per query execution.
+	 */
+	CollectorManager<?, A> createCollectorManager();
+
+}
@@ -9,6 +9,8 @@
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 import org.apache.lucene.geo.GeoEncodingUtils;
 import org.apache.lucene.index.DocValues;
@@ -16,6 +18,7 @@
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.SortedNumericDocValues;
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
 import org.apache.lucene.search.LeafCollector;
 import org.apache.lucene.search.Scorable;
 import org.apache.lucene.search.ScoreMode;
@@ -26,12 +29,15 @@
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 /**
- * A Lucene distance {@code Collector} for spatial searches.
+ * A Lucene distance collector for spatial searches.
+ * <p>
+ * Implemented as a {@link CollectorManager} so that leaf slices can be searched concurrently:
+ * each slice is collected separately, and distances are gathered when slices are reduced.
  *
  * @author Sanne Grinovero
  * @author Nicolas Helleringer
  */
-public class DistanceCollector implements Collector {
+public class DistanceCollector implements CollectorManager<DistanceCollector.SliceCollector, Void> {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -50,13 +56,17 @@ public Double getDistance(final int index) {
 	}
 
 	@Override
-	public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
-		return new DistanceLeafCollector( context );
+	public SliceCollector newCollector() {
+		return new SliceCollector();
 	}
 
 	@Override
-	public ScoreMode scoreMode() {
-		return ScoreMode.COMPLETE_NO_SCORES;
+	public Void reduce(Collection<SliceCollector> collectors) {
+		// Slices are ordered by doc base, so hits end up in the same order as with a single collector
+		for ( SliceCollector collector : collectors ) {
+			distances.orderedEntries.addAll( collector.entries );
+		}
+		return null;
 	}
 
 	/**
@@ -148,12 +158,19 @@ public Double get(int index, GeoPoint center) {
 			throw log.documentIdNotCollected( index );
 		}
 
-		void put(int documentId, double latitude, double longitude) {
-			orderedEntries.add( new CompleteHitEntry( documentId, latitude, longitude ) );
+	}
+
+	final class SliceCollector implements Collector {
+		private final List<HitEntry> entries = new ArrayList<>();
+
+		@Override
+		public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+			return new DistanceLeafCollector( context, entries );
 		}
 
-		void putIncomplete(int documentId) {
-			orderedEntries.add( new IncompleteHitEntry( documentId ) );
+		@Override
+		public ScoreMode scoreMode() {
+			return ScoreMode.COMPLETE_NO_SCORES;
 		}
 	}
 
@@ -161,11 +178,13 @@ private class DistanceLeafCollector implements LeafCollector {
 
 		private final int docBase;
 		private final SortedNumericDocValues geoPointValues;
+		private final List<HitEntry> entries;
 
-		DistanceLeafCollector(LeafReaderContext context) throws IOException {
+		DistanceLeafCollector(LeafReaderContext context, List<HitEntry> entries) throws IOException {
 			final LeafReader atomicReader = context.reader();
 			this.geoPointValues = DocValues.getSortedNumeric( atomicReader, absoluteFieldPath );
 			this.docBase = context.docBase;
+			this.entries = entries;
 		}
 
 		@Override
@@ -180,10 +199,10 @@ public void collect(int doc) throws IOException {
 				long encodedValue = geoPointValues.nextValue();
 				double latitude = GeoEncodingUtils.decodeLatitude( (int) ( encodedValue >> 32 ) );
 				double longitude = GeoEncodingUtils.decodeLongitude( (int) encodedValue );
-				distances.put( absolute, latitude, longitude );
+				entries.add( new CompleteHitEntry( absolute, latitude, longitude ) );
 			}
 			else {
-				distances.putIncomplete( absolute );
+				entries.add( new IncompleteHitEntry( absolute ) );
 			}
 		}
 	}
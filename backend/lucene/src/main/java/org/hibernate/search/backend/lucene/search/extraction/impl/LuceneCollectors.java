@@ -7,49 +7,109 @@
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
 import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MultiCollectorManager;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.TopDocs;
-import org.apache.lucene.search.TopDocsCollector;
 import org.apache.lucene.search.TopFieldCollector;
-import org.apache.lucene.search.TotalHitCountCollector;
+import org.apache.lucene.search.TotalHits;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 
 public class LuceneCollectors {
 
-	private final TopDocsCollector<?> topDocsCollector;
+	/*
+	 * Lucene allocates top docs structures of the requested size before collecting a single hit,
+	 * so we never request as many hits as there are documents in the index.
+	 * Instead, the first pass collects at most this many top docs,
+	 * and if the query needs more, we collect them in subsequent "search after" passes,
+	 * once we know how many hits there actually are.
+	 * The values are mostly guesswork.
+	 */
+	static final int INITIAL_TOP_DOCS_SIZE = 1_000;
+	private static final int MAX_SKIPPED_TOP_DOCS_PER_PASS = 10_000;
 
-	private final TotalHitCountCollector totalHitCountCollector;
+	private final Sort sort;
+	private final int maxDocs;
+	private final int topDocsSize;
 
-	private final Collector compositeCollector;
+	/*
+	 * Using collector managers allows the index searcher to search leaf slices concurrently
+	 * when it was given an executor, and is equivalent to using collectors otherwise.
+	 */
+	private final MultiCollectorManager compositeCollectorManager;
+	private final Integer topDocsResultIndex;
+	private final Map<AggregationKey<?>, Integer> aggregationResultIndexes;
 
 	private final boolean requireFieldDocRescoring;
 	private final Integer scoreSortFieldIndexForRescoring;
 
+	private final LuceneSearchTimeout timeout;
+
+	private LuceneSearchTimeout.Deadline deadline;
+	private long totalHits;
 	private TopDocs topDocs = null;
+	private Map<AggregationKey<?>, Object> aggregationResults = Collections.emptyMap();
 
-	LuceneCollectors(TopDocsCollector<?> topDocsCollector, TotalHitCountCollector totalHitCountCollector,
-			Collector compositeCollector,
-			boolean requireFieldDocRescoring, Integer scoreSortFieldIndexForRescoring) {
-		this.topDocsCollector = topDocsCollector;
-		this.totalHitCountCollector = totalHitCountCollector;
-		this.compositeCollector = compositeCollector;
+	LuceneCollectors(Sort sort, int maxDocs, int topDocsSize,
+			MultiCollectorManager compositeCollectorManager, Integer topDocsResultIndex,
+			Map<AggregationKey<?>, Integer> aggregationResultIndexes,
+			boolean requireFieldDocRescoring, Integer scoreSortFieldIndexForRescoring,
+			LuceneSearchTimeout timeout) {
+		this.sort = sort;
+		this.maxDocs = maxDocs;
+		this.topDocsSize = topDocsSize;
+		this.compositeCollectorManager = compositeCollectorManager;
+		this.topDocsResultIndex = topDocsResultIndex;
+		this.aggregationResultIndexes = aggregationResultIndexes;
 		this.requireFieldDocRescoring = requireFieldDocRescoring;
 		this.scoreSortFieldIndexForRescoring = scoreSortFieldIndexForRescoring;
+		this.timeout = timeout;
 	}
 
 	public void collect(IndexSearcher indexSearcher, Query luceneQuery, long offset, Long limit) throws IOException {
-		indexSearcher.search( luceneQuery, compositeCollector );
+		deadline = timeout == null ? null : timeout.start();
+
+		Object[] results = search( indexSearcher, luceneQuery, compositeCollectorManager );
+		totalHits = (Long) results[0];
+
+		if ( isTimedOut() && timeout.isExceptionOnTimeout() ) {
+			// The query will fail anyway: don't bother collecting more
+			topDocs = null;
+			return;
+		}
 
-		if ( topDocsCollector != null ) {
-			if ( limit == null ) {
-				topDocs = topDocsCollector.topDocs( (int) offset );
+		if ( !aggregationResultIndexes.isEmpty() ) {
+			aggregationResults = new LinkedHashMap<>();
+			for ( Map.Entry<AggregationKey<?>, Integer> entry : aggregationResultIndexes.entrySet() ) {
+				aggregationResults.put( entry.getKey(), results[entry.getValue()] );
+			}
+		}
+
+		if ( topDocsResultIndex != null ) {
+			ScoreDoc[] firstPassScoreDocs = ( (TopDocs) results[topDocsResultIndex] ).scoreDocs;
+			int hitsToCollect = (int) Math.min( totalHits, maxDocs );
+			if ( hitsToCollect <= topDocsSize || hitsToCollect <= offset ) {
+				// The first pass collected every top doc we need, if any
+				// maxDocs is already bounded by offset + limit, and the offset may exceed the range of integers
+				int start = (int) Math.min( offset, firstPassScoreDocs.length );
+				int end = Math.min( firstPassScoreDocs.length, maxDocs );
+				topDocs = toTopDocs( subList( firstPassScoreDocs, start, end ) );
 			}
 			else {
-				topDocs = topDocsCollector.topDocs( (int) offset, limit.intValue() );
+				topDocs = collectRemainingTopDocs( indexSearcher, luceneQuery, firstPassScoreDocs,
+						(int) offset, hitsToCollect );
 			}
 
 			if ( requireFieldDocRescoring ) {
@@ -72,11 +132,97 @@ public void collect(IndexSearcher indexSearcher, Query luceneQuery, long offset,
 		}
 	}
 
+	private TopDocs collectRemainingTopDocs(IndexSearcher indexSearcher, Query luceneQuery,
+			ScoreDoc[] firstPassScoreDocs, int offset, int hitsToCollect) throws IOException {
+		int position = firstPassScoreDocs.length;
+
+		List<ScoreDoc> scoreDocs = new ArrayList<>( hitsToCollect - offset );
+		scoreDocs.addAll( subList( firstPassScoreDocs, offset, Math.min( position, hitsToCollect ) ) );
+
+		if ( position < topDocsSize ) {
+			/*
+			 * There are fewer top docs than the total hit count suggests,
+			 * which happens when collecting top docs after a given top doc:
+			 * the first pass already collected all of them.
+			 */
+			return toTopDocs( scoreDocs );
+		}
+
+		ScoreDoc after = firstPassScoreDocs[position - 1];
+
+		// Skip the hits before the offset in bounded passes, only remembering the last one
+		while ( position < offset && !isTimedOut() ) {
+			int pageSize = Math.min( offset - position, MAX_SKIPPED_TOP_DOCS_PER_PASS );
+			ScoreDoc[] page = searchAfter( indexSearcher, luceneQuery, after, pageSize );
+			if ( page.length == 0 ) {
+				break;
+			}
+			after = page[page.length - 1];
+			position += page.length;
+		}
+
+		// Collect the hits we will actually return: memory usage is proportional to the number of hits
+		if ( position >= offset && position < hitsToCollect && !isTimedOut() ) {
+			ScoreDoc[] page = searchAfter( indexSearcher, luceneQuery, after, hitsToCollect - position );
+			scoreDocs.addAll( Arrays.asList( page ) );
+		}
+
+		return toTopDocs( scoreDocs );
+	}
+
+	private TopDocs toTopDocs(List<ScoreDoc> scoreDocs) {
+		return new TopDocs(
+				new TotalHits(
+						getTotalHits(),
+						isTimedOut() ? TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO : TotalHits.Relation.EQUAL_TO
+				),
+				scoreDocs.toArray( new ScoreDoc[0] )
+		);
+	}
+
+	private ScoreDoc[] searchAfter(IndexSearcher indexSearcher, Query luceneQuery, ScoreDoc after, int numHits)
+			throws IOException {
+		TopDocsCollectorManager collectorManager = new TopDocsCollectorManager( sort, numHits, after );
+		return search( indexSearcher, luceneQuery, collectorManager ).scoreDocs;
+	}
+
+	private <C extends Collector, T> T search(IndexSearcher indexSearcher, Query luceneQuery,
+			CollectorManager<C, T> collectorManager) throws IOException {
+		if ( deadline == null ) {
+			return indexSearcher.search( luceneQuery, collectorManager );
+		}
+		else {
+			return indexSearcher.search( luceneQuery, new TimeLimitingCollectorManager<>( collectorManager, deadline ) );
+		}
+	}
+
+	private static List<ScoreDoc> subList(ScoreDoc[] scoreDocs, int fromInclusive, int toExclusive) {
+		if ( fromInclusive >= toExclusive ) {
+			return Collections.emptyList();
+		}
+		return Arrays.asList( scoreDocs ).subList( fromInclusive, toExclusive );
+	}
+
 	public long getTotalHits() {
-		return totalHitCountCollector.getTotalHits();
+		return totalHits;
 	}
 
 	public TopDocs getTopDocs() {
 		return topDocs;
 	}
+
+	/**
+	 * @return The result of each aggregation, by key.
+	 */
+	public Map<AggregationKey<?>, Object> getAggregationResults() {
+		return aggregationResults;
+	}
+
+	/**
+	 * @return {@code true} if the query exceeded its timeout,
+	 * in which case the total hit count and top docs may be incomplete.
+	 */
+	public boolean isTimedOut() {
+		return deadline != null && deadline.isExceeded();
+	}
 }
@@ -7,38 +7,51 @@
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.spatial.GeoPoint;
 
-import org.apache.lucene.search.Collector;
-import org.apache.lucene.search.MultiCollector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.MultiCollectorManager;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
-import org.apache.lucene.search.TopDocsCollector;
-import org.apache.lucene.search.TopFieldCollector;
-import org.apache.lucene.search.TopScoreDocCollector;
-import org.apache.lucene.search.TotalHitCountCollector;
 
 public class LuceneCollectorsBuilder {
 
 	private final Sort sort;
+	private final ScoreDoc after;
+	private final LuceneSearchTimeout timeout;
 
 	private final int maxDocs;
-
-	private final TotalHitCountCollector totalHitCountCollector;
+	private final int topDocsSize;
 
 	private boolean requireTopDocs;
 	private boolean requireScore;
 
-	private final List<Collector> luceneCollectors = new ArrayList<>();
-
-	public LuceneCollectorsBuilder(Sort sort, int maxDocs) {
+	private final List<CollectorManager<?, ?>> collectorManagers = new ArrayList<>();
+	private final Map<AggregationKey<?>, Integer> aggregationResultIndexes = new LinkedHashMap<>();
+
+	/**
+	 * @param sort The sort to apply to top docs, or {@code null} to sort by score.
+	 * @param after The last top doc returned by a previous execution of the same query,
+	 * to only collect top docs after that one, or {@code null} to collect top docs from the start.
+	 * @param maxDocs The maximum number of top docs the query may need, including those skipped because of the offset.
+	 * @param timeout The timeout of the query, or {@code null} if there is none.
+	 */
+	public LuceneCollectorsBuilder(Sort sort, ScoreDoc after, int maxDocs, LuceneSearchTimeout timeout) {
 		this.sort = sort;
+		this.after = after;
+		this.timeout = timeout;
 		this.maxDocs = maxDocs;
+		// Lucene pre-allocates top docs structures, so only ask for a bounded number of hits in the first pass.
+		this.topDocsSize = Math.min( maxDocs, LuceneCollectors.INITIAL_TOP_DOCS_SIZE );
 
-		this.totalHitCountCollector = new TotalHitCountCollector();
-		this.luceneCollectors.add( this.totalHitCountCollector );
+		// The total hit count is always the first result, see LuceneCollectors
+		this.collectorManagers.add( TotalHitCountCollectorManager.INSTANCE );
 	}
 
 	public void requireScore() {
@@ -51,66 +64,51 @@ public void requireTopDocsCollector() {
 	}
 
 	public DistanceCollector addDistanceCollector(String absoluteFieldPath, GeoPoint center) {
-		DistanceCollector distanceCollector = new DistanceCollector( absoluteFieldPath, center, maxDocs );
-		luceneCollectors.add( distanceCollector );
+		DistanceCollector distanceCollector = new DistanceCollector( absoluteFieldPath, center, topDocsSize );
+		collectorManagers.add( distanceCollector );
 		return distanceCollector;
 	}
 
+	public void addAggregationCollector(AggregationKey<?> key, CollectorManager<?, ?> collectorManager) {
+		aggregationResultIndexes.put( key, collectorManagers.size() );
+		collectorManagers.add( collectorManager );
+	}
+
 	public LuceneCollectors build() {
-		TopDocsCollector<?> topDocsCollector = null;
+		Integer topDocsResultIndex = null;
 		Integer scoreSortFieldIndexForRescoring = null;
 		boolean requireFieldDocRescoring = false;
 
 		if ( requireTopDocs && maxDocs > 0 ) {
-			if ( sort == null ) {
-				topDocsCollector = TopScoreDocCollector.create(
-						maxDocs,
-						// TODO HSEARCH-3517 Avoid tracking the total hit count when possible
-						// Note this will also require to change how we combine collectors,
-						// as MultiCollector explicitly ignores the total hit count optimization
-						Integer.MAX_VALUE
-				);
-			}
-			else {
-				if ( requireScore ) {
-					// Since https://issues.apache.org/jira/browse/LUCENE-8412 (Lucene 8.0.0),
-					// TopFieldCollector returns TopDocs whose ScoreDocs do not contain a score...
-					// Thus we will have to set the scores ourselves.
-					requireFieldDocRescoring = true;
-
-					// If there's a SCORE sort field, make sure we remember that, so that later we can optimize rescoring
-					SortField[] sortFields = sort.getSort();
-					for ( int i = 0; i < sortFields.length; i++ ) {
-						SortField sortField = sortFields[i];
-						if ( sortField.getType() == SortField.Type.SCORE ) {
-							scoreSortFieldIndexForRescoring = i;
-							break;
-						}
+			if ( sort != null && requireScore ) {
+				// Since https://issues.apache.org/jira/browse/LUCENE-8412 (Lucene 8.0.0),
+				// TopFieldCollector returns TopDocs whose ScoreDocs do not contain a score...
+				// Thus we will have to set the scores ourselves.
+				requireFieldDocRescoring = true;
+
+				// If there's a SCORE sort field, make sure we remember that, so that later we can optimize rescoring
+				SortField[] sortFields = sort.getSort();
+				for ( int i = 0; i < sortFields.length; i++ ) {
+					SortField sortField = sortFields[i];
+					if ( sortField.getType() == SortField.Type.SCORE ) {
+						scoreSortFieldIndexForRescoring = i;
+						break;
 					}
 				}
-				topDocsCollector = TopFieldCollector.create(
-						sort,
-						maxDocs,
-						// TODO HSEARCH-3517 Avoid tracking the total hit count when possible
-						// Note this will also require to change how we combine collectors,
-						// as MultiCollector explicitly ignores the total hit count optimization
-						Integer.MAX_VALUE
-				);
 			}
-			luceneCollectors.add( topDocsCollector );
+			topDocsResultIndex = collectorManagers.size();
+			collectorManagers.add( new TopDocsCollectorManager( sort, topDocsSize, after ) );
 		}
 
-		Collector compositeCollector;
-		if ( luceneCollectors.size() == 1 ) {
-			compositeCollector = luceneCollectors.get( 0 );
-		}
-		else {
-			compositeCollector = MultiCollector.wrap( luceneCollectors );
-		}
+		MultiCollectorManager compositeCollectorManager = new MultiCollectorManager(
+				collectorManagers.toArray( new CollectorManager<?, ?>[0] )
+		);
 
 		return new LuceneCollectors(
-				topDocsCollector, totalHitCountCollector, compositeCollector,
-				requireFieldDocRescoring, scoreSortFieldIndexForRescoring
+				sort, maxDocs, topDocsSize,
+				compositeCollectorManager, topDocsResultIndex, aggregationResultIndexes,
+				requireFieldDocRescoring, scoreSortFieldIndexForRescoring,
+				timeout
 		);
 	}
 }
@@ -0,0 +1,102 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.lucene.search.TimeLimitingCollector;
+import org.apache.lucene.util.Counter;
+
+/**
+ * The timeout of a search query, and whether exceeding it should fail the query or truncate its results.
+ */
+public final class LuceneSearchTimeout {
+
+	private final long timeout;
+	private final TimeUnit timeUnit;
+	private final boolean exceptionOnTimeout;
+
+	public LuceneSearchTimeout(long timeout, TimeUnit timeUnit, boolean exceptionOnTimeout) {
+		this.timeout = timeout;
+		this.timeUnit = timeUnit;
+		this.exceptionOnTimeout = exceptionOnTimeout;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "timeout=" + timeout
+				+ ", timeUnit=" + timeUnit
+				+ ", exceptionOnTimeout=" + exceptionOnTimeout
+				+ "]";
+	}
+
+	public long getTimeout() {
+		return timeout;
+	}
+
+	public TimeUnit getTimeUnit() {
+		return timeUnit;
+	}
+
+	public boolean isExceptionOnTimeout() {
+		return exceptionOnTimeout;
+	}
+
+	Deadline start() {
+		return start( TimeLimitingCollector.getGlobalCounter() );
+	}
+
+	Deadline start(Counter clock) {
+		long timeoutMillis = timeUnit.toMillis( timeout );
+		if ( timeUnit.convert( timeoutMillis, TimeUnit.MILLISECONDS ) < timeout ) {
+			// Round up, so that sub-millisecond timeouts are not truncated to 0 and exceeded immediately
+			++timeoutMillis;
+		}
+		return new Deadline( clock, timeoutMillis );
+	}
+
+	/**
+	 * A deadline for the execution of a query, shared by all the threads collecting hits for that query.
+	 * <p>
+	 * Relies on the same coarse-grained clock as Lucene's {@link TimeLimitingCollector},
+	 * which is much cheaper to read than {@link System#nanoTime()} for every collected document,
+	 * but is only updated every few milliseconds.
+	 */
+	static final class Deadline {
+
+		private final Counter clock;
+		private final long startMillis;
+		private final long timeoutMillis;
+
+		private volatile boolean exceeded;
+
+		private Deadline(Counter clock, long timeoutMillis) {
+			this.clock = clock;
+			this.startMillis = clock.get();
+			this.timeoutMillis = timeoutMillis;
+		}
+
+		/**
+		 * @return {@code true} if the deadline was exceeded, {@code false} otherwise.
+		 */
+		boolean check() {
+			if ( !exceeded && clock.get() - startMillis >= timeoutMillis ) {
+				exceeded = true;
+			}
+			return exceeded;
+		}
+
+		/**
+		 * @return {@code true} if the deadline was found to be exceeded during a previous {@link #check()},
+		 * {@code false} otherwise.
+		 */
+		boolean isExceeded() {
+			return exceeded;
+		}
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.FilterLeafCollector;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.ScoreMode;
+
+/**
+ * Wraps a collector manager so that collection stops once a deadline is exceeded.
+ * <p>
+ * Contrary to Lucene's {@link org.apache.lucene.search.TimeLimitingCollector},
+ * which aborts the search with an exception,
+ * exceeding the deadline only terminates collection for the remaining documents,
+ * so that the wrapped collectors can still be reduced to partial results.
+ *
+ * @param <C> The type of wrapped collectors.
+ * @param <T> The type of results.
+ */
+final class TimeLimitingCollectorManager<C extends Collector, T>
+		implements CollectorManager<TimeLimitingCollectorManager.TimeLimitingCollector<C>, T> {
+
+	private final CollectorManager<C, T> delegate;
+	private final LuceneSearchTimeout.Deadline deadline;
+
+	TimeLimitingCollectorManager(CollectorManager<C, T> delegate, LuceneSearchTimeout.Deadline deadline) {
+		this.delegate = delegate;
+		this.deadline = deadline;
+	}
+
+	@Override
+	public TimeLimitingCollector<C> newCollector() throws IOException {
+		return new TimeLimitingCollector<>( delegate.newCollector(), deadline );
+	}
+
+	@Override
+	public T reduce(Collection<TimeLimitingCollector<C>> collectors) throws IOException {
+		List<C> delegates = new ArrayList<>( collectors.size() );
+		for ( TimeLimitingCollector<C> collector : collectors ) {
+			delegates.add( collector.delegate );
+		}
+		return delegate.reduce( delegates );
+	}
+
+	static final class TimeLimitingCollector<C extends Collector> implements Collector {
+
+		private final C delegate;
+		private final LuceneSearchTimeout.Deadline deadline;
+
+		private TimeLimitingCollector(C delegate, LuceneSearchTimeout.Deadline deadline) {
+			this.delegate = delegate;
+			this.deadline = deadline;
+		}
+
+		@Override
+		public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+			if ( deadline.check() ) {
+				// Skip this segment; IndexSearcher will move on to the next one, which will be skipped too
+				throw new CollectionTerminatedException();
+			}
+			return new FilterLeafCollector( delegate.getLeafCollector( context ) ) {
+				@Override
+				public void collect(int doc) throws IOException {
+					if ( deadline.check() ) {
+						throw new CollectionTerminatedException();
+					}
+					super.collect( doc );
+				}
+			};
+		}
+
+		@Override
+		public ScoreMode scoreMode() {
+			return delegate.scoreMode();
+		}
+	}
+}
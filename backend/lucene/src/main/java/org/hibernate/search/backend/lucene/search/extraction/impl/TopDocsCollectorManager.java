@@ -0,0 +1,88 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import java.util.Collection;
+
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopDocsCollector;
+import org.apache.lucene.search.TopFieldCollector;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.TopScoreDocCollector;
+
+/**
+ * Creates one top docs collector per leaf slice and merges their top docs.
+ */
+final class TopDocsCollectorManager implements CollectorManager<TopDocsCollector<?>, TopDocs> {
+
+	private final Sort sort;
+	private final int numHits;
+	private final ScoreDoc after;
+
+	/**
+	 * @param sort The sort to apply to top docs, or {@code null} to sort by score.
+	 * @param numHits The number of top docs to collect.
+	 * @param after The top doc after which top docs should be collected, or {@code null}.
+	 */
+	TopDocsCollectorManager(Sort sort, int numHits, ScoreDoc after) {
+		this.sort = sort;
+		this.numHits = numHits;
+		this.after = after;
+	}
+
+	@Override
+	public TopDocsCollector<?> newCollector() {
+		if ( sort == null ) {
+			return TopScoreDocCollector.create(
+					numHits,
+					after,
+					// TODO HSEARCH-3517 Avoid tracking the total hit count when possible
+					// Note this will also require to change how we combine collectors,
+					// as MultiCollectorManager explicitly ignores the total hit count optimization
+					Integer.MAX_VALUE
+			);
+		}
+		else {
+			return TopFieldCollector.create(
+					sort,
+					numHits,
+					(FieldDoc) after,
+					// TODO HSEARCH-3517 Avoid tracking the total hit count when possible
+					// Note this will also require to change how we combine collectors,
+					// as MultiCollectorManager explicitly ignores the total hit count optimization
+					Integer.MAX_VALUE
+			);
+		}
+	}
+
+	@Override
+	public TopDocs reduce(Collection<TopDocsCollector<?>> collectors) {
+		if ( collectors.size() == 1 ) {
+			return collectors.iterator().next().topDocs();
+		}
+
+		int i = 0;
+		if ( sort == null ) {
+			TopDocs[] topDocsPerSlice = new TopDocs[collectors.size()];
+			for ( TopDocsCollector<?> collector : collectors ) {
+				topDocsPerSlice[i++] = collector.topDocs();
+			}
+			return TopDocs.merge( 0, numHits, topDocsPerSlice, true );
+		}
+		else {
+			TopFieldDocs[] topDocsPerSlice = new TopFieldDocs[collectors.size()];
+			for ( TopDocsCollector<?> collector : collectors ) {
+				topDocsPerSlice[i++] = (TopFieldDocs) collector.topDocs();
+			}
+			return TopDocs.merge( sort, 0, numHits, topDocsPerSlice, true );
+		}
+	}
+}
@@ -0,0 +1,37 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import java.util.Collection;
+
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.TotalHitCountCollector;
+
+/**
+ * Creates one {@link TotalHitCountCollector} per leaf slice and sums their hit counts.
+ */
+final class TotalHitCountCollectorManager implements CollectorManager<TotalHitCountCollector, Long> {
+
+	static final TotalHitCountCollectorManager INSTANCE = new TotalHitCountCollectorManager();
+
+	private TotalHitCountCollectorManager() {
+	}
+
+	@Override
+	public TotalHitCountCollector newCollector() {
+		return new TotalHitCountCollector();
+	}
+
+	@Override
+	public Long reduce(Collection<TotalHitCountCollector> collectors) {
+		long totalHits = 0L;
+		for ( TotalHitCountCollector collector : collectors ) {
+			totalHits += collector.getTotalHits();
+		}
+		return totalHits;
+	}
+}
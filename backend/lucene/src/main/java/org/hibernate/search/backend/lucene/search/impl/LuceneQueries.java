@@ -34,10 +34,6 @@ public static Query nestedDocumentPathQuery(String absoluteFieldPath) {
 		return new TermQuery( new Term( LuceneFields.nestedDocumentPathFieldName(), absoluteFieldPath ) );
 	}
 
-	public static Query discriminatorMultiTenancyDeleteDocumentQuery(String tenantId, String id) {
-		return wrapWithDiscriminatorTenantIdQuery( new TermQuery( new Term( LuceneFields.idFieldName(), id ) ), tenantId );
-	}
-
 	public static Query discriminatorMultiTenancyDeleteAllDocumentsQuery(String tenantId) {
 		return new BooleanQuery.Builder().add( new TermQuery( new Term( LuceneFields.tenantIdFieldName(), tenantId ) ), Occur.FILTER ).build();
 	}
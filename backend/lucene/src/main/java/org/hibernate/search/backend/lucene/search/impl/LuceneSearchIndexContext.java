@@ -0,0 +1,27 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.impl;
+
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
+import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+
+/**
+ * An index targeted by a search query.
+ */
+public interface LuceneSearchIndexContext {
+
+	LuceneIndexModel getModel();
+
+	/**
+	 * @param routingKeys The routing keys of the query, or an empty set if the query does not define routing keys.
+	 * @return The reader providers of the shards the query must target.
+	 */
+	Set<ReaderProvider> getReaderProviders(Set<String> routingKeys);
+
+}
@@ -8,22 +8,28 @@
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregationCollector;
 import org.hibernate.search.backend.lucene.search.predicate.impl.LuceneSearchPredicateCollector;
 import org.hibernate.search.backend.lucene.search.sort.impl.LuceneSearchSortCollector;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 
 /**
  * @author Guillaume Smet
  */
 public class LuceneSearchQueryElementCollector
-		implements LuceneSearchPredicateCollector, LuceneSearchSortCollector {
+		implements LuceneSearchPredicateCollector, LuceneSearchSortCollector, LuceneSearchAggregationCollector {
 
 	private Query luceneQueryPredicate;
 	private List<SortField> sortFields;
+	private Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations;
 
 	@Override
 	public void collectPredicate(Query luceneQuery) {
@@ -50,6 +56,14 @@ public void collectSortFields(SortField[] sortFields) {
 		Collections.addAll( this.sortFields, sortFields );
 	}
 
+	@Override
+	public <A> void collectAggregation(AggregationKey<A> key, LuceneSearchAggregation<A> aggregation) {
+		if ( aggregations == null ) {
+			aggregations = new LinkedHashMap<>();
+		}
+		aggregations.put( key, aggregation );
+	}
+
 	public Query toLuceneQueryPredicate() {
 		return luceneQueryPredicate;
 	}
@@ -61,4 +75,8 @@ public Sort toLuceneSort() {
 
 		return new Sort( sortFields.toArray( new SortField[0] ) );
 	}
+
+	public Map<AggregationKey<?>, LuceneSearchAggregation<?>> getAggregations() {
+		return aggregations == null ? Collections.emptyMap() : aggregations;
+	}
 }
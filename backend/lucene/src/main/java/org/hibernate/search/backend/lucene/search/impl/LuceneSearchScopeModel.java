@@ -8,6 +8,7 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -28,14 +29,17 @@ public class LuceneSearchScopeModel {
 
 	private final Set<LuceneIndexModel> indexModels;
 	private final Set<String> indexNames;
-	private final Set<ReaderProvider> readerProviders;
-
-	public LuceneSearchScopeModel(Set<LuceneIndexModel> indexModels, Set<ReaderProvider> readerProviders) {
-		this.indexModels = indexModels;
+	private final Set<? extends LuceneSearchIndexContext> indexes;
+
+	public LuceneSearchScopeModel(Set<? extends LuceneSearchIndexContext> indexes) {
+		this.indexes = indexes;
+		// Use LinkedHashSet to ensure stable order when generating requests
+		this.indexModels = indexes.stream()
+				.map( LuceneSearchIndexContext::getModel )
+				.collect( Collectors.toCollection( LinkedHashSet::new ) );
 		this.indexNames = indexModels.stream()
 				.map( LuceneIndexModel::getIndexName )
 				.collect( Collectors.toSet() );
-		this.readerProviders = readerProviders;
 	}
 
 	public Set<String> getIndexNames() {
@@ -46,7 +50,16 @@ public EventContext getIndexesEventContext() {
 		return EventContexts.fromIndexNames( indexNames );
 	}
 
-	public Set<ReaderProvider> getReaderProviders() {
+	/**
+	 * @param routingKeys The routing keys of the query, or an empty set if the query does not define routing keys.
+	 * @return The reader providers of the shards the query must target, in all indexes of this scope.
+	 */
+	public Set<ReaderProvider> getReaderProviders(Set<String> routingKeys) {
+		// Use LinkedHashSet to ensure stable order when generating requests
+		Set<ReaderProvider> readerProviders = new LinkedHashSet<>();
+		for ( LuceneSearchIndexContext index : indexes ) {
+			readerProviders.addAll( index.getReaderProviders( routingKeys ) );
+		}
 		return readerProviders;
 	}
 
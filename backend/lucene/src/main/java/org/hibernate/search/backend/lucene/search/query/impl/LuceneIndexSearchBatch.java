@@ -0,0 +1,115 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneQueryWorkOrchestrator;
+import org.hibernate.search.backend.lucene.search.reader.impl.IndexReaderSnapshot;
+import org.hibernate.search.engine.search.query.spi.IndexSearchBatch;
+import org.hibernate.search.engine.search.query.spi.IndexSearchQuery;
+import org.hibernate.search.engine.search.query.spi.LoadableIndexSearchResult;
+
+/**
+ * A batch executing all its queries against the same snapshot of the indexes,
+ * opening the reader of each index only once.
+ * <p>
+ * Each query is submitted as a separate work to the query orchestrator,
+ * so queries may execute concurrently if the orchestrator allows it.
+ * Unlike standalone queries, which only open index readers when they start executing,
+ * queries of a batch hold their readers while waiting for a thread,
+ * since all queries must see the same state of the indexes.
+ */
+class LuceneIndexSearchBatch implements IndexSearchBatch {
+
+	private final LuceneQueryWorkOrchestrator queryOrchestrator;
+
+	private final List<Element<?>> elements = new ArrayList<>();
+
+	LuceneIndexSearchBatch(LuceneQueryWorkOrchestrator queryOrchestrator) {
+		this.queryOrchestrator = queryOrchestrator;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[elements=" + elements + "]";
+	}
+
+	@Override
+	public boolean add(IndexSearchQuery<?> query, Long limit, Long offset) {
+		if ( !( query instanceof LuceneIndexSearchQuery ) ) {
+			return false;
+		}
+		LuceneIndexSearchQuery<?> luceneQuery = (LuceneIndexSearchQuery<?>) query;
+		if ( !luceneQuery.isExecutedBy( queryOrchestrator ) ) {
+			// The query targets another backend
+			return false;
+		}
+		elements.add( new Element<>( luceneQuery, limit, offset ) );
+		return true;
+	}
+
+	@Override
+	public CompletionStage<List<LoadableIndexSearchResult<?>>> execute() {
+		if ( elements.isEmpty() ) {
+			return CompletableFuture.completedFuture( Collections.emptyList() );
+		}
+		submitAll();
+		List<CompletableFuture<? extends LoadableIndexSearchResult<?>>> futures = new ArrayList<>( elements.size() );
+		for ( Element<?> element : elements ) {
+			futures.add( element.getFuture() );
+		}
+		return CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) )
+				.thenApply( ignored -> {
+					List<LoadableIndexSearchResult<?>> results = new ArrayList<>( futures.size() );
+					for ( CompletableFuture<? extends LoadableIndexSearchResult<?>> future : futures ) {
+						results.add( future.join() );
+					}
+					return results;
+				} );
+	}
+
+	private void submitAll() {
+		// Each searcher holds its own reference to the readers, so the snapshot can be released right away
+		try ( IndexReaderSnapshot snapshot = new IndexReaderSnapshot() ) {
+			for ( Element<?> element : elements ) {
+				element.submit( snapshot );
+			}
+		}
+	}
+
+	private static final class Element<T> {
+		private final LuceneIndexSearchQuery<T> query;
+		private final Long limit;
+		private final Long offset;
+
+		private CompletableFuture<LoadableIndexSearchResult<T>> future;
+
+		private Element(LuceneIndexSearchQuery<T> query, Long limit, Long offset) {
+			this.query = query;
+			this.limit = limit;
+			this.offset = offset;
+		}
+
+		@Override
+		public String toString() {
+			return query.toString();
+		}
+
+		void submit(IndexReaderSnapshot snapshot) {
+			future = query.submit( snapshot, limit, offset ).thenApply( query::toLoadable );
+		}
+
+		CompletableFuture<LoadableIndexSearchResult<T>> getFuture() {
+			return future;
+		}
+	}
+}
@@ -7,15 +7,25 @@
 package org.hibernate.search.backend.lucene.search.query.impl;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
 
 import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneQueryWorkOrchestrator;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectorProvider;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneSearchTimeout;
+import org.hibernate.search.backend.lucene.search.reader.impl.IndexReaderSnapshot;
 import org.hibernate.search.backend.lucene.work.impl.LuceneQueryWork;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
+import org.hibernate.search.engine.search.query.spi.IndexSearchBatch;
 import org.hibernate.search.engine.search.query.spi.IndexSearchQuery;
 import org.hibernate.search.engine.search.query.spi.IndexSearchResult;
+import org.hibernate.search.engine.search.query.spi.IndexSearchScroll;
+import org.hibernate.search.engine.search.query.spi.LoadableIndexSearchResult;
+import org.hibernate.search.util.common.impl.Contracts;
+import org.hibernate.search.util.common.impl.Futures;
 
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.Sort;
@@ -27,27 +37,31 @@
 public class LuceneIndexSearchQuery<T> implements IndexSearchQuery<T> {
 
 	private final LuceneQueryWorkOrchestrator queryOrchestrator;
+	private final ExecutorService searchExecutor;
 	private final LuceneWorkFactory workFactory;
 	private final Set<String> indexNames;
 	private final Set<ReaderProvider> readerProviders;
 	private final SessionContextImplementor sessionContext;
 	private final Query luceneQuery;
 	private final Sort luceneSort;
+	private final LuceneSearchTimeout timeout;
 	private final LuceneCollectorProvider luceneCollectorProvider;
 	private final LuceneSearchResultExtractor<T> searchResultExtractor;
 
-	public LuceneIndexSearchQuery(LuceneQueryWorkOrchestrator queryOrchestrator,
+	public LuceneIndexSearchQuery(LuceneQueryWorkOrchestrator queryOrchestrator, ExecutorService searchExecutor,
 			LuceneWorkFactory workFactory, Set<String> indexNames, Set<ReaderProvider> readerProviders,
 			SessionContextImplementor sessionContext,
-			Query luceneQuery, Sort luceneSort,
+			Query luceneQuery, Sort luceneSort, LuceneSearchTimeout timeout,
 			LuceneCollectorProvider luceneCollectorProvider, LuceneSearchResultExtractor<T> searchResultExtractor) {
 		this.queryOrchestrator = queryOrchestrator;
+		this.searchExecutor = searchExecutor;
 		this.workFactory = workFactory;
 		this.indexNames = indexNames;
 		this.readerProviders = readerProviders;
 		this.sessionContext = sessionContext;
 		this.luceneQuery = luceneQuery;
 		this.luceneSort = luceneSort;
+		this.timeout = timeout;
 		this.luceneCollectorProvider = luceneCollectorProvider;
 		this.searchResultExtractor = searchResultExtractor;
 	}
@@ -64,39 +78,111 @@ public String toString() {
 
 	@Override
 	public IndexSearchResult<T> fetch(Long limit, Long offset) {
-		LuceneQueryWork<LuceneLoadableSearchResult<T>> work = workFactory.search(
-				new LuceneSearcher<>(
-						indexNames,
-						readerProviders,
-						luceneQuery, luceneSort,
-						offset, limit,
-						luceneCollectorProvider, searchResultExtractor
-				)
-		);
-		return queryOrchestrator.submit( work ).join()
+		return Futures.unwrappedExceptionJoin( queryOrchestrator.submit( createSearchWork( limit, offset ) ) )
 				/*
 				 * WARNING: the following call must run in the user thread.
-				 * If we introduce async processing, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and ObjectLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
+				 * Use fetchAsync for mappers that support loading without blocking.
 				 */
 				.loadBlocking( sessionContext );
 	}
 
+	@Override
+	public CompletionStage<IndexSearchResult<T>> fetchAsync(Long limit, Long offset) {
+		return queryOrchestrator.submit( createSearchWork( limit, offset ) )
+				.thenCompose( result -> result.loadAsync( sessionContext ) );
+	}
+
 	@Override
 	public long fetchTotalHitCount() {
+		return Futures.unwrappedExceptionJoin( fetchTotalHitCountAsync().toCompletableFuture() );
+	}
+
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
 		LuceneQueryWork<LuceneLoadableSearchResult<T>> work = workFactory.search(
 				new LuceneSearcher<>(
 						indexNames,
-						readerProviders,
+						readerProviders, searchExecutor,
 						luceneQuery, luceneSort,
-						0L, 0L,
+						0L, 0L, timeout,
 						// do not add any TopDocs collector
 						( luceneCollectorBuilder -> { } ),
 						searchResultExtractor
 				)
 		);
-		return queryOrchestrator.submit( work ).join().getHitCount();
+		return queryOrchestrator.submit( work ).thenApply( LuceneLoadableSearchResult::getHitCount );
+	}
+
+	private LuceneQueryWork<LuceneLoadableSearchResult<T>> createSearchWork(Long limit, Long offset) {
+		return workFactory.search(
+				new LuceneSearcher<>(
+						indexNames,
+						readerProviders, searchExecutor,
+						luceneQuery, luceneSort,
+						offset, limit, timeout,
+						luceneCollectorProvider, searchResultExtractor
+				)
+		);
+	}
+
+	@Override
+	public IndexSearchBatch createBatch() {
+		return new LuceneIndexSearchBatch( queryOrchestrator );
+	}
+
+	boolean isExecutedBy(LuceneQueryWorkOrchestrator queryOrchestrator) {
+		return this.queryOrchestrator == queryOrchestrator;
+	}
+
+	/**
+	 * @param indexReaderSnapshot The snapshot providing the index readers, shared with other queries.
+	 * @param limit The maximum number of hits to return.
+	 * @param offset The number of hits to skip.
+	 * @return A future for the result of this query on the given snapshot.
+	 */
+	CompletableFuture<LuceneLoadableSearchResult<T>> submit(IndexReaderSnapshot indexReaderSnapshot,
+			Long limit, Long offset) {
+		LuceneSearcher<T> searcher = new LuceneSearcher<>(
+				indexNames,
+				indexReaderSnapshot.openReader( indexNames, readerProviders ), searchExecutor,
+				luceneQuery, luceneSort,
+				offset, limit, timeout,
+				luceneCollectorProvider, searchResultExtractor
+		);
+		try {
+			return queryOrchestrator.submit( workFactory.search( searcher ) );
+		}
+		catch (RuntimeException e) {
+			// The work was rejected and will never close the searcher: release its readers now
+			searcher.close();
+			throw e;
+		}
+	}
+
+	LoadableIndexSearchResult<T> toLoadable(LuceneLoadableSearchResult<T> result) {
+		return new LoadableIndexSearchResult<T>() {
+			@Override
+			public IndexSearchResult<T> loadBlocking() {
+				return result.loadBlocking( sessionContext );
+			}
+
+			@Override
+			public CompletionStage<IndexSearchResult<T>> loadAsync() {
+				return result.loadAsync( sessionContext );
+			}
+		};
+	}
+
+	@Override
+	public IndexSearchScroll<T> scroll(int chunkSize) {
+		Contracts.assertStrictlyPositive( chunkSize, "chunkSize" );
+		return new LuceneIndexSearchScroll<>(
+				queryOrchestrator, workFactory,
+				indexNames, readerProviders, searchExecutor,
+				sessionContext,
+				luceneQuery, luceneSort, timeout,
+				luceneCollectorProvider, searchResultExtractor,
+				chunkSize
+		);
 	}
 }
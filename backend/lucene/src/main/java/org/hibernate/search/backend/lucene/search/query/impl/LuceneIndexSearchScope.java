@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.search.query.impl;
 
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregationBuilderFactory;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchQueryElementCollector;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchScopeModel;
@@ -24,6 +25,7 @@
 	private final LuceneSearchScopeModel model;
 	private final LuceneSearchPredicateBuilderFactoryImpl searchPredicateFactory;
 	private final LuceneSearchSortBuilderFactoryImpl searchSortFactory;
+	private final LuceneSearchAggregationBuilderFactory searchAggregationFactory;
 	private final LuceneSearchQueryBuilderFactory searchQueryFactory;
 	private final LuceneSearchProjectionBuilderFactory searchProjectionFactory;
 
@@ -34,6 +36,7 @@ public LuceneIndexSearchScope(SearchBackendContext searchBackendContext,
 		this.model = model;
 		this.searchPredicateFactory = new LuceneSearchPredicateBuilderFactoryImpl( searchContext, model );
 		this.searchSortFactory = new LuceneSearchSortBuilderFactoryImpl( searchContext, model );
+		this.searchAggregationFactory = new LuceneSearchAggregationBuilderFactory( searchContext, model );
 		this.searchProjectionFactory = new LuceneSearchProjectionBuilderFactory( model );
 		this.searchQueryFactory = new LuceneSearchQueryBuilderFactory( searchBackendContext, model, this.searchProjectionFactory );
 	}
@@ -57,6 +60,11 @@ public LuceneSearchSortBuilderFactoryImpl getSearchSortBuilderFactory() {
 		return searchSortFactory;
 	}
 
+	@Override
+	public LuceneSearchAggregationBuilderFactory getSearchAggregationBuilderFactory() {
+		return searchAggregationFactory;
+	}
+
 	@Override
 	public LuceneSearchQueryBuilderFactory getSearchQueryBuilderFactory() {
 		return searchQueryFactory;
@@ -0,0 +1,138 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneQueryWorkOrchestrator;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectorProvider;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneSearchTimeout;
+import org.hibernate.search.backend.lucene.search.reader.impl.MultiReaderFactory;
+import org.hibernate.search.backend.lucene.work.impl.LuceneQueryWork;
+import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
+import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.query.spi.IndexSearchResult;
+import org.hibernate.search.engine.search.query.spi.IndexSearchScroll;
+import org.hibernate.search.engine.search.query.spi.SimpleIndexSearchResult;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
+
+/**
+ * A scroll relying on Lucene's "search after" feature.
+ * <p>
+ * The index readers are opened when the scroll is created and kept open until it is closed,
+ * so that every chunk is extracted from the same point-in-time view of the indexes.
+ * Each chunk is collected by executing the query again,
+ * only keeping the top docs that follow the last top doc of the previous chunk,
+ * so memory usage is proportional to the chunk size.
+ *
+ * @param <T> The type of results.
+ */
+class LuceneIndexSearchScroll<T> implements IndexSearchScroll<T> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final LuceneQueryWorkOrchestrator queryOrchestrator;
+	private final LuceneWorkFactory workFactory;
+	private final Set<String> indexNames;
+	private final SessionContextImplementor sessionContext;
+	private final Query luceneQuery;
+	private final Sort luceneSort;
+	private final LuceneSearchTimeout timeout;
+	private final LuceneCollectorProvider luceneCollectorProvider;
+	private final LuceneSearchResultExtractor<T> searchResultExtractor;
+	private final long chunkSize;
+
+	private final IndexSearcher indexSearcher;
+
+	private ScoreDoc after;
+	private long totalHitCount;
+	private boolean exhausted;
+	private boolean closed;
+
+	LuceneIndexSearchScroll(LuceneQueryWorkOrchestrator queryOrchestrator,
+			LuceneWorkFactory workFactory, Set<String> indexNames,
+			Set<ReaderProvider> readerProviders, ExecutorService searchExecutor,
+			SessionContextImplementor sessionContext,
+			Query luceneQuery, Sort luceneSort, LuceneSearchTimeout timeout,
+			LuceneCollectorProvider luceneCollectorProvider, LuceneSearchResultExtractor<T> searchResultExtractor,
+			int chunkSize) {
+		this.queryOrchestrator = queryOrchestrator;
+		this.workFactory = workFactory;
+		this.indexNames = indexNames;
+		this.sessionContext = sessionContext;
+		this.luceneQuery = luceneQuery;
+		this.luceneSort = luceneSort;
+		this.timeout = timeout;
+		this.luceneCollectorProvider = luceneCollectorProvider;
+		this.searchResultExtractor = searchResultExtractor;
+		this.chunkSize = chunkSize;
+		this.indexSearcher = new IndexSearcher(
+				MultiReaderFactory.openReader( indexNames, readerProviders ), searchExecutor
+		);
+	}
+
+	@Override
+	public IndexSearchResult<T> next() {
+		if ( closed ) {
+			throw log.scrollClosed( EventContexts.fromIndexNames( indexNames ) );
+		}
+		if ( exhausted ) {
+			return new SimpleIndexSearchResult<>( totalHitCount, Collections.emptyList() );
+		}
+
+		LuceneQueryWork<LuceneLoadableSearchResult<T>> work = workFactory.search(
+				new LuceneSearcher<>(
+						indexNames,
+						indexSearcher,
+						luceneQuery, luceneSort,
+						after, chunkSize, timeout,
+						luceneCollectorProvider, searchResultExtractor
+				)
+		);
+		LuceneLoadableSearchResult<T> result = Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) );
+
+		totalHitCount = result.getHitCount();
+		ScoreDoc lastScoreDoc = result.getLastScoreDoc();
+		if ( lastScoreDoc == null ) {
+			exhausted = true;
+		}
+		else {
+			after = lastScoreDoc;
+		}
+
+		// WARNING: this call must run in the user thread, see LuceneIndexSearchQuery#fetch.
+		return result.loadBlocking( sessionContext );
+	}
+
+	@Override
+	public void close() {
+		if ( closed ) {
+			// Never release the readers twice: they may be shared with other queries
+			return;
+		}
+		closed = true;
+		MultiReaderFactory.closeReader( indexSearcher.getIndexReader() );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[query=" + luceneQuery + ", sort=" + luceneSort
+				+ ", chunkSize=" + chunkSize + "]";
+	}
+}
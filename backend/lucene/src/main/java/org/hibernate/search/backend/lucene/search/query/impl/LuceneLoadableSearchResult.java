@@ -10,15 +10,20 @@
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
 import org.hibernate.search.backend.lucene.search.projection.impl.SearchProjectionTransformContext;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.query.spi.IndexSearchResult;
 import org.hibernate.search.engine.search.query.spi.LoadingResult;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
 import org.hibernate.search.engine.search.query.spi.SimpleIndexSearchResult;
 
+import org.apache.lucene.search.ScoreDoc;
+
 /**
  * A search result from the backend that offers a method to load data from the mapper.
  * <p>
@@ -36,24 +41,53 @@
 
 	private final long hitCount;
 	private List<Object> extractedData;
+	private final ScoreDoc lastScoreDoc;
+	private final boolean timedOut;
+	private final Map<AggregationKey<?>, ?> aggregationResults;
 
 	LuceneLoadableSearchResult(ProjectionHitMapper<?, ?> projectionHitMapper,
 			LuceneSearchProjection<?, T> rootProjection,
-			long hitCount, List<Object> extractedData) {
+			long hitCount, List<Object> extractedData, ScoreDoc lastScoreDoc, boolean timedOut,
+			Map<AggregationKey<?>, ?> aggregationResults) {
 		this.projectionHitMapper = projectionHitMapper;
 		this.rootProjection = rootProjection;
 		this.hitCount = hitCount;
 		this.extractedData = extractedData;
+		this.lastScoreDoc = lastScoreDoc;
+		this.timedOut = timedOut;
+		this.aggregationResults = aggregationResults;
 	}
 
 	long getHitCount() {
 		return hitCount;
 	}
 
+	/**
+	 * @return The last top doc in this result, or {@code null} if there are no hits in this result.
+	 */
+	ScoreDoc getLastScoreDoc() {
+		return lastScoreDoc;
+	}
+
 	IndexSearchResult<T> loadBlocking(SessionContextImplementor sessionContext) {
-		SearchProjectionTransformContext transformContext = new SearchProjectionTransformContext( sessionContext );
+		return transform( sessionContext, projectionHitMapper.loadBlocking() );
+	}
+
+	/**
+	 * Load data from the mapper without blocking the current thread.
+	 * <p>
+	 * Unlike {@link #loadBlocking(SessionContextImplementor)}, this may run in a backend thread.
+	 *
+	 * @param sessionContext The session context.
+	 * @return A stage that will be completed with the search result.
+	 */
+	CompletionStage<IndexSearchResult<T>> loadAsync(SessionContextImplementor sessionContext) {
+		return projectionHitMapper.loadAsync()
+				.thenApply( loadingResult -> transform( sessionContext, loadingResult ) );
+	}
 
-		LoadingResult<?> loadingResult = projectionHitMapper.loadBlocking();
+	private IndexSearchResult<T> transform(SessionContextImplementor sessionContext, LoadingResult<?> loadingResult) {
+		SearchProjectionTransformContext transformContext = new SearchProjectionTransformContext( sessionContext );
 
 		for ( int i = 0; i < extractedData.size(); i++ ) {
 			T transformed = transformUnsafe( rootProjection, loadingResult, extractedData.get( i ), transformContext );
@@ -67,6 +101,6 @@ IndexSearchResult<T> loadBlocking(SessionContextImplementor sessionContext) {
 		// Make sure that if someone uses this object incorrectly, it will always fail, and will fail early.
 		extractedData = null;
 
-		return new SimpleIndexSearchResult<>( hitCount, loadedHits );
+		return new SimpleIndexSearchResult<>( hitCount, loadedHits, timedOut, aggregationResults );
 	}
 }
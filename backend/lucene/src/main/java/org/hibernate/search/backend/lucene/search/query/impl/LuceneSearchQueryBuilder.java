@@ -6,12 +6,20 @@
  */
 package org.hibernate.search.backend.lucene.search.query.impl;
 
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import org.apache.lucene.search.BooleanClause.Occur;
 import org.apache.lucene.search.BooleanQuery;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneQueryWorkOrchestrator;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectorProvider;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneSearchTimeout;
 import org.hibernate.search.backend.lucene.search.extraction.impl.ReusableDocumentStoredFieldVisitor;
 import org.hibernate.search.backend.lucene.search.impl.LuceneQueries;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchQueryElementCollector;
@@ -19,6 +27,7 @@
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.query.spi.IndexSearchQuery;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
@@ -27,6 +36,7 @@
 
 	private final LuceneWorkFactory workFactory;
 	private final LuceneQueryWorkOrchestrator queryOrchestrator;
+	private final ExecutorService searchExecutor;
 	private final MultiTenancyStrategy multiTenancyStrategy;
 
 	private final LuceneSearchScopeModel scopeModel;
@@ -37,9 +47,13 @@
 	private final LuceneSearchProjection<?, T> rootProjection;
 	private final LuceneSearchQueryElementCollector elementCollector;
 
+	private final Set<String> routingKeys;
+	private LuceneSearchTimeout timeout;
+
 	LuceneSearchQueryBuilder(
 			LuceneWorkFactory workFactory,
 			LuceneQueryWorkOrchestrator queryOrchestrator,
+			ExecutorService searchExecutor,
 			MultiTenancyStrategy multiTenancyStrategy,
 			LuceneSearchScopeModel scopeModel,
 			SessionContextImplementor sessionContext,
@@ -48,11 +62,13 @@
 			LuceneSearchProjection<?, T> rootProjection) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
+		this.searchExecutor = searchExecutor;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 
 		this.scopeModel = scopeModel;
 		this.sessionContext = sessionContext;
 
+		this.routingKeys = new HashSet<>();
 		this.elementCollector = new LuceneSearchQueryElementCollector();
 		this.storedFieldVisitor = storedFieldVisitor;
 		this.projectionHitMapper = projectionHitMapper;
@@ -66,8 +82,17 @@ public LuceneSearchQueryElementCollector getQueryElementCollector() {
 
 	@Override
 	public void addRoutingKey(String routingKey) {
-		// TODO see what to do with the routing key
-		throw new UnsupportedOperationException( "Routing keys are not supported by the Lucene backend yet." );
+		this.routingKeys.add( routingKey );
+	}
+
+	@Override
+	public void failAfter(long timeout, TimeUnit timeUnit) {
+		this.timeout = new LuceneSearchTimeout( timeout, timeUnit, true );
+	}
+
+	@Override
+	public void truncateAfter(long timeout, TimeUnit timeUnit) {
+		this.timeout = new LuceneSearchTimeout( timeout, timeUnit, false );
 	}
 
 	private IndexSearchQuery<T> build() {
@@ -80,15 +105,31 @@ private IndexSearchQuery<T> build() {
 		luceneQueryBuilder.add( LuceneQueries.mainDocumentQuery(), Occur.FILTER );
 
 		return new LuceneIndexSearchQuery<>(
-				queryOrchestrator, workFactory,
-				scopeModel.getIndexNames(), scopeModel.getReaderProviders(),
+				queryOrchestrator, searchExecutor, workFactory,
+				scopeModel.getIndexNames(), scopeModel.getReaderProviders( routingKeys ),
 				sessionContext,
 				multiTenancyStrategy.decorateLuceneQuery( luceneQueryBuilder.build(), sessionContext.getTenantIdentifier() ),
 				elementCollector.toLuceneSort(),
-				rootProjection, searchResultExtractor
+				timeout,
+				createCollectorProvider(), searchResultExtractor
 		);
 	}
 
+	private LuceneCollectorProvider createCollectorProvider() {
+		Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations = elementCollector.getAggregations();
+		if ( aggregations.isEmpty() ) {
+			return rootProjection;
+		}
+		return luceneCollectorBuilder -> {
+			rootProjection.contributeCollectors( luceneCollectorBuilder );
+			for ( Map.Entry<AggregationKey<?>, LuceneSearchAggregation<?>> entry : aggregations.entrySet() ) {
+				luceneCollectorBuilder.addAggregationCollector(
+						entry.getKey(), entry.getValue().createCollectorManager()
+				);
+			}
+		};
+	}
+
 	@Override
 	public <Q> Q build(Function<IndexSearchQuery<T>, Q> searchQueryWrapperFactory) {
 		return searchQueryWrapperFactory.apply( build() );
@@ -10,6 +10,7 @@
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.lucene.document.Document;
 import org.apache.lucene.search.IndexSearcher;
@@ -19,6 +20,7 @@
 import org.hibernate.search.backend.lucene.search.extraction.impl.ReusableDocumentStoredFieldVisitor;
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
 import org.hibernate.search.backend.lucene.search.projection.impl.SearchProjectionExtractContext;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
 
 class LuceneSearchResultExtractorImpl<T> implements LuceneSearchResultExtractor<T> {
@@ -38,15 +40,23 @@
 
 	@Override
 	public LuceneLoadableSearchResult<T> extract(IndexSearcher indexSearcher, long totalHits, TopDocs topDocs,
+			boolean timedOut, Map<AggregationKey<?>, ?> aggregationResults,
 			SearchProjectionExtractContext projectionExecutionContext) throws IOException {
 		List<Object> extractedData = extractHits( indexSearcher, topDocs, projectionExecutionContext );
 
 		return new LuceneLoadableSearchResult<>(
 				projectionHitMapper, rootProjection,
-				totalHits, extractedData
+				totalHits, extractedData, getLastScoreDoc( topDocs ), timedOut, aggregationResults
 		);
 	}
 
+	private static ScoreDoc getLastScoreDoc(TopDocs topDocs) {
+		if ( topDocs == null || topDocs.scoreDocs.length == 0 ) {
+			return null;
+		}
+		return topDocs.scoreDocs[topDocs.scoreDocs.length - 1];
+	}
+
 	private List<Object> extractHits(IndexSearcher indexSearcher, TopDocs topDocs,
 			SearchProjectionExtractContext projectionExecutionContext) throws IOException {
 		if ( topDocs == null ) {
@@ -7,18 +7,25 @@
 package org.hibernate.search.backend.lucene.search.query.impl;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandles;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
+import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
 import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectorProvider;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectors;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectorsBuilder;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneSearchTimeout;
 import org.hibernate.search.backend.lucene.search.projection.impl.SearchProjectionExtractContext;
 import org.hibernate.search.backend.lucene.search.reader.impl.MultiReaderFactory;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 /**
@@ -26,51 +33,147 @@
  */
 public class LuceneSearcher<T> implements AutoCloseable {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final Set<String> indexNames;
-	private final IndexSearcher indexSearcher;
+	private final Set<ReaderProvider> readerProviders;
+	private final ExecutorService searchExecutor;
+	private final boolean closeReader;
+	private IndexSearcher indexSearcher;
 
 	private final Query luceneQuery;
 	private final Sort luceneSort;
 
+	private final ScoreDoc after;
 	private final long offset;
 	private final Long limit;
+	private final LuceneSearchTimeout timeout;
 
 	private final LuceneCollectorProvider luceneCollectorProvider;
 	private final LuceneSearchResultExtractor<T> searchResultExtractor;
 
+	/**
+	 * Create a searcher opening the index readers when it is executed,
+	 * so that no reader is held while the query is waiting for a thread.
+	 * The readers will be closed by this searcher.
+	 */
 	public LuceneSearcher(Set<String> indexNames,
 			Set<ReaderProvider> readerProviders,
+			ExecutorService searchExecutor,
 			Query luceneQuery,
 			Sort luceneSort,
 			Long offset,
 			Long limit,
+			LuceneSearchTimeout timeout,
+			LuceneCollectorProvider luceneCollectorProvider,
+			LuceneSearchResultExtractor<T> searchResultExtractor) {
+		this(
+				indexNames,
+				readerProviders, searchExecutor, null, true,
+				luceneQuery, luceneSort,
+				null, offset, limit, timeout,
+				luceneCollectorProvider, searchResultExtractor
+		);
+	}
+
+	/**
+	 * Create a searcher using an index reader that was already opened,
+	 * for example from an {@link org.hibernate.search.backend.lucene.search.reader.impl.IndexReaderSnapshot}.
+	 * The reader will be closed by this searcher.
+	 */
+	public LuceneSearcher(Set<String> indexNames,
+			IndexReader indexReader,
+			ExecutorService searchExecutor,
+			Query luceneQuery,
+			Sort luceneSort,
+			Long offset,
+			Long limit,
+			LuceneSearchTimeout timeout,
+			LuceneCollectorProvider luceneCollectorProvider,
+			LuceneSearchResultExtractor<T> searchResultExtractor) {
+		this(
+				indexNames,
+				null, null, new IndexSearcher( indexReader, searchExecutor ), true,
+				luceneQuery, luceneSort,
+				null, offset, limit, timeout,
+				luceneCollectorProvider, searchResultExtractor
+		);
+	}
+
+	/**
+	 * Create a searcher returning the hits following {@code after},
+	 * using an index searcher whose reader will not be closed by this searcher.
+	 */
+	public LuceneSearcher(Set<String> indexNames,
+			IndexSearcher indexSearcher,
+			Query luceneQuery,
+			Sort luceneSort,
+			ScoreDoc after,
+			Long limit,
+			LuceneSearchTimeout timeout,
+			LuceneCollectorProvider luceneCollectorProvider,
+			LuceneSearchResultExtractor<T> searchResultExtractor) {
+		this(
+				indexNames,
+				null, null, indexSearcher, false,
+				luceneQuery, luceneSort,
+				after, null, limit, timeout,
+				luceneCollectorProvider, searchResultExtractor
+		);
+	}
+
+	private LuceneSearcher(Set<String> indexNames,
+			Set<ReaderProvider> readerProviders, ExecutorService searchExecutor,
+			IndexSearcher indexSearcher, boolean closeReader,
+			Query luceneQuery,
+			Sort luceneSort,
+			ScoreDoc after,
+			Long offset,
+			Long limit,
+			LuceneSearchTimeout timeout,
 			LuceneCollectorProvider luceneCollectorProvider,
 			LuceneSearchResultExtractor<T> searchResultExtractor) {
 		this.indexNames = indexNames;
-		this.indexSearcher = new IndexSearcher( MultiReaderFactory.openReader( indexNames, readerProviders ) );
+		this.readerProviders = readerProviders;
+		this.searchExecutor = searchExecutor;
+		this.indexSearcher = indexSearcher;
+		this.closeReader = closeReader;
 		this.luceneQuery = luceneQuery;
 		this.luceneSort = luceneSort;
+		this.after = after;
 		this.offset = offset == null ? 0L : offset;
 		this.limit = limit;
+		this.timeout = timeout;
 		this.luceneCollectorProvider = luceneCollectorProvider;
 		this.searchResultExtractor = searchResultExtractor;
 	}
 
 	public LuceneLoadableSearchResult<T> execute() throws IOException {
-		// TODO GSM implement timeout handling by wrapping the collector with the timeout limiting one
+		if ( indexSearcher == null ) {
+			indexSearcher = new IndexSearcher(
+					MultiReaderFactory.openReader( indexNames, readerProviders ), searchExecutor
+			);
+		}
 
-		LuceneCollectorsBuilder luceneCollectorsBuilder = new LuceneCollectorsBuilder( luceneSort, getMaxDocs() );
+		LuceneCollectorsBuilder luceneCollectorsBuilder =
+				new LuceneCollectorsBuilder( luceneSort, after, getMaxDocs(), timeout );
 		luceneCollectorProvider.contributeCollectors( luceneCollectorsBuilder );
 		LuceneCollectors luceneCollectors = luceneCollectorsBuilder.build();
 
 		luceneCollectors.collect( indexSearcher, luceneQuery, offset, limit );
 
+		boolean timedOut = luceneCollectors.isTimedOut();
+		if ( timedOut && timeout.isExceptionOnTimeout() ) {
+			throw log.searchTimedOut( timeout.getTimeout(), timeout.getTimeUnit(), luceneQuery.toString(),
+					getEventContext() );
+		}
+
 		SearchProjectionExtractContext projectionExecutionContext =
 				new SearchProjectionExtractContext( indexSearcher, luceneQuery );
 
 		return searchResultExtractor.extract(
 				indexSearcher, luceneCollectors.getTotalHits(),
-				luceneCollectors.getTopDocs(),
+				luceneCollectors.getTopDocs(), timedOut, luceneCollectors.getAggregationResults(),
 				projectionExecutionContext
 		);
 	}
@@ -85,21 +188,25 @@ public EventContext getEventContext() {
 
 	@Override
 	public void close() {
-		MultiReaderFactory.closeReader( indexSearcher.getIndexReader() );
+		if ( closeReader && indexSearcher != null ) {
+			MultiReaderFactory.closeReader( indexSearcher.getIndexReader() );
+			indexSearcher = null;
+		}
 	}
 
 	private int getMaxDocs() {
-		// FIXME this is very naive for now, we will probably need to implement some scrolling in the collector
-		// as it is done in Search 5.
-		// Note that Lucene initializes data structures of this size so setting it to a large value consumes memory.
+		// This is only an upper bound: the collectors do not allocate data structures of this size upfront.
+		int maxDoc = indexSearcher.getIndexReader().maxDoc();
 		if ( limit == null ) {
-			return indexSearcher.getIndexReader().maxDoc();
+			return maxDoc;
 		}
 		else if ( limit == 0L ) {
 			return 0;
 		}
 		else {
-			return Math.min( (int) ( offset + limit ), indexSearcher.getIndexReader().maxDoc() );
+			// offset + limit may exceed the range of integers, or even of longs
+			long offsetPlusLimit = limit > Long.MAX_VALUE - offset ? Long.MAX_VALUE : offset + limit;
+			return (int) Math.min( offsetPlusLimit, maxDoc );
 		}
 	}
 }
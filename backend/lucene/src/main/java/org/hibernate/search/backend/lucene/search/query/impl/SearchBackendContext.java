@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.lucene.search.query.impl;
 
+import java.util.concurrent.ExecutorService;
+
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneQueryWorkOrchestrator;
@@ -24,16 +26,19 @@ public class SearchBackendContext {
 	private final MultiTenancyStrategy multiTenancyStrategy;
 
 	private final LuceneQueryWorkOrchestrator orchestrator;
+	private final ExecutorService searchExecutor;
 	private final LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry;
 
 	public SearchBackendContext(EventContext eventContext,
 			LuceneWorkFactory workFactory,
 			MultiTenancyStrategy multiTenancyStrategy,
-			LuceneQueryWorkOrchestrator orchestrator, LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry) {
+			LuceneQueryWorkOrchestrator orchestrator, ExecutorService searchExecutor,
+			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry) {
 		this.eventContext = eventContext;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.workFactory = workFactory;
 		this.orchestrator = orchestrator;
+		this.searchExecutor = searchExecutor;
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
 	}
 
@@ -63,6 +68,7 @@ <T> LuceneSearchQueryBuilder<T> createSearchQueryBuilder(
 		return new LuceneSearchQueryBuilder<>(
 				workFactory,
 				orchestrator,
+				searchExecutor,
 				multiTenancyStrategy,
 				scopeModel,
 				sessionContext,
@@ -0,0 +1,61 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.reader.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.MultiReader;
+
+/**
+ * Acquires at most one reader per index, so that multiple queries can run against the same state of the indexes.
+ * <p>
+ * Readers returned by {@link #openReader(Set, Set)} hold their own reference to the underlying index readers,
+ * so this snapshot may be closed as soon as all the readers it needs to provide were opened.
+ * Each reader returned by {@link #openReader(Set, Set)} must be closed separately.
+ */
+public final class IndexReaderSnapshot implements AutoCloseable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final Map<ReaderProvider, IndexReader> indexReaders = new LinkedHashMap<>();
+
+	public IndexReader openReader(Set<String> indexNames, Set<ReaderProvider> readerProviders) {
+		// An empty set of reader providers is legitimate, e.g. when no shard matches the routing keys of a query,
+		// and simply results in an empty reader.
+		IndexReader[] subReaders = new IndexReader[readerProviders.size()];
+		int i = 0;
+		for ( ReaderProvider readerProvider : readerProviders ) {
+			subReaders[i] = indexReaders.computeIfAbsent( readerProvider, ReaderProvider::openIndexReader );
+			++i;
+		}
+		try {
+			// Sub-readers are not closed, only released, when the multi-reader is closed
+			return new MultiReader( subReaders, false );
+		}
+		catch (IOException e) {
+			throw log.ioExceptionOnMultiReaderRefresh( EventContexts.fromIndexNames( indexNames ), e );
+		}
+	}
+
+	@Override
+	public void close() {
+		for ( Map.Entry<ReaderProvider, IndexReader> entry : indexReaders.entrySet() ) {
+			entry.getKey().closeIndexReader( entry.getValue() );
+		}
+		indexReaders.clear();
+	}
+}
@@ -31,19 +31,15 @@ private MultiReaderFactory() {
 	}
 
 	public static IndexReader openReader(Set<String> indexNames, Set<ReaderProvider> readerProviders) {
-		if ( readerProviders.isEmpty() ) {
-			return null;
+		// An empty set of reader providers is legitimate, e.g. when no shard matches the routing keys of a query,
+		// and simply results in an empty reader.
+		try {
+			return ManagedMultiReader.createInstance( readerProviders );
 		}
-		else {
-			//everything should be the same so wrap in an MultiReader
-			try {
-				return ManagedMultiReader.createInstance( readerProviders );
-			}
-			catch (IOException e) {
-				throw log.ioExceptionOnMultiReaderRefresh(
-						EventContexts.fromIndexNames( indexNames ), e
-				);
-			}
+		catch (IOException e) {
+			throw log.ioExceptionOnMultiReaderRefresh(
+					EventContexts.fromIndexNames( indexNames ), e
+			);
 		}
 	}
 
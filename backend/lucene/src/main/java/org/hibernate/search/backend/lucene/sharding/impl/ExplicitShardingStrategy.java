@@ -0,0 +1,72 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.sharding.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.cfg.ShardingStrategyName;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+/**
+ * Assigns documents to the shard whose identifier is their routing key.
+ */
+public class ExplicitShardingStrategy implements ShardingStrategy {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final List<String> shardIdentifiers;
+	private final Map<String, Integer> shardIndexesByIdentifier = new HashMap<>();
+	private final EventContext eventContext;
+
+	public ExplicitShardingStrategy(List<String> shardIdentifiers, EventContext eventContext) {
+		this.shardIdentifiers = shardIdentifiers;
+		for ( int i = 0; i < shardIdentifiers.size(); i++ ) {
+			shardIndexesByIdentifier.put( shardIdentifiers.get( i ), i );
+		}
+		this.eventContext = eventContext;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[shardIdentifiers=" + shardIdentifiers + "]";
+	}
+
+	@Override
+	public List<String> getShardIdentifiers() {
+		return shardIdentifiers;
+	}
+
+	@Override
+	public int toShardIndex(String documentId, String routingKey) {
+		Integer shardIndex = routingKey == null ? null : shardIndexesByIdentifier.get( routingKey );
+		if ( shardIndex == null ) {
+			throw log.invalidRoutingKeyForExplicitSharding( routingKey, ShardingStrategyName.EXPLICIT,
+					shardIdentifiers, eventContext );
+		}
+		return shardIndex;
+	}
+
+	@Override
+	public Set<Integer> toShardIndexes(Set<String> routingKeys) {
+		Set<Integer> result = new HashSet<>();
+		for ( String routingKey : routingKeys ) {
+			Integer shardIndex = shardIndexesByIdentifier.get( routingKey );
+			// Routing keys that do not match any shard cannot match any document either
+			if ( shardIndex != null ) {
+				result.add( shardIndex );
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.sharding.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Assigns documents to a fixed number of shards based on the hash of their routing key,
+ * or of their identifier if they do not have a routing key.
+ * <p>
+ * We rely on {@link String#hashCode()}, whose algorithm is part of the Java specification,
+ * so that documents are assigned to the same shard regardless of the JVM.
+ */
+public class HashShardingStrategy implements ShardingStrategy {
+
+	private final int numberOfShards;
+	private final List<String> shardIdentifiers;
+
+	public HashShardingStrategy(int numberOfShards) {
+		this.numberOfShards = numberOfShards;
+		List<String> identifiers = new ArrayList<>( numberOfShards );
+		for ( int i = 0; i < numberOfShards; i++ ) {
+			identifiers.add( String.valueOf( i ) );
+		}
+		this.shardIdentifiers = Collections.unmodifiableList( identifiers );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[numberOfShards=" + numberOfShards + "]";
+	}
+
+	@Override
+	public List<String> getShardIdentifiers() {
+		return shardIdentifiers;
+	}
+
+	@Override
+	public int toShardIndex(String documentId, String routingKey) {
+		return hash( routingKey == null ? documentId : routingKey );
+	}
+
+	@Override
+	public Set<Integer> toShardIndexes(Set<String> routingKeys) {
+		Set<Integer> result = new HashSet<>();
+		for ( String routingKey : routingKeys ) {
+			result.add( hash( routingKey ) );
+		}
+		return result;
+	}
+
+	private int hash(String key) {
+		return Math.floorMod( key.hashCode(), numberOfShards );
+	}
+}
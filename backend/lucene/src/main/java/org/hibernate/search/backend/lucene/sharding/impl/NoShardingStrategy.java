@@ -0,0 +1,36 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.sharding.impl;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+public class NoShardingStrategy implements ShardingStrategy {
+
+	private static final Set<Integer> SINGLE_SHARD = Collections.singleton( 0 );
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName();
+	}
+
+	@Override
+	public List<String> getShardIdentifiers() {
+		return Collections.emptyList();
+	}
+
+	@Override
+	public int toShardIndex(String documentId, String routingKey) {
+		return 0;
+	}
+
+	@Override
+	public Set<Integer> toShardIndexes(Set<String> routingKeys) {
+		return SINGLE_SHARD;
+	}
+}
@@ -0,0 +1,39 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.sharding.impl;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Defines how the documents of an index are assigned to shards.
+ * <p>
+ * Shards are designated by their position in the list of {@link #getShardIdentifiers() shard identifiers}.
+ */
+public interface ShardingStrategy {
+
+	/**
+	 * @return The identifiers of the shards, in a stable order,
+	 * or an empty list if the index is not sharded, in which case it has a single, unnamed shard.
+	 */
+	List<String> getShardIdentifiers();
+
+	/**
+	 * @param documentId The identifier of a document.
+	 * @param routingKey The routing key of that document, or {@code null}.
+	 * @return The position of the shard the document is assigned to.
+	 * @throws org.hibernate.search.util.common.SearchException If the document cannot be assigned to any shard.
+	 */
+	int toShardIndex(String documentId, String routingKey);
+
+	/**
+	 * @param routingKeys A non-empty set of routing keys.
+	 * @return The positions of the shards that documents with any of the given routing keys may be assigned to.
+	 */
+	Set<Integer> toShardIndexes(Set<String> routingKeys);
+
+}
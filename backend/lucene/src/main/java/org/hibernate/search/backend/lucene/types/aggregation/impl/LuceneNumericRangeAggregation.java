@@ -0,0 +1,128 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.Scorable;
+import org.apache.lucene.search.ScoreMode;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneNumericDomain;
+import org.hibernate.search.engine.search.aggregation.Range;
+
+/**
+ * A range aggregation on a numeric field, relying on numeric doc values.
+ *
+ * @param <K> The type of range bounds exposed to the user.
+ * @param <E> The encoded type.
+ */
+class LuceneNumericRangeAggregation<K, E extends Number>
+		implements LuceneSearchAggregation<Map<Range<K>, Long>> {
+
+	private final String absoluteFieldPath;
+	private final LuceneNumericDomain<E> domain;
+
+	private final List<Range<K>> ranges;
+	private final List<Range<E>> encodedRanges;
+
+	LuceneNumericRangeAggregation(String absoluteFieldPath, LuceneNumericDomain<E> domain,
+			List<Range<K>> ranges, List<Range<E>> encodedRanges) {
+		this.absoluteFieldPath = absoluteFieldPath;
+		this.domain = domain;
+		this.ranges = ranges;
+		this.encodedRanges = encodedRanges;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "absoluteFieldPath=" + absoluteFieldPath
+				+ ", ranges=" + ranges
+				+ "]";
+	}
+
+	@Override
+	public CollectorManager<?, Map<Range<K>, Long>> createCollectorManager() {
+		return new RangeCollectorManager();
+	}
+
+	private boolean contains(Range<E> range, E value) {
+		E lowerBound = range.getLowerBoundInclusive();
+		if ( lowerBound != null && domain.compare( value, lowerBound ) < 0 ) {
+			return false;
+		}
+		E upperBound = range.getUpperBoundExclusive();
+		return upperBound == null || domain.compare( value, upperBound ) < 0;
+	}
+
+	private class RangeCollectorManager implements CollectorManager<SliceCollector, Map<Range<K>, Long>> {
+
+		@Override
+		public SliceCollector newCollector() {
+			return new SliceCollector();
+		}
+
+		@Override
+		public Map<Range<K>, Long> reduce(Collection<SliceCollector> collectors) {
+			long[] counts = new long[ranges.size()];
+			for ( SliceCollector collector : collectors ) {
+				for ( int i = 0; i < counts.length; i++ ) {
+					counts[i] += collector.counts[i];
+				}
+			}
+
+			Map<Range<K>, Long> result = new LinkedHashMap<>();
+			for ( int i = 0; i < counts.length; i++ ) {
+				result.put( ranges.get( i ), counts[i] );
+			}
+			return result;
+		}
+	}
+
+	private class SliceCollector implements Collector {
+
+		private final long[] counts = new long[ranges.size()];
+
+		@Override
+		public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+			NumericDocValues values = DocValues.getNumeric( context.reader(), absoluteFieldPath );
+			return new LeafCollector() {
+				@Override
+				public void setScorer(Scorable scorer) {
+					// we don't need any scorer
+				}
+
+				@Override
+				public void collect(int doc) throws IOException {
+					if ( values.advanceExact( doc ) ) {
+						E value = domain.fromDocValue( values.longValue() );
+						for ( int i = 0; i < counts.length; i++ ) {
+							if ( contains( encodedRanges.get( i ), value ) ) {
+								++counts[i];
+							}
+						}
+					}
+				}
+			};
+		}
+
+		@Override
+		public ScoreMode scoreMode() {
+			return ScoreMode.COMPLETE_NO_SCORES;
+		}
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.Scorable;
+import org.apache.lucene.search.ScoreMode;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
+
+/**
+ * A terms aggregation on a String field, relying on sorted doc values.
+ * <p>
+ * Documents are counted per term ordinal in each segment, which only requires an array increment per document;
+ * ordinals are only resolved to terms once all documents were collected.
+ */
+class LuceneTermsAggregation implements LuceneSearchAggregation<Map<String, Long>> {
+
+	private static final Comparator<Map.Entry<String, Long>> BUCKET_ORDER =
+			Map.Entry.<String, Long>comparingByValue().reversed()
+					.thenComparing( Map.Entry.comparingByKey() );
+
+	private final String absoluteFieldPath;
+	private final int maxTermCount;
+	private final int minDocumentCount;
+
+	LuceneTermsAggregation(String absoluteFieldPath, int maxTermCount, int minDocumentCount) {
+		this.absoluteFieldPath = absoluteFieldPath;
+		this.maxTermCount = maxTermCount;
+		this.minDocumentCount = minDocumentCount;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "absoluteFieldPath=" + absoluteFieldPath
+				+ ", maxTermCount=" + maxTermCount
+				+ ", minDocumentCount=" + minDocumentCount
+				+ "]";
+	}
+
+	@Override
+	public CollectorManager<?, Map<String, Long>> createCollectorManager() {
+		return new TermsCollectorManager();
+	}
+
+	private class TermsCollectorManager implements CollectorManager<SliceCollector, Map<String, Long>> {
+
+		@Override
+		public SliceCollector newCollector() {
+			return new SliceCollector();
+		}
+
+		@Override
+		public Map<String, Long> reduce(Collection<SliceCollector> collectors) throws IOException {
+			Map<String, Long> counts = new HashMap<>();
+			for ( SliceCollector collector : collectors ) {
+				for ( SegmentCounts segmentCounts : collector.segments ) {
+					segmentCounts.addTo( counts );
+				}
+			}
+
+			List<Map.Entry<String, Long>> buckets = new ArrayList<>( counts.entrySet() );
+			buckets.sort( BUCKET_ORDER );
+
+			Map<String, Long> result = new LinkedHashMap<>();
+			for ( Map.Entry<String, Long> bucket : buckets ) {
+				if ( result.size() >= maxTermCount || bucket.getValue() < minDocumentCount ) {
+					break;
+				}
+				result.put( bucket.getKey(), bucket.getValue() );
+			}
+			return result;
+		}
+	}
+
+	private class SliceCollector implements Collector {
+
+		private final List<SegmentCounts> segments = new ArrayList<>();
+
+		@Override
+		public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+			SegmentCounts segmentCounts = new SegmentCounts( DocValues.getSorted( context.reader(), absoluteFieldPath ) );
+			segments.add( segmentCounts );
+			return segmentCounts;
+		}
+
+		@Override
+		public ScoreMode scoreMode() {
+			return ScoreMode.COMPLETE_NO_SCORES;
+		}
+	}
+
+	private static class SegmentCounts implements LeafCollector {
+
+		private final SortedDocValues values;
+		private final long[] countsByOrdinal;
+
+		SegmentCounts(SortedDocValues values) {
+			this.values = values;
+			this.countsByOrdinal = new long[values.getValueCount()];
+		}
+
+		@Override
+		public void setScorer(Scorable scorer) {
+			// we don't need any scorer
+		}
+
+		@Override
+		public void collect(int doc) throws IOException {
+			if ( values.advanceExact( doc ) ) {
+				++countsByOrdinal[values.ordValue()];
+			}
+		}
+
+		void addTo(Map<String, Long> counts) throws IOException {
+			for ( int ordinal = 0; ordinal < countsByOrdinal.length; ordinal++ ) {
+				long count = countsByOrdinal[ordinal];
+				if ( count > 0 ) {
+					counts.merge( values.lookupOrd( ordinal ).utf8ToString(), count, Long::sum );
+				}
+			}
+		}
+	}
+}
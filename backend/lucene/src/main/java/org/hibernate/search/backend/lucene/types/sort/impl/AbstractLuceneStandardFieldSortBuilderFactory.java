@@ -9,10 +9,14 @@
 import java.lang.invoke.MethodHandles;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.search.impl.LuceneConverterCompatibilityChecker;
+import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.sort.impl.LuceneSearchSortBuilder;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneStandardFieldCodec;
 import org.hibernate.search.engine.backend.types.converter.ToDocumentFieldValueConverter;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
 import org.hibernate.search.engine.search.sort.spi.DistanceSortBuilder;
 import org.hibernate.search.engine.spatial.GeoPoint;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -51,6 +55,21 @@ public DistanceSortBuilder<LuceneSearchSortBuilder> createDistanceSortBuilder(St
 		);
 	}
 
+	@Override
+	public TermsAggregationBuilder createTermsAggregationBuilder(String absoluteFieldPath) {
+		throw log.termsAggregationsNotSupportedByFieldType(
+				EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath )
+		);
+	}
+
+	@Override
+	public <K> RangeAggregationBuilder<K> createRangeAggregationBuilder(LuceneSearchContext searchContext,
+			String absoluteFieldPath, LuceneConverterCompatibilityChecker converterChecker) {
+		throw log.rangeAggregationsNotSupportedByFieldType(
+				EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath )
+		);
+	}
+
 	@Override
 	public boolean hasCompatibleCodec(LuceneFieldSortBuilderFactory other) {
 		if ( this == other ) {
@@ -83,4 +102,11 @@ protected void checkSortable(String absoluteFieldPath) {
 					EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) );
 		}
 	}
+
+	protected void checkAggregatable(String absoluteFieldPath) {
+		if ( !sortable ) {
+			throw log.unaggregatableField( absoluteFieldPath,
+					EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) );
+		}
+	}
 }
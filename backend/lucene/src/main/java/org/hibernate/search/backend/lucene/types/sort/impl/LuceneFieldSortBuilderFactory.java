@@ -9,6 +9,8 @@
 import org.hibernate.search.backend.lucene.search.impl.LuceneConverterCompatibilityChecker;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.sort.impl.LuceneSearchSortBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
 import org.hibernate.search.engine.search.predicate.DslConverter;
 import org.hibernate.search.engine.search.sort.spi.DistanceSortBuilder;
 import org.hibernate.search.engine.search.sort.spi.FieldSortBuilder;
@@ -30,6 +32,9 @@
  * having a per-field factory allows us to throw detailed exceptions
  * when users try to create a sort that just cannot work on a particular field
  * (either because it has the wrong type, or it's not configured in a way that allows it).
+ * <p>
+ * Aggregations rely on the same doc values as sorts,
+ * so this factory also creates aggregation builders.
  */
 public interface LuceneFieldSortBuilderFactory {
 
@@ -38,6 +43,11 @@ FieldSortBuilder<LuceneSearchSortBuilder> createFieldSortBuilder(
 
 	DistanceSortBuilder<LuceneSearchSortBuilder> createDistanceSortBuilder(String absoluteFieldPath, GeoPoint center);
 
+	TermsAggregationBuilder createTermsAggregationBuilder(String absoluteFieldPath);
+
+	<K> RangeAggregationBuilder<K> createRangeAggregationBuilder(LuceneSearchContext searchContext,
+			String absoluteFieldPath, LuceneConverterCompatibilityChecker converterChecker);
+
 	boolean hasCompatibleCodec(LuceneFieldSortBuilderFactory other);
 
 	boolean hasCompatibleConverter(LuceneFieldSortBuilderFactory other);
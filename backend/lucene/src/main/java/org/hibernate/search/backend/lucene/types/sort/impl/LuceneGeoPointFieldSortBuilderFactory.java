@@ -13,6 +13,8 @@
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.sort.impl.LuceneSearchSortBuilder;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
 import org.hibernate.search.engine.search.sort.spi.DistanceSortBuilder;
 import org.hibernate.search.engine.search.sort.spi.FieldSortBuilder;
 import org.hibernate.search.engine.spatial.GeoPoint;
@@ -43,6 +45,19 @@ public DistanceSortBuilder<LuceneSearchSortBuilder> createDistanceSortBuilder(St
 		return new LuceneGeoPointDistanceSortBuilder( absoluteFieldPath, center );
 	}
 
+	@Override
+	public TermsAggregationBuilder createTermsAggregationBuilder(String absoluteFieldPath) {
+		throw log.termsAggregationsNotSupportedByFieldType(
+				EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) );
+	}
+
+	@Override
+	public <K> RangeAggregationBuilder<K> createRangeAggregationBuilder(LuceneSearchContext searchContext,
+			String absoluteFieldPath, LuceneConverterCompatibilityChecker converterChecker) {
+		throw log.rangeAggregationsNotSupportedByFieldType(
+				EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) );
+	}
+
 	@Override
 	public boolean hasCompatibleCodec(LuceneFieldSortBuilderFactory other) {
 		if ( other.getClass() != this.getClass() ) {
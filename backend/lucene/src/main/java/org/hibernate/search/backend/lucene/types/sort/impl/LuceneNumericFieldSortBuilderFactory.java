@@ -9,8 +9,10 @@
 import org.hibernate.search.backend.lucene.search.impl.LuceneConverterCompatibilityChecker;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.sort.impl.LuceneSearchSortBuilder;
+import org.hibernate.search.backend.lucene.types.aggregation.impl.LuceneNumericRangeAggregationBuilder;
 import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneNumericFieldCodec;
 import org.hibernate.search.engine.backend.types.converter.ToDocumentFieldValueConverter;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
 import org.hibernate.search.engine.search.sort.spi.FieldSortBuilder;
 
 public class LuceneNumericFieldSortBuilderFactory<F, E extends Number>
@@ -29,4 +31,12 @@ public FieldSortBuilder<LuceneSearchSortBuilder> createFieldSortBuilder(
 
 		return new LuceneNumericFieldSortBuilder<>( searchContext, absoluteFieldPath, converter, rawConverter, converterChecker, codec );
 	}
+
+	@Override
+	public <K> RangeAggregationBuilder<K> createRangeAggregationBuilder(LuceneSearchContext searchContext,
+			String absoluteFieldPath, LuceneConverterCompatibilityChecker converterChecker) {
+		checkAggregatable( absoluteFieldPath );
+
+		return new LuceneNumericRangeAggregationBuilder<>( searchContext, absoluteFieldPath, converter, converterChecker, codec );
+	}
 }
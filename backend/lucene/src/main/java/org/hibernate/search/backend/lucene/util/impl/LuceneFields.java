@@ -18,6 +18,8 @@ public class LuceneFields {
 
 	private static final String TENANT_ID_FIELD_NAME = internalFieldName( "tenantId" );
 
+	private static final String TENANT_ID_AND_ID_FIELD_NAME = internalFieldName( "tenantId_id" );
+
 	private static final String TYPE_FIELD_NAME = internalFieldName( "type" );
 
 	private static final String FIELD_NAMES_FIELD_NAME = internalFieldName( "field_names" );
@@ -63,6 +65,10 @@ public static String tenantIdFieldName() {
 		return TENANT_ID_FIELD_NAME;
 	}
 
+	public static String tenantIdAndIdFieldName() {
+		return TENANT_ID_AND_ID_FIELD_NAME;
+	}
+
 	public static String typeFieldName() {
 		return TYPE_FIELD_NAME;
 	}
@@ -0,0 +1,42 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.work.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import org.apache.lucene.index.IndexWriter;
+import org.hibernate.search.util.common.impl.Futures;
+
+/**
+ * A work changing the live configuration of the index writer,
+ * executed by the index work orchestrator so that it is ordered with respect to other works.
+ */
+public class LuceneConfigureIndexWriterWork extends AbstractLuceneWork<Void> {
+
+	private final Consumer<IndexWriter> configurer;
+
+	public LuceneConfigureIndexWriterWork(String indexName, Consumer<IndexWriter> configurer) {
+		super( "configureIndexWriter", indexName );
+		this.configurer = configurer;
+	}
+
+	@Override
+	public CompletableFuture<Void> execute(LuceneIndexWorkExecutionContext context) {
+		return Futures.create( () -> CompletableFuture.completedFuture( null ).thenRun( () -> configurer.accept( context.getIndexWriter() ) ) );
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "type=" ).append( workType )
+				.append( ", indexName=" ).append( indexName )
+				.append( "]" );
+		return sb.toString();
+	}
+}
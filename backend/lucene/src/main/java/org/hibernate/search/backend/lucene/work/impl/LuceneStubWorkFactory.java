@@ -6,6 +6,9 @@
  */
 package org.hibernate.search.backend.lucene.work.impl;
 
+import java.util.function.Consumer;
+
+import org.apache.lucene.index.IndexWriter;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearcher;
@@ -58,6 +61,11 @@ public LuceneIndexWork<?> optimize(String indexName) {
 		return new LuceneOptimizeIndexWork( indexName );
 	}
 
+	@Override
+	public LuceneIndexWork<?> configureIndexWriter(String indexName, Consumer<IndexWriter> configurer) {
+		return new LuceneConfigureIndexWriterWork( indexName, configurer );
+	}
+
 	@Override
 	public <T> LuceneExecuteQueryWork<T> search(LuceneSearcher<T> luceneSearcher) {
 		return new LuceneExecuteQueryWork<>( luceneSearcher );
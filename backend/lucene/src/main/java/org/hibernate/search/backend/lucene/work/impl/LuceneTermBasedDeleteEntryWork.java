@@ -10,19 +10,24 @@
 
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.Term;
-import org.hibernate.search.backend.lucene.util.impl.LuceneFields;
 
 /**
  * @author Guillaume Smet
  */
 public class LuceneTermBasedDeleteEntryWork extends AbstractLuceneDeleteEntryWork {
 
-	public LuceneTermBasedDeleteEntryWork(String indexName, String tenantId, String id) {
+	private final Term term;
+
+	/**
+	 * @param term A term matching the root document of the entry to delete, and only that document.
+	 */
+	public LuceneTermBasedDeleteEntryWork(String indexName, String tenantId, String id, Term term) {
 		super( indexName, tenantId, id );
+		this.term = term;
 	}
 
 	@Override
 	protected long doDeleteDocuments(IndexWriter indexWriter, String tenantId, String id) throws IOException {
-		return indexWriter.deleteDocuments( new Term( LuceneFields.idFieldName(), id ) );
+		return indexWriter.deleteDocuments( term );
 	}
 }
@@ -11,19 +11,25 @@
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.Term;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
-import org.hibernate.search.backend.lucene.util.impl.LuceneFields;
 
 /**
  * @author Guillaume Smet
  */
 public class LuceneTermBasedUpdateEntryWork extends AbstractLuceneUpdateEntryWork {
 
-	public LuceneTermBasedUpdateEntryWork(String indexName, String tenantId, String id, LuceneIndexEntry indexEntry) {
+	private final Term term;
+
+	/**
+	 * @param term A term matching the root document of the entry to update, and only that document.
+	 */
+	public LuceneTermBasedUpdateEntryWork(String indexName, String tenantId, String id, Term term,
+			LuceneIndexEntry indexEntry) {
 		super( indexName, tenantId, id, indexEntry );
+		this.term = term;
 	}
 
 	@Override
 	protected long doUpdateEntry(IndexWriter indexWriter, String tenantId, String id, LuceneIndexEntry indexEntry) throws IOException {
-		return indexWriter.updateDocuments( new Term( LuceneFields.idFieldName(), id ), indexEntry );
+		return indexWriter.updateDocuments( term, indexEntry );
 	}
 }
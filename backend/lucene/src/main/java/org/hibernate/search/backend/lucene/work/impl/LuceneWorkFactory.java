@@ -6,6 +6,9 @@
  */
 package org.hibernate.search.backend.lucene.work.impl;
 
+import java.util.function.Consumer;
+
+import org.apache.lucene.index.IndexWriter;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
 import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearcher;
 
@@ -29,5 +32,7 @@ LuceneIndexWork<?> update(String indexName, String tenantId, String id, String r
 
 	LuceneIndexWork<?> optimize(String indexName);
 
+	LuceneIndexWork<?> configureIndexWriter(String indexName, Consumer<IndexWriter> configurer);
+
 	<T> LuceneExecuteQueryWork<T> search(LuceneSearcher<T> luceneSearcher);
 }
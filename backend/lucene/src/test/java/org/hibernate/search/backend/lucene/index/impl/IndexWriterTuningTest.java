@@ -0,0 +1,94 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+
+public class IndexWriterTuningTest {
+
+	private static final int MAX_BUFFERED_DOCS = 2;
+
+	private Directory directory;
+	private IndexWriterTuning tuning;
+	private IndexWriter indexWriter;
+
+	@Before
+	public void createIndexWriter() throws IOException {
+		Map<String, Object> properties = new HashMap<>();
+		properties.put( LuceneIndexSettings.IO_WRITER_MAX_BUFFERED_DOCS, MAX_BUFFERED_DOCS );
+		tuning = IndexWriterTuning.create( ConfigurationPropertySource.fromMap( properties ) );
+		directory = new ByteBuffersDirectory();
+		indexWriter = new IndexWriter( directory, tuning.createConfig( new StandardAnalyzer() ) );
+	}
+
+	@After
+	public void close() throws IOException {
+		indexWriter.close();
+		directory.close();
+	}
+
+	@Test
+	public void regularSettings_flushOnDocumentCount() throws IOException {
+		addDocuments( MAX_BUFFERED_DOCS );
+		// The document count triggered a flush
+		assertThat( indexWriter.numRamDocs() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void bulkIndexing_noFlushOnDocumentCount() throws IOException {
+		assertThat( tuning.startBulkIndexing( indexWriter ) ).isTrue();
+		addDocuments( MAX_BUFFERED_DOCS * 10 );
+		// Only the (large) RAM buffer size triggers flushes during bulk indexing
+		assertThat( indexWriter.numRamDocs() ).isEqualTo( MAX_BUFFERED_DOCS * 10 );
+
+		assertThat( tuning.endBulkIndexing( indexWriter ) ).isTrue();
+		addDocuments( MAX_BUFFERED_DOCS );
+		// The regular settings apply again: the document count triggered a flush
+		assertThat( indexWriter.numRamDocs() ).isLessThan( MAX_BUFFERED_DOCS );
+	}
+
+	@Test
+	public void bulkIndexing_nested() throws IOException {
+		assertThat( tuning.startBulkIndexing( indexWriter ) ).isTrue();
+		assertThat( tuning.startBulkIndexing( indexWriter ) ).isFalse();
+
+		// Bulk indexing only ends when the last caller ends it
+		assertThat( tuning.endBulkIndexing( indexWriter ) ).isFalse();
+		addDocuments( MAX_BUFFERED_DOCS * 10 );
+		assertThat( indexWriter.numRamDocs() ).isEqualTo( MAX_BUFFERED_DOCS * 10 );
+
+		assertThat( tuning.endBulkIndexing( indexWriter ) ).isTrue();
+		assertThat( tuning.endBulkIndexing( indexWriter ) ).isFalse();
+	}
+
+	private void addDocuments(int count) throws IOException {
+		for ( int i = 0; i < count; i++ ) {
+			Document document = new Document();
+			document.add( new StringField( "id", String.valueOf( i ), Field.Store.NO ) );
+			indexWriter.addDocument( document );
+		}
+	}
+}
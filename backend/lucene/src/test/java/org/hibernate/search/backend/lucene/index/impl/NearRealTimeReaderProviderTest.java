@@ -0,0 +1,221 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+
+public class NearRealTimeReaderProviderTest {
+
+	private Directory directory;
+	private IndexWriter indexWriter;
+	private NearRealTimeReaderProvider readerProvider;
+
+	private long nanoTime = 0L;
+
+	@Before
+	public void createIndexWriter() throws IOException {
+		directory = new ByteBuffersDirectory();
+		indexWriter = new IndexWriter( directory, new IndexWriterConfig( new StandardAnalyzer() ) );
+	}
+
+	@After
+	public void close() throws IOException {
+		if ( readerProvider != null ) {
+			readerProvider.close();
+		}
+		indexWriter.close();
+		directory.close();
+	}
+
+	@Test
+	public void sharedAndReleased() {
+		readerProvider = createReaderProvider( 0 );
+
+		IndexReader reader1 = readerProvider.openIndexReader();
+		IndexReader reader2 = readerProvider.openIndexReader();
+		// Without changes, queries share the same reader
+		assertThat( reader2 ).isSameAs( reader1 );
+		int refCountWithTwoQueries = reader1.getRefCount();
+
+		readerProvider.closeIndexReader( reader2 );
+		assertThat( reader1.getRefCount() ).isEqualTo( refCountWithTwoQueries - 1 );
+		readerProvider.closeIndexReader( reader1 );
+		assertThat( reader1.getRefCount() ).isEqualTo( refCountWithTwoQueries - 2 );
+		// The reader is still held by the provider, and thus still open
+		assertThat( reader1.getRefCount() ).isPositive();
+	}
+
+	@Test
+	public void refreshIntervalZero_refreshedAfterChanges() throws IOException {
+		readerProvider = createReaderProvider( 0 );
+
+		IndexReader reader1 = readerProvider.openIndexReader();
+		assertThat( reader1.numDocs() ).isEqualTo( 0 );
+
+		addDocument( "1" );
+		readerProvider.afterChangesApplied();
+		// Applying changes does not refresh the reader, and thus does not flush a new segment
+		assertThat( indexWriter.numRamDocs() ).isEqualTo( 1 );
+
+		// The reader is refreshed by the first query after changes have been applied
+		IndexReader reader2 = readerProvider.openIndexReader();
+		assertThat( reader2 ).isNotSameAs( reader1 );
+		assertThat( reader2.numDocs() ).isEqualTo( 1 );
+		assertThat( indexWriter.numRamDocs() ).isEqualTo( 0 );
+
+		// Without further changes, queries share the refreshed reader
+		IndexReader reader3 = readerProvider.openIndexReader();
+		assertThat( reader3 ).isSameAs( reader2 );
+		readerProvider.closeIndexReader( reader3 );
+
+		// The stale reader is closed once the last query using it releases it
+		assertThat( reader1.getRefCount() ).isEqualTo( 1 );
+		readerProvider.closeIndexReader( reader1 );
+		assertThat( reader1.getRefCount() ).isEqualTo( 0 );
+
+		readerProvider.closeIndexReader( reader2 );
+		assertThat( reader2.getRefCount() ).isPositive();
+	}
+
+	@Test
+	public void refreshIntervalZero_severalChangesBeforeQuery() throws IOException {
+		readerProvider = createReaderProvider( 0 );
+
+		for ( int i = 0; i < 3; i++ ) {
+			addDocument( String.valueOf( i ) );
+			readerProvider.afterChangesApplied();
+		}
+		// All changes are flushed to a single segment, by the first query
+		assertThat( indexWriter.numRamDocs() ).isEqualTo( 3 );
+		IndexReader reader = readerProvider.openIndexReader();
+		assertThat( reader.numDocs() ).isEqualTo( 3 );
+		assertThat( reader.leaves() ).hasSize( 1 );
+		readerProvider.closeIndexReader( reader );
+	}
+
+	@Test
+	public void refreshIntervalPositive_refreshedLazily() throws IOException {
+		readerProvider = createReaderProvider( 100 );
+
+		IndexReader reader1 = readerProvider.openIndexReader();
+		addDocument( "1" );
+		readerProvider.afterChangesApplied();
+		// The reader is not refreshed before the refresh interval elapsed
+		nanoTime += TimeUnit.MILLISECONDS.toNanos( 99 );
+		IndexReader reader2 = readerProvider.openIndexReader();
+		assertThat( reader2 ).isSameAs( reader1 );
+		readerProvider.closeIndexReader( reader2 );
+		assertThat( indexWriter.numRamDocs() ).isEqualTo( 1 );
+
+		// The reader is refreshed by the first query after the refresh interval elapsed
+		nanoTime += TimeUnit.MILLISECONDS.toNanos( 1 );
+		IndexReader reader3 = readerProvider.openIndexReader();
+		assertThat( reader3 ).isNotSameAs( reader1 );
+		assertThat( reader3.numDocs() ).isEqualTo( 1 );
+
+		// The interval starts over after each refresh
+		addDocument( "2" );
+		readerProvider.afterChangesApplied();
+		nanoTime += TimeUnit.MILLISECONDS.toNanos( 99 );
+		IndexReader reader4 = readerProvider.openIndexReader();
+		assertThat( reader4 ).isSameAs( reader3 );
+		readerProvider.closeIndexReader( reader4 );
+
+		readerProvider.closeIndexReader( reader1 );
+		assertThat( reader1.getRefCount() ).isEqualTo( 0 );
+		readerProvider.closeIndexReader( reader3 );
+	}
+
+	@Test
+	public void refreshIntervalPositive_noChanges() {
+		readerProvider = createReaderProvider( 100 );
+
+		IndexReader reader1 = readerProvider.openIndexReader();
+		readerProvider.closeIndexReader( reader1 );
+		// Without changes, the reader is not refreshed, even after the refresh interval elapsed
+		nanoTime += TimeUnit.MILLISECONDS.toNanos( 1000 );
+		IndexReader reader2 = readerProvider.openIndexReader();
+		assertThat( reader2 ).isSameAs( reader1 );
+		readerProvider.closeIndexReader( reader2 );
+	}
+
+	@Test
+	public void suspendRefresh() throws IOException {
+		readerProvider = createReaderProvider( 0 );
+
+		IndexReader reader1 = readerProvider.openIndexReader();
+		readerProvider.closeIndexReader( reader1 );
+
+		readerProvider.suspendRefresh();
+		for ( int i = 0; i < 3; i++ ) {
+			addDocument( String.valueOf( i ) );
+			readerProvider.afterChangesApplied();
+			// Queries do not refresh the reader, and thus do not flush a new segment
+			IndexReader reader = readerProvider.openIndexReader();
+			assertThat( reader ).isSameAs( reader1 );
+			readerProvider.closeIndexReader( reader );
+		}
+		assertThat( indexWriter.numRamDocs() ).isEqualTo( 3 );
+
+		// Resuming refreshes the reader once, flushing all changes to a single segment
+		readerProvider.resumeRefresh();
+		assertThat( indexWriter.numRamDocs() ).isEqualTo( 0 );
+		IndexReader reader2 = readerProvider.openIndexReader();
+		assertThat( reader2 ).isNotSameAs( reader1 );
+		assertThat( reader2.numDocs() ).isEqualTo( 3 );
+		assertThat( reader2.leaves() ).hasSize( 1 );
+		readerProvider.closeIndexReader( reader2 );
+	}
+
+	@Test
+	public void close_readersHeldByQueries() throws IOException {
+		readerProvider = createReaderProvider( 0 );
+
+		IndexReader reader = readerProvider.openIndexReader();
+		readerProvider.close();
+		readerProvider = null;
+
+		// Closing the provider must not close readers still used by queries...
+		assertThat( reader.getRefCount() ).isEqualTo( 1 );
+		assertThat( reader.numDocs() ).isEqualTo( 0 );
+		// ... which must be closed once released
+		reader.decRef();
+		assertThat( reader.getRefCount() ).isEqualTo( 0 );
+	}
+
+	private NearRealTimeReaderProvider createReaderProvider(int refreshInterval) {
+		return new NearRealTimeReaderProvider(
+				EventContexts.fromIndexName( "indexName" ), indexWriter, refreshInterval,
+				() -> nanoTime
+		);
+	}
+
+	private void addDocument(String id) throws IOException {
+		Document document = new Document();
+		document.add( new StringField( "id", id, Field.Store.NO ) );
+		indexWriter.addDocument( document );
+	}
+}
@@ -0,0 +1,431 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import static org.hibernate.search.util.impl.test.FutureAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.cfg.CommitPolicyName;
+import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWork;
+import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWorkExecutionContext;
+import org.hibernate.search.engine.common.spi.ErrorContext;
+import org.hibernate.search.engine.common.spi.ErrorHandler;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.assertj.core.api.Assertions;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class LuceneBatchingIndexWorkOrchestratorTest {
+
+	private static final String COMMIT = "commit";
+
+	private static final int MAX_CHANGESETS_PER_BATCH = 10;
+
+	private final List<String> executedWorks = Collections.synchronizedList( new ArrayList<>() );
+	private final List<Throwable> handledFailures = Collections.synchronizedList( new ArrayList<>() );
+
+	private final ErrorHandler errorHandler = new ErrorHandler() {
+		@Override
+		public void handle(ErrorContext context) {
+			handledFailures.add( context.getThrowable() );
+		}
+
+		@Override
+		public void handleException(String errorMsg, Throwable exception) {
+			handledFailures.add( exception );
+		}
+	};
+
+	private final Semaphore commits = new Semaphore( 0 );
+	private final LuceneIndexWork<?> commitWork = context -> {
+		executedWorks.add( COMMIT );
+		commits.release();
+		return CompletableFuture.completedFuture( null );
+	};
+
+	private Runnable afterBatchAction = () -> { };
+
+	private LuceneBatchingIndexWorkOrchestrator orchestrator;
+
+	@After
+	public void closeOrchestrator() {
+		if ( orchestrator != null ) {
+			orchestrator.close();
+		}
+	}
+
+	@Test
+	public void simple() throws InterruptedException {
+		orchestrator = startOrchestrator( commitWork );
+
+		CompletableFuture<String> future = orchestrator.submit( work( "1" ) );
+		orchestrator.awaitCompletion();
+
+		assertThat( future ).isSuccessful( "1" );
+		Assertions.assertThat( executedWorks ).containsExactly( "1", COMMIT );
+		Assertions.assertThat( handledFailures ).isEmpty();
+	}
+
+	@Test
+	public void order() throws InterruptedException {
+		orchestrator = startOrchestrator( commitWork );
+
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		List<String> expectedWorks = new ArrayList<>();
+		for ( int i = 0; i < 5 * MAX_CHANGESETS_PER_BATCH; i++ ) {
+			String firstWorkId = i + "-1";
+			String secondWorkId = i + "-2";
+			futures.add( orchestrator.submit( Arrays.asList( work( firstWorkId ), work( secondWorkId ) ) ) );
+			expectedWorks.add( firstWorkId );
+			expectedWorks.add( secondWorkId );
+		}
+		orchestrator.awaitCompletion();
+
+		for ( CompletableFuture<?> future : futures ) {
+			assertThat( future ).isSuccessful();
+		}
+		// Ignore commits: we only care about the order of works here
+		List<String> executedWorksWithoutCommits = new ArrayList<>( executedWorks );
+		executedWorksWithoutCommits.removeIf( COMMIT::equals );
+		Assertions.assertThat( executedWorksWithoutCommits ).containsExactlyElementsOf( expectedWorks );
+		Assertions.assertThat( handledFailures ).isEmpty();
+	}
+
+	@Test
+	public void batching() throws InterruptedException {
+		orchestrator = startOrchestrator( commitWork );
+
+		BlockingWork blockingWork = new BlockingWork( "blocking" );
+		CompletableFuture<String> blockingFuture = orchestrator.submit( blockingWork );
+		blockingWork.awaitStart();
+
+		// These changesets are queued while the orchestrator thread is busy
+		CompletableFuture<String> future1 = orchestrator.submit( work( "1" ) );
+		CompletableFuture<?> future2 = orchestrator.submit( Arrays.asList( work( "2-1" ), work( "2-2" ) ) );
+		CompletableFuture<String> future3 = orchestrator.submit( work( "3" ) );
+		assertThat( blockingFuture ).isPending();
+		assertThat( future1 ).isPending();
+		assertThat( future2 ).isPending();
+		assertThat( future3 ).isPending();
+
+		blockingWork.release();
+		orchestrator.awaitCompletion();
+
+		assertThat( blockingFuture ).isSuccessful( "blocking" );
+		assertThat( future1 ).isSuccessful( "1" );
+		assertThat( future2 ).isSuccessful();
+		assertThat( future3 ).isSuccessful( "3" );
+		// The queued changesets must have been executed as a single batch, with a single commit
+		Assertions.assertThat( executedWorks ).containsExactly(
+				"blocking", COMMIT,
+				"1", "2-1", "2-2", "3", COMMIT
+		);
+		Assertions.assertThat( handledFailures ).isEmpty();
+	}
+
+	@Test
+	public void futureCompletedAfterCommit() throws InterruptedException {
+		BlockingWork blockingCommitWork = new BlockingWork( COMMIT );
+		orchestrator = startOrchestrator( blockingCommitWork );
+
+		CompletableFuture<String> future = orchestrator.submit( work( "1" ) );
+		blockingCommitWork.awaitStart();
+		Assertions.assertThat( executedWorks ).containsExactly( "1" );
+		assertThat( future ).isPending();
+
+		blockingCommitWork.release();
+		orchestrator.awaitCompletion();
+
+		assertThat( future ).isSuccessful( "1" );
+		Assertions.assertThat( executedWorks ).containsExactly( "1", COMMIT );
+		Assertions.assertThat( handledFailures ).isEmpty();
+	}
+
+	@Test
+	public void afterBatchAction() throws InterruptedException {
+		List<CompletableFuture<?>> futures = Collections.synchronizedList( new ArrayList<>() );
+		List<Long> pendingFutureCounts = Collections.synchronizedList( new ArrayList<>() );
+		afterBatchAction = () -> {
+			executedWorks.add( "afterBatch" );
+			pendingFutureCounts.add( futures.stream().filter( future -> !future.isDone() ).count() );
+		};
+		orchestrator = startOrchestrator( commitWork );
+
+		BlockingWork blockingWork = new BlockingWork( "blocking" );
+		futures.add( orchestrator.submit( blockingWork ) );
+		blockingWork.awaitStart();
+		futures.add( orchestrator.submit( work( "1" ) ) );
+		futures.add( orchestrator.submit( work( "2" ) ) );
+
+		blockingWork.release();
+		orchestrator.awaitCompletion();
+
+		for ( CompletableFuture<?> future : futures ) {
+			assertThat( future ).isSuccessful();
+		}
+		// The action must be executed once per batch, after the commit...
+		Assertions.assertThat( executedWorks ).containsExactly(
+				"blocking", COMMIT, "afterBatch",
+				"1", "2", COMMIT, "afterBatch"
+		);
+		// ... and before the futures of the batch are completed
+		Assertions.assertThat( pendingFutureCounts ).containsExactly( 3L, 2L );
+		Assertions.assertThat( handledFailures ).isEmpty();
+	}
+
+	@Test
+	public void workFailure() throws InterruptedException {
+		orchestrator = startOrchestrator( commitWork );
+
+		BlockingWork blockingWork = new BlockingWork( "blocking" );
+		orchestrator.submit( blockingWork );
+		blockingWork.awaitStart();
+
+		RuntimeException workFailure = new RuntimeException( "Some message" );
+		CompletableFuture<String> future1 = orchestrator.submit( work( "1" ) );
+		CompletableFuture<?> future2 = orchestrator.submit( Arrays.asList(
+				work( "2-1" ), failingWork( "2-2", workFailure ), work( "2-3" )
+		) );
+		CompletableFuture<String> future3 = orchestrator.submit( work( "3" ) );
+
+		blockingWork.release();
+		orchestrator.awaitCompletion();
+
+		// The failure must only affect the changeset it occurred in
+		assertThat( future1 ).isSuccessful( "1" );
+		assertThat( future2 ).isFailed( workFailure );
+		assertThat( future3 ).isSuccessful( "3" );
+		// Works following the failing work in the same changeset must not be executed
+		Assertions.assertThat( executedWorks ).containsExactly(
+				"blocking", COMMIT,
+				"1", "2-1", "2-2", "3", COMMIT
+		);
+		// Work failures are reported through futures, not through the error handler
+		Assertions.assertThat( handledFailures ).isEmpty();
+	}
+
+	@Test
+	public void commitFailure() throws InterruptedException {
+		RuntimeException commitFailure = new RuntimeException( "Some message" );
+		orchestrator = startOrchestrator( failingWork( COMMIT, commitFailure ) );
+
+		CompletableFuture<?> future1 = orchestrator.submit( Arrays.asList( work( "1-1" ), work( "1-2" ) ) );
+		orchestrator.awaitCompletion();
+
+		assertThat( future1 ).isFailed( commitFailure );
+		Assertions.assertThat( handledFailures ).containsExactly( commitFailure );
+
+		// The orchestrator must still accept changesets
+		handledFailures.clear();
+		RuntimeException workFailure = new RuntimeException( "Some other message" );
+		CompletableFuture<String> future2 = orchestrator.submit( failingWork( "2", workFailure ) );
+		orchestrator.awaitCompletion();
+
+		// Both the work failure and the commit failure must be reported
+		assertThat( future2 ).isFailed( throwable -> {
+			Assertions.assertThat( throwable ).isSameAs( workFailure );
+			Assertions.assertThat( throwable.getSuppressed() ).containsExactly( commitFailure );
+		} );
+		Assertions.assertThat( handledFailures ).containsExactly( commitFailure );
+		Assertions.assertThat( executedWorks ).containsExactly( "1-1", "1-2", COMMIT, "2", COMMIT );
+	}
+
+	@Test
+	public void submitAfterClose() throws InterruptedException {
+		orchestrator = startOrchestrator( commitWork );
+
+		CompletableFuture<String> future = orchestrator.submit( work( "1" ) );
+		orchestrator.close();
+
+		// Closing must wait for submitted works to be executed
+		assertThat( future ).isSuccessful( "1" );
+		Assertions.assertThat( executedWorks ).containsExactly( "1", COMMIT );
+
+		SubTest.expectException(
+				"submit after close",
+				() -> orchestrator.submit( work( "2" ) )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "A changeset was submitted after Hibernate Search shutdown was requested" );
+		Assertions.assertThat( executedWorks ).containsExactly( "1", COMMIT );
+	}
+
+	@Test
+	public void commitPolicy_documentCount() throws InterruptedException {
+		orchestrator = startOrchestrator( new LuceneCommitPolicy( CommitPolicyName.DOCUMENT_COUNT, 1000, 3 ), commitWork );
+
+		CompletableFuture<?> future1 = orchestrator.submit( Arrays.asList( work( "1-1" ), work( "1-2" ) ) );
+		orchestrator.awaitCompletion();
+		assertThat( future1 ).isSuccessful();
+		Assertions.assertThat( executedWorks ).containsExactly( "1-1", "1-2" );
+
+		// The third uncommitted work must trigger a commit
+		CompletableFuture<String> future2 = orchestrator.submit( work( "2" ) );
+		orchestrator.awaitCompletion();
+		assertThat( future2 ).isSuccessful( "2" );
+		Assertions.assertThat( executedWorks ).containsExactly( "1-1", "1-2", "2", COMMIT );
+
+		// The count must start over after a commit
+		CompletableFuture<String> future3 = orchestrator.submit( work( "3" ) );
+		orchestrator.awaitCompletion();
+		assertThat( future3 ).isSuccessful( "3" );
+		Assertions.assertThat( executedWorks ).containsExactly( "1-1", "1-2", "2", COMMIT, "3" );
+
+		// Remaining changes must be committed on close
+		orchestrator.close();
+		Assertions.assertThat( executedWorks ).containsExactly( "1-1", "1-2", "2", COMMIT, "3", COMMIT );
+		Assertions.assertThat( handledFailures ).isEmpty();
+	}
+
+	@Test
+	public void commitPolicy_interval() throws InterruptedException {
+		orchestrator = startOrchestrator( new LuceneCommitPolicy( CommitPolicyName.INTERVAL, 100, 1000 ), commitWork );
+
+		long startNanos = System.nanoTime();
+		CompletableFuture<String> future1 = orchestrator.submit( work( "1" ) );
+		CompletableFuture<String> future2 = orchestrator.submit( work( "2" ) );
+		orchestrator.awaitCompletion();
+		// Futures must not wait for the commit with this policy
+		assertThat( future1 ).isSuccessful( "1" );
+		assertThat( future2 ).isSuccessful( "2" );
+
+		// The commit must happen once the interval has elapsed
+		Assertions.assertThat( commits.tryAcquire( 10, TimeUnit.SECONDS ) ).isTrue();
+		Assertions.assertThat( System.nanoTime() - startNanos )
+				.isGreaterThanOrEqualTo( TimeUnit.MILLISECONDS.toNanos( 100 ) );
+		Assertions.assertThat( executedWorks ).containsExactly( "1", "2", COMMIT );
+
+		// A new commit must be scheduled for the next changes
+		CompletableFuture<String> future3 = orchestrator.submit( work( "3" ) );
+		orchestrator.awaitCompletion();
+		assertThat( future3 ).isSuccessful( "3" );
+		Assertions.assertThat( commits.tryAcquire( 10, TimeUnit.SECONDS ) ).isTrue();
+		Assertions.assertThat( executedWorks ).containsExactly( "1", "2", COMMIT, "3", COMMIT );
+		Assertions.assertThat( handledFailures ).isEmpty();
+	}
+
+	@Test
+	public void commitPolicy_interval_commitOnClose() throws InterruptedException {
+		orchestrator = startOrchestrator(
+				new LuceneCommitPolicy( CommitPolicyName.INTERVAL, (int) TimeUnit.HOURS.toMillis( 1 ), 1000 ),
+				commitWork
+		);
+
+		CompletableFuture<String> future = orchestrator.submit( work( "1" ) );
+		orchestrator.awaitCompletion();
+		assertThat( future ).isSuccessful( "1" );
+		Assertions.assertThat( executedWorks ).containsExactly( "1" );
+
+		// The pending commit must be executed on close instead of being dropped
+		orchestrator.close();
+		Assertions.assertThat( executedWorks ).containsExactly( "1", COMMIT );
+		Assertions.assertThat( handledFailures ).isEmpty();
+	}
+
+	@Test
+	public void commitPolicy_flush() throws InterruptedException {
+		orchestrator = startOrchestrator( new LuceneCommitPolicy( CommitPolicyName.FLUSH, 1000, 1 ), commitWork );
+
+		CompletableFuture<?> future1 = orchestrator.submit( Arrays.asList( work( "1-1" ), work( "1-2" ) ) );
+		CompletableFuture<String> future2 = orchestrator.submit( work( "2" ) );
+		orchestrator.awaitCompletion();
+		assertThat( future1 ).isSuccessful();
+		assertThat( future2 ).isSuccessful( "2" );
+		// Works must never trigger a commit with this policy
+		Assertions.assertThat( executedWorks ).containsExactly( "1-1", "1-2", "2" );
+
+		// Changes must be committed on close
+		orchestrator.close();
+		Assertions.assertThat( executedWorks ).containsExactly( "1-1", "1-2", "2", COMMIT );
+		Assertions.assertThat( handledFailures ).isEmpty();
+	}
+
+	@Test
+	public void noCommitOnCloseWithoutChanges() throws InterruptedException {
+		orchestrator = startOrchestrator( new LuceneCommitPolicy( CommitPolicyName.FLUSH, 1000, 1000 ), commitWork );
+
+		orchestrator.close();
+		Assertions.assertThat( executedWorks ).isEmpty();
+		Assertions.assertThat( handledFailures ).isEmpty();
+	}
+
+	private LuceneBatchingIndexWorkOrchestrator startOrchestrator(LuceneIndexWork<?> commitWork) {
+		return startOrchestrator( new LuceneCommitPolicy( CommitPolicyName.TRANSACTION, 1000, 1000 ), commitWork );
+	}
+
+	private LuceneBatchingIndexWorkOrchestrator startOrchestrator(LuceneCommitPolicy commitPolicy,
+			LuceneIndexWork<?> commitWork) {
+		LuceneBatchingIndexWorkOrchestrator result = new LuceneBatchingIndexWorkOrchestrator(
+				"Test orchestrator", null, commitWork, commitPolicy, afterBatchAction,
+				MAX_CHANGESETS_PER_BATCH, errorHandler, (duration, unit) -> { }
+		);
+		result.start();
+		return result;
+	}
+
+	private LuceneIndexWork<String> work(String id) {
+		return context -> {
+			executedWorks.add( id );
+			return CompletableFuture.completedFuture( id );
+		};
+	}
+
+	private LuceneIndexWork<String> failingWork(String id, RuntimeException failure) {
+		return context -> {
+			executedWorks.add( id );
+			throw failure;
+		};
+	}
+
+	private class BlockingWork implements LuceneIndexWork<String> {
+		private final String id;
+		private final CountDownLatch startLatch = new CountDownLatch( 1 );
+		private final CountDownLatch releaseLatch = new CountDownLatch( 1 );
+
+		BlockingWork(String id) {
+			this.id = id;
+		}
+
+		@Override
+		public CompletableFuture<String> execute(LuceneIndexWorkExecutionContext context) {
+			startLatch.countDown();
+			try {
+				if ( !releaseLatch.await( 10, TimeUnit.SECONDS ) ) {
+					throw new IllegalStateException( "Blocking work " + id + " was never released" );
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException( e );
+			}
+			executedWorks.add( id );
+			return CompletableFuture.completedFuture( id );
+		}
+
+		void awaitStart() throws InterruptedException {
+			Assertions.assertThat( startLatch.await( 10, TimeUnit.SECONDS ) )
+					.as( "Blocking work " + id + " started" )
+					.isTrue();
+		}
+
+		void release() {
+			releaseLatch.countDown();
+		}
+	}
+}
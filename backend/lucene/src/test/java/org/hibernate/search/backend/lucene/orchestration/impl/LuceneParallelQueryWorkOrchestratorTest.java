@@ -0,0 +1,73 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import static org.hibernate.search.util.impl.test.FutureAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.engine.metrics.spi.Timer;
+
+import org.assertj.core.api.Assertions;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class LuceneParallelQueryWorkOrchestratorTest {
+
+	private final List<Long> recordedDurations = Collections.synchronizedList( new ArrayList<>() );
+	private final Timer searchTimer = (duration, unit) -> recordedDurations.add( unit.toNanos( duration ) );
+
+	private LuceneParallelQueryWorkOrchestrator orchestrator;
+
+	@After
+	public void closeOrchestrator() {
+		if ( orchestrator != null ) {
+			orchestrator.close();
+		}
+	}
+
+	@Test
+	public void searchTimer_recordedOnCompletion() throws InterruptedException {
+		orchestrator = new LuceneParallelQueryWorkOrchestrator( "orchestrator", 1, 10, searchTimer );
+
+		CompletableFuture<String> workFuture = new CompletableFuture<>();
+		CompletableFuture<String> future = orchestrator.submit( context -> workFuture );
+
+		// The work was executed, but its result is not available yet
+		Thread.sleep( 100 );
+		assertThat( future ).isPending();
+		Assertions.assertThat( recordedDurations ).isEmpty();
+
+		workFuture.complete( "result" );
+		assertThat( future ).isSuccessful( "result" );
+		Assertions.assertThat( recordedDurations ).hasSize( 1 );
+		// The recorded duration includes the time spent waiting for the result
+		Assertions.assertThat( recordedDurations.get( 0 ) ).isGreaterThanOrEqualTo( TimeUnit.MILLISECONDS.toNanos( 50 ) );
+	}
+
+	@Test
+	public void searchTimer_recordedOnFailure() throws InterruptedException {
+		orchestrator = new LuceneParallelQueryWorkOrchestrator( "orchestrator", 1, 10, searchTimer );
+
+		CompletableFuture<String> workFuture = new CompletableFuture<>();
+		CompletableFuture<String> future = orchestrator.submit( context -> workFuture );
+
+		Thread.sleep( 100 );
+		assertThat( future ).isPending();
+		Assertions.assertThat( recordedDurations ).isEmpty();
+
+		RuntimeException exception = new RuntimeException( "Some message" );
+		workFuture.completeExceptionally( exception );
+		assertThat( future ).isFailed( exception );
+		Assertions.assertThat( recordedDurations ).hasSize( 1 );
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import org.apache.lucene.util.Counter;
+
+public class LuceneSearchTimeoutTest {
+
+	private final Counter clock = Counter.newCounter();
+
+	@Test
+	public void milliseconds() {
+		LuceneSearchTimeout.Deadline deadline = new LuceneSearchTimeout( 2L, TimeUnit.MILLISECONDS, true )
+				.start( clock );
+		clock.addAndGet( 1L );
+		assertThat( deadline.check() ).isFalse();
+		clock.addAndGet( 1L );
+		assertThat( deadline.check() ).isTrue();
+		assertThat( deadline.isExceeded() ).isTrue();
+	}
+
+	@Test
+	public void subMillisecond_roundedUp() {
+		LuceneSearchTimeout.Deadline deadline = new LuceneSearchTimeout( 500L, TimeUnit.MICROSECONDS, true )
+				.start( clock );
+		// The timeout must not be truncated to 0 ms
+		assertThat( deadline.check() ).isFalse();
+		clock.addAndGet( 1L );
+		assertThat( deadline.check() ).isTrue();
+	}
+
+	@Test
+	public void fractionalMilliseconds_roundedUp() {
+		LuceneSearchTimeout.Deadline deadline = new LuceneSearchTimeout( 1_500L, TimeUnit.MICROSECONDS, true )
+				.start( clock );
+		clock.addAndGet( 1L );
+		assertThat( deadline.check() ).isFalse();
+		clock.addAndGet( 1L );
+		assertThat( deadline.check() ).isTrue();
+	}
+
+	@Test
+	public void seconds() {
+		LuceneSearchTimeout.Deadline deadline = new LuceneSearchTimeout( 1L, TimeUnit.SECONDS, false )
+				.start( clock );
+		clock.addAndGet( 999L );
+		assertThat( deadline.check() ).isFalse();
+		clock.addAndGet( 1L );
+		assertThat( deadline.check() ).isTrue();
+	}
+}
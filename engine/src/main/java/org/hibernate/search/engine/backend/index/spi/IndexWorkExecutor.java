@@ -16,4 +16,27 @@ public interface IndexWorkExecutor {
 
 	CompletableFuture<?> flush();
 
+	/**
+	 * Switches the index to a configuration optimized for indexing a large number of documents,
+	 * for example during mass indexing, until {@link #endBulkIndexing()} is called.
+	 * <p>
+	 * Calls may be nested: the regular configuration is only restored
+	 * once {@link #endBulkIndexing()} has been called as many times as this method.
+	 * Backends without such a configuration simply ignore the call.
+	 *
+	 * @return A future completing once the index uses the bulk indexing configuration.
+	 */
+	default CompletableFuture<?> startBulkIndexing() {
+		return CompletableFuture.completedFuture( null );
+	}
+
+	/**
+	 * Restores the regular configuration of the index after a call to {@link #startBulkIndexing()}.
+	 *
+	 * @return A future completing once the index uses its regular configuration again.
+	 */
+	default CompletableFuture<?> endBulkIndexing() {
+		return CompletableFuture.completedFuture( null );
+	}
+
 }
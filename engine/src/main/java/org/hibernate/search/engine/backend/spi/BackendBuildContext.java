@@ -9,6 +9,7 @@
 import org.hibernate.search.engine.environment.bean.BeanProvider;
 import org.hibernate.search.engine.environment.classpath.spi.ClassResolver;
 import org.hibernate.search.engine.environment.classpath.spi.ResourceResolver;
+import org.hibernate.search.engine.metrics.spi.MetricsRegistry;
 
 /**
  * A build context for backends.
@@ -21,4 +22,9 @@ public interface BackendBuildContext {
 
 	BeanProvider getBeanProvider();
 
+	/**
+	 * @return The registry to which the backend should report metrics.
+	 */
+	MetricsRegistry getMetricsRegistry();
+
 }
@@ -11,6 +11,8 @@
 
 import org.hibernate.search.engine.environment.bean.BeanReference;
 import org.hibernate.search.engine.environment.bean.spi.BeanConfigurer;
+import org.hibernate.search.engine.metrics.spi.MetricsRegistry;
+import org.hibernate.search.engine.metrics.spi.NoOpMetricsRegistry;
 
 /**
  * Configuration properties for the Hibernate Search engine that are considered SPI (and not API).
@@ -32,6 +34,19 @@ private EngineSpiSettings() {
 	 */
 	public static final String BEAN_CONFIGURERS = "bean_configurers";
 
+	/**
+	 * The {@link MetricsRegistry} to which backends and mappers report metrics,
+	 * such as indexing rates, queue saturation or query latency.
+	 * <p>
+	 * Expects a reference to a bean of type {@link MetricsRegistry}.
+	 * <p>
+	 * Defaults to {@link Defaults#METRICS_REGISTRY}, which ignores all metrics.
+	 *
+	 * @see org.hibernate.search.engine.cfg The core documentation of configuration properties,
+	 * which includes a description of the "bean reference" properties and accepted values.
+	 */
+	public static final String METRICS_REGISTRY = "metrics_registry";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -41,5 +56,7 @@ private Defaults() {
 		}
 
 		public static final List<BeanReference<? extends BeanConfigurer>> BEAN_CONFIGURERS = Collections.emptyList();
+		public static final BeanReference<MetricsRegistry> METRICS_REGISTRY =
+				BeanReference.ofInstance( NoOpMetricsRegistry.INSTANCE );
 	}
 }
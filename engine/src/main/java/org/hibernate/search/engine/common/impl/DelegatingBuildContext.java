@@ -9,6 +9,7 @@
 import org.hibernate.search.engine.environment.bean.BeanProvider;
 import org.hibernate.search.engine.environment.classpath.spi.ClassResolver;
 import org.hibernate.search.engine.environment.classpath.spi.ResourceResolver;
+import org.hibernate.search.engine.metrics.spi.MetricsRegistry;
 
 class DelegatingBuildContext {
 
@@ -30,4 +31,8 @@ public BeanProvider getBeanProvider() {
 		return delegate.getBeanProvider();
 	}
 
+	public MetricsRegistry getMetricsRegistry() {
+		return delegate.getMetricsRegistry();
+	}
+
 }
@@ -9,6 +9,7 @@
 import org.hibernate.search.engine.environment.bean.BeanProvider;
 import org.hibernate.search.engine.environment.classpath.spi.ClassResolver;
 import org.hibernate.search.engine.environment.classpath.spi.ResourceResolver;
+import org.hibernate.search.engine.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.reporting.spi.FailureCollector;
 
 class RootBuildContext {
@@ -16,14 +17,16 @@ class RootBuildContext {
 	private final ClassResolver classResolver;
 	private final ResourceResolver resourceResolver;
 	private final BeanProvider beanProvider;
+	private final MetricsRegistry metricsRegistry;
 
 	private final FailureCollector failureCollector;
 
 	RootBuildContext(ClassResolver classResolver, ResourceResolver resourceResolver,
-			BeanProvider beanProvider, FailureCollector failureCollector) {
+			BeanProvider beanProvider, MetricsRegistry metricsRegistry, FailureCollector failureCollector) {
 		this.classResolver = classResolver;
 		this.resourceResolver = resourceResolver;
 		this.beanProvider = beanProvider;
+		this.metricsRegistry = metricsRegistry;
 		this.failureCollector = failureCollector;
 	}
 
@@ -39,6 +42,10 @@ BeanProvider getBeanProvider() {
 		return beanProvider;
 	}
 
+	MetricsRegistry getMetricsRegistry() {
+		return metricsRegistry;
+	}
+
 	FailureCollector getFailureCollector() {
 		return failureCollector;
 	}
@@ -22,9 +22,13 @@
 import java.util.stream.Stream;
 
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.EngineSpiSettings;
 import org.hibernate.search.engine.common.spi.SearchIntegrationPartialBuildState;
 import org.hibernate.search.engine.common.spi.SearchIntegrationBuilder;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanProvider;
+import org.hibernate.search.engine.environment.bean.BeanReference;
 import org.hibernate.search.engine.environment.bean.impl.ConfiguredBeanProvider;
 import org.hibernate.search.engine.environment.bean.spi.BeanResolver;
 import org.hibernate.search.engine.environment.bean.spi.ReflectionBeanResolver;
@@ -32,6 +36,7 @@
 import org.hibernate.search.engine.environment.classpath.spi.DefaultClassAndResourceResolver;
 import org.hibernate.search.engine.environment.classpath.spi.ResourceResolver;
 import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.engine.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.reporting.impl.RootFailureCollector;
 import org.hibernate.search.engine.reporting.spi.ContextualFailureCollector;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
@@ -57,6 +62,12 @@ public class SearchIntegrationBuilderImpl implements SearchIntegrationBuilder {
 
 	private static final int FAILURE_LIMIT = 100;
 
+	private static final ConfigurationProperty<BeanReference<? extends MetricsRegistry>> METRICS_REGISTRY =
+			ConfigurationProperty.forKey( EngineSpiSettings.METRICS_REGISTRY )
+					.asBeanReference( MetricsRegistry.class )
+					.withDefault( EngineSpiSettings.Defaults.METRICS_REGISTRY )
+					.build();
+
 	private final ConfigurationPropertySource mainPropertySource;
 	private final Map<MappingKey<?, ?>, MappingInitiator<?, ?>> mappingInitiators = new LinkedHashMap<>();
 
@@ -112,6 +123,7 @@ public <PBM extends MappingPartialBuildState> SearchIntegrationBuilder addMappin
 
 	@Override
 	public SearchIntegrationPartialBuildState prepareBuild() {
+		BeanHolder<? extends MetricsRegistry> metricsRegistryHolder = null;
 		IndexManagerBuildingStateHolder indexManagerBuildingStateHolder = null;
 		// Use a LinkedHashMap for deterministic iteration
 		List<MappingBuildingState<?, ?>> mappingBuildingStates = new ArrayList<>();
@@ -143,7 +155,9 @@ public SearchIntegrationPartialBuildState prepareBuild() {
 			ConfigurationPropertySource propertySource = mainPropertySource;
 
 			BeanProvider beanProvider = new ConfiguredBeanProvider( classResolver, beanResolver, propertySource );
-			RootBuildContext rootBuildContext = new RootBuildContext( classResolver, resourceResolver, beanProvider, failureCollector );
+			metricsRegistryHolder = METRICS_REGISTRY.getAndTransform( propertySource, beanProvider::getBean );
+			RootBuildContext rootBuildContext = new RootBuildContext( classResolver, resourceResolver, beanProvider,
+					metricsRegistryHolder.get(), failureCollector );
 
 			indexManagerBuildingStateHolder = new IndexManagerBuildingStateHolder( beanProvider, propertySource, rootBuildContext );
 
@@ -180,6 +194,7 @@ public SearchIntegrationPartialBuildState prepareBuild() {
 
 			return new SearchIntegrationPartialBuildStateImpl(
 					beanResolver,
+					metricsRegistryHolder,
 					partiallyBuiltMappings,
 					indexManagerBuildingStateHolder.getBackendPartialBuildStates(),
 					indexManagerBuildingStateHolder.getIndexManagersByName()
@@ -218,6 +233,8 @@ public SearchIntegrationPartialBuildState prepareBuild() {
 			closer.pushAll( MappingBuildingState::closeOnFailure, mappingBuildingStates );
 			// Close the resources contained in the index manager building state before aborting
 			closer.pushAll( holder -> holder.closeOnFailure( closer ), indexManagerBuildingStateHolder );
+			// Close the metrics registry before aborting
+			closer.pushAll( BeanHolder::close, metricsRegistryHolder );
 			// Close the bean resolver before aborting
 			closer.pushAll( BeanResolver::close, beanResolver );
 
@@ -15,8 +15,10 @@
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.common.spi.SearchIntegration;
 import org.hibernate.search.engine.common.spi.SearchIntegrationPartialBuildState;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.spi.BeanResolver;
 import org.hibernate.search.engine.mapper.mapping.spi.MappingImplementor;
+import org.hibernate.search.engine.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.mapper.mapping.spi.MappingKey;
 import org.hibernate.search.engine.mapper.mapping.spi.MappingPartialBuildState;
 import org.hibernate.search.engine.reporting.impl.RootFailureCollector;
@@ -28,6 +30,7 @@ class SearchIntegrationPartialBuildStateImpl implements SearchIntegrationPartial
 	private static final int FAILURE_LIMIT = 100;
 
 	private final BeanResolver beanResolver;
+	private final BeanHolder<? extends MetricsRegistry> metricsRegistryHolder;
 
 	private final Map<MappingKey<?, ?>, MappingPartialBuildState> partiallyBuiltMappings;
 	private final Map<MappingKey<?, ?>, MappingImplementor<?>> fullyBuiltMappings = new LinkedHashMap<>();
@@ -38,10 +41,12 @@ class SearchIntegrationPartialBuildStateImpl implements SearchIntegrationPartial
 
 	SearchIntegrationPartialBuildStateImpl(
 			BeanResolver beanResolver,
+			BeanHolder<? extends MetricsRegistry> metricsRegistryHolder,
 			Map<MappingKey<?, ?>, MappingPartialBuildState> partiallyBuiltMappings,
 			Map<String, BackendPartialBuildState> partiallyBuiltBackends,
 			Map<String, IndexManagerPartialBuildState> partiallyBuiltIndexManagers) {
 		this.beanResolver = beanResolver;
+		this.metricsRegistryHolder = metricsRegistryHolder;
 		this.partiallyBuiltMappings = partiallyBuiltMappings;
 		this.partiallyBuiltBackends = partiallyBuiltBackends;
 		this.partiallyBuiltIndexManagers = partiallyBuiltIndexManagers;
@@ -56,6 +61,7 @@ public void closeOnFailure() {
 			closer.pushAll( IndexManagerImplementor::close, fullyBuiltIndexManagers.values() );
 			closer.pushAll( BackendPartialBuildState::closeOnFailure, partiallyBuiltBackends.values() );
 			closer.pushAll( BackendImplementor::close, fullyBuiltBackends.values() );
+			closer.push( BeanHolder::close, metricsRegistryHolder );
 			closer.pushAll( BeanResolver::close, beanResolver );
 		}
 	}
@@ -113,6 +119,7 @@ public SearchIntegration finalizeIntegration(ConfigurationPropertySource configu
 
 		return new SearchIntegrationImpl(
 				beanResolver,
+				metricsRegistryHolder,
 				fullyBuiltMappings,
 				fullyBuiltBackends,
 				fullyBuiltIndexManagers
@@ -266,5 +266,9 @@ SearchException invalidBeanType(
 			value = "Invalid pattern: the pattern to match in wildcard predicates must be non-null.")
 	SearchException wildcardPredicateCannotMatchNullPattern(@Param EventContext context);
 
+	@Message(id = ID_OFFSET_2 + 57,
+			value = "Multiple aggregations with the same key: '%1$s'. Aggregation keys must be unique within a query.")
+	SearchException duplicateAggregationKey(String name);
+
 
 }
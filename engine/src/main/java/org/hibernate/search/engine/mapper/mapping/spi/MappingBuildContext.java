@@ -9,6 +9,7 @@
 import org.hibernate.search.engine.environment.bean.BeanProvider;
 import org.hibernate.search.engine.environment.classpath.spi.ClassResolver;
 import org.hibernate.search.engine.environment.classpath.spi.ResourceResolver;
+import org.hibernate.search.engine.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.reporting.spi.ContextualFailureCollector;
 import org.hibernate.search.util.common.SearchException;
 
@@ -23,6 +24,11 @@ public interface MappingBuildContext {
 
 	BeanProvider getBeanProvider();
 
+	/**
+	 * @return The registry to which the mapping should report metrics.
+	 */
+	MetricsRegistry getMetricsRegistry();
+
 	/**
 	 * A collector of (non-fatal) failures, allowing to notify Hibernate Search
 	 * that something went wrong and bootstrap should be aborted at some point,
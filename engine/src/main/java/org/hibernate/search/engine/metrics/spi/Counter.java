@@ -0,0 +1,25 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.metrics.spi;
+
+/**
+ * A monotonically increasing count of events.
+ *
+ * @see MetricsRegistry#counter(String, String...)
+ */
+public interface Counter {
+
+	default void increment() {
+		increment( 1L );
+	}
+
+	/**
+	 * @param amount The number of events to add to the count. Must be positive.
+	 */
+	void increment(long amount);
+
+}
@@ -0,0 +1,21 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.metrics.spi;
+
+/**
+ * A distribution of values, such as sizes.
+ *
+ * @see MetricsRegistry#histogram(String, String...)
+ */
+public interface Histogram {
+
+	/**
+	 * @param value The value to record.
+	 */
+	void record(long value);
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.metrics.spi;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * A registry of metrics, allowing backends and mappers to report how they perform.
+ * <p>
+ * Implementations are expected to bridge these metrics to a monitoring system.
+ * The default implementation, {@link NoOpMetricsRegistry}, ignores all metrics.
+ * <p>
+ * Metrics are identified by a name and by tags, passed as alternating keys and values,
+ * for example {@code counter( "hibernate.search.mapper.indexing.works", "index", "Book", "operation", "add" )}.
+ * Backends and mappers retrieve metrics once, when they start,
+ * then update them on hot code paths:
+ * updating a metric should be cheap, and metrics must be thread-safe.
+ */
+public interface MetricsRegistry {
+
+	/**
+	 * @param name The name of the metric.
+	 * @param tags The tags of the metric, as alternating keys and values.
+	 * @return A counter, i.e. a monotonically increasing count of events.
+	 */
+	Counter counter(String name, String... tags);
+
+	/**
+	 * @param name The name of the metric.
+	 * @param tags The tags of the metric, as alternating keys and values.
+	 * @return A timer, i.e. a distribution of durations, typically reported as a rate and percentiles.
+	 */
+	Timer timer(String name, String... tags);
+
+	/**
+	 * @param name The name of the metric.
+	 * @param tags The tags of the metric, as alternating keys and values.
+	 * @return A histogram, i.e. a distribution of values such as sizes, typically reported as percentiles.
+	 */
+	Histogram histogram(String name, String... tags);
+
+	/**
+	 * Register a gauge, i.e. a value that can go up and down, such as the size of a queue.
+	 * <p>
+	 * The value will be sampled by the registry whenever it needs it,
+	 * for as long as the registry is in use.
+	 *
+	 * @param name The name of the metric.
+	 * @param valueSupplier A supplier of the current value. Must be thread-safe.
+	 * @param tags The tags of the metric, as alternating keys and values.
+	 */
+	void gauge(String name, DoubleSupplier valueSupplier, String... tags);
+
+}
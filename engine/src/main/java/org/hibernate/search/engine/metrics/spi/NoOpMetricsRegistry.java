@@ -0,0 +1,45 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.metrics.spi;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * A {@link MetricsRegistry} that ignores all metrics.
+ */
+public final class NoOpMetricsRegistry implements MetricsRegistry {
+
+	public static final NoOpMetricsRegistry INSTANCE = new NoOpMetricsRegistry();
+
+	private static final Counter COUNTER = amount -> { };
+	private static final Timer TIMER = (duration, unit) -> { };
+	private static final Histogram HISTOGRAM = value -> { };
+
+	private NoOpMetricsRegistry() {
+	}
+
+	@Override
+	public Counter counter(String name, String... tags) {
+		return COUNTER;
+	}
+
+	@Override
+	public Timer timer(String name, String... tags) {
+		return TIMER;
+	}
+
+	@Override
+	public Histogram histogram(String name, String... tags) {
+		return HISTOGRAM;
+	}
+
+	@Override
+	public void gauge(String name, DoubleSupplier valueSupplier, String... tags) {
+		// Nothing to do
+	}
+
+}
@@ -0,0 +1,31 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.metrics.spi;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A distribution of durations.
+ *
+ * @see MetricsRegistry#timer(String, String...)
+ */
+public interface Timer {
+
+	/**
+	 * @param duration The duration of an event.
+	 * @param unit The unit of {@code duration}.
+	 */
+	void record(long duration, TimeUnit unit);
+
+	/**
+	 * @param startNanos The time the event started, as returned by {@link System#nanoTime()}.
+	 */
+	default void recordSince(long startNanos) {
+		record( System.nanoTime() - startNanos, TimeUnit.NANOSECONDS );
+	}
+
+}
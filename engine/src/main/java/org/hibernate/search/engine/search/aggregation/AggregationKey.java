@@ -0,0 +1,67 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.aggregation;
+
+import java.util.Objects;
+
+import org.hibernate.search.util.common.impl.Contracts;
+
+/**
+ * A key allowing to retrieve the result of an aggregation from a search result.
+ * <p>
+ * Two keys are equal if they have the same name.
+ *
+ * @param <A> The type of the aggregation result.
+ */
+public final class AggregationKey<A> {
+
+	/**
+	 * @param name The name of the aggregation. Must be unique within a given query.
+	 * @param <A> The type of the aggregation result.
+	 * @return A new aggregation key.
+	 */
+	public static <A> AggregationKey<A> of(String name) {
+		return new AggregationKey<>( name );
+	}
+
+	private final String name;
+
+	private AggregationKey(String name) {
+		Contracts.assertNotNullNorEmpty( name, "name" );
+		this.name = name;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( this == obj ) {
+			return true;
+		}
+		if ( obj == null || getClass() != obj.getClass() ) {
+			return false;
+		}
+		AggregationKey<?> other = (AggregationKey<?>) obj;
+		return name.equals( other.name );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( name );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + name + "]";
+	}
+
+	/**
+	 * @return The name of the aggregation.
+	 */
+	public String getName() {
+		return name;
+	}
+
+}
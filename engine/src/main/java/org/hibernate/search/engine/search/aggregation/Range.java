@@ -0,0 +1,94 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.aggregation;
+
+import java.util.Objects;
+
+/**
+ * A range of values, including its lower bound and excluding its upper bound.
+ * <p>
+ * Bounds are optional: a {@code null} bound means the range is unbounded on that side.
+ *
+ * @param <K> The type of the bounds.
+ */
+public final class Range<K> {
+
+	/**
+	 * @param lowerBoundInclusive The lowest value in the range, or {@code null} for no lower bound.
+	 * @param upperBoundExclusive The lowest value above the range, or {@code null} for no upper bound.
+	 * @param <K> The type of the bounds.
+	 * @return A new range.
+	 */
+	public static <K> Range<K> of(K lowerBoundInclusive, K upperBoundExclusive) {
+		return new Range<>( lowerBoundInclusive, upperBoundExclusive );
+	}
+
+	/**
+	 * @param lowerBoundInclusive The lowest value in the range.
+	 * @param <K> The type of the bounds.
+	 * @return A new range including all values greater than or equal to {@code lowerBoundInclusive}.
+	 */
+	public static <K> Range<K> atLeast(K lowerBoundInclusive) {
+		return new Range<>( lowerBoundInclusive, null );
+	}
+
+	/**
+	 * @param upperBoundExclusive The lowest value above the range.
+	 * @param <K> The type of the bounds.
+	 * @return A new range including all values strictly lower than {@code upperBoundExclusive}.
+	 */
+	public static <K> Range<K> below(K upperBoundExclusive) {
+		return new Range<>( null, upperBoundExclusive );
+	}
+
+	private final K lowerBoundInclusive;
+	private final K upperBoundExclusive;
+
+	private Range(K lowerBoundInclusive, K upperBoundExclusive) {
+		this.lowerBoundInclusive = lowerBoundInclusive;
+		this.upperBoundExclusive = upperBoundExclusive;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( this == obj ) {
+			return true;
+		}
+		if ( obj == null || getClass() != obj.getClass() ) {
+			return false;
+		}
+		Range<?> other = (Range<?>) obj;
+		return Objects.equals( lowerBoundInclusive, other.lowerBoundInclusive )
+				&& Objects.equals( upperBoundExclusive, other.upperBoundExclusive );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( lowerBoundInclusive, upperBoundExclusive );
+	}
+
+	@Override
+	public String toString() {
+		return "[" + ( lowerBoundInclusive == null ? "" : lowerBoundInclusive )
+				+ ", " + ( upperBoundExclusive == null ? "" : upperBoundExclusive ) + ")";
+	}
+
+	/**
+	 * @return The lowest value in the range, or {@code null} if the range has no lower bound.
+	 */
+	public K getLowerBoundInclusive() {
+		return lowerBoundInclusive;
+	}
+
+	/**
+	 * @return The lowest value above the range, or {@code null} if the range has no upper bound.
+	 */
+	public K getUpperBoundExclusive() {
+		return upperBoundExclusive;
+	}
+
+}
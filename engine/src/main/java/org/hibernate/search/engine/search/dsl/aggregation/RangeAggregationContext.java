@@ -0,0 +1,41 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation;
+
+import java.util.Map;
+
+import org.hibernate.search.engine.search.aggregation.Range;
+
+/**
+ * The context used when defining a range aggregation.
+ * <p>
+ * The result of the aggregation is a map from each range to the number of matching documents in that range,
+ * in the order the ranges were defined.
+ * Ranges may overlap, in which case a document may be counted in multiple ranges.
+ *
+ * @param <K> The type of range bounds.
+ */
+public interface RangeAggregationContext<K> extends SearchAggregationTerminalContext<Map<Range<K>, Long>> {
+
+	/**
+	 * Add a range to count documents in.
+	 *
+	 * @param lowerBoundInclusive The lowest value in the range, or {@code null} for no lower bound.
+	 * @param upperBoundExclusive The lowest value above the range, or {@code null} for no upper bound.
+	 * @return {@code this}, for method chaining.
+	 */
+	RangeAggregationContext<K> range(K lowerBoundInclusive, K upperBoundExclusive);
+
+	/**
+	 * Add a range to count documents in.
+	 *
+	 * @param range The range.
+	 * @return {@code this}, for method chaining.
+	 */
+	RangeAggregationContext<K> range(Range<K> range);
+
+}
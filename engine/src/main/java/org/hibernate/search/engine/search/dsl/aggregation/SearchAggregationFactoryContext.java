@@ -0,0 +1,38 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation;
+
+/**
+ * A context allowing to create an aggregation.
+ */
+public interface SearchAggregationFactoryContext {
+
+	/**
+	 * Count documents for each distinct value of a String field.
+	 * <p>
+	 * Keys of the resulting map are values as they are stored in the index,
+	 * i.e. after normalization, if any.
+	 * The field must be sortable.
+	 *
+	 * @param absoluteFieldPath The absolute path of the index field to aggregate on.
+	 * @return A context allowing to define the aggregation more precisely.
+	 */
+	TermsAggregationContext terms(String absoluteFieldPath);
+
+	/**
+	 * Count documents whose value for a field falls in each of a set of ranges.
+	 * <p>
+	 * The field must be sortable.
+	 *
+	 * @param absoluteFieldPath The absolute path of the index field to aggregate on.
+	 * @param type The type of range bounds, which must be assignable to the type of the field.
+	 * @param <K> The type of range bounds.
+	 * @return A context allowing to define the ranges.
+	 */
+	<K> RangeAggregationContext<K> range(String absoluteFieldPath, Class<K> type);
+
+}
@@ -0,0 +1,34 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation;
+
+import java.util.Map;
+
+/**
+ * The context used when defining a terms aggregation.
+ * <p>
+ * The result of the aggregation is a map from each term to the number of matching documents with that term,
+ * ordered by descending document count, then by ascending term.
+ */
+public interface TermsAggregationContext extends SearchAggregationTerminalContext<Map<String, Long>> {
+
+	/**
+	 * @param maxTermCount The maximum number of terms in the result.
+	 * Terms with the lowest document count are left out first.
+	 * Must be strictly positive. Defaults to 100.
+	 * @return {@code this}, for method chaining.
+	 */
+	TermsAggregationContext maxTermCount(int maxTermCount);
+
+	/**
+	 * @param minDocumentCount The minimum number of matching documents for a term to appear in the result.
+	 * Must be strictly positive. Defaults to 1.
+	 * @return {@code this}, for method chaining.
+	 */
+	TermsAggregationContext minDocumentCount(int minDocumentCount);
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation.impl;
+
+import java.util.Map;
+
+import org.hibernate.search.engine.search.SearchAggregation;
+import org.hibernate.search.engine.search.aggregation.Range;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.engine.search.dsl.aggregation.RangeAggregationContext;
+import org.hibernate.search.util.common.impl.Contracts;
+
+class RangeAggregationContextImpl<K> implements RangeAggregationContext<K> {
+
+	private final RangeAggregationBuilder<K> builder;
+
+	RangeAggregationContextImpl(RangeAggregationBuilder<K> builder) {
+		this.builder = builder;
+	}
+
+	@Override
+	public RangeAggregationContext<K> range(K lowerBoundInclusive, K upperBoundExclusive) {
+		return range( Range.of( lowerBoundInclusive, upperBoundExclusive ) );
+	}
+
+	@Override
+	public RangeAggregationContext<K> range(Range<K> range) {
+		Contracts.assertNotNull( range, "range" );
+		builder.range( range );
+		return this;
+	}
+
+	@Override
+	public SearchAggregation<Map<Range<K>, Long>> toAggregation() {
+		return builder.build();
+	}
+
+}
@@ -0,0 +1,36 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation.impl;
+
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationBuilderFactory;
+import org.hibernate.search.engine.search.dsl.aggregation.RangeAggregationContext;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationFactoryContext;
+import org.hibernate.search.engine.search.dsl.aggregation.TermsAggregationContext;
+import org.hibernate.search.util.common.impl.Contracts;
+
+public class SearchAggregationFactoryContextImpl implements SearchAggregationFactoryContext {
+
+	private final SearchAggregationBuilderFactory<?> factory;
+
+	public SearchAggregationFactoryContextImpl(SearchAggregationBuilderFactory<?> factory) {
+		this.factory = factory;
+	}
+
+	@Override
+	public TermsAggregationContext terms(String absoluteFieldPath) {
+		Contracts.assertNotNull( absoluteFieldPath, "absoluteFieldPath" );
+		return new TermsAggregationContextImpl( factory.createTermsAggregationBuilder( absoluteFieldPath ) );
+	}
+
+	@Override
+	public <K> RangeAggregationContext<K> range(String absoluteFieldPath, Class<K> type) {
+		Contracts.assertNotNull( absoluteFieldPath, "absoluteFieldPath" );
+		Contracts.assertNotNull( type, "type" );
+		return new RangeAggregationContextImpl<>( factory.createRangeAggregationBuilder( absoluteFieldPath, type ) );
+	}
+
+}
@@ -8,9 +8,14 @@
 
 
 import java.util.Collection;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.hibernate.search.engine.search.SearchSort;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationFactoryContext;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationTerminalContext;
 import org.hibernate.search.engine.search.dsl.sort.SearchSortContainerContext;
 
 /**
@@ -26,6 +31,53 @@
 
 	SearchQueryContext<Q> sort(Consumer<? super SearchSortContainerContext> sortContributor);
 
+	/**
+	 * Add an aggregation to this query, so that its result is computed from the documents matching the query
+	 * and included in search results.
+	 * <p>
+	 * The aggregation is computed from all matching documents, regardless of the limit and offset of each fetch.
+	 *
+	 * @param key The key that will be used to retrieve the result of the aggregation
+	 * from search results. Must be unique within this query.
+	 * @param aggregationContributor A function that will use the context passed in parameter to create an aggregation.
+	 * @param <A> The type of the aggregation result.
+	 * @return {@code this}, for method chaining.
+	 */
+	<A> SearchQueryContext<Q> aggregation(AggregationKey<A> key,
+			Function<? super SearchAggregationFactoryContext, ? extends SearchAggregationTerminalContext<A>> aggregationContributor);
+
+	/**
+	 * Stop the query and throw a {@link org.hibernate.search.util.common.SearchTimeoutException}
+	 * if it takes longer than the given timeout to execute.
+	 * <p>
+	 * The timeout applies to each execution of the query, i.e. to each fetch or scroll chunk,
+	 * and is enforced on a best-effort basis: it only limits the time spent collecting hits in the backend.
+	 * With the Elasticsearch backend, the timeout does not apply to {@code fetchTotalHitCount()},
+	 * because the Elasticsearch count API does not support timeouts.
+	 *
+	 * @param timeout The maximum duration of each execution of the query. Must be strictly positive.
+	 * @param timeUnit The time unit of {@code timeout}.
+	 * @return {@code this}, for method chaining.
+	 */
+	SearchQueryContext<Q> failAfter(long timeout, TimeUnit timeUnit);
+
+	/**
+	 * Stop collecting hits and return partial results
+	 * if the query takes longer than the given timeout to execute.
+	 * <p>
+	 * The timeout applies to each execution of the query, i.e. to each fetch or scroll chunk,
+	 * and is enforced on a best-effort basis: it only limits the time spent collecting hits in the backend.
+	 * With the Elasticsearch backend, the timeout does not apply to {@code fetchTotalHitCount()},
+	 * because the Elasticsearch count API does not support timeouts.
+	 * When the timeout is exceeded, the hits and total hit count may be incomplete,
+	 * and the result will be flagged as timed out.
+	 *
+	 * @param timeout The maximum duration of each execution of the query. Must be strictly positive.
+	 * @param timeUnit The time unit of {@code timeout}.
+	 * @return {@code this}, for method chaining.
+	 */
+	SearchQueryContext<Q> truncateAfter(long timeout, TimeUnit timeUnit);
+
 	Q toQuery();
 
 }
@@ -7,15 +7,20 @@
 package org.hibernate.search.engine.search.dsl.query.impl;
 
 import java.util.Collection;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.hibernate.search.engine.search.query.spi.IndexSearchQuery;
 import org.hibernate.search.engine.search.SearchSort;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationFactoryContext;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationTerminalContext;
 import org.hibernate.search.engine.search.dsl.query.SearchQueryContext;
 import org.hibernate.search.engine.search.dsl.sort.SearchSortContainerContext;
 import org.hibernate.search.engine.search.dsl.spi.IndexSearchScope;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
+import org.hibernate.search.util.common.impl.Contracts;
 
 
 public final class SearchQueryContextImpl<T, Q, C> implements SearchQueryContext<Q> {
@@ -25,6 +30,7 @@
 	private final SearchQueryPredicateCollector<? super C, ?> searchPredicateCollector;
 
 	private final SearchQuerySortCollector<? super C, ?> searchSortCollector;
+	private final SearchQueryAggregationCollector<? super C> searchAggregationCollector;
 
 	public SearchQueryContextImpl(IndexSearchScope<C> targetContext, SearchQueryBuilder<T, C> searchQueryBuilder,
 			Function<IndexSearchQuery<T>, Q> searchQueryWrapperFactory,
@@ -33,6 +39,8 @@ public SearchQueryContextImpl(IndexSearchScope<C> targetContext, SearchQueryBuil
 		this.searchQueryWrapperFactory = searchQueryWrapperFactory;
 		this.searchPredicateCollector = searchPredicateCollector;
 		this.searchSortCollector = new SearchQuerySortCollector<>( targetContext.getSearchSortBuilderFactory() );
+		this.searchAggregationCollector =
+				new SearchQueryAggregationCollector<>( targetContext.getSearchAggregationBuilderFactory() );
 	}
 
 	@Override
@@ -59,6 +67,30 @@ public SearchQueryContext<Q> sort(Consumer<? super SearchSortContainerContext> d
 		return this;
 	}
 
+	@Override
+	public <A> SearchQueryContext<Q> aggregation(AggregationKey<A> key,
+			Function<? super SearchAggregationFactoryContext, ? extends SearchAggregationTerminalContext<A>> aggregationContributor) {
+		Contracts.assertNotNull( key, "key" );
+		searchAggregationCollector.collect( key, aggregationContributor );
+		return this;
+	}
+
+	@Override
+	public SearchQueryContext<Q> failAfter(long timeout, TimeUnit timeUnit) {
+		Contracts.assertStrictlyPositive( timeout, "timeout" );
+		Contracts.assertNotNull( timeUnit, "timeUnit" );
+		searchQueryBuilder.failAfter( timeout, timeUnit );
+		return this;
+	}
+
+	@Override
+	public SearchQueryContext<Q> truncateAfter(long timeout, TimeUnit timeUnit) {
+		Contracts.assertStrictlyPositive( timeout, "timeout" );
+		Contracts.assertNotNull( timeUnit, "timeUnit" );
+		searchQueryBuilder.truncateAfter( timeout, timeUnit );
+		return this;
+	}
+
 	@Override
 	public Q toQuery() {
 		/*
@@ -75,6 +107,7 @@ public Q toQuery() {
 		C collector = searchQueryBuilder.getQueryElementCollector();
 		searchPredicateCollector.contribute( collector );
 		searchSortCollector.contribute( collector );
+		searchAggregationCollector.contribute( collector );
 		return searchQueryBuilder.build( searchQueryWrapperFactory );
 	}
 
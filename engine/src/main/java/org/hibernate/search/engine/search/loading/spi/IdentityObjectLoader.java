@@ -7,6 +7,8 @@
 package org.hibernate.search.engine.search.loading.spi;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 @SuppressWarnings({ "unchecked", "rawtypes" }) // This implementation works for any T
 class IdentityObjectLoader<T> implements ObjectLoader<T, T> {
@@ -21,4 +23,9 @@ public static <T> IdentityObjectLoader<T> get() {
 	public List<T> loadBlocking(List<T> references) {
 		return references;
 	}
+
+	@Override
+	public CompletionStage<List<T>> loadAsync(List<T> references) {
+		return CompletableFuture.completedFuture( references );
+	}
 }
@@ -7,6 +7,7 @@
 package org.hibernate.search.engine.search.loading.spi;
 
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Loads objects into memory using a reference and implementation-specific context.
@@ -25,6 +26,21 @@
 	 */
 	List<O> loadBlocking(List<R> references);
 
+	/**
+	 * Loads the entities corresponding to the given references, without blocking the current thread.
+	 * <p>
+	 * The returned stage may be completed in any thread;
+	 * in particular, this method may be called from a backend thread, so it must not block.
+	 * Implementations that cannot load objects without blocking
+	 * should return a stage completed exceptionally.
+	 *
+	 * @param references A list of references to the objects to load.
+	 * @return A stage that will be completed with a list of loaded objects,
+	 * in the same order the references were given.
+	 * {@code null} is inserted when an object is not found.
+	 */
+	CompletionStage<List<O>> loadAsync(List<R> references);
+
 	static <T> ObjectLoader<T, T> identity() {
 		return IdentityObjectLoader.get();
 	}
@@ -7,7 +7,10 @@
 package org.hibernate.search.engine.search.query.impl;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 
 import org.hibernate.search.engine.search.DocumentReference;
@@ -21,7 +24,7 @@
 	private final Function<DocumentReference, R> documentReferenceTransformer;
 	private final ObjectLoader<R, O> objectLoader;
 
-	private final List<R> referencesToLoad = new ArrayList<>();
+	private List<R> referencesToLoad = new ArrayList<>();
 
 	public DefaultProjectionHitMapper(Function<DocumentReference, R> documentReferenceTransformer,
 			ObjectLoader<R, O> objectLoader) {
@@ -42,7 +45,23 @@ public Object planLoading(DocumentReference reference) {
 
 	@Override
 	public LoadingResult<O> loadBlocking() {
-		return new DefaultLoadingResult<>( objectLoader.loadBlocking( referencesToLoad ) );
+		LoadingResult<O> result = new DefaultLoadingResult<>( objectLoader.loadBlocking( referencesToLoad ) );
+		// Forget about loaded references, so that executing the query again (e.g. for the next chunk of a scroll)
+		// only loads the new hits.
+		// Do not clear the list: the loader is allowed to return it as is.
+		referencesToLoad = new ArrayList<>();
+		return result;
+	}
+
+	@Override
+	public CompletionStage<LoadingResult<O>> loadAsync() {
+		List<R> references = referencesToLoad;
+		referencesToLoad = new ArrayList<>();
+		if ( references.isEmpty() ) {
+			// Nothing to load: do not require the loader to support asynchronous loading
+			return CompletableFuture.completedFuture( new DefaultLoadingResult<>( Collections.emptyList() ) );
+		}
+		return objectLoader.loadAsync( references ).thenApply( loaded -> new DefaultLoadingResult<>( loaded ) );
 	}
 
 	private static class DefaultLoadingResult<O> implements LoadingResult<O> {
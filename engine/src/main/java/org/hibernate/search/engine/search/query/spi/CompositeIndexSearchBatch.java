@@ -0,0 +1,79 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A batch accepting queries from any backend.
+ * <p>
+ * Queries are dispatched to the batches created by the queries themselves,
+ * so that queries from the same backend are executed together,
+ * and results are returned in the order the queries were added.
+ * Batches from different backends are executed concurrently, even in {@link #fetch()},
+ * but hits are only loaded once all batches were executed, one result after the other,
+ * in the user thread for {@link #fetch()}.
+ */
+public final class CompositeIndexSearchBatch implements IndexSearchBatch {
+
+	private final List<IndexSearchBatch> batches = new ArrayList<>();
+	// For each query, in the order they were added: the index of its batch in the list above
+	private final List<Integer> batchIndexes = new ArrayList<>();
+
+	@Override
+	public boolean add(IndexSearchQuery<?> query, Long limit, Long offset) {
+		for ( int i = 0; i < batches.size(); i++ ) {
+			if ( batches.get( i ).add( query, limit, offset ) ) {
+				batchIndexes.add( i );
+				return true;
+			}
+		}
+		IndexSearchBatch batch = query.createBatch();
+		if ( !batch.add( query, limit, offset ) ) {
+			// Should not happen, but let's be safe
+			batch = new SimpleIndexSearchBatch();
+			batch.add( query, limit, offset );
+		}
+		batchIndexes.add( batches.size() );
+		batches.add( batch );
+		return true;
+	}
+
+	@Override
+	public CompletionStage<List<LoadableIndexSearchResult<?>>> execute() {
+		// Execute the batches of each backend concurrently; hits are loaded once all of them are done
+		List<CompletableFuture<List<LoadableIndexSearchResult<?>>>> futures = new ArrayList<>( batches.size() );
+		for ( IndexSearchBatch batch : batches ) {
+			futures.add( batch.execute().toCompletableFuture() );
+		}
+		return CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) )
+				.thenApply( ignored -> {
+					List<List<LoadableIndexSearchResult<?>>> resultsByBatch = new ArrayList<>( futures.size() );
+					for ( CompletableFuture<List<LoadableIndexSearchResult<?>>> future : futures ) {
+						resultsByBatch.add( future.join() );
+					}
+					return merge( resultsByBatch );
+				} );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[batches=" + batches + "]";
+	}
+
+	private List<LoadableIndexSearchResult<?>> merge(List<List<LoadableIndexSearchResult<?>>> resultsByBatch) {
+		int[] nextResultIndexByBatch = new int[resultsByBatch.size()];
+		List<LoadableIndexSearchResult<?>> results = new ArrayList<>( batchIndexes.size() );
+		for ( Integer batchIndex : batchIndexes ) {
+			results.add( resultsByBatch.get( batchIndex ).get( nextResultIndexByBatch[batchIndex]++ ) );
+		}
+		return results;
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.search.util.common.impl.Futures;
+
+/**
+ * A batch of search queries, executed together so as to save round trips to the backend.
+ * <p>
+ * Batches are created by {@link IndexSearchQuery#createBatch()}
+ * and only accept queries that can be executed together with the query that created them,
+ * typically queries created by the same backend.
+ * Use {@link CompositeIndexSearchBatch} to execute queries from any backend.
+ */
+public interface IndexSearchBatch {
+
+	/**
+	 * Add a query to this batch.
+	 *
+	 * @param query The query to add.
+	 * @param limit The maximum number of hits, or {@code null} for no limit.
+	 * @param offset The number of hits to skip, or {@code null} for no offset.
+	 * @return {@code true} if the query was added to this batch,
+	 * {@code false} if it cannot be executed as part of this batch,
+	 * typically because it was created by another backend.
+	 */
+	boolean add(IndexSearchQuery<?> query, Long limit, Long offset);
+
+	/**
+	 * Execute all the queries of this batch without blocking the current thread, but do not load hits yet.
+	 * <p>
+	 * The returned stage may be completed in a backend thread.
+	 *
+	 * @return A stage that will be completed once all the queries were executed,
+	 * with their results, in the order the queries were added.
+	 * Each result has the same type of hits as the corresponding query.
+	 */
+	CompletionStage<List<LoadableIndexSearchResult<?>>> execute();
+
+	/**
+	 * Execute all the queries of this batch.
+	 * <p>
+	 * Hits are loaded in the current thread, one result after the other,
+	 * after all the queries were executed.
+	 *
+	 * @return The results, in the order the queries were added.
+	 * Each result has the same type of hits as the corresponding query.
+	 */
+	default List<IndexSearchResult<?>> fetch() {
+		List<LoadableIndexSearchResult<?>> loadableResults = Futures.unwrappedExceptionJoin( execute().toCompletableFuture() );
+		List<IndexSearchResult<?>> results = new ArrayList<>( loadableResults.size() );
+		for ( LoadableIndexSearchResult<?> loadableResult : loadableResults ) {
+			/*
+			 * WARNING: the following call must run in the user thread.
+			 * Use fetchAsync for mappers that support loading without blocking.
+			 */
+			results.add( loadableResult.loadBlocking() );
+		}
+		return results;
+	}
+
+	/**
+	 * Execute all the queries of this batch without blocking the current thread.
+	 * <p>
+	 * Hits are loaded using {@link ProjectionHitMapper#loadAsync()},
+	 * one result after the other, since mappers may not support concurrent loading,
+	 * and the returned stage may be completed in a backend thread.
+	 *
+	 * @return A stage that will be completed with the results, in the order the queries were added.
+	 */
+	default CompletionStage<List<IndexSearchResult<?>>> fetchAsync() {
+		return execute().thenCompose( loadableResults -> {
+			List<IndexSearchResult<?>> results = new ArrayList<>( loadableResults.size() );
+			CompletionStage<?> previous = CompletableFuture.completedFuture( null );
+			for ( LoadableIndexSearchResult<?> loadableResult : loadableResults ) {
+				// Only start loading once the previous result is loaded
+				previous = previous.thenCompose( ignored -> loadableResult.loadAsync() )
+						.thenAccept( results::add );
+			}
+			return previous.thenApply( ignored -> results );
+		} );
+	}
+
+}
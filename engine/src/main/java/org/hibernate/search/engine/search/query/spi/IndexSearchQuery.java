@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.engine.search.query.spi;
 
+import java.util.concurrent.CompletionStage;
+
 /**
  * @param <T> The type of results.
  */
@@ -19,6 +21,51 @@ default IndexSearchResult<T> fetch() {
 
 	long fetchTotalHitCount();
 
+	default CompletionStage<IndexSearchResult<T>> fetchAsync() {
+		return fetchAsync( null, null );
+	}
+
+	/**
+	 * Execute the query without blocking the current thread.
+	 * <p>
+	 * Hits are loaded using {@link ProjectionHitMapper#loadAsync()},
+	 * and the returned stage may be completed in a backend thread.
+	 *
+	 * @param limit The maximum number of hits, or {@code null} for no limit.
+	 * @param offset The number of hits to skip, or {@code null} for no offset.
+	 * @return A stage that will be completed with the result.
+	 */
+	CompletionStage<IndexSearchResult<T>> fetchAsync(Long limit, Long offset);
+
+	/**
+	 * Execute the query to count hits without blocking the current thread.
+	 *
+	 * @return A stage that will be completed with the total hit count.
+	 */
+	CompletionStage<Long> fetchTotalHitCountAsync();
+
+	/**
+	 * Start scrolling through the hits of this query.
+	 *
+	 * @param chunkSize The maximum number of hits returned by each call to {@link IndexSearchScroll#next()}.
+	 * @return A scroll, to be closed when it is no longer needed.
+	 */
+	IndexSearchScroll<T> scroll(int chunkSize);
+
+	/**
+	 * Create a batch to execute this query together with other queries, so as to save round trips to the backend.
+	 * <p>
+	 * The returned batch is empty: this query must be {@link IndexSearchBatch#add(IndexSearchQuery, Long, Long) added}
+	 * explicitly.
+	 * The default implementation executes queries one by one;
+	 * backends able to execute multiple queries together should override this method.
+	 *
+	 * @return A new, empty batch, accepting at least this query.
+	 */
+	default IndexSearchBatch createBatch() {
+		return new SimpleIndexSearchBatch();
+	}
+
 	String getQueryString();
 
 }
@@ -8,6 +8,8 @@
 
 import java.util.List;
 
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+
 /**
  * @param <T> The type of results.
  */
@@ -17,4 +19,17 @@
 
 	List<T> getHits();
 
+	/**
+	 * @param key The key of an aggregation added to the query.
+	 * @param <A> The type of the aggregation result.
+	 * @return The result of the aggregation, or {@code null} if there is no aggregation with this key in this result.
+	 */
+	<A> A getAggregation(AggregationKey<A> key);
+
+	/**
+	 * @return {@code true} if the query exceeded its timeout and the backend returned partial results,
+	 * {@code false} otherwise.
+	 */
+	boolean isTimedOut();
+
 }
@@ -0,0 +1,31 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+/**
+ * A cursor over the hits of a search query, returning hits in chunks of bounded size.
+ * <p>
+ * Scrolls may hold resources on the backend side (open index readers, scroll contexts, ...)
+ * and must be closed once they are no longer needed.
+ *
+ * @param <T> The type of results.
+ */
+public interface IndexSearchScroll<T> extends AutoCloseable {
+
+	/**
+	 * Fetch the next chunk of hits.
+	 *
+	 * @return A result containing the next chunk of hits,
+	 * or no hits at all if every hit has already been returned.
+	 * The total hit count is always that of the whole query.
+	 */
+	IndexSearchResult<T> next();
+
+	@Override
+	void close();
+
+}
@@ -0,0 +1,35 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * The result of a query executed as part of an {@link IndexSearchBatch}, whose hits have yet to be loaded.
+ *
+ * @param <T> The type of hits.
+ */
+public interface LoadableIndexSearchResult<T> {
+
+	/**
+	 * Load the hits, blocking the current thread if necessary.
+	 * <p>
+	 * Must be called from the user thread, since mappers may need to block while loading.
+	 *
+	 * @return The result, with loaded hits.
+	 */
+	IndexSearchResult<T> loadBlocking();
+
+	/**
+	 * Load the hits without blocking the current thread.
+	 *
+	 * @return A stage that will be completed with the result, with loaded hits.
+	 * @see ProjectionHitMapper#loadAsync()
+	 */
+	CompletionStage<IndexSearchResult<T>> loadAsync();
+
+}
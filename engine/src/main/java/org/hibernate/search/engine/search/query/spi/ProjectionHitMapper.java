@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.engine.search.query.spi;
 
+import java.util.concurrent.CompletionStage;
+
 import org.hibernate.search.engine.search.DocumentReference;
 
 /**
@@ -38,4 +40,12 @@
 	 * @return The loaded entities.
 	 */
 	LoadingResult<O> loadBlocking();
+
+	/**
+	 * Loads the entities planned for loading in one go, without blocking the current thread.
+	 *
+	 * @return A stage that will be completed with the loaded entities.
+	 * @see org.hibernate.search.engine.search.loading.spi.ObjectLoader#loadAsync(java.util.List)
+	 */
+	CompletionStage<LoadingResult<O>> loadAsync();
 }
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.engine.search.query.spi;
 
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 /**
@@ -20,6 +21,20 @@
 
 	void addRoutingKey(String routingKey);
 
+	/**
+	 * @param timeout The maximum duration of each execution of the query.
+	 * @param timeUnit The time unit of {@code timeout}.
+	 * @see org.hibernate.search.engine.search.dsl.query.SearchQueryContext#failAfter(long, TimeUnit)
+	 */
+	void failAfter(long timeout, TimeUnit timeUnit);
+
+	/**
+	 * @param timeout The maximum duration of each execution of the query.
+	 * @param timeUnit The time unit of {@code timeout}.
+	 * @see org.hibernate.search.engine.search.dsl.query.SearchQueryContext#truncateAfter(long, TimeUnit)
+	 */
+	void truncateAfter(long timeout, TimeUnit timeUnit);
+
 	// TODO add more arguments, such as faceting options
 
 	<Q> Q build(Function<IndexSearchQuery<T>, Q> searchQueryWrapperFactory);
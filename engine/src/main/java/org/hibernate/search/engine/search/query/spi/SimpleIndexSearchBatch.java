@@ -0,0 +1,70 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A batch that executes each query separately.
+ * <p>
+ * Used by backends that cannot execute multiple queries together.
+ * Each query is only executed when its hits are loaded, one query after the other.
+ */
+public final class SimpleIndexSearchBatch implements IndexSearchBatch {
+
+	private final List<IndexSearchQuery<?>> queries = new ArrayList<>();
+	private final List<Long> limits = new ArrayList<>();
+	private final List<Long> offsets = new ArrayList<>();
+
+	@Override
+	public boolean add(IndexSearchQuery<?> query, Long limit, Long offset) {
+		queries.add( query );
+		limits.add( limit );
+		offsets.add( offset );
+		return true;
+	}
+
+	@Override
+	public CompletionStage<List<LoadableIndexSearchResult<?>>> execute() {
+		// Queries can only be executed along with loading: defer their execution until hits are loaded
+		List<LoadableIndexSearchResult<?>> results = new ArrayList<>( queries.size() );
+		for ( int i = 0; i < queries.size(); i++ ) {
+			results.add( new DeferredResult<>( queries.get( i ), limits.get( i ), offsets.get( i ) ) );
+		}
+		return CompletableFuture.completedFuture( results );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[queries=" + queries + "]";
+	}
+
+	private static final class DeferredResult<T> implements LoadableIndexSearchResult<T> {
+		private final IndexSearchQuery<T> query;
+		private final Long limit;
+		private final Long offset;
+
+		private DeferredResult(IndexSearchQuery<T> query, Long limit, Long offset) {
+			this.query = query;
+			this.limit = limit;
+			this.offset = offset;
+		}
+
+		@Override
+		public IndexSearchResult<T> loadBlocking() {
+			return query.fetch( limit, offset );
+		}
+
+		@Override
+		public CompletionStage<IndexSearchResult<T>> loadAsync() {
+			return query.fetchAsync( limit, offset );
+		}
+	}
+}
@@ -6,15 +6,39 @@
  */
 package org.hibernate.search.engine.search.query.spi;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 
 public final class SimpleIndexSearchResult<T> implements IndexSearchResult<T> {
 	private final long hitCount;
 	private final List<T> hits;
+	private final boolean timedOut;
+	private final Map<AggregationKey<?>, ?> aggregationResults;
 
 	public SimpleIndexSearchResult(long hitCount, List<T> hits) {
+		this( hitCount, hits, false );
+	}
+
+	public SimpleIndexSearchResult(long hitCount, List<T> hits, boolean timedOut) {
+		this( hitCount, hits, timedOut, Collections.emptyMap() );
+	}
+
+	/**
+	 * @param hitCount The total hit count.
+	 * @param hits The hits.
+	 * @param timedOut Whether the query exceeded its timeout.
+	 * @param aggregationResults The result of each aggregation, by key.
+	 * Each value must be of the type expected by its key.
+	 */
+	public SimpleIndexSearchResult(long hitCount, List<T> hits, boolean timedOut,
+			Map<AggregationKey<?>, ?> aggregationResults) {
 		this.hitCount = hitCount;
 		this.hits = hits;
+		this.timedOut = timedOut;
+		this.aggregationResults = aggregationResults;
 	}
 
 	@Override
@@ -27,11 +51,24 @@ public List<T> getHits() {
 		return hits;
 	}
 
+	@Override
+	@SuppressWarnings("unchecked") // See the constructor: values are of the type expected by their key
+	public <A> A getAggregation(AggregationKey<A> key) {
+		return (A) aggregationResults.get( key );
+	}
+
+	@Override
+	public boolean isTimedOut() {
+		return timedOut;
+	}
+
 	@Override
 	public String toString() {
 		return getClass().getSimpleName() + "["
 				+ "hitCount=" + hitCount
 				+ ", hits=" + hits
+				+ ", timedOut=" + timedOut
+				+ ", aggregationResults=" + aggregationResults
 				+ "]";
 	}
 }
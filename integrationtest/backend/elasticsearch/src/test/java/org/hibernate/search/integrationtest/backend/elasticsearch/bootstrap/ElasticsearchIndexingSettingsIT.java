@@ -0,0 +1,83 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.bootstrap;
+
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test the validation of indexing queue and bulk settings.
+ */
+public class ElasticsearchIndexingSettingsIT {
+
+	private static final String BACKEND_NAME = "BackendName";
+	private static final String INDEX_NAME = "IndexName";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Test
+	public void invalidQueueCount() {
+		SubTest.expectException(
+				"Zero queue count",
+				() -> setup( setupHelper.withDefaultConfiguration( BACKEND_NAME )
+						.withBackendProperty( BACKEND_NAME, ElasticsearchBackendSettings.INDEXING_QUEUE_COUNT, 0 )
+				)
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid value for configuration property" )
+				.hasMessageContaining( ElasticsearchBackendSettings.INDEXING_QUEUE_COUNT )
+				.hasMessageContaining( "'0'. The value must be strictly positive" );
+	}
+
+	@Test
+	public void invalidBackendMaxBulkSize() {
+		SubTest.expectException(
+				"Zero maximum bulk size for the backend",
+				() -> setup( setupHelper.withDefaultConfiguration( BACKEND_NAME )
+						.withBackendProperty( BACKEND_NAME, ElasticsearchBackendSettings.INDEXING_MAX_BULK_SIZE, 0 )
+				)
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid value for configuration property" )
+				.hasMessageContaining( ElasticsearchBackendSettings.INDEXING_MAX_BULK_SIZE )
+				.hasMessageContaining( "'0'. The value must be strictly positive" );
+	}
+
+	@Test
+	public void invalidIndexQueueSize() {
+		SubTest.expectException(
+				"Negative queue size for an index",
+				() -> setup( setupHelper.withDefaultConfiguration( BACKEND_NAME )
+						.withIndexDefaultsProperty( BACKEND_NAME, ElasticsearchIndexSettings.INDEXING_QUEUE_SIZE, -1 )
+				)
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid value for configuration property" )
+				.hasMessageContaining( ElasticsearchIndexSettings.INDEXING_QUEUE_SIZE )
+				.hasMessageContaining( "'-1'. The value must be strictly positive" );
+	}
+
+	private void setup(SearchSetupHelper.SetupContext setupContext) {
+		setupContext
+				.withIndex(
+						INDEX_NAME,
+						ctx -> ctx.getSchemaElement().field( "string", f -> f.asString() ).toReference(),
+						indexManager -> { }
+				)
+				.setup();
+	}
+}
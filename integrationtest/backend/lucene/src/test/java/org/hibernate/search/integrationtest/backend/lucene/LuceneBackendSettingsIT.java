@@ -0,0 +1,129 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test the validation of directory, reader and thread pool settings.
+ */
+public class LuceneBackendSettingsIT {
+
+	private static final String BACKEND_NAME = "myLuceneBackend";
+	private static final String INDEX_NAME = "IndexName";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Test
+	public void invalidNrtCachingMaxMergeSize() {
+		SubTest.expectException(
+				"Zero NRT caching max merge size",
+				() -> setup( setupHelper.withDefaultConfiguration( BACKEND_NAME )
+						.withBackendProperty( BACKEND_NAME, LuceneBackendSettings.DIRECTORY_NRT_CACHING_ENABLED, true )
+						.withBackendProperty( BACKEND_NAME, LuceneBackendSettings.DIRECTORY_NRT_CACHING_MAX_MERGE_SIZE, 0 )
+				)
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid value for configuration property" )
+				.hasMessageContaining( LuceneBackendSettings.DIRECTORY_NRT_CACHING_MAX_MERGE_SIZE )
+				.hasMessageContaining( "'0'. The value must be strictly positive" );
+	}
+
+	@Test
+	public void invalidNrtCachingMaxCachedSize() {
+		SubTest.expectException(
+				"Negative NRT caching max cached size",
+				() -> setup( setupHelper.withDefaultConfiguration( BACKEND_NAME )
+						.withBackendProperty( BACKEND_NAME, LuceneBackendSettings.DIRECTORY_NRT_CACHING_ENABLED, true )
+						.withBackendProperty( BACKEND_NAME, LuceneBackendSettings.DIRECTORY_NRT_CACHING_MAX_CACHED_SIZE, -1 )
+				)
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid value for configuration property" )
+				.hasMessageContaining( LuceneBackendSettings.DIRECTORY_NRT_CACHING_MAX_CACHED_SIZE )
+				.hasMessageContaining( "'-1'. The value must be strictly positive" );
+	}
+
+	@Test
+	public void invalidReaderRefreshInterval() {
+		SubTest.expectException(
+				"Negative reader refresh interval",
+				() -> setup( setupHelper.withDefaultConfiguration( BACKEND_NAME )
+						.withBackendProperty( BACKEND_NAME, LuceneBackendSettings.READER_REFRESH_INTERVAL, -1 )
+				)
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid value for configuration property" )
+				.hasMessageContaining( LuceneBackendSettings.READER_REFRESH_INTERVAL )
+				.hasMessageContaining( "'-1'. The value must be positive or zero" );
+	}
+
+	@Test
+	public void invalidSearchThreadPoolSize() {
+		SubTest.expectException(
+				"Negative search thread pool size",
+				() -> setup( setupHelper.withDefaultConfiguration( BACKEND_NAME )
+						.withBackendProperty( BACKEND_NAME, LuceneBackendSettings.SEARCH_THREAD_POOL_SIZE, -1 )
+				)
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid value for configuration property" )
+				.hasMessageContaining( LuceneBackendSettings.SEARCH_THREAD_POOL_SIZE )
+				.hasMessageContaining( "'-1'. The value must be positive or zero" );
+	}
+
+	@Test
+	public void invalidQueryThreadPoolSize() {
+		SubTest.expectException(
+				"Zero query thread pool size",
+				() -> setup( setupHelper.withDefaultConfiguration( BACKEND_NAME )
+						.withBackendProperty( BACKEND_NAME, LuceneBackendSettings.QUERY_THREAD_POOL_SIZE, 0 )
+				)
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid value for configuration property" )
+				.hasMessageContaining( LuceneBackendSettings.QUERY_THREAD_POOL_SIZE )
+				.hasMessageContaining( "'0'. The value must be strictly positive" );
+	}
+
+	@Test
+	public void invalidQueryQueueSize() {
+		SubTest.expectException(
+				"Negative query queue size",
+				() -> setup( setupHelper.withDefaultConfiguration( BACKEND_NAME )
+						.withBackendProperty( BACKEND_NAME, LuceneBackendSettings.QUERY_QUEUE_SIZE, -1 )
+				)
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid value for configuration property" )
+				.hasMessageContaining( LuceneBackendSettings.QUERY_QUEUE_SIZE )
+				.hasMessageContaining( "'-1'. The value must be strictly positive" );
+	}
+
+	private void setup(SearchSetupHelper.SetupContext setupContext) {
+		setupContext
+				.withIndex(
+						INDEX_NAME,
+						ctx -> ctx.getSchemaElement().field( "string", f -> f.asString() ).toReference(),
+						indexManager -> { }
+				)
+				.setup();
+	}
+}
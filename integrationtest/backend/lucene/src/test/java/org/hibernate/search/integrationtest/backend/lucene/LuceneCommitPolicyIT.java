@@ -0,0 +1,71 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test the validation of commit policy settings.
+ * <p>
+ * The behavior of each commit policy is tested in unit tests of the Lucene backend.
+ */
+public class LuceneCommitPolicyIT {
+
+	private static final String BACKEND_NAME = "myLuceneBackend";
+	private static final String INDEX_NAME = "IndexName";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Test
+	public void invalidCommitInterval() {
+		SubTest.expectException(
+				"Interval commit policy with a zero commit interval",
+				() -> setup( setupHelper.withDefaultConfiguration( BACKEND_NAME )
+						.withBackendProperty( BACKEND_NAME, LuceneBackendSettings.COMMIT_POLICY, "interval" )
+						.withBackendProperty( BACKEND_NAME, LuceneBackendSettings.COMMIT_INTERVAL, 0 )
+				)
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid value for configuration property" )
+				.hasMessageContaining( LuceneBackendSettings.COMMIT_INTERVAL )
+				.hasMessageContaining( "'0'. The value must be strictly positive" );
+	}
+
+	@Test
+	public void invalidCommitDocumentCount() {
+		SubTest.expectException(
+				"Document count commit policy with a negative document count",
+				() -> setup( setupHelper.withDefaultConfiguration( BACKEND_NAME )
+						.withBackendProperty( BACKEND_NAME, LuceneBackendSettings.COMMIT_POLICY, "document_count" )
+						.withBackendProperty( BACKEND_NAME, LuceneBackendSettings.COMMIT_DOCUMENT_COUNT, -1 )
+				)
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid value for configuration property" )
+				.hasMessageContaining( LuceneBackendSettings.COMMIT_DOCUMENT_COUNT )
+				.hasMessageContaining( "'-1'. The value must be strictly positive" );
+	}
+
+	private void setup(SearchSetupHelper.SetupContext setupContext) {
+		setupContext
+				.withIndex(
+						INDEX_NAME,
+						ctx -> ctx.getSchemaElement().field( "string", f -> f.asString() ).toReference(),
+						indexManager -> { }
+				)
+				.setup();
+	}
+}
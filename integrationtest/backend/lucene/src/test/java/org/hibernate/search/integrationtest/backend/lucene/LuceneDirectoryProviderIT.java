@@ -0,0 +1,179 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test the different directory providers, and the caching of near-real-time segments.
+ */
+public class LuceneDirectoryProviderIT {
+
+	private static final String BACKEND_NAME = "myLuceneBackend";
+	private static final String INDEX_NAME = "IndexName";
+	private static final String WRITE_LOCK_FILE_NAME = "write.lock";
+
+	private static final int DOCUMENT_COUNT = 10;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private Path rootDirectory;
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void createRootDirectory() throws IOException {
+		rootDirectory = temporaryFolder.newFolder().toPath();
+	}
+
+	@Test
+	public void localDirectory() throws IOException {
+		setup( "local_directory", setupHelper.withDefaultConfiguration( BACKEND_NAME ) );
+
+		initData();
+
+		assertThat( countDocuments() ).isEqualTo( DOCUMENT_COUNT );
+		assertThat( indexFiles() ).isNotEmpty();
+	}
+
+	@Test
+	public void localNioDirectory() throws IOException {
+		setup( "local_nio_directory", setupHelper.withDefaultConfiguration( BACKEND_NAME ) );
+
+		initData();
+
+		assertThat( countDocuments() ).isEqualTo( DOCUMENT_COUNT );
+		assertThat( indexFiles() ).isNotEmpty();
+	}
+
+	@Test
+	public void localHeap() {
+		setup( "local_heap", setupHelper.withDefaultConfiguration( BACKEND_NAME ) );
+
+		initData();
+
+		assertThat( countDocuments() ).isEqualTo( DOCUMENT_COUNT );
+		// Nothing is written to the filesystem
+		assertThat( Files.exists( rootDirectory.resolve( INDEX_NAME ) ) ).isFalse();
+	}
+
+	@Test
+	public void nrtCaching() throws IOException {
+		setup( "local_directory", setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withBackendProperty( BACKEND_NAME, LuceneBackendSettings.COMMIT_POLICY, "flush" )
+				.withBackendProperty( BACKEND_NAME, LuceneBackendSettings.DIRECTORY_NRT_CACHING_ENABLED, true )
+		);
+
+		initData();
+
+		// Segments flushed to refresh the reader are cached in memory
+		assertThat( countDocuments() ).isEqualTo( DOCUMENT_COUNT );
+		assertThat( indexFiles() ).isEmpty();
+
+		// Committed segments are written to the filesystem
+		indexManager.createWorkExecutor().flush().join();
+		assertThat( indexFiles() ).isNotEmpty();
+		assertThat( countDocuments() ).isEqualTo( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void nrtCaching_disabled() throws IOException {
+		setup( "local_directory", setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withBackendProperty( BACKEND_NAME, LuceneBackendSettings.COMMIT_POLICY, "flush" )
+		);
+
+		initData();
+
+		// Segments flushed to refresh the reader are written to the filesystem
+		assertThat( countDocuments() ).isEqualTo( DOCUMENT_COUNT );
+		assertThat( indexFiles() ).isNotEmpty();
+	}
+
+	@Test
+	public void unknown() {
+		SubTest.expectException(
+				"Unknown directory provider",
+				() -> setup( "some_invalid_name", setupHelper.withDefaultConfiguration( BACKEND_NAME ) )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unrecognized Lucene directory provider 'some_invalid_name'" );
+	}
+
+	private void setup(String directoryProvider, SearchSetupHelper.SetupContext setupContext) {
+		setupContext
+				.withBackendProperty( BACKEND_NAME, LuceneBackendSettings.DIRECTORY_PROVIDER, directoryProvider )
+				.withBackendProperty( BACKEND_NAME, LuceneBackendSettings.ROOT_DIRECTORY, rootDirectory.toString() )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	private void initData() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int value = i;
+			workPlan.add( referenceProvider( String.valueOf( i ) ),
+					document -> document.addValue( indexMapping.integer, value ) );
+		}
+		workPlan.execute().join();
+	}
+
+	private long countDocuments() {
+		return indexManager.createSearchScope().query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.toQuery()
+				.fetchTotalHitCount();
+	}
+
+	private List<Path> indexFiles() throws IOException {
+		try ( Stream<Path> files = Files.list( rootDirectory.resolve( INDEX_NAME ) ) ) {
+			return files.filter( file -> !WRITE_LOCK_FILE_NAME.equals( file.getFileName().toString() ) )
+					.collect( Collectors.toList() );
+		}
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<Integer> integer;
+
+		IndexMapping(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger() ).toReference();
+		}
+	}
+}
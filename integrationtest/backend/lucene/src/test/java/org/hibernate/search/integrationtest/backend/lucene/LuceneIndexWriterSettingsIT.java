@@ -0,0 +1,187 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test that the index writer settings are applied,
+ * and that bulk indexing temporarily overrides them.
+ */
+public class LuceneIndexWriterSettingsIT {
+
+	private static final String BACKEND_NAME = "myLuceneBackend";
+	private static final String INDEX_NAME = "IndexName";
+	private static final String COMPOUND_FILE_EXTENSION = ".cfs";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private Path rootDirectory;
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void createRootDirectory() throws IOException {
+		rootDirectory = temporaryFolder.newFolder().toPath();
+	}
+
+	@Test
+	public void compoundFile_default() throws IOException {
+		setup( setupHelper.withDefaultConfiguration( BACKEND_NAME ) );
+
+		indexDocuments( 0, 10 );
+
+		assertThat( compoundFiles() ).isNotEmpty();
+		assertThat( countDocuments() ).isEqualTo( 10 );
+	}
+
+	@Test
+	public void compoundFile_disabled() throws IOException {
+		setup( setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.IO_WRITER_USE_COMPOUND_FILE, false )
+		);
+
+		indexDocuments( 0, 10 );
+
+		assertThat( compoundFiles() ).isEmpty();
+		assertThat( countDocuments() ).isEqualTo( 10 );
+	}
+
+	@Test
+	public void customSettings() {
+		setup( setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.IO_WRITER_RAM_BUFFER_SIZE, 1 )
+				.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.IO_WRITER_MAX_BUFFERED_DOCS, 2 )
+				.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.IO_MERGE_MAX_MERGED_SEGMENT_SIZE, 1 )
+				.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.IO_MERGE_FLOOR_SEGMENT_SIZE, 1 )
+				.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.IO_MERGE_SEGMENTS_PER_TIER, 2 )
+				.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.IO_MERGE_MAX_MERGE_AT_ONCE, 2 )
+				.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.IO_MERGE_SCHEDULER_MAX_THREAD_COUNT, 1 )
+				.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.IO_MERGE_SCHEDULER_AUTO_THROTTLE, false )
+		);
+
+		indexDocuments( 0, 50 );
+
+		assertThat( countDocuments() ).isEqualTo( 50 );
+	}
+
+	@Test
+	public void bulkIndexing() throws IOException {
+		setup( setupHelper.withDefaultConfiguration( BACKEND_NAME ) );
+		IndexWorkExecutor workExecutor = indexManager.createWorkExecutor();
+
+		workExecutor.startBulkIndexing().join();
+		indexDocuments( 0, 10 );
+
+		// Bulk indexing does not use the compound file format
+		assertThat( compoundFiles() ).isEmpty();
+
+		workExecutor.endBulkIndexing().join();
+		indexDocuments( 10, 20 );
+
+		// Segments flushed after bulk indexing use the compound file format again
+		assertThat( compoundFiles() ).isNotEmpty();
+		assertThat( countDocuments() ).isEqualTo( 20 );
+	}
+
+	@Test
+	public void bulkIndexing_nested() throws IOException {
+		setup( setupHelper.withDefaultConfiguration( BACKEND_NAME ) );
+		IndexWorkExecutor workExecutor = indexManager.createWorkExecutor();
+
+		workExecutor.startBulkIndexing().join();
+		workExecutor.startBulkIndexing().join();
+		workExecutor.endBulkIndexing().join();
+		indexDocuments( 0, 10 );
+
+		// Still in bulk indexing mode
+		assertThat( compoundFiles() ).isEmpty();
+
+		workExecutor.endBulkIndexing().join();
+		indexDocuments( 10, 20 );
+
+		assertThat( compoundFiles() ).isNotEmpty();
+		assertThat( countDocuments() ).isEqualTo( 20 );
+	}
+
+	private void setup(SearchSetupHelper.SetupContext setupContext) {
+		setupContext
+				.withBackendProperty( BACKEND_NAME, LuceneBackendSettings.ROOT_DIRECTORY, rootDirectory.toString() )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	private void indexDocuments(int fromInclusive, int toExclusive) {
+		IndexDocumentWorkExecutor<? extends DocumentElement> executor = indexManager.createDocumentWorkExecutor();
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( int i = fromInclusive; i < toExclusive; i++ ) {
+			int value = i;
+			futures.add( executor.add( referenceProvider( String.valueOf( i ) ), document -> {
+				document.addValue( indexMapping.string, "text" + value );
+			} ) );
+		}
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) ).join();
+		indexManager.createWorkExecutor().flush().join();
+	}
+
+	private long countDocuments() {
+		return indexManager.createSearchScope().query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.toQuery()
+				.fetchTotalHitCount();
+	}
+
+	private List<Path> compoundFiles() throws IOException {
+		try ( Stream<Path> files = Files.list( rootDirectory.resolve( INDEX_NAME ) ) ) {
+			return files.filter( file -> file.getFileName().toString().endsWith( COMPOUND_FILE_EXTENSION ) )
+					.collect( Collectors.toList() );
+		}
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<String> string;
+
+		IndexMapping(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString() ).toReference();
+		}
+	}
+}
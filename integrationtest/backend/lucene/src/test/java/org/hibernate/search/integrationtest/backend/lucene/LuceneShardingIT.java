@@ -0,0 +1,315 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.dsl.query.SearchQueryContext;
+import org.hibernate.search.engine.search.query.spi.IndexSearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test that indexes can be split into multiple shards,
+ * and that routing keys are used to assign documents to shards and to restrict queries to some shards.
+ */
+public class LuceneShardingIT {
+
+	private static final String BACKEND_NAME = "myLuceneBackend";
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int DOCUMENT_COUNT = 40;
+	private static final int ROUTING_KEY_COUNT = 4;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private Path rootDirectory;
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void createRootDirectory() throws IOException {
+		rootDirectory = temporaryFolder.newFolder().toPath();
+	}
+
+	@Test
+	public void none() throws IOException {
+		setup( setupHelper.withDefaultConfiguration( BACKEND_NAME ) );
+
+		initData( i -> null );
+
+		// The index is stored directly in the index directory
+		assertThat( subDirectories( rootDirectory.resolve( INDEX_NAME ) ) ).isEmpty();
+		assertThat( countDocuments( query() ) ).isEqualTo( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void hash() throws IOException {
+		setup( setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.SHARDING_STRATEGY, "hash" )
+				.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS, 3 )
+		);
+
+		initData( i -> null );
+
+		assertThat( subDirectories( rootDirectory.resolve( INDEX_NAME ) ) )
+				.containsExactlyInAnyOrder( "0", "1", "2" );
+		assertThat( countDocuments( query() ) ).isEqualTo( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void hash_routing() {
+		setup( setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.SHARDING_STRATEGY, "hash" )
+				.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS, 3 )
+		);
+
+		initData( i -> routingKey( i % ROUTING_KEY_COUNT ) );
+
+		assertThat( countDocuments( query() ) ).isEqualTo( DOCUMENT_COUNT );
+
+		// Only the shard holding documents with this routing key is targeted
+		List<String> routedIds = ids( query().routing( routingKey( 0 ) ) );
+		assertThat( routedIds ).containsAll( idsWithRoutingKey( 0 ) );
+		assertThat( routedIds.size() ).isLessThan( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void hash_purge() {
+		setup( setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.SHARDING_STRATEGY, "hash" )
+				.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS, 3 )
+		);
+
+		initData( i -> null );
+		assertThat( countDocuments( query() ) ).isEqualTo( DOCUMENT_COUNT );
+
+		indexManager.createWorkExecutor().purge( null ).join();
+		indexManager.createWorkExecutor().flush().join();
+
+		assertThat( countDocuments( query() ) ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void hash_missingNumberOfShards() {
+		SubTest.expectException(
+				"Hash sharding without a number of shards",
+				() -> setup( setupHelper.withDefaultConfiguration( BACKEND_NAME )
+						.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.SHARDING_STRATEGY, "hash" )
+				)
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid number of shards" );
+	}
+
+	@Test
+	public void hash_invalidNumberOfShards() {
+		SubTest.expectException(
+				"Hash sharding with a negative number of shards",
+				() -> setup( setupHelper.withDefaultConfiguration( BACKEND_NAME )
+						.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.SHARDING_STRATEGY, "hash" )
+						.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS, -1 )
+				)
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid number of shards: '-1'" );
+	}
+
+	@Test
+	public void explicit() throws IOException {
+		setup( setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.SHARDING_STRATEGY, "explicit" )
+				.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.SHARDING_SHARD_IDENTIFIERS,
+						routingKey( 0 ) + ", " + routingKey( 1 ) + "," + routingKey( 2 ) + "," + routingKey( 3 ) )
+		);
+
+		initData( i -> routingKey( i % ROUTING_KEY_COUNT ) );
+
+		assertThat( subDirectories( rootDirectory.resolve( INDEX_NAME ) ) )
+				.containsExactlyInAnyOrder( routingKey( 0 ), routingKey( 1 ), routingKey( 2 ), routingKey( 3 ) );
+		assertThat( countDocuments( query() ) ).isEqualTo( DOCUMENT_COUNT );
+
+		// Only the shards whose identifiers match the routing keys are targeted
+		assertThat( ids( query().routing( routingKey( 1 ) ) ) )
+				.containsExactlyInAnyOrderElementsOf( idsWithRoutingKey( 1 ) );
+		List<String> routingKeys = new ArrayList<>();
+		routingKeys.add( routingKey( 1 ) );
+		routingKeys.add( routingKey( 3 ) );
+		List<String> expectedIds = new ArrayList<>( idsWithRoutingKey( 1 ) );
+		expectedIds.addAll( idsWithRoutingKey( 3 ) );
+		assertThat( ids( query().routing( routingKeys ) ) )
+				.containsExactlyInAnyOrderElementsOf( expectedIds );
+
+		// Routing keys that do not match any shard do not target any shard
+		assertThat( countDocuments( query().routing( "unknownShard" ) ) ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void explicit_documentWorkExecutor() {
+		setup( setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.SHARDING_STRATEGY, "explicit" )
+				.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.SHARDING_SHARD_IDENTIFIERS,
+						routingKey( 0 ) + "," + routingKey( 1 ) )
+		);
+
+		IndexDocumentWorkExecutor<? extends DocumentElement> executor = indexManager.createDocumentWorkExecutor();
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int value = i;
+			futures.add( executor.add( referenceProvider( String.valueOf( i ), routingKey( i % 2 ) ),
+					document -> document.addValue( indexMapping.integer, value ) ) );
+		}
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) ).join();
+		indexManager.createWorkExecutor().flush().join();
+
+		assertThat( countDocuments( query() ) ).isEqualTo( DOCUMENT_COUNT );
+		assertThat( countDocuments( query().routing( routingKey( 0 ) ) ) ).isEqualTo( DOCUMENT_COUNT / 2 );
+	}
+
+	@Test
+	public void explicit_invalidRoutingKey() {
+		setup( setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.SHARDING_STRATEGY, "explicit" )
+				.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.SHARDING_SHARD_IDENTIFIERS,
+						routingKey( 0 ) + "," + routingKey( 1 ) )
+		);
+
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		SubTest.expectException(
+				"Indexing a document with a routing key that does not match any shard",
+				() -> workPlan.add( referenceProvider( "1", "unknownShard" ),
+						document -> document.addValue( indexMapping.integer, 1 ) )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid routing key: 'unknownShard'" );
+
+		SubTest.expectException(
+				"Indexing a document without a routing key",
+				() -> workPlan.add( referenceProvider( "1" ),
+						document -> document.addValue( indexMapping.integer, 1 ) )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid routing key: 'null'" );
+	}
+
+	@Test
+	public void explicit_missingShardIdentifiers() {
+		SubTest.expectException(
+				"Explicit sharding without shard identifiers",
+				() -> setup( setupHelper.withDefaultConfiguration( BACKEND_NAME )
+						.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.SHARDING_STRATEGY, "explicit" )
+				)
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "No shard identifiers" );
+	}
+
+	private void setup(SearchSetupHelper.SetupContext setupContext) {
+		setupContext
+				.withBackendProperty( BACKEND_NAME, LuceneBackendSettings.ROOT_DIRECTORY, rootDirectory.toString() )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	private void initData(RoutingKeyFunction routingKeyFunction) {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int value = i;
+			workPlan.add( referenceProvider( String.valueOf( i ), routingKeyFunction.apply( i ) ),
+					document -> document.addValue( indexMapping.integer, value ) );
+		}
+		workPlan.execute().join();
+	}
+
+	private SearchQueryContext<IndexSearchQuery<DocumentReference>> query() {
+		return indexManager.createSearchScope().query()
+				.asReference()
+				.predicate( f -> f.matchAll() );
+	}
+
+	private static long countDocuments(SearchQueryContext<IndexSearchQuery<DocumentReference>> query) {
+		return query.toQuery().fetchTotalHitCount();
+	}
+
+	private static List<String> ids(SearchQueryContext<IndexSearchQuery<DocumentReference>> query) {
+		return query.toQuery().fetch().getHits().stream()
+				.map( DocumentReference::getId )
+				.collect( Collectors.toList() );
+	}
+
+	private static List<String> idsWithRoutingKey(int routingKeyIndex) {
+		List<String> ids = new ArrayList<>();
+		for ( int i = routingKeyIndex; i < DOCUMENT_COUNT; i += ROUTING_KEY_COUNT ) {
+			ids.add( String.valueOf( i ) );
+		}
+		return ids;
+	}
+
+	private static String routingKey(int index) {
+		return "shard" + index;
+	}
+
+	private static List<String> subDirectories(Path directory) throws IOException {
+		try ( Stream<Path> files = Files.list( directory ) ) {
+			return files.filter( Files::isDirectory )
+					.map( path -> path.getFileName().toString() )
+					.collect( Collectors.toList() );
+		}
+	}
+
+	@FunctionalInterface
+	private interface RoutingKeyFunction {
+		String apply(int documentIndex);
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<Integer> integer;
+
+		IndexMapping(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger() ).toReference();
+		}
+	}
+}
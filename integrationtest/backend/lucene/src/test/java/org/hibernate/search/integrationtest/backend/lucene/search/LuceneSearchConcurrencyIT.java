@@ -0,0 +1,255 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Weight;
+
+import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.query.spi.IndexSearchBatch;
+import org.hibernate.search.engine.search.query.spi.IndexSearchQuery;
+import org.hibernate.search.engine.search.query.spi.IndexSearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test that queries are executed concurrently by the query thread pool,
+ * and that queries are rejected when too many are waiting for a thread.
+ */
+public class LuceneSearchConcurrencyIT {
+
+	private static final String BACKEND_NAME = "myLuceneBackend";
+	private static final String INDEX_NAME = "IndexName";
+	private static final int DOCUMENT_COUNT = 10;
+
+	private static final int QUERY_THREAD_POOL_SIZE = 2;
+	private static final int QUERY_QUEUE_SIZE = 1;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	private final CountDownLatch releaseLatch = new CountDownLatch( 1 );
+	private final List<IndexReader> executingQueryReaders = Collections.synchronizedList( new ArrayList<>() );
+
+	@Before
+	public void setup() {
+		setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withBackendProperty( BACKEND_NAME, LuceneBackendSettings.QUERY_THREAD_POOL_SIZE, QUERY_THREAD_POOL_SIZE )
+				.withBackendProperty( BACKEND_NAME, LuceneBackendSettings.QUERY_QUEUE_SIZE, QUERY_QUEUE_SIZE )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@After
+	public void releaseQueries() {
+		// Make sure blocked queries do not prevent the backend from shutting down
+		releaseLatch.countDown();
+	}
+
+	@Test
+	public void concurrentExecution_and_rejection() throws InterruptedException {
+		CountDownLatch enteredLatch = new CountDownLatch( QUERY_THREAD_POOL_SIZE );
+
+		CompletableFuture<IndexSearchResult<DocumentReference>> future1 = blockingQuery( enteredLatch ).fetchAsync().toCompletableFuture();
+		CompletableFuture<IndexSearchResult<DocumentReference>> future2 = blockingQuery( enteredLatch ).fetchAsync().toCompletableFuture();
+
+		// Both queries must be executing at the same time
+		assertThat( enteredLatch.await( 10, TimeUnit.SECONDS ) )
+				.as( "All threads of the pool should execute a query concurrently" )
+				.isTrue();
+
+		// All threads are busy: the next query waits in the queue...
+		CompletableFuture<IndexSearchResult<DocumentReference>> queuedFuture = matchAllQuery().fetchAsync().toCompletableFuture();
+		// ... and the queue is full: the next one is rejected
+		SubTest.expectException(
+				"query submitted while the queue is full",
+				() -> matchAllQuery().fetchAsync()
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Too many queries are waiting to be executed" );
+		assertThat( queuedFuture ).isNotDone();
+
+		releaseLatch.countDown();
+
+		assertThat( future1.join().getTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+		assertThat( future2.join().getTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+		assertThat( queuedFuture.join().getTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void saturatedQueue_indexReadersReleased() throws InterruptedException {
+		CountDownLatch enteredLatch = new CountDownLatch( QUERY_THREAD_POOL_SIZE );
+
+		CompletableFuture<IndexSearchResult<DocumentReference>> future1 = blockingQuery( enteredLatch ).fetchAsync().toCompletableFuture();
+		CompletableFuture<IndexSearchResult<DocumentReference>> future2 = blockingQuery( enteredLatch ).fetchAsync().toCompletableFuture();
+		assertThat( enteredLatch.await( 10, TimeUnit.SECONDS ) )
+				.as( "All threads of the pool should execute a query concurrently" )
+				.isTrue();
+
+		// The reader of the index, shared by the executing queries
+		IndexReader indexReader = executingQueryReaders.get( 0 ).getContext().children().get( 0 ).reader();
+		int refCountWhileExecuting = indexReader.getRefCount();
+
+		// A query waiting for a thread does not hold index readers
+		CompletableFuture<IndexSearchResult<DocumentReference>> queuedFuture = matchAllQuery().fetchAsync().toCompletableFuture();
+		assertThat( indexReader.getRefCount() ).isEqualTo( refCountWhileExecuting );
+
+		// Rejected queries do not leak index readers
+		SubTest.expectException(
+				"query submitted while the queue is full",
+				() -> matchAllQuery().fetchAsync()
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Too many queries are waiting to be executed" );
+		assertThat( indexReader.getRefCount() ).isEqualTo( refCountWhileExecuting );
+
+		SubTest.expectException(
+				"count query submitted while the queue is full",
+				() -> matchAllQuery().fetchTotalHitCountAsync()
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class );
+		assertThat( indexReader.getRefCount() ).isEqualTo( refCountWhileExecuting );
+
+		IndexSearchQuery<DocumentReference> batchedQuery = matchAllQuery();
+		IndexSearchBatch batch = batchedQuery.createBatch();
+		batch.add( batchedQuery, null, null );
+		SubTest.expectException(
+				"batch submitted while the queue is full",
+				() -> batch.fetchAsync()
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class );
+		assertThat( indexReader.getRefCount() ).isEqualTo( refCountWhileExecuting );
+
+		releaseLatch.countDown();
+		future1.join();
+		future2.join();
+		queuedFuture.join();
+
+		// All queries released their readers
+		assertThat( indexReader.getRefCount() ).isEqualTo( refCountWhileExecuting - QUERY_THREAD_POOL_SIZE );
+	}
+
+	private IndexSearchQuery<DocumentReference> blockingQuery(CountDownLatch enteredLatch) {
+		return indexManager.createSearchScope().query()
+				.asReference()
+				.predicate( f -> f.extension( LuceneExtension.get() )
+						.fromLuceneQuery( new BlockingQuery( enteredLatch, releaseLatch, executingQueryReaders ) ) )
+				.toQuery();
+	}
+
+	private IndexSearchQuery<DocumentReference> matchAllQuery() {
+		return indexManager.createSearchScope().query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.toQuery();
+	}
+
+	private void initData() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int value = i;
+			workPlan.add( referenceProvider( String.valueOf( i ) ),
+					document -> document.addValue( indexMapping.integer, value ) );
+		}
+		workPlan.execute().join();
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<Integer> integer;
+
+		IndexMapping(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger() ).toReference();
+		}
+	}
+
+	/**
+	 * A query matching all documents, which blocks the executing thread until it is released.
+	 * The reader of each executing query is collected.
+	 */
+	private static class BlockingQuery extends Query {
+		private final CountDownLatch enteredLatch;
+		private final CountDownLatch releaseLatch;
+		private final List<IndexReader> executingQueryReaders;
+
+		BlockingQuery(CountDownLatch enteredLatch, CountDownLatch releaseLatch,
+				List<IndexReader> executingQueryReaders) {
+			this.enteredLatch = enteredLatch;
+			this.releaseLatch = releaseLatch;
+			this.executingQueryReaders = executingQueryReaders;
+		}
+
+		@Override
+		public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) throws IOException {
+			executingQueryReaders.add( searcher.getIndexReader() );
+			enteredLatch.countDown();
+			try {
+				releaseLatch.await();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException( e );
+			}
+			return new MatchAllDocsQuery().createWeight( searcher, scoreMode, boost );
+		}
+
+		@Override
+		public String toString(String field) {
+			return getClass().getSimpleName();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return this == obj;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode( this );
+		}
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.query.spi.IndexSearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test paging with offsets and limits exceeding the range of integers,
+ * which Lucene cannot handle directly.
+ */
+public class LuceneSearchPagingIT {
+
+	private static final String INDEX_NAME = "IndexName";
+	private static final int DOCUMENT_COUNT = 5;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.withDefaultConfiguration()
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void offsetPlusLimitExceedsIntegerRange() {
+		IndexSearchQuery<DocumentReference> query = sortedQuery();
+
+		assertThat( query.fetch( (long) Integer.MAX_VALUE, 2L ) )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( INDEX_NAME, "2", "3", "4" );
+	}
+
+	@Test
+	public void offsetPlusLimitExceedsLongRange() {
+		IndexSearchQuery<DocumentReference> query = sortedQuery();
+
+		assertThat( query.fetch( Long.MAX_VALUE, 1L ) )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( INDEX_NAME, "1", "2", "3", "4" );
+	}
+
+	@Test
+	public void offsetExceedsIntegerRange() {
+		IndexSearchQuery<DocumentReference> query = sortedQuery();
+
+		assertThat( query.fetch( 2L, Integer.MAX_VALUE + 1L ) )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasNoHits();
+
+		assertThat( query.fetch( null, Integer.MAX_VALUE + 1L ) )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasNoHits();
+	}
+
+	private IndexSearchQuery<DocumentReference> sortedQuery() {
+		return indexManager.createSearchScope().query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.sort( c -> c.byField( "integer" ) )
+				.toQuery();
+	}
+
+	private void initData() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int value = i;
+			workPlan.add( referenceProvider( String.valueOf( i ) ),
+					document -> document.addValue( indexMapping.integer, value ) );
+		}
+		workPlan.execute().join();
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<Integer> integer;
+
+		IndexMapping(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) ).toReference();
+		}
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.query.spi.IndexSearchQuery;
+import org.hibernate.search.engine.search.query.spi.IndexSearchScroll;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test the lifecycle of scrolls, which hold index readers shared with other queries.
+ */
+public class LuceneSearchScrollIT {
+
+	private static final String INDEX_NAME = "IndexName";
+	private static final int DOCUMENT_COUNT = 5;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.withDefaultConfiguration()
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void close_twice() {
+		IndexSearchQuery<DocumentReference> query = sortedQuery();
+
+		try ( IndexSearchScroll<DocumentReference> scroll = query.scroll( 2 ) ) {
+			assertThat( scroll.next() )
+					.hasTotalHitCount( DOCUMENT_COUNT )
+					.hasDocRefHitsExactOrder( INDEX_NAME, "0", "1" );
+			// Explicit close, followed by the implicit close of try-with-resources
+			scroll.close();
+		}
+
+		// Releasing the index readers twice would have closed the readers shared with other queries
+		assertThat( query.fetch() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( INDEX_NAME, "0", "1", "2", "3", "4" );
+		try ( IndexSearchScroll<DocumentReference> scroll = query.scroll( 2 ) ) {
+			assertThat( scroll.next() )
+					.hasTotalHitCount( DOCUMENT_COUNT )
+					.hasDocRefHitsExactOrder( INDEX_NAME, "0", "1" );
+		}
+	}
+
+	@Test
+	public void next_afterClose() {
+		IndexSearchQuery<DocumentReference> query = sortedQuery();
+
+		IndexSearchScroll<DocumentReference> scroll = query.scroll( 2 );
+		assertThat( scroll.next() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( INDEX_NAME, "0", "1" );
+		scroll.close();
+
+		SubTest.expectException(
+				"next() on a closed scroll",
+				scroll::next
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unable to fetch the next chunk of hits: this scroll was closed" );
+	}
+
+	private IndexSearchQuery<DocumentReference> sortedQuery() {
+		return indexManager.createSearchScope().query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.sort( c -> c.byField( "integer" ) )
+				.toQuery();
+	}
+
+	private void initData() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int value = i;
+			workPlan.add( referenceProvider( String.valueOf( i ) ),
+					document -> document.addValue( indexMapping.integer, value ) );
+		}
+		workPlan.execute().join();
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<Integer> integer;
+
+		IndexMapping(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) ).toReference();
+		}
+	}
+}
@@ -0,0 +1,247 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.search.aggregation;
+
+import static org.assertj.core.api.Assertions.entry;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.Map;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.aggregation.Range;
+import org.hibernate.search.engine.search.query.spi.IndexSearchQuery;
+import org.hibernate.search.engine.search.query.spi.IndexSearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingSearchScope;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+public class SearchAggregationIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final AggregationKey<Map<String, Long>> COLOR_KEY = AggregationKey.of( "color" );
+	private static final AggregationKey<Map<Range<Integer>, Long>> PRICE_KEY = AggregationKey.of( "price" );
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.withDefaultConfiguration()
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void terms() {
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+		IndexSearchQuery<DocumentReference> query = scope.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.aggregation( COLOR_KEY, f -> f.terms( "color" ) )
+				.toQuery();
+
+		IndexSearchResult<DocumentReference> result = query.fetch( 1L, null );
+		assertThat( result ).hasTotalHitCount( 6 );
+
+		// Ordered by descending count
+		Assertions.assertThat( result.getAggregation( COLOR_KEY ) )
+				.containsExactly( entry( "red", 3L ), entry( "blue", 2L ), entry( "green", 1L ) );
+	}
+
+	@Test
+	public void terms_matchingDocumentsOnly() {
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+		IndexSearchQuery<DocumentReference> query = scope.query()
+				.asReference()
+				.predicate( f -> f.range().onField( "price" ).from( 1 ).to( 10 ) )
+				.aggregation( COLOR_KEY, f -> f.terms( "color" ) )
+				.toQuery();
+
+		Assertions.assertThat( query.fetch().getAggregation( COLOR_KEY ) )
+				.containsExactly( entry( "red", 2L ), entry( "blue", 1L ) );
+	}
+
+	@Test
+	public void terms_maxTermCount_minDocumentCount() {
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+
+		IndexSearchQuery<DocumentReference> query = scope.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.aggregation( COLOR_KEY, f -> f.terms( "color" ).maxTermCount( 1 ) )
+				.toQuery();
+		Assertions.assertThat( query.fetch().getAggregation( COLOR_KEY ) )
+				.containsExactly( entry( "red", 3L ) );
+
+		query = scope.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.aggregation( COLOR_KEY, f -> f.terms( "color" ).minDocumentCount( 2 ) )
+				.toQuery();
+		Assertions.assertThat( query.fetch().getAggregation( COLOR_KEY ) )
+				.containsOnlyKeys( "red", "blue" );
+	}
+
+	@Test
+	public void range() {
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+		IndexSearchQuery<DocumentReference> query = scope.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.aggregation( PRICE_KEY, f -> f.range( "price", Integer.class )
+						.range( Range.below( 10 ) )
+						.range( 10, 20 )
+						.range( Range.atLeast( 20 ) )
+				)
+				.toQuery();
+
+		Assertions.assertThat( query.fetch().getAggregation( PRICE_KEY ) )
+				.containsExactly(
+						entry( Range.below( 10 ), 2L ),
+						entry( Range.of( 10, 20 ), 2L ),
+						entry( Range.atLeast( 20 ), 2L )
+				);
+	}
+
+	@Test
+	public void multipleAggregations() {
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+		IndexSearchQuery<DocumentReference> query = scope.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.aggregation( COLOR_KEY, f -> f.terms( "color" ) )
+				.aggregation( PRICE_KEY, f -> f.range( "price", Integer.class ).range( 0, 100 ) )
+				.toQuery();
+
+		IndexSearchResult<DocumentReference> result = query.fetch();
+		Assertions.assertThat( result.getAggregation( COLOR_KEY ) ).hasSize( 3 );
+		Assertions.assertThat( result.getAggregation( PRICE_KEY ) )
+				.containsExactly( entry( Range.of( 0, 100 ), 6L ) );
+	}
+
+	@Test
+	public void error_duplicateKey() {
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+		SubTest.expectException(
+				() -> scope.query()
+						.asReference()
+						.predicate( f -> f.matchAll() )
+						.aggregation( COLOR_KEY, f -> f.terms( "color" ) )
+						.aggregation( COLOR_KEY, f -> f.terms( "color" ) )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Multiple aggregations with the same key" )
+				.hasMessageContaining( "color" );
+	}
+
+	@Test
+	public void error_unsortable() {
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+		SubTest.expectException(
+				() -> scope.query()
+						.asReference()
+						.predicate( f -> f.matchAll() )
+						.aggregation( COLOR_KEY, f -> f.terms( "unsortable" ) )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Aggregations are not enabled for field" )
+				.hasMessageContaining( "unsortable" );
+	}
+
+	@Test
+	public void error_invalidFieldType() {
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+		SubTest.expectException(
+				() -> scope.query()
+						.asReference()
+						.predicate( f -> f.matchAll() )
+						.aggregation( COLOR_KEY, f -> f.terms( "price" ) )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Terms aggregations are not supported by this field's type" );
+
+		SubTest.expectException(
+				() -> scope.query()
+						.asReference()
+						.predicate( f -> f.matchAll() )
+						.aggregation( PRICE_KEY, f -> f.range( "color", Integer.class ).range( 0, 10 ) )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Range aggregations are not supported by this field's type" );
+	}
+
+	private void initData() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		addDocument( workPlan, "1", "red", 1 );
+		addDocument( workPlan, "2", "blue", 5 );
+		addDocument( workPlan, "3", "red", 10 );
+		addDocument( workPlan, "4", "green", 15 );
+		addDocument( workPlan, "5", "red", 20 );
+		addDocument( workPlan, "6", "blue", 25 );
+		workPlan.execute().join();
+
+		// Check that all documents are searchable
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+		IndexSearchQuery<DocumentReference> query = scope.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.toQuery();
+		assertThat( query ).hasDocRefHitsAnyOrder( INDEX_NAME, "1", "2", "3", "4", "5", "6" );
+	}
+
+	private void addDocument(IndexWorkPlan<? extends DocumentElement> workPlan, String id, String color, int price) {
+		workPlan.add( referenceProvider( id ), document -> {
+			document.addValue( indexMapping.color, color );
+			document.addValue( indexMapping.price, price );
+			document.addValue( indexMapping.unsortable, color );
+		} );
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<String> color;
+		final IndexFieldReference<Integer> price;
+		final IndexFieldReference<String> unsortable;
+
+		IndexMapping(IndexSchemaElement root) {
+			color = root.field( "color", f -> f.asString().sortable( Sortable.YES ) )
+					.toReference();
+			price = root.field( "price", f -> f.asInteger().sortable( Sortable.YES ) )
+					.toReference();
+			unsortable = root.field( "unsortable", f -> f.asString().sortable( Sortable.NO ) )
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,201 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.search.query;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.query.spi.CompositeIndexSearchBatch;
+import org.hibernate.search.engine.search.query.spi.IndexSearchBatch;
+import org.hibernate.search.engine.search.query.spi.IndexSearchQuery;
+import org.hibernate.search.engine.search.query.spi.IndexSearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingSearchScope;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test the execution of multiple queries in a single {@link IndexSearchBatch}.
+ */
+public class IndexSearchBatchIT {
+
+	private static final String INDEX_NAME = "IndexName";
+	private static final String OTHER_INDEX_NAME = "OtherIndexName";
+	private static final int DOCUMENT_COUNT = 20;
+	private static final int OTHER_DOCUMENT_COUNT = 5;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	private IndexMapping otherIndexMapping;
+	private StubMappingIndexManager otherIndexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.withDefaultConfiguration()
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.withIndex(
+						OTHER_INDEX_NAME,
+						ctx -> this.otherIndexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.otherIndexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void fetch() {
+		IndexSearchQuery<DocumentReference> matchAllQuery = matchAllQuery( indexManager );
+		IndexSearchQuery<DocumentReference> rangeQuery = rangeQuery( indexManager, 5, 7 );
+		IndexSearchQuery<DocumentReference> otherIndexQuery = matchAllQuery( otherIndexManager );
+
+		IndexSearchBatch batch = new CompositeIndexSearchBatch();
+		batch.add( matchAllQuery, 2L, 3L );
+		batch.add( otherIndexQuery, null, null );
+		batch.add( rangeQuery, null, null );
+
+		List<IndexSearchResult<?>> results = batch.fetch();
+		checkResults( results );
+	}
+
+	@Test
+	public void fetchAsync() {
+		IndexSearchQuery<DocumentReference> matchAllQuery = matchAllQuery( indexManager );
+		IndexSearchQuery<DocumentReference> rangeQuery = rangeQuery( indexManager, 5, 7 );
+		IndexSearchQuery<DocumentReference> otherIndexQuery = matchAllQuery( otherIndexManager );
+
+		IndexSearchBatch batch = new CompositeIndexSearchBatch();
+		batch.add( matchAllQuery, 2L, 3L );
+		batch.add( otherIndexQuery, null, null );
+		batch.add( rangeQuery, null, null );
+
+		List<IndexSearchResult<?>> results = batch.fetchAsync().toCompletableFuture().join();
+		checkResults( results );
+	}
+
+	@Test
+	public void sameQueryDifferentPaging() {
+		IndexSearchQuery<DocumentReference> query = matchAllQuery( indexManager );
+
+		IndexSearchBatch batch = query.createBatch();
+		Assertions.assertThat( batch.add( query, 1L, 0L ) ).isTrue();
+		Assertions.assertThat( batch.add( query, 1L, 1L ) ).isTrue();
+
+		List<IndexSearchResult<?>> results = batch.fetch();
+		Assertions.assertThat( results ).hasSize( 2 );
+		assertThat( results.get( 0 ) )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( INDEX_NAME, docId( 0 ) );
+		assertThat( results.get( 1 ) )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( INDEX_NAME, docId( 1 ) );
+	}
+
+	@Test
+	public void empty() {
+		IndexSearchBatch batch = new CompositeIndexSearchBatch();
+		Assertions.assertThat( batch.fetch() ).isEmpty();
+		Assertions.assertThat( batch.fetchAsync().toCompletableFuture().join() ).isEmpty();
+	}
+
+	private void checkResults(List<IndexSearchResult<?>> results) {
+		// Results must be returned in the order queries were added
+		Assertions.assertThat( results ).hasSize( 3 );
+		assertThat( results.get( 0 ) )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( INDEX_NAME, docId( 3 ), docId( 4 ) );
+		assertThat( results.get( 1 ) )
+				.hasTotalHitCount( OTHER_DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( builder -> {
+					for ( int i = 0; i < OTHER_DOCUMENT_COUNT; i++ ) {
+						builder.doc( OTHER_INDEX_NAME, docId( i ) );
+					}
+				} );
+		assertThat( results.get( 2 ) )
+				.hasTotalHitCount( 3 )
+				.hasDocRefHitsExactOrder( INDEX_NAME, docId( 5 ), docId( 6 ), docId( 7 ) );
+	}
+
+	private IndexSearchQuery<DocumentReference> matchAllQuery(StubMappingIndexManager indexManager) {
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+		return scope.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.sort( c -> c.byField( "integer" ).asc() )
+				.toQuery();
+	}
+
+	private IndexSearchQuery<DocumentReference> rangeQuery(StubMappingIndexManager indexManager,
+			int fromInclusive, int toInclusive) {
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+		return scope.query()
+				.asReference()
+				.predicate( f -> f.range().onField( "integer" ).from( fromInclusive ).to( toInclusive ) )
+				.sort( c -> c.byField( "integer" ).asc() )
+				.toQuery();
+	}
+
+	private void initData() {
+		indexDocuments( indexManager, indexMapping, DOCUMENT_COUNT );
+		indexDocuments( otherIndexManager, otherIndexMapping, OTHER_DOCUMENT_COUNT );
+
+		// Check that all documents are searchable
+		assertThat( matchAllQuery( indexManager ) ).hasTotalHitCount( DOCUMENT_COUNT );
+		assertThat( matchAllQuery( otherIndexManager ) ).hasTotalHitCount( OTHER_DOCUMENT_COUNT );
+	}
+
+	private static void indexDocuments(StubMappingIndexManager indexManager, IndexMapping indexMapping,
+			int documentCount) {
+		IndexDocumentWorkExecutor<? extends DocumentElement> executor = indexManager.createDocumentWorkExecutor();
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( int i = 0; i < documentCount; i++ ) {
+			int intValue = i;
+			futures.add( executor.add( referenceProvider( docId( i ) ), document -> {
+				document.addValue( indexMapping.integer, intValue );
+			} ) );
+		}
+
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) ).join();
+		indexManager.createWorkExecutor().flush().join();
+	}
+
+	private static String docId(int i) {
+		return String.format( Locale.ROOT, "document_%05d", i );
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<Integer> integer;
+
+		IndexMapping(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -13,6 +13,7 @@
 import java.util.List;
 import java.util.Locale;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.backend.document.IndexFieldReference;
@@ -21,11 +22,16 @@
 import org.hibernate.search.engine.backend.types.Sortable;
 import org.hibernate.search.engine.search.DocumentReference;
 import org.hibernate.search.engine.search.query.spi.IndexSearchQuery;
+import org.hibernate.search.engine.search.query.spi.IndexSearchResult;
+import org.hibernate.search.engine.search.query.spi.IndexSearchScroll;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
 import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingSearchScope;
+import org.hibernate.search.util.impl.test.SubTest;
 import org.hibernate.search.util.impl.test.annotation.TestForIssue;
 
+import org.assertj.core.api.Assertions;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -131,6 +137,167 @@ public void maxResults_zero() {
 				.hasNoHits();
 	}
 
+	@Test
+	public void failAfter_notExceeded() {
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+		IndexSearchQuery<DocumentReference> query = scope.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.sort( c -> c.byField( "integer" ).asc() )
+				.failAfter( 1, TimeUnit.MINUTES )
+				.toQuery();
+
+		IndexSearchResult<DocumentReference> result = query.fetch( 5L, 0L );
+		checkScrollChunk( result, 0, 5 );
+		Assertions.assertThat( result.isTimedOut() ).isFalse();
+	}
+
+	@Test
+	public void truncateAfter_notExceeded() {
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+		IndexSearchQuery<DocumentReference> query = scope.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.sort( c -> c.byField( "integer" ).asc() )
+				.truncateAfter( 1, TimeUnit.MINUTES )
+				.toQuery();
+
+		IndexSearchResult<DocumentReference> result = query.fetch( 5L, 0L );
+		checkScrollChunk( result, 0, 5 );
+		Assertions.assertThat( result.isTimedOut() ).isFalse();
+	}
+
+	@Test
+	public void failAfter_invalidTimeout() {
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+
+		SubTest.expectException(
+				"failAfter with a zero timeout",
+				() -> scope.query()
+						.asReference()
+						.predicate( f -> f.matchAll() )
+						.failAfter( 0, TimeUnit.SECONDS )
+		)
+				.assertThrown()
+				.isInstanceOf( IllegalArgumentException.class )
+				.hasMessageContaining( "'timeout' must be strictly positive" );
+
+		SubTest.expectException(
+				"truncateAfter with a negative timeout",
+				() -> scope.query()
+						.asReference()
+						.predicate( f -> f.matchAll() )
+						.truncateAfter( -1, TimeUnit.SECONDS )
+		)
+				.assertThrown()
+				.isInstanceOf( IllegalArgumentException.class )
+				.hasMessageContaining( "'timeout' must be strictly positive" );
+	}
+
+	@Test
+	public void paging_largeResultSet() {
+		int documentCount = 2_500;
+		indexDocuments( DOCUMENT_COUNT, documentCount );
+
+		IndexSearchQuery<DocumentReference> query = matchAllQuery();
+		assertThat( query.fetch() ).fromQuery( query )
+				.hasTotalHitCount( documentCount )
+				.hasDocRefHitsExactOrder( builder -> {
+					for ( int i = 0; i < documentCount; i++ ) {
+						builder.doc( INDEX_NAME, docId( i ) );
+					}
+				} );
+
+		assertThat( query.fetch( 1_500L, 10L ) ).fromQuery( query )
+				.hasTotalHitCount( documentCount )
+				.hasDocRefHitsExactOrder( builder -> {
+					for ( int i = 10; i < 1_510; i++ ) {
+						builder.doc( INDEX_NAME, docId( i ) );
+					}
+				} );
+
+		assertThat( query.fetch( 3L, 2_100L ) ).fromQuery( query )
+				.hasTotalHitCount( documentCount )
+				.hasDocRefHitsExactOrder( INDEX_NAME, docId( 2_100 ), docId( 2_101 ), docId( 2_102 ) );
+
+		assertThat( query.fetch( null, 1_200L ) ).fromQuery( query )
+				.hasTotalHitCount( documentCount )
+				.hasDocRefHitsExactOrder( builder -> {
+					for ( int i = 1_200; i < documentCount; i++ ) {
+						builder.doc( INDEX_NAME, docId( i ) );
+					}
+				} );
+
+		assertThat( query.fetch( 10L, 3_000L ) ).fromQuery( query )
+				.hasTotalHitCount( documentCount )
+				.hasNoHits();
+	}
+
+	@Test
+	public void scroll() {
+		IndexSearchQuery<DocumentReference> query = matchAllQuery();
+		try ( IndexSearchScroll<DocumentReference> scroll = query.scroll( 60 ) ) {
+			checkScrollChunk( scroll.next(), 0, 60 );
+			checkScrollChunk( scroll.next(), 60, 120 );
+			checkScrollChunk( scroll.next(), 120, 180 );
+			checkScrollChunk( scroll.next(), 180, DOCUMENT_COUNT );
+			assertThat( scroll.next() )
+					.hasTotalHitCount( DOCUMENT_COUNT )
+					.hasNoHits();
+		}
+	}
+
+	@Test
+	public void scroll_nextAfterClose() {
+		IndexSearchQuery<DocumentReference> query = matchAllQuery();
+		IndexSearchScroll<DocumentReference> scroll = query.scroll( 60 );
+		checkScrollChunk( scroll.next(), 0, 60 );
+		scroll.close();
+
+		// The scroll must not silently restart from the first hit
+		SubTest.expectException(
+				"next() on a closed scroll",
+				scroll::next
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unable to fetch the next chunk of hits: this scroll was closed" );
+
+		// Closing again must be harmless
+		scroll.close();
+	}
+
+	@Test
+	public void scroll_largeResultSet() {
+		int documentCount = 2_500;
+		indexDocuments( DOCUMENT_COUNT, documentCount );
+
+		IndexSearchQuery<DocumentReference> query = matchAllQuery();
+		try ( IndexSearchScroll<DocumentReference> scroll = query.scroll( 1_100 ) ) {
+			checkScrollChunk( scroll.next(), 0, 1_100, documentCount );
+			checkScrollChunk( scroll.next(), 1_100, 2_200, documentCount );
+			checkScrollChunk( scroll.next(), 2_200, documentCount, documentCount );
+			assertThat( scroll.next() )
+					.hasTotalHitCount( documentCount )
+					.hasNoHits();
+		}
+	}
+
+	private void checkScrollChunk(IndexSearchResult<DocumentReference> chunk, int fromInclusive, int toExclusive) {
+		checkScrollChunk( chunk, fromInclusive, toExclusive, DOCUMENT_COUNT );
+	}
+
+	private void checkScrollChunk(IndexSearchResult<DocumentReference> chunk, int fromInclusive, int toExclusive,
+			int totalHitCount) {
+		assertThat( chunk )
+				.hasTotalHitCount( totalHitCount )
+				.hasDocRefHitsExactOrder( builder -> {
+					for ( int i = fromInclusive; i < toExclusive; i++ ) {
+						builder.doc( INDEX_NAME, docId( i ) );
+					}
+				} );
+	}
+
 	private IndexSearchQuery<DocumentReference> matchAllQuery() {
 		StubMappingSearchScope scope = indexManager.createSearchScope();
 		return scope.query()
@@ -141,9 +308,21 @@ private IndexSearchQuery<DocumentReference> matchAllQuery() {
 	}
 
 	private void initData() {
+		indexDocuments( 0, DOCUMENT_COUNT );
+
+		// Check that all documents are searchable
+		StubMappingSearchScope scope = indexManager.createSearchScope();
+		IndexSearchQuery<DocumentReference> query = scope.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.toQuery();
+		assertThat( query ).hasTotalHitCount( DOCUMENT_COUNT );
+	}
+
+	private void indexDocuments(int fromInclusive, int toExclusive) {
 		IndexDocumentWorkExecutor<? extends DocumentElement> executor = indexManager.createDocumentWorkExecutor();
 		List<CompletableFuture<?>> futures = new ArrayList<>();
-		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+		for ( int i = fromInclusive; i < toExclusive; i++ ) {
 			int intValue = i;
 			futures.add( executor.add( referenceProvider( docId( i ) ), document -> {
 				document.addValue( indexMapping.integer, intValue );
@@ -152,14 +331,6 @@ private void initData() {
 
 		CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) ).join();
 		indexManager.createWorkExecutor().flush().join();
-
-		// Check that all documents are searchable
-		StubMappingSearchScope scope = indexManager.createSearchScope();
-		IndexSearchQuery<DocumentReference> query = scope.query()
-				.asReference()
-				.predicate( f -> f.matchAll() )
-				.toQuery();
-		assertThat( query ).hasTotalHitCount( DOCUMENT_COUNT );
 	}
 
 	private static String docId(int i) {
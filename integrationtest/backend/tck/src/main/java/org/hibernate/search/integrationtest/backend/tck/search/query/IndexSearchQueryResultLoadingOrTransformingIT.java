@@ -29,6 +29,7 @@
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.engine.search.DocumentReference;
 import org.hibernate.search.engine.search.query.spi.IndexSearchQuery;
+import org.hibernate.search.engine.search.query.spi.IndexSearchResult;
 import org.hibernate.search.engine.search.loading.spi.ObjectLoader;
 import org.hibernate.search.engine.spatial.GeoPoint;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.stub.StubDocumentReferenceTransformer;
@@ -176,6 +177,45 @@ public void objects_referencesTransformer_objectLoading() {
 		EasyMock.verify( referenceTransformerMock, objectLoaderMock );
 	}
 
+	@Test
+	public void objects_referencesTransformer_objectLoading_async() {
+		DocumentReference mainReference = reference( INDEX_NAME, MAIN_ID );
+		DocumentReference emptyReference = reference( INDEX_NAME, EMPTY_ID );
+		StubTransformedReference mainTransformedReference = new StubTransformedReference( mainReference );
+		StubTransformedReference emptyTransformedReference = new StubTransformedReference( emptyReference );
+		StubLoadedObject mainLoadedObject = new StubLoadedObject( mainReference );
+		StubLoadedObject emptyLoadedObject = new StubLoadedObject( emptyReference );
+
+		Function<DocumentReference, StubTransformedReference> referenceTransformerMock =
+				EasyMock.createMock( StubDocumentReferenceTransformer.class );
+		ObjectLoader<StubTransformedReference, StubLoadedObject> objectLoaderMock =
+				EasyMock.createMock( StubObjectLoader.class );
+
+		EasyMock.expect( referenceTransformerMock.apply( referenceMatcher( mainReference ) ) )
+				.andReturn( mainTransformedReference );
+		EasyMock.expect( referenceTransformerMock.apply( referenceMatcher( emptyReference ) ) )
+				.andReturn( emptyTransformedReference );
+		StubMapperUtils.expectLoadAsync(
+				objectLoaderMock,
+				c -> c.load( mainTransformedReference, mainLoadedObject )
+						.load( emptyTransformedReference, emptyLoadedObject )
+		);
+		EasyMock.replay( referenceTransformerMock, objectLoaderMock );
+
+		GenericStubMappingSearchScope<StubTransformedReference, StubLoadedObject> scope =
+				indexManager.createSearchScope( referenceTransformerMock );
+
+		IndexSearchQuery<StubLoadedObject> objectsQuery = scope.query( objectLoaderMock )
+				.asObject()
+				.predicate( f -> f.matchAll() )
+				.toQuery();
+		IndexSearchResult<StubLoadedObject> result = objectsQuery.fetchAsync().toCompletableFuture().join();
+		assertThat( result ).hasHitsExactOrder( mainLoadedObject, emptyLoadedObject );
+		assertEquals( 2L, (long) objectsQuery.fetchTotalHitCountAsync().toCompletableFuture().join() );
+
+		EasyMock.verify( referenceTransformerMock, objectLoaderMock );
+	}
+
 	@Test
 	public void projection_referencesTransformer_objectLoading() {
 		DocumentReference mainReference = reference( INDEX_NAME, MAIN_ID );
@@ -67,31 +67,7 @@ public void defaultMassIndexerStartAndWait() throws Exception {
 			SearchSession searchSession = Search.getSearchSession( session );
 			MassIndexer indexer = searchSession.createIndexer();
 
-			// add operations on indexes can follow any random order,
-			// since they are executed by different threads
-			backendMock.expectWorksAnyOrder( Book.INDEX )
-					.add( "1", b -> b
-							.field( "title", TITLE_1 )
-							.field( "author", AUTHOR_1 )
-					)
-					.add( "2", b -> b
-							.field( "title", TITLE_2 )
-							.field( "author", AUTHOR_2 )
-					)
-					.add( "3", b -> b
-							.field( "title", TITLE_3 )
-							.field( "author", AUTHOR_3 )
-					)
-					.preparedThenExecuted();
-
-			// purgeAtStart, optimizeAfterPurge and purgeAtStart flags are active by default,
-			// so we expect 1 purge, 2 optimize and 1 flush calls in this order:
-			backendMock.expectWorks( Book.INDEX )
-					.purge( session.getTenantIdentifier() )
-					.optimize()
-					.optimize()
-					.flush()
-					.executed();
+			expectIndexingWorks( session.getTenantIdentifier() );
 
 			try {
 				indexer.startAndWait();
@@ -105,6 +81,102 @@ public void defaultMassIndexerStartAndWait() throws Exception {
 		backendMock.verifyExpectationsMet();
 	}
 
+	@Test
+	public void pipelinedMassIndexer() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchSession searchSession = Search.getSearchSession( session );
+			MassIndexer indexer = searchSession.createIndexer()
+					// Single-entity batches, so that a single thread has multiple batches in flight
+					.threadsToLoadObjects( 1 )
+					.batchSizeToLoadObjects( 1 )
+					.maxInFlightBatchesPerThread( 2 );
+
+			expectIndexingWorks( session.getTenantIdentifier() );
+
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+
+		} );
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void partitionedIdentifierLoading_noCount() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchSession searchSession = Search.getSearchSession( session );
+			MassIndexer indexer = searchSession.createIndexer()
+					.threadsToLoadIdentifiers( 2 )
+					.countEntitiesBeforeIndexing( false );
+
+			expectIndexingWorks( session.getTenantIdentifier() );
+
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+
+		} );
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void loadObjectsByIdRange() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchSession searchSession = Search.getSearchSession( session );
+			MassIndexer indexer = searchSession.createIndexer()
+					.batchSizeToLoadObjects( 2 )
+					.loadObjectsByIdRange( true );
+
+			expectIndexingWorks( session.getTenantIdentifier() );
+
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+
+		} );
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	private void expectIndexingWorks(String tenantId) {
+		// add operations on indexes can follow any random order,
+		// since they are executed by different threads
+		backendMock.expectWorksAnyOrder( Book.INDEX )
+				.add( "1", b -> b
+						.field( "title", TITLE_1 )
+						.field( "author", AUTHOR_1 )
+				)
+				.add( "2", b -> b
+						.field( "title", TITLE_2 )
+						.field( "author", AUTHOR_2 )
+				)
+				.add( "3", b -> b
+						.field( "title", TITLE_3 )
+						.field( "author", AUTHOR_3 )
+				)
+				.preparedThenExecuted();
+
+		// purgeAtStart, optimizeAfterPurge and purgeAtStart flags are active by default,
+		// so we expect 1 purge, 2 optimize and 1 flush calls in this order:
+		backendMock.expectWorks( Book.INDEX )
+				.purge( tenantId )
+				.optimize()
+				.optimize()
+				.flush()
+				.executed();
+	}
+
 	private void initData() {
 		OrmUtils.withinTransaction( sessionFactory, session -> {
 			session.persist( new Book( 1, TITLE_1, AUTHOR_1 ) );
@@ -0,0 +1,310 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.massindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Fail.fail;
+
+import java.util.List;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmIndexingStrategyName;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
+import org.hibernate.search.mapper.orm.massindexing.checkpoint.MassIndexingCheckpoint;
+import org.hibernate.search.mapper.orm.massindexing.checkpoint.MassIndexingCheckpointStore;
+import org.hibernate.search.mapper.orm.session.SearchSession;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmUtils;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test recording and resuming from mass indexing checkpoints.
+ */
+public class MassIndexingCheckpointIT {
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = new OrmSetupHelper();
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private SessionFactory sessionFactory;
+
+	private MassIndexingCheckpointStore checkpointStore;
+
+	private String tenantId;
+
+	@Before
+	public void setup() throws Exception {
+		backendMock.expectAnySchema( IndexedEntity.INDEX );
+
+		sessionFactory = ormSetupHelper.withBackendMock( backendMock )
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.INDEXING_STRATEGY, HibernateOrmIndexingStrategyName.MANUAL )
+				.setup( IndexedEntity.class );
+
+		backendMock.verifyExpectationsMet();
+
+		checkpointStore = MassIndexingCheckpointStore.fromDirectory( temporaryFolder.newFolder().toPath() );
+
+		OrmUtils.withinSession( sessionFactory, session -> tenantId = session.getTenantIdentifier() );
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.persist( new IndexedEntity( 1, "text1" ) );
+			session.persist( new IndexedEntity( 2, "text2" ) );
+			session.persist( new IndexedEntity( 3, "text3" ) );
+		} );
+	}
+
+	@Test
+	public void noCheckpoint() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchSession searchSession = Search.getSearchSession( session );
+			MassIndexer indexer = searchSession.createIndexer()
+					.threadsToLoadIdentifiers( 2 )
+					.checkpointStore( checkpointStore );
+
+			backendMock.expectWorksAnyOrder( IndexedEntity.INDEX )
+					.add( "1", b -> b.field( "text", "text1" ) )
+					.add( "2", b -> b.field( "text", "text2" ) )
+					.add( "3", b -> b.field( "text", "text3" ) )
+					.preparedThenExecuted();
+
+			// The index is flushed before saving the completed checkpoint of each partition
+			backendMock.expectWorksAnyOrder( IndexedEntity.INDEX )
+					.flush()
+					.flush()
+					.executed();
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.purge( session.getTenantIdentifier() )
+					.optimize()
+					.optimize()
+					.flush()
+					.executed();
+
+			startAndWait( indexer );
+		} );
+
+		backendMock.verifyExpectationsMet();
+
+		// Checkpoints are cleared once indexing completes
+		assertThat( checkpointStore.load( IndexedEntity.class.getName(), tenantId ) ).isEmpty();
+	}
+
+	@Test
+	public void resumeFromCheckpoints() {
+		// Simulate a previous execution that stopped after indexing entity 1 in the first partition,
+		// and completed the second partition
+		checkpointStore.save( IndexedEntity.class.getName(), tenantId,
+				new MassIndexingCheckpoint( 0, null, 3, 1, false ) );
+		checkpointStore.save( IndexedEntity.class.getName(), tenantId,
+				new MassIndexingCheckpoint( 1, 3, null, 3, true ) );
+
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchSession searchSession = Search.getSearchSession( session );
+			MassIndexer indexer = searchSession.createIndexer()
+					.checkpointStore( checkpointStore );
+
+			backendMock.expectWorksAnyOrder( IndexedEntity.INDEX )
+					.add( "2", b -> b.field( "text", "text2" ) )
+					.preparedThenExecuted();
+
+			backendMock.expectWorksAnyOrder( IndexedEntity.INDEX )
+					.flush()
+					.executed();
+
+			// No purge, since we are resuming
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.optimize()
+					.flush()
+					.executed();
+
+			startAndWait( indexer );
+		} );
+
+		backendMock.verifyExpectationsMet();
+
+		assertThat( checkpointStore.load( IndexedEntity.class.getName(), tenantId ) ).isEmpty();
+	}
+
+	@Test
+	public void ignoreCheckpointsOfOtherTenants() {
+		// Simulate a previous execution for another tenant that stopped after indexing entity 1,
+		// and completed the second partition
+		String otherTenantId = "otherTenant";
+		checkpointStore.save( IndexedEntity.class.getName(), otherTenantId,
+				new MassIndexingCheckpoint( 0, null, 3, 1, false ) );
+		checkpointStore.save( IndexedEntity.class.getName(), otherTenantId,
+				new MassIndexingCheckpoint( 1, 3, null, 3, true ) );
+
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchSession searchSession = Search.getSearchSession( session );
+			MassIndexer indexer = searchSession.createIndexer()
+					.checkpointStore( checkpointStore );
+
+			// All entities are indexed, since there are no checkpoints for the current tenant
+			backendMock.expectWorksAnyOrder( IndexedEntity.INDEX )
+					.add( "1", b -> b.field( "text", "text1" ) )
+					.add( "2", b -> b.field( "text", "text2" ) )
+					.add( "3", b -> b.field( "text", "text3" ) )
+					.preparedThenExecuted();
+
+			backendMock.expectWorksAnyOrder( IndexedEntity.INDEX )
+					.flush()
+					.executed();
+
+			// The index is purged, since we are not resuming
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.purge( session.getTenantIdentifier() )
+					.optimize()
+					.optimize()
+					.flush()
+					.executed();
+
+			startAndWait( indexer );
+		} );
+
+		backendMock.verifyExpectationsMet();
+
+		assertThat( checkpointStore.load( IndexedEntity.class.getName(), tenantId ) ).isEmpty();
+		// Checkpoints of the other tenant are left untouched, so that it can still resume
+		List<MassIndexingCheckpoint> otherTenantCheckpoints =
+				checkpointStore.load( IndexedEntity.class.getName(), otherTenantId );
+		assertThat( otherTenantCheckpoints ).hasSize( 2 );
+		assertThat( otherTenantCheckpoints.get( 0 ).getLastIndexedId() ).isEqualTo( 1 );
+		assertThat( otherTenantCheckpoints.get( 0 ).isCompleted() ).isFalse();
+		assertThat( otherTenantCheckpoints.get( 1 ).isCompleted() ).isTrue();
+	}
+
+	@Test
+	public void failedBatch() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchSession searchSession = Search.getSearchSession( session );
+			MassIndexer indexer = searchSession.createIndexer()
+					.batchSizeToLoadObjects( 1 )
+					.checkpointStore( checkpointStore );
+
+			backendMock.expectWorksAnyOrder( IndexedEntity.INDEX )
+					.add( "1", b -> b.field( "text", "text1" ) )
+					.preparedThenFailed( new SimulatedFailure() );
+
+			backendMock.expectWorksAnyOrder( IndexedEntity.INDEX )
+					.add( "2", b -> b.field( "text", "text2" ) )
+					.add( "3", b -> b.field( "text", "text3" ) )
+					.preparedThenExecuted();
+
+			// No flush before saving checkpoints, since the checkpoint cannot move past the failed batch
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.purge( session.getTenantIdentifier() )
+					.optimize()
+					.optimize()
+					.flush()
+					.executed();
+
+			startAndWait( indexer );
+		} );
+
+		backendMock.verifyExpectationsMet();
+
+		// The checkpoint does not move past the failed batch, even though the following batches were indexed
+		List<MassIndexingCheckpoint> checkpoints = checkpointStore.load( IndexedEntity.class.getName(), tenantId );
+		assertThat( checkpoints ).hasSize( 1 );
+		assertThat( checkpoints.get( 0 ).getLastIndexedId() ).isNull();
+		assertThat( checkpoints.get( 0 ).isCompleted() ).isFalse();
+
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchSession searchSession = Search.getSearchSession( session );
+			MassIndexer indexer = searchSession.createIndexer()
+					.batchSizeToLoadObjects( 1 )
+					.checkpointStore( checkpointStore );
+
+			// Resuming re-indexes the failed batch and the following ones
+			backendMock.expectWorksAnyOrder( IndexedEntity.INDEX )
+					.add( "1", b -> b.field( "text", "text1" ) )
+					.add( "2", b -> b.field( "text", "text2" ) )
+					.add( "3", b -> b.field( "text", "text3" ) )
+					.preparedThenExecuted();
+
+			backendMock.expectWorksAnyOrder( IndexedEntity.INDEX )
+					.flush()
+					.executed();
+
+			// No purge, since we are resuming
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.optimize()
+					.flush()
+					.executed();
+
+			startAndWait( indexer );
+		} );
+
+		backendMock.verifyExpectationsMet();
+
+		assertThat( checkpointStore.load( IndexedEntity.class.getName(), tenantId ) ).isEmpty();
+	}
+
+	private static void startAndWait(MassIndexer indexer) {
+		try {
+			indexer.startAndWait();
+		}
+		catch (InterruptedException e) {
+			fail( "Unexpected InterruptedException: " + e.getMessage() );
+		}
+	}
+
+	private static class SimulatedFailure extends RuntimeException {
+		SimulatedFailure() {
+			super( "Simulated failure" );
+		}
+	}
+
+	@Entity
+	@Table(name = "indexed")
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+
+		public static final String INDEX = "IndexedEntity";
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String text;
+
+		public IndexedEntity() {
+		}
+
+		public IndexedEntity(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getText() {
+			return text;
+		}
+	}
+}
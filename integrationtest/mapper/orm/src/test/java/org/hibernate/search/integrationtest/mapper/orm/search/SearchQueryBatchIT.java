@@ -0,0 +1,255 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.stub.backend.StubBackendUtils.reference;
+
+import java.util.Arrays;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.assertj.core.api.Assertions;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.search.query.SearchQuery;
+import org.hibernate.search.mapper.orm.search.query.SearchQueryBatch;
+import org.hibernate.search.mapper.orm.search.query.SearchQueryBatchResult;
+import org.hibernate.search.mapper.orm.search.query.SearchResult;
+import org.hibernate.search.mapper.orm.session.SearchSession;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.common.rule.StubSearchWorkBehavior;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmUtils;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test the execution of multiple search queries in a {@link SearchQueryBatch}.
+ */
+public class SearchQueryBatchIT {
+
+	private static final String TITLE_4_3_2_1 = "4 3 2 1";
+	private static final String TITLE_CIDER_HOUSE = "The Cider House Rules";
+	private static final String TITLE_AVENUE_OF_MYSTERIES = "Avenue of Mysteries";
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = new OrmSetupHelper();
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		backendMock.expectAnySchema( Book.INDEX );
+
+		sessionFactory = ormSetupHelper.withBackendMock( backendMock )
+				.setup( Book.class );
+
+		backendMock.verifyExpectationsMet();
+
+		initData();
+	}
+
+	@Test
+	public void add_alreadyInBatch() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchSession searchSession = Search.getSearchSession( session );
+
+			SearchQuery<Book> query = searchSession.search( Book.class )
+					.asEntity()
+					.predicate( f -> f.matchAll() )
+					.toQuery();
+
+			SearchQueryBatch batch = searchSession.createQueryBatch()
+					.add( query );
+
+			SubTest.expectException( () -> batch.add( query, 2L, null ) )
+					.assertThrown()
+					.isInstanceOf( SearchException.class )
+					.hasMessageContaining( "was already added to this batch" );
+		} );
+	}
+
+	@Test
+	public void fetch() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchSession searchSession = Search.getSearchSession( session );
+
+			SearchQuery<Book> entityQuery = searchSession.search( Book.class )
+					.asEntity()
+					.predicate( f -> f.matchAll() )
+					.toQuery();
+			SearchQuery<String> projectionQuery = searchSession.search( Book.class )
+					.asProjection( f -> f.field( "title", String.class ) )
+					.predicate( f -> f.matchAll() )
+					.toQuery();
+			SearchQuery<Book> otherEntityQuery = searchSession.search( Book.class )
+					.asEntity()
+					.predicate( f -> f.matchAll() )
+					.toQuery();
+
+			expectBatchWorks();
+
+			SearchQueryBatchResult batchResult = searchSession.createQueryBatch()
+					.add( entityQuery, 2L, null )
+					.add( projectionQuery, null, 1L )
+					.add( otherEntityQuery )
+					.fetch();
+			backendMock.verifyExpectationsMet();
+
+			assertBatchResult( session, batchResult, entityQuery, projectionQuery, otherEntityQuery );
+		} );
+	}
+
+	@Test
+	public void fetchAsync() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchSession searchSession = Search.getSearchSession( session );
+
+			SearchQuery<Book> entityQuery = searchSession.search( Book.class )
+					.asEntity()
+					.predicate( f -> f.matchAll() )
+					.toQuery();
+			SearchQuery<String> projectionQuery = searchSession.search( Book.class )
+					.asProjection( f -> f.field( "title", String.class ) )
+					.predicate( f -> f.matchAll() )
+					.toQuery();
+			SearchQuery<Book> otherEntityQuery = searchSession.search( Book.class )
+					.asEntity()
+					.predicate( f -> f.matchAll() )
+					.toQuery();
+
+			expectBatchWorks();
+
+			SearchQueryBatchResult batchResult = searchSession.createQueryBatch()
+					.add( entityQuery, 2L, null )
+					.add( projectionQuery, null, 1L )
+					.add( otherEntityQuery )
+					.fetchAsync().toCompletableFuture().join();
+			backendMock.verifyExpectationsMet();
+
+			assertBatchResult( session, batchResult, entityQuery, projectionQuery, otherEntityQuery );
+		} );
+	}
+
+	private void expectBatchWorks() {
+		backendMock.expectSearchObjects(
+				Arrays.asList( Book.INDEX ),
+				b -> b.limit( 2L ),
+				StubSearchWorkBehavior.of(
+						3L,
+						reference( Book.INDEX, "1" ),
+						reference( Book.INDEX, "2" )
+				)
+		);
+		backendMock.expectSearchProjection(
+				Arrays.asList( Book.INDEX ),
+				b -> b.offset( 1L ),
+				StubSearchWorkBehavior.of(
+						3L,
+						TITLE_CIDER_HOUSE,
+						TITLE_AVENUE_OF_MYSTERIES
+				)
+		);
+		backendMock.expectSearchObjects(
+				Arrays.asList( Book.INDEX ),
+				b -> { },
+				StubSearchWorkBehavior.of(
+						1L,
+						reference( Book.INDEX, "3" )
+				)
+		);
+	}
+
+	private void assertBatchResult(Session session, SearchQueryBatchResult batchResult,
+			SearchQuery<Book> entityQuery, SearchQuery<String> projectionQuery,
+			SearchQuery<Book> otherEntityQuery) {
+		// Each query gets its own result, even though the queries were executed together
+		SearchResult<Book> entityResult = batchResult.get( entityQuery );
+		Assertions.assertThat( entityResult.getHits() ).containsExactly(
+				session.load( Book.class, 1 ),
+				session.load( Book.class, 2 )
+		);
+		Assertions.assertThat( entityResult.getTotalHitCount() ).isEqualTo( 3L );
+
+		SearchResult<String> projectionResult = batchResult.get( projectionQuery );
+		Assertions.assertThat( projectionResult.getHits() ).containsExactly(
+				TITLE_CIDER_HOUSE,
+				TITLE_AVENUE_OF_MYSTERIES
+		);
+		Assertions.assertThat( projectionResult.getTotalHitCount() ).isEqualTo( 3L );
+
+		SearchResult<Book> otherEntityResult = batchResult.get( otherEntityQuery );
+		Assertions.assertThat( otherEntityResult.getHits() ).containsExactly(
+				session.load( Book.class, 3 )
+		);
+		Assertions.assertThat( otherEntityResult.getTotalHitCount() ).isEqualTo( 1L );
+	}
+
+	private void initData() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.persist( new Book( 1, TITLE_4_3_2_1 ) );
+			session.persist( new Book( 2, TITLE_CIDER_HOUSE ) );
+			session.persist( new Book( 3, TITLE_AVENUE_OF_MYSTERIES ) );
+
+			backendMock.expectWorks( Book.INDEX )
+					.add( "1", b -> b
+							.field( "title", TITLE_4_3_2_1 )
+					)
+					.add( "2", b -> b
+							.field( "title", TITLE_CIDER_HOUSE )
+					)
+					.add( "3", b -> b
+							.field( "title", TITLE_AVENUE_OF_MYSTERIES )
+					)
+					.preparedThenExecuted();
+		} );
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Entity
+	@Table(name = "book")
+	@Indexed(index = Book.INDEX)
+	public static class Book {
+
+		public static final String INDEX = "Book";
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+	}
+}
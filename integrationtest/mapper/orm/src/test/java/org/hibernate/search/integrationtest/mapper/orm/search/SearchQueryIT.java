@@ -13,6 +13,7 @@
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import javax.persistence.Entity;
 import javax.persistence.Id;
@@ -159,6 +160,42 @@ public void fetch_offsetAndLimit() {
 		} );
 	}
 
+	@Test
+	public void timeout() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchSession searchSession = Search.getSearchSession( session );
+
+			SearchQuery<Book> query = searchSession.search( Book.class )
+					.asEntity()
+					.predicate( f -> f.matchAll() )
+					.failAfter( 5, TimeUnit.SECONDS )
+					.toQuery();
+
+			backendMock.expectSearchObjects(
+					Arrays.asList( Book.INDEX ),
+					b -> b.failAfter( 5, TimeUnit.SECONDS ),
+					StubSearchWorkBehavior.empty() // Irrelevant
+			);
+			query.fetch();
+			backendMock.verifyExpectationsMet();
+
+			query = searchSession.search( Book.class )
+					.asEntity()
+					.predicate( f -> f.matchAll() )
+					.truncateAfter( 500, TimeUnit.MILLISECONDS )
+					.toQuery();
+
+			backendMock.expectSearchObjects(
+					Arrays.asList( Book.INDEX ),
+					b -> b.truncateAfter( 500, TimeUnit.MILLISECONDS ),
+					StubSearchWorkBehavior.empty() // Irrelevant
+			);
+			SearchResult<Book> result = query.fetch();
+			backendMock.verifyExpectationsMet();
+			assertThat( result.isTimedOut() ).isFalse();
+		} );
+	}
+
 	@Test
 	public void fetchHits_offsetAndLimit() {
 		OrmUtils.withinSession( sessionFactory, session -> {
@@ -303,6 +340,64 @@ public void fetchCount() {
 		} );
 	}
 
+	@Test
+	public void fetchAsync_entities() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchSession searchSession = Search.getSearchSession( session );
+
+			SearchQuery<Book> query = searchSession.search( Book.class )
+					.asEntity()
+					.predicate( f -> f.matchAll() )
+					.toQuery();
+
+			backendMock.expectSearchObjects(
+					Arrays.asList( Book.INDEX ),
+					b -> { },
+					StubSearchWorkBehavior.of(
+							2L,
+							reference( Book.INDEX, "1" ),
+							reference( Book.INDEX, "2" )
+					)
+			);
+
+			// Entities are loaded in a separate thread, since the session only supports blocking operations
+			SearchResult<Book> result = query.fetchAsync().toCompletableFuture().join();
+			backendMock.verifyExpectationsMet();
+			Assertions.assertThat( result.getHits() ).containsExactly(
+					session.load( Book.class, 1 ),
+					session.load( Book.class, 2 )
+			);
+			Assertions.assertThat( result.getTotalHitCount() ).isEqualTo( 2L );
+		} );
+	}
+
+	@Test
+	public void fetchAsync_projections() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchSession searchSession = Search.getSearchSession( session );
+
+			SearchQuery<String> query = searchSession.search( Book.class )
+					.asProjection( f -> f.field( "title", String.class ) )
+					.predicate( f -> f.matchAll() )
+					.toQuery();
+
+			backendMock.expectSearchProjection(
+					Arrays.asList( Book.INDEX ),
+					b -> { },
+					StubSearchWorkBehavior.of(
+							2L,
+							TITLE_4_3_2_1,
+							TITLE_CIDER_HOUSE
+					)
+			);
+
+			SearchResult<String> result = query.fetchAsync().toCompletableFuture().join();
+			backendMock.verifyExpectationsMet();
+			Assertions.assertThat( result.getHits() ).containsExactly( TITLE_4_3_2_1, TITLE_CIDER_HOUSE );
+			Assertions.assertThat( result.getTotalHitCount() ).isEqualTo( 2L );
+		} );
+	}
+
 	@Test
 	public void fetchSingleHit() {
 		OrmUtils.withinSession( sessionFactory, session -> {
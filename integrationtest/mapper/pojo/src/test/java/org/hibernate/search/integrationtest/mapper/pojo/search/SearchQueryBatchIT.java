@@ -0,0 +1,191 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.pojo.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.backend.StubBackendUtils.reference;
+
+import java.util.Collections;
+
+import org.hibernate.search.integrationtest.mapper.pojo.testsupport.util.rule.JavaBeanMappingSetupHelper;
+import org.hibernate.search.mapper.javabean.JavaBeanMapping;
+import org.hibernate.search.mapper.javabean.search.query.SearchQuery;
+import org.hibernate.search.mapper.javabean.search.query.SearchQueryBatch;
+import org.hibernate.search.mapper.javabean.search.query.SearchQueryBatchResult;
+import org.hibernate.search.mapper.javabean.search.query.SearchResult;
+import org.hibernate.search.mapper.javabean.session.SearchSession;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.DocumentId;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.impl.PojoReferenceImpl;
+import org.hibernate.search.mapper.pojo.search.PojoReference;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.common.rule.StubSearchWorkBehavior;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test the execution of multiple search queries in a {@link SearchQueryBatch}.
+ */
+public class SearchQueryBatchIT {
+
+	private static final String VALUE = "val2";
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public JavaBeanMappingSetupHelper setupHelper = new JavaBeanMappingSetupHelper();
+
+	private JavaBeanMapping mapping;
+
+	@Before
+	public void setup() {
+		backendMock.expectSchema( IndexedEntity.INDEX, b -> b
+				.field( "value", String.class )
+		);
+
+		mapping = setupHelper.withBackendMock( backendMock )
+				.setup( IndexedEntity.class );
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void add_alreadyInBatch() {
+		try ( SearchSession session = mapping.createSession() ) {
+			SearchQuery<PojoReference> query = session.search( IndexedEntity.class )
+					.asReference()
+					.predicate( f -> f.matchAll() )
+					.toQuery();
+
+			SearchQueryBatch batch = session.createQueryBatch()
+					.add( query );
+
+			SubTest.expectException( () -> batch.add( query, 2L, null ) )
+					.assertThrown()
+					.isInstanceOf( SearchException.class )
+					.hasMessageContaining( "was already added to this batch" );
+		}
+	}
+
+	@Test
+	public void fetch() {
+		try ( SearchSession session = mapping.createSession() ) {
+			SearchQuery<PojoReference> referenceQuery = session.search( IndexedEntity.class )
+					.asReference()
+					.predicate( f -> f.matchAll() )
+					.toQuery();
+			SearchQuery<String> projectionQuery = session.search( IndexedEntity.class )
+					.asProjection( f -> f.field( "value", String.class ) )
+					.predicate( f -> f.matchAll() )
+					.toQuery();
+
+			expectBatchWorks();
+
+			SearchQueryBatchResult batchResult = session.createQueryBatch()
+					.add( referenceQuery, 2L, null )
+					.add( projectionQuery, null, 1L )
+					.fetch();
+			backendMock.verifyExpectationsMet();
+
+			assertBatchResult( batchResult, referenceQuery, projectionQuery );
+		}
+	}
+
+	@Test
+	public void fetchAsync() {
+		try ( SearchSession session = mapping.createSession() ) {
+			SearchQuery<PojoReference> referenceQuery = session.search( IndexedEntity.class )
+					.asReference()
+					.predicate( f -> f.matchAll() )
+					.toQuery();
+			SearchQuery<String> projectionQuery = session.search( IndexedEntity.class )
+					.asProjection( f -> f.field( "value", String.class ) )
+					.predicate( f -> f.matchAll() )
+					.toQuery();
+
+			expectBatchWorks();
+
+			SearchQueryBatchResult batchResult = session.createQueryBatch()
+					.add( referenceQuery, 2L, null )
+					.add( projectionQuery, null, 1L )
+					.fetchAsync().toCompletableFuture().join();
+			backendMock.verifyExpectationsMet();
+
+			assertBatchResult( batchResult, referenceQuery, projectionQuery );
+		}
+	}
+
+	private void expectBatchWorks() {
+		backendMock.expectSearchReferences(
+				Collections.singletonList( IndexedEntity.INDEX ),
+				b -> b.limit( 2L ),
+				StubSearchWorkBehavior.of(
+						3L,
+						reference( IndexedEntity.INDEX, "1" ),
+						reference( IndexedEntity.INDEX, "2" )
+				)
+		);
+		backendMock.expectSearchProjection(
+				Collections.singletonList( IndexedEntity.INDEX ),
+				b -> b.offset( 1L ),
+				StubSearchWorkBehavior.of(
+						2L,
+						VALUE
+				)
+		);
+	}
+
+	private void assertBatchResult(SearchQueryBatchResult batchResult,
+			SearchQuery<PojoReference> referenceQuery, SearchQuery<String> projectionQuery) {
+		// Each query gets its own result, even though the queries were executed together
+		SearchResult<PojoReference> referenceResult = batchResult.get( referenceQuery );
+		assertThat( referenceResult.getHits() ).containsExactly(
+				new PojoReferenceImpl( IndexedEntity.class, 1 ),
+				new PojoReferenceImpl( IndexedEntity.class, 2 )
+		);
+		assertThat( referenceResult.getTotalHitCount() ).isEqualTo( 3L );
+
+		SearchResult<String> projectionResult = batchResult.get( projectionQuery );
+		assertThat( projectionResult.getHits() ).containsExactly( VALUE );
+		assertThat( projectionResult.getTotalHitCount() ).isEqualTo( 2L );
+	}
+
+	@Indexed(index = IndexedEntity.INDEX)
+	public static final class IndexedEntity {
+
+		public static final String INDEX = "IndexedEntity";
+
+		private Integer id;
+
+		private String value;
+
+		@DocumentId
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		@GenericField
+		public String getValue() {
+			return value;
+		}
+
+		public void setValue(String value) {
+			this.value = value;
+		}
+
+	}
+}
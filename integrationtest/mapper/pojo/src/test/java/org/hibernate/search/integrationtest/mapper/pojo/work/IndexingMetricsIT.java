@@ -0,0 +1,159 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.pojo.work;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleSupplier;
+
+import org.hibernate.search.engine.cfg.spi.EngineSpiSettings;
+import org.hibernate.search.engine.metrics.spi.Counter;
+import org.hibernate.search.engine.metrics.spi.Histogram;
+import org.hibernate.search.engine.metrics.spi.MetricsRegistry;
+import org.hibernate.search.engine.metrics.spi.Timer;
+import org.hibernate.search.integrationtest.mapper.pojo.testsupport.util.rule.JavaBeanMappingSetupHelper;
+import org.hibernate.search.mapper.javabean.JavaBeanMapping;
+import org.hibernate.search.mapper.javabean.session.SearchSession;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.DocumentId;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.impl.PojoIndexingMetrics;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test the metrics reported by the POJO mapper through a configured {@link MetricsRegistry}.
+ */
+public class IndexingMetricsIT {
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public JavaBeanMappingSetupHelper setupHelper = new JavaBeanMappingSetupHelper( MethodHandles.lookup() );
+
+	private final RecordingMetricsRegistry metricsRegistry = new RecordingMetricsRegistry();
+
+	private JavaBeanMapping mapping;
+
+	@Before
+	public void setup() {
+		backendMock.expectAnySchema( IndexedEntity.INDEX );
+		mapping = setupHelper.withBackendMock( backendMock )
+				.withProperty( EngineSpiSettings.METRICS_REGISTRY, metricsRegistry )
+				.setup( IndexedEntity.class );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void workPlan() {
+		try ( SearchSession session = mapping.createSession() ) {
+			session.getMainWorkPlan().add( new IndexedEntity( 1, "text1" ) );
+			session.getMainWorkPlan().add( new IndexedEntity( 2, "text2" ) );
+			session.getMainWorkPlan().update( new IndexedEntity( 3, "text3" ) );
+			session.getMainWorkPlan().delete( new IndexedEntity( 4, "text4" ) );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.add( "1", b -> b.field( "text", "text1" ) )
+					.add( "2", b -> b.field( "text", "text2" ) )
+					.update( "3", b -> b.field( "text", "text3" ) )
+					.delete( "4" )
+					.preparedThenExecuted();
+		}
+		backendMock.verifyExpectationsMet();
+
+		assertThat( metricsRegistry.get( PojoIndexingMetrics.INDEXING_WORKS,
+				"index", IndexedEntity.INDEX, "operation", "add" ) )
+				.isEqualTo( 2L );
+		assertThat( metricsRegistry.get( PojoIndexingMetrics.INDEXING_WORKS,
+				"index", IndexedEntity.INDEX, "operation", "update" ) )
+				.isEqualTo( 1L );
+		assertThat( metricsRegistry.get( PojoIndexingMetrics.INDEXING_WORKS,
+				"index", IndexedEntity.INDEX, "operation", "delete" ) )
+				.isEqualTo( 1L );
+		// One document built for each add and update
+		assertThat( metricsRegistry.get( PojoIndexingMetrics.DOCUMENT_BUILD, "index", IndexedEntity.INDEX ) )
+				.isEqualTo( 3L );
+	}
+
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+
+		static final String INDEX = "IndexedEntity";
+
+		private Integer id;
+
+		private String text;
+
+		public IndexedEntity(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+
+		@DocumentId
+		public Integer getId() {
+			return id;
+		}
+
+		@GenericField
+		public String getText() {
+			return text;
+		}
+	}
+
+	/**
+	 * Records the total of counters and the number of events recorded by timers and histograms.
+	 */
+	private static class RecordingMetricsRegistry implements MetricsRegistry {
+
+		private final Map<String, AtomicLong> values = new ConcurrentHashMap<>();
+
+		long get(String name, String... tags) {
+			AtomicLong value = values.get( key( name, tags ) );
+			return value == null ? 0L : value.get();
+		}
+
+		@Override
+		public Counter counter(String name, String... tags) {
+			AtomicLong value = value( name, tags );
+			return value::addAndGet;
+		}
+
+		@Override
+		public Timer timer(String name, String... tags) {
+			AtomicLong value = value( name, tags );
+			return (duration, unit) -> value.incrementAndGet();
+		}
+
+		@Override
+		public Histogram histogram(String name, String... tags) {
+			AtomicLong value = value( name, tags );
+			return ignored -> value.incrementAndGet();
+		}
+
+		@Override
+		public void gauge(String name, DoubleSupplier valueSupplier, String... tags) {
+			// Not tested
+		}
+
+		private AtomicLong value(String name, String... tags) {
+			return values.computeIfAbsent( key( name, tags ), ignored -> new AtomicLong() );
+		}
+
+		private static String key(String name, String... tags) {
+			return name + Arrays.toString( tags );
+		}
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.pojo.work;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.hibernate.search.integrationtest.mapper.pojo.testsupport.util.rule.JavaBeanMappingSetupHelper;
+import org.hibernate.search.mapper.javabean.JavaBeanMapping;
+import org.hibernate.search.mapper.javabean.session.SearchSession;
+import org.hibernate.search.mapper.javabean.work.SearchWorkExecutor;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.DocumentId;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class SearchWorkExecutorIT {
+
+	private static final Collection<Class<?>> INDEXED_TYPES = Collections.singleton( IndexedEntity.class );
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public JavaBeanMappingSetupHelper setupHelper = new JavaBeanMappingSetupHelper( MethodHandles.lookup() );
+
+	private JavaBeanMapping mapping;
+
+	@Before
+	public void setup() {
+		backendMock.expectAnySchema( IndexedEntity.INDEX );
+		mapping = setupHelper.withBackendMock( backendMock ).setup( IndexedEntity.class );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void add() {
+		try ( SearchSession session = mapping.createSession() ) {
+			SearchWorkExecutor workExecutor = session.createWorkExecutor();
+
+			backendMock.expectWorksAnyOrder( IndexedEntity.INDEX )
+					.add( "1", b -> b.field( "text", "text1" ) )
+					.add( "2", b -> b.field( "text", "text2" ) )
+					.preparedThenExecuted();
+
+			workExecutor.add( new IndexedEntity( 1, "text1" ) ).join();
+			workExecutor.add( new IndexedEntity( 2, "text2" ) ).join();
+			backendMock.verifyExpectationsMet();
+		}
+	}
+
+	@Test
+	public void purgeFlushOptimize() {
+		try ( SearchSession session = mapping.createSession() ) {
+			SearchWorkExecutor workExecutor = session.createWorkExecutor();
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.purge( null )
+					.flush()
+					.optimize()
+					.executed();
+
+			workExecutor.purge( INDEXED_TYPES ).join();
+			workExecutor.flush( INDEXED_TYPES ).join();
+			workExecutor.optimize( INDEXED_TYPES ).join();
+			backendMock.verifyExpectationsMet();
+		}
+	}
+
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+
+		static final String INDEX = "IndexedEntity";
+
+		private Integer id;
+
+		private String text;
+
+		public IndexedEntity(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+
+		@DocumentId
+		public Integer getId() {
+			return id;
+		}
+
+		@GenericField
+		public String getText() {
+			return text;
+		}
+	}
+}
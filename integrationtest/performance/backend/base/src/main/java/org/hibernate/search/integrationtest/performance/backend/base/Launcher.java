@@ -0,0 +1,42 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.base;
+
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Launches all the JMH benchmarks on the classpath.
+ * <p>
+ * In order to run the benchmarks, generate the JMH benchmark classes by running
+ * {@code mvn compile -pl :hibernate-search-integrationtest-performance-backend-lucene -Dperformance.skip=false}
+ * (or {@code -pl :hibernate-search-integrationtest-performance-backend-elasticsearch})
+ * from the root dir, then run this class with the classpath of that module.
+ * <p>
+ * Typically you'll want to run this from a commandline; this Launcher is not meant
+ * to take measurements but rather to simplify debugging and developing.
+ */
+public class Launcher {
+
+	public static void main(String... args) throws Exception {
+		Options opts = new OptionsBuilder()
+				.include( ".*" )
+				.warmupIterations( 1 )
+				.measurementIterations( 1 )
+				.param( "indexSize", "1000" )
+				.forks( 0 ) //To simplify debugging; Remember this implies JVM parameters via @Fork won't be applied.
+				.build();
+
+		new Runner( opts ).run();
+	}
+
+	private Launcher() {
+		//Do not construct
+	}
+
+}
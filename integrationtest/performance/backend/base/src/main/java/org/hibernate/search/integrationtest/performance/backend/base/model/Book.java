@@ -0,0 +1,61 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.base.model;
+
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.DocumentId;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.KeywordField;
+
+@Indexed(index = Book.INDEX)
+public class Book {
+
+	public static final String INDEX = "Book";
+
+	private Integer id;
+	private String title;
+	private String author;
+	private Float rating;
+	private Integer publicationYear;
+
+	public Book(Integer id, String title, String author, Float rating, Integer publicationYear) {
+		this.id = id;
+		this.title = title;
+		this.author = author;
+		this.rating = rating;
+		this.publicationYear = publicationYear;
+	}
+
+	@DocumentId
+	public Integer getId() {
+		return id;
+	}
+
+	// Built into Elasticsearch; the Lucene benchmarks define an analyzer with the same name
+	@FullTextField(analyzer = "english")
+	public String getTitle() {
+		return title;
+	}
+
+	@KeywordField(sortable = Sortable.YES, projectable = Projectable.YES)
+	public String getAuthor() {
+		return author;
+	}
+
+	@GenericField(sortable = Sortable.YES, projectable = Projectable.YES)
+	public Float getRating() {
+		return rating;
+	}
+
+	@GenericField(sortable = Sortable.YES)
+	public Integer getPublicationYear() {
+		return publicationYear;
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.base.testsupport;
+
+import java.util.Locale;
+import java.util.Random;
+
+import org.hibernate.search.integrationtest.performance.backend.base.model.Book;
+
+/**
+ * Generates a corpus of books that is semi-random, but reproducible:
+ * the same identifier always leads to the same book.
+ */
+public final class Dataset {
+
+	private static final String[] WORDS = {
+			"adventure", "ancient", "autumn", "battle", "bridge", "castle", "city", "crown", "dark", "dawn",
+			"desert", "dragon", "dream", "empire", "falling", "fire", "forest", "garden", "ghost", "glass",
+			"gold", "harbor", "heart", "hidden", "island", "journey", "king", "last", "light", "lost",
+			"machine", "midnight", "mountain", "night", "ocean", "queen", "river", "secret", "shadow", "silent",
+			"silver", "sky", "star", "stone", "storm", "summer", "tower", "war", "winter", "world"
+	};
+
+	private static final int AUTHOR_COUNT = 1_000;
+
+	/**
+	 * A word that appears in the titles of some books, but not all of them.
+	 */
+	public static final String SEARCHED_WORD = WORDS[0];
+
+	private Dataset() {
+	}
+
+	public static Book book(int id) {
+		Random random = new Random( id );
+		int titleWordCount = 2 + random.nextInt( 5 );
+		StringBuilder title = new StringBuilder();
+		for ( int i = 0; i < titleWordCount; i++ ) {
+			if ( i > 0 ) {
+				title.append( ' ' );
+			}
+			title.append( WORDS[random.nextInt( WORDS.length )] );
+		}
+		String author = String.format( Locale.ROOT, "author_%04d", random.nextInt( AUTHOR_COUNT ) );
+		float rating = random.nextInt( 51 ) / 10.0f;
+		int publicationYear = 1900 + random.nextInt( 120 );
+		return new Book( id, title.toString(), author, rating, publicationYear );
+	}
+}
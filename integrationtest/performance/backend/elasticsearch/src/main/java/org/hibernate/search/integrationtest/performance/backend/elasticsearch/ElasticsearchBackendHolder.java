@@ -0,0 +1,159 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.elasticsearch;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexLifecycleStrategyName;
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
+import org.hibernate.search.engine.cfg.BackendSettings;
+import org.hibernate.search.engine.cfg.EngineSettings;
+import org.hibernate.search.integrationtest.performance.backend.base.model.Book;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.Dataset;
+import org.hibernate.search.integrationtest.performance.backend.elasticsearch.testsupport.StubElasticsearchServer;
+import org.hibernate.search.mapper.javabean.CloseableJavaBeanMapping;
+import org.hibernate.search.mapper.javabean.JavaBeanMapping;
+import org.hibernate.search.mapper.javabean.JavaBeanMappingBuilder;
+import org.hibernate.search.mapper.javabean.session.SearchSession;
+import org.hibernate.search.mapper.javabean.work.SearchWorkExecutor;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Starts a stub Elasticsearch server and a JavaBean mapping on top of an Elasticsearch backend pointing to that server.
+ * <p>
+ * The stub server does not store anything: indexing works are simply acknowledged,
+ * and search responses are canned, reporting {@link #getIndexSize() indexSize} total hits
+ * and including {@link #getMaxResults() maxResults} hits.
+ */
+@State(Scope.Benchmark)
+public class ElasticsearchBackendHolder {
+
+	private static final String BACKEND_NAME = "benchmarkBackend";
+
+	private static final Collection<Class<?>> INDEXED_TYPES = Collections.singleton( Book.class );
+
+	/**
+	 * The number of documents to add before waiting for the backend to catch up
+	 * when reindexing, so as to bound memory usage.
+	 */
+	private static final int REINDEXING_CHUNK_SIZE = 1_000;
+
+	@Param({ "10000" })
+	private int indexSize;
+
+	@Param({ "10" })
+	private int maxResults;
+
+	@Param({ "250" })
+	private int maxBulkSize;
+
+	private StubElasticsearchServer server;
+
+	private CloseableJavaBeanMapping mapping;
+
+	@Setup(Level.Trial)
+	public void start() throws IOException {
+		server = new StubElasticsearchServer(
+				Book.INDEX.toLowerCase( Locale.ROOT ), indexSize, maxResults,
+				ElasticsearchBackendSettings.Defaults.MAX_CONNECTIONS
+		);
+
+		JavaBeanMappingBuilder builder = JavaBeanMapping.builder( MethodHandles.lookup() )
+				.setProperty( EngineSettings.DEFAULT_BACKEND, BACKEND_NAME )
+				.setProperty( backendProperty( BackendSettings.TYPE ), ElasticsearchBackendSettings.TYPE_NAME )
+				.setProperty( backendProperty( ElasticsearchBackendSettings.HOSTS ), server.getHttpUrl() )
+				.setProperty( backendProperty( ElasticsearchBackendSettings.INDEXING_MAX_BULK_SIZE ), maxBulkSize )
+				// The stub server does not handle index creation or validation
+				.setProperty( indexDefaultsProperty( ElasticsearchIndexSettings.LIFECYCLE_STRATEGY ),
+						ElasticsearchIndexLifecycleStrategyName.NONE );
+		builder.addEntityType( Book.class );
+		builder.annotationMapping().add( Book.class );
+		try {
+			mapping = builder.build();
+		}
+		catch (RuntimeException e) {
+			server.close();
+			throw e;
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void stop() {
+		try {
+			if ( mapping != null ) {
+				mapping.close();
+			}
+		}
+		finally {
+			if ( server != null ) {
+				server.close();
+			}
+		}
+	}
+
+	/**
+	 * Purge the index, then add all books of the corpus, bypassing the work plan.
+	 */
+	public void reindex() {
+		try ( SearchSession session = mapping.createSession() ) {
+			SearchWorkExecutor workExecutor = session.createWorkExecutor();
+			workExecutor.purge( INDEXED_TYPES ).join();
+
+			List<CompletableFuture<?>> futures = new ArrayList<>( REINDEXING_CHUNK_SIZE );
+			for ( int id = 0; id < indexSize; id++ ) {
+				futures.add( workExecutor.add( Dataset.book( id ) ) );
+				if ( futures.size() >= REINDEXING_CHUNK_SIZE ) {
+					CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) ).join();
+					futures.clear();
+				}
+			}
+			CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) ).join();
+
+			workExecutor.flush( INDEXED_TYPES ).join();
+		}
+	}
+
+	public JavaBeanMapping getMapping() {
+		return mapping;
+	}
+
+	public int getIndexSize() {
+		return indexSize;
+	}
+
+	public int getMaxResults() {
+		return maxResults;
+	}
+
+	public Book randomBook() {
+		int id = ThreadLocalRandom.current().nextInt( indexSize );
+		return Dataset.book( id );
+	}
+
+	private static String backendProperty(String radical) {
+		return EngineSettings.BACKENDS + "." + BACKEND_NAME + "." + radical;
+	}
+
+	private static String indexDefaultsProperty(String radical) {
+		return backendProperty( BackendSettings.INDEX_DEFAULTS + "." + radical );
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.elasticsearch;
+
+import org.hibernate.search.mapper.javabean.session.SearchSession;
+import org.hibernate.search.mapper.javabean.work.SearchWorkPlan;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Benchmarks for indexing through the work plan, i.e. as the mapper does when entities change.
+ * <p>
+ * Works are executed against a stub server, so this measures the client-side cost of indexing:
+ * building documents, bulking works, serializing requests and parsing responses.
+ */
+@Fork(1)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+public class IndexingBenchmarks {
+
+	@Benchmark
+	@Threads(4)
+	public void singleDocument(ElasticsearchBackendHolder holder) {
+		try ( SearchSession session = holder.getMapping().createSession() ) {
+			session.getMainWorkPlan().update( holder.randomBook() );
+		}
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void workPlanBatch(ElasticsearchBackendHolder holder, WorkPlanBatchParams params) {
+		try ( SearchSession session = holder.getMapping().createSession() ) {
+			SearchWorkPlan workPlan = session.getMainWorkPlan();
+			for ( int i = 0; i < params.batchSize; i++ ) {
+				workPlan.update( holder.randomBook() );
+			}
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class WorkPlanBatchParams {
+		@Param({ "100" })
+		private int batchSize;
+	}
+}
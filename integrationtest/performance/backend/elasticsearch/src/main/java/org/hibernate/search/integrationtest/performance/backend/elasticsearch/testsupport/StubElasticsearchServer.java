@@ -0,0 +1,188 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.elasticsearch.testsupport;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.hibernate.search.integrationtest.performance.backend.base.model.Book;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * An in-process HTTP server mimicking an Elasticsearch 7 cluster,
+ * returning canned responses without doing any actual work.
+ * <p>
+ * This allows to measure the client-side overhead of the Elasticsearch backend
+ * (document building, bulking, serialization, response parsing)
+ * in isolation from the behavior of an actual cluster, without network access.
+ */
+public final class StubElasticsearchServer implements AutoCloseable {
+
+	private static final String JSON_CONTENT_TYPE = "application/json; charset=UTF-8";
+
+	private static final byte[] ROOT_RESPONSE =
+			"{\"version\":{\"number\":\"7.0.0\"}}".getBytes( StandardCharsets.UTF_8 );
+
+	private static final byte[] EMPTY_RESPONSE = "{}".getBytes( StandardCharsets.UTF_8 );
+
+	private final HttpServer server;
+	private final ExecutorService executor;
+
+	private final byte[] searchResponse;
+	private final byte[] countResponse;
+
+	/**
+	 * @param indexName The name of the index to report in search hits, as known to Elasticsearch.
+	 * @param totalHitCount The total hit count to report in search and count responses.
+	 * @param hitCount The number of hits to include in search responses.
+	 * @param threadCount The number of threads handling requests.
+	 * @throws IOException If the server cannot be started.
+	 */
+	public StubElasticsearchServer(String indexName, long totalHitCount, int hitCount, int threadCount)
+			throws IOException {
+		this.searchResponse = createSearchResponse( indexName, totalHitCount, hitCount );
+		this.countResponse = createCountResponse( totalHitCount );
+		this.executor = Executors.newFixedThreadPool( threadCount );
+		this.server = HttpServer.create( new InetSocketAddress( InetAddress.getLoopbackAddress(), 0 ), 0 );
+		server.createContext( "/", this::handle );
+		server.setExecutor( executor );
+		server.start();
+	}
+
+	@Override
+	public void close() {
+		server.stop( 0 );
+		executor.shutdownNow();
+	}
+
+	public String getHttpUrl() {
+		InetSocketAddress address = server.getAddress();
+		return "http://" + address.getHostString() + ":" + address.getPort();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try {
+			byte[] requestBody = readFully( exchange.getRequestBody() );
+			String path = exchange.getRequestURI().getPath();
+
+			byte[] responseBody;
+			if ( "/".equals( path ) ) {
+				// Version check
+				responseBody = ROOT_RESPONSE;
+			}
+			else if ( path.endsWith( "/_bulk" ) ) {
+				responseBody = createBulkResponse( requestBody );
+			}
+			else if ( path.endsWith( "/_search" ) ) {
+				responseBody = searchResponse;
+			}
+			else if ( path.endsWith( "/_count" ) ) {
+				responseBody = countResponse;
+			}
+			else {
+				// Single-document works, refresh, flush, delete-by-query, ...: only the status code matters
+				responseBody = EMPTY_RESPONSE;
+			}
+
+			exchange.getResponseHeaders().set( "Content-Type", JSON_CONTENT_TYPE );
+			exchange.sendResponseHeaders( 200, responseBody.length );
+			try ( OutputStream outputStream = exchange.getResponseBody() ) {
+				outputStream.write( responseBody );
+			}
+		}
+		finally {
+			exchange.close();
+		}
+	}
+
+	/**
+	 * @return A response reporting the success of each action in the bulk request,
+	 * so that the backend extracts one result item per work.
+	 */
+	private static byte[] createBulkResponse(byte[] requestBody) {
+		String[] lines = new String( requestBody, StandardCharsets.UTF_8 ).split( "\n" );
+		StringBuilder builder = new StringBuilder( "{\"took\":1,\"errors\":false,\"items\":[" );
+		boolean first = true;
+		for ( int i = 0; i < lines.length; i++ ) {
+			String line = lines[i];
+			if ( line.isEmpty() ) {
+				continue;
+			}
+			// Action lines have the following format: { "actionName" : { ... } }
+			String actionName = line.substring( 2, line.indexOf( '"', 2 ) );
+			if ( !"delete".equals( actionName ) ) {
+				// Skip the document source
+				++i;
+			}
+			if ( !first ) {
+				builder.append( ',' );
+			}
+			first = false;
+			builder.append( "{\"" ).append( actionName ).append( "\":{\"status\":200}}" );
+		}
+		builder.append( "]}" );
+		return builder.toString().getBytes( StandardCharsets.UTF_8 );
+	}
+
+	private static byte[] createSearchResponse(String indexName, long totalHitCount, int hitCount) {
+		JsonArray hits = new JsonArray();
+		for ( int id = 0; id < hitCount; id++ ) {
+			Book book = Dataset.book( id );
+			JsonObject source = new JsonObject();
+			source.addProperty( "author", book.getAuthor() );
+			source.addProperty( "rating", book.getRating() );
+			source.addProperty( "publicationYear", book.getPublicationYear() );
+			JsonObject hit = new JsonObject();
+			hit.addProperty( "_index", indexName );
+			hit.addProperty( "_id", String.valueOf( id ) );
+			hit.addProperty( "_score", 1.0f );
+			hit.add( "_source", source );
+			hits.add( hit );
+		}
+
+		JsonObject total = new JsonObject();
+		total.addProperty( "value", totalHitCount );
+		total.addProperty( "relation", "eq" );
+
+		JsonObject hitsObject = new JsonObject();
+		hitsObject.add( "total", total );
+		hitsObject.add( "hits", hits );
+
+		JsonObject response = new JsonObject();
+		response.addProperty( "took", 1 );
+		response.addProperty( "timed_out", false );
+		response.add( "hits", hitsObject );
+		return response.toString().getBytes( StandardCharsets.UTF_8 );
+	}
+
+	private static byte[] createCountResponse(long totalHitCount) {
+		JsonObject response = new JsonObject();
+		response.addProperty( "count", totalHitCount );
+		return response.toString().getBytes( StandardCharsets.UTF_8 );
+	}
+
+	private static byte[] readFully(InputStream inputStream) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		byte[] buffer = new byte[8192];
+		int read;
+		while ( ( read = inputStream.read( buffer ) ) >= 0 ) {
+			outputStream.write( buffer, 0, read );
+		}
+		return outputStream.toByteArray();
+	}
+}
@@ -0,0 +1,182 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.lucene;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.engine.cfg.BackendSettings;
+import org.hibernate.search.engine.cfg.EngineSettings;
+import org.hibernate.search.integrationtest.performance.backend.base.model.Book;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.Dataset;
+import org.hibernate.search.integrationtest.performance.backend.lucene.testsupport.BenchmarkAnalysisConfigurer;
+import org.hibernate.search.mapper.javabean.CloseableJavaBeanMapping;
+import org.hibernate.search.mapper.javabean.JavaBeanMapping;
+import org.hibernate.search.mapper.javabean.JavaBeanMappingBuilder;
+import org.hibernate.search.mapper.javabean.session.SearchSession;
+import org.hibernate.search.mapper.javabean.work.SearchWorkExecutor;
+
+import org.apache.lucene.util.Version;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Starts a JavaBean mapping on top of a Lucene backend, and fills the index with a generated corpus.
+ */
+@State(Scope.Benchmark)
+public class LuceneBackendHolder {
+
+	private static final String BACKEND_NAME = "benchmarkBackend";
+
+	private static final Collection<Class<?>> INDEXED_TYPES = Collections.singleton( Book.class );
+
+	/**
+	 * Set this system property to an alternative path if you don't
+	 * want the indexes to be stored in your default temp path.
+	 */
+	private static final String INDEX_PATH_PROPERTY = "index-path";
+
+	/**
+	 * Prefix used to identify the generated temporary directories.
+	 */
+	private static final String INDEX_DIRECTORY_PREFIX = "HibernateSearch-Perftests-";
+
+	/**
+	 * The number of documents to add before waiting for the backend to catch up
+	 * when initializing the index, so as to bound memory usage.
+	 */
+	private static final int INITIALIZATION_CHUNK_SIZE = 1_000;
+
+	@Param({ "local_directory", "local_nio_directory", "local_heap" })
+	private String directoryProvider;
+
+	@Param({ "10000" })
+	private int indexSize;
+
+	@Param({ "10" })
+	private int maxResults;
+
+	private Path indexDirectory;
+
+	private CloseableJavaBeanMapping mapping;
+
+	@Setup(Level.Trial)
+	public void startAndInitializeIndex() throws IOException {
+		indexDirectory = createIndexDirectory();
+
+		JavaBeanMappingBuilder builder = JavaBeanMapping.builder( MethodHandles.lookup() )
+				.setProperty( EngineSettings.DEFAULT_BACKEND, BACKEND_NAME )
+				.setProperty( backendProperty( BackendSettings.TYPE ), LuceneBackendSettings.TYPE_NAME )
+				.setProperty( backendProperty( LuceneBackendSettings.LUCENE_VERSION ), Version.LATEST.toString() )
+				.setProperty( backendProperty( LuceneBackendSettings.DIRECTORY_PROVIDER ), directoryProvider )
+				.setProperty( backendProperty( LuceneBackendSettings.ROOT_DIRECTORY ), indexDirectory.toString() )
+				.setProperty( backendProperty( LuceneBackendSettings.ANALYSIS_CONFIGURER ),
+						BenchmarkAnalysisConfigurer.class.getName() );
+		builder.addEntityType( Book.class );
+		builder.annotationMapping().add( Book.class );
+		mapping = builder.build();
+
+		initializeIndex();
+	}
+
+	@TearDown(Level.Trial)
+	public void stopAndCleanup() throws IOException {
+		try {
+			if ( mapping != null ) {
+				mapping.close();
+			}
+		}
+		finally {
+			deleteRecursively( indexDirectory );
+		}
+	}
+
+	/**
+	 * Purge the index, then add all books of the corpus, bypassing the work plan.
+	 */
+	public void initializeIndex() {
+		try ( SearchSession session = mapping.createSession() ) {
+			SearchWorkExecutor workExecutor = session.createWorkExecutor();
+			workExecutor.purge( INDEXED_TYPES ).join();
+
+			List<CompletableFuture<?>> futures = new ArrayList<>( INITIALIZATION_CHUNK_SIZE );
+			for ( int id = 0; id < indexSize; id++ ) {
+				futures.add( workExecutor.add( Dataset.book( id ) ) );
+				if ( futures.size() >= INITIALIZATION_CHUNK_SIZE ) {
+					CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) ).join();
+					futures.clear();
+				}
+			}
+			CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) ).join();
+
+			workExecutor.flush( INDEXED_TYPES ).join();
+		}
+	}
+
+	public JavaBeanMapping getMapping() {
+		return mapping;
+	}
+
+	public int getIndexSize() {
+		return indexSize;
+	}
+
+	public int getMaxResults() {
+		return maxResults;
+	}
+
+	/**
+	 * @return A new version of a random book of the corpus,
+	 * so that updating it leaves the size of the index unchanged.
+	 */
+	public Book randomBook() {
+		int id = ThreadLocalRandom.current().nextInt( indexSize );
+		return Dataset.book( id );
+	}
+
+	private static String backendProperty(String radical) {
+		return EngineSettings.BACKENDS + "." + BACKEND_NAME + "." + radical;
+	}
+
+	private static Path createIndexDirectory() throws IOException {
+		String userSelectedPath = System.getProperty( INDEX_PATH_PROPERTY );
+		if ( userSelectedPath != null ) {
+			return Files.createTempDirectory( Paths.get( userSelectedPath ), INDEX_DIRECTORY_PREFIX );
+		}
+		else {
+			return Files.createTempDirectory( INDEX_DIRECTORY_PREFIX );
+		}
+	}
+
+	private static void deleteRecursively(Path directory) throws IOException {
+		if ( directory == null || !Files.exists( directory ) ) {
+			return;
+		}
+		try ( Stream<Path> paths = Files.walk( directory ) ) {
+			for ( Path path : (Iterable<Path>) paths.sorted( Comparator.reverseOrder() )::iterator ) {
+				Files.delete( path );
+			}
+		}
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.lucene;
+
+import java.util.List;
+
+import org.hibernate.search.integrationtest.performance.backend.base.model.Book;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.Dataset;
+import org.hibernate.search.mapper.javabean.search.query.SearchQuery;
+import org.hibernate.search.mapper.javabean.search.query.SearchResult;
+import org.hibernate.search.mapper.javabean.session.SearchSession;
+import org.hibernate.search.mapper.pojo.search.PojoReference;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for the throughput of queries on the generated corpus.
+ */
+@Fork(1)
+public class QueryBenchmarks {
+
+	@Benchmark
+	@Threads(4)
+	public void matchAllSortedByRating(LuceneBackendHolder holder, Blackhole blackhole) {
+		try ( SearchSession session = holder.getMapping().createSession() ) {
+			SearchQuery<PojoReference> query = session.search( Book.class )
+					.asReference()
+					.predicate( f -> f.matchAll() )
+					.sort( c -> c.byField( "rating" ).desc() )
+					.toQuery();
+			SearchResult<PojoReference> result = query.fetch( holder.getMaxResults() );
+			if ( result.getTotalHitCount() != holder.getIndexSize() ) {
+				throw new IllegalStateException( "Unexpected total hit count: " + result.getTotalHitCount() );
+			}
+			blackhole.consume( result.getHits() );
+		}
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void fullTextSortedByScore(LuceneBackendHolder holder, Blackhole blackhole) {
+		try ( SearchSession session = holder.getMapping().createSession() ) {
+			SearchQuery<PojoReference> query = session.search( Book.class )
+					.asReference()
+					.predicate( f -> f.match().onField( "title" ).matching( Dataset.SEARCHED_WORD ) )
+					.sort( c -> c.byScore() )
+					.toQuery();
+			SearchResult<PojoReference> result = query.fetch( holder.getMaxResults() );
+			blackhole.consume( result.getTotalHitCount() );
+			blackhole.consume( result.getHits() );
+		}
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void projectionSortedByMultipleFields(LuceneBackendHolder holder, Blackhole blackhole) {
+		try ( SearchSession session = holder.getMapping().createSession() ) {
+			SearchQuery<List<?>> query = session.search( Book.class )
+					.asProjection( f -> f.composite(
+							f.field( "author", String.class ),
+							f.field( "rating", Float.class )
+					) )
+					.predicate( f -> f.range().onField( "publicationYear" ).from( 1950 ).to( 2000 ) )
+					.sort( c -> c.byField( "publicationYear" ).desc()
+							.then().byField( "author" ).asc() )
+					.toQuery();
+			SearchResult<List<?>> result = query.fetch( holder.getMaxResults() );
+			blackhole.consume( result.getTotalHitCount() );
+			blackhole.consume( result.getHits() );
+		}
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void count(LuceneBackendHolder holder, Blackhole blackhole) {
+		try ( SearchSession session = holder.getMapping().createSession() ) {
+			SearchQuery<PojoReference> query = session.search( Book.class )
+					.asReference()
+					.predicate( f -> f.match().onField( "title" ).matching( Dataset.SEARCHED_WORD ) )
+					.toQuery();
+			blackhole.consume( query.fetchTotalHitCount() );
+		}
+	}
+}
@@ -42,4 +42,7 @@ SearchException cannotReadProperty(@FormatWith(PojoTypeModelFormatter.class) Poj
 	@Message(id = ID_OFFSET_1 + 4, value = "Exception while retrieving property type model for '%1$s' on '%2$s'")
 	SearchException errorRetrievingPropertyTypeModel(String propertyModelName, @FormatWith(PojoTypeModelFormatter.class) PojoRawTypeModel<?> parentTypeModel, @Cause Exception cause);
 
+	@Message(id = ID_OFFSET_1 + 5, value = "Query '%1$s' was already added to this batch.")
+	SearchException queryAlreadyInBatch(Object query);
+
 }
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.mapper.javabean.search.query;
 
+import java.util.concurrent.CompletionStage;
+
 /**
  * @param <T> The type of results.
  */
@@ -73,6 +75,49 @@ default SearchResult<T> fetch(Integer limit, Integer offset) {
 	 */
 	long fetchTotalHitCount();
 
+	/**
+	 * Execute the query without blocking the current thread.
+	 *
+	 * @return A {@link CompletionStage} that will be completed with the {@link SearchResult}.
+	 * @see #fetchAsync(Long, Long)
+	 */
+	default CompletionStage<SearchResult<T>> fetchAsync() {
+		return fetchAsync( null, null );
+	}
+
+	/**
+	 * Execute the query without blocking the current thread.
+	 * <p>
+	 * The returned stage may be completed in a backend thread, so actions chained to it should not block.
+	 *
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @param offset The number of hits to skip before adding the hits to the {@link SearchResult}. {@code null} means no offset.
+	 * @return A {@link CompletionStage} that will be completed with the {@link SearchResult},
+	 * or completed exceptionally if something goes wrong while executing the query.
+	 */
+	CompletionStage<SearchResult<T>> fetchAsync(Long limit, Long offset);
+
+	/**
+	 * Execute the query and return the total hit count, without blocking the current thread.
+	 *
+	 * @return A {@link CompletionStage} that will be completed with the total number of matching entities,
+	 * ignoring pagination settings.
+	 */
+	CompletionStage<Long> fetchTotalHitCountAsync();
+
+	/**
+	 * Start scrolling through the hits of this query.
+	 * <p>
+	 * Scrolling allows to process a large number of hits in constant memory per chunk,
+	 * as opposed to {@link #fetch(Long, Long)} which may need to collect every hit before the offset.
+	 *
+	 * @param chunkSize The maximum number of hits to return in each call to {@link SearchScroll#next()}.
+	 * Must be strictly positive.
+	 * @return A {@link SearchScroll}, to be closed when it is no longer needed.
+	 * @throws org.hibernate.search.util.common.SearchException If something goes wrong while executing the query.
+	 */
+	SearchScroll<T> scroll(int chunkSize);
+
 	/**
 	 * @return A textual representation of the query.
 	 */
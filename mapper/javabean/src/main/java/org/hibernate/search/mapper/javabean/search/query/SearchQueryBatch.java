@@ -0,0 +1,61 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.javabean.search.query;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A group of search queries to be executed together.
+ * <p>
+ * Queries targeting the same backend are executed in as few round trips as the backend allows:
+ * with Elasticsearch, in a single multi-search request;
+ * with Lucene, against the same snapshot of the indexes.
+ * Queries targeting different backends are executed independently.
+ */
+public interface SearchQueryBatch {
+
+	/**
+	 * Add a query to this batch, without pagination.
+	 *
+	 * @param query The query to add. Must not already be in this batch.
+	 * @return {@code this} for method chaining.
+	 * @throws org.hibernate.search.util.common.SearchException If the query was already added to this batch.
+	 */
+	default SearchQueryBatch add(SearchQuery<?> query) {
+		return add( query, null, null );
+	}
+
+	/**
+	 * Add a query to this batch.
+	 *
+	 * @param query The query to add. Must not already be in this batch.
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @param offset The number of hits to skip before adding the hits to the {@link SearchResult}. {@code null} means no offset.
+	 * @return {@code this} for method chaining.
+	 * @throws org.hibernate.search.util.common.SearchException If the query was already added to this batch.
+	 */
+	SearchQueryBatch add(SearchQuery<?> query, Long limit, Long offset);
+
+	/**
+	 * Execute all the queries in this batch and return their results.
+	 *
+	 * @return The results of all the queries.
+	 * @throws org.hibernate.search.util.common.SearchException If something goes wrong while executing a query.
+	 */
+	SearchQueryBatchResult fetch();
+
+	/**
+	 * Execute all the queries in this batch without blocking the current thread.
+	 * <p>
+	 * The same restrictions as {@link SearchQuery#fetchAsync(Long, Long)} apply.
+	 *
+	 * @return A {@link CompletionStage} that will be completed with the results of all the queries,
+	 * or completed exceptionally if something goes wrong while executing a query.
+	 */
+	CompletionStage<SearchQueryBatchResult> fetchAsync();
+
+}
@@ -0,0 +1,21 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.javabean.search.query;
+
+/**
+ * The results of the queries in a {@link SearchQueryBatch}.
+ */
+public interface SearchQueryBatchResult {
+
+	/**
+	 * @param query A query added to the batch.
+	 * @param <T> The type of results.
+	 * @return The result of the given query, or {@code null} if this query was not added to the batch.
+	 */
+	<T> SearchResult<T> get(SearchQuery<T> query);
+
+}
@@ -8,6 +8,8 @@
 
 import java.util.List;
 
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+
 /**
  * @param <T> The type of results.
  */
@@ -23,4 +25,20 @@
 	 */
 	List<T> getHits();
 
+	/**
+	 * @return {@code true} if the query exceeded the timeout set with
+	 * {@link org.hibernate.search.engine.search.dsl.query.SearchQueryContext#truncateAfter(long, java.util.concurrent.TimeUnit)},
+	 * in which case the hits and total hit count may be incomplete;
+	 * {@code false} otherwise.
+	 */
+	boolean isTimedOut();
+
+	/**
+	 * @param key The key of an aggregation added to the query with
+	 * {@link org.hibernate.search.engine.search.dsl.query.SearchQueryContext#aggregation(AggregationKey, java.util.function.Function)}.
+	 * @param <A> The type of the aggregation result.
+	 * @return The result of the aggregation, or {@code null} if there is no aggregation with this key in this result.
+	 */
+	<A> A getAggregation(AggregationKey<A> key);
+
 }
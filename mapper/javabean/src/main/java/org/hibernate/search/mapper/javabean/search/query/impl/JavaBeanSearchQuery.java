@@ -6,9 +6,12 @@
  */
 package org.hibernate.search.mapper.javabean.search.query.impl;
 
+import java.util.concurrent.CompletionStage;
+
 import org.hibernate.search.engine.search.query.spi.IndexSearchQuery;
 import org.hibernate.search.mapper.javabean.search.query.SearchQuery;
 import org.hibernate.search.mapper.javabean.search.query.SearchResult;
+import org.hibernate.search.mapper.javabean.search.query.SearchScroll;
 
 public class JavaBeanSearchQuery<T> implements SearchQuery<T> {
 
@@ -28,8 +31,32 @@ public long fetchTotalHitCount() {
 		return delegate.fetchTotalHitCount();
 	}
 
+	@Override
+	public CompletionStage<SearchResult<T>> fetchAsync(Long limit, Long offset) {
+		return delegate.fetchAsync( limit, offset ).thenApply( JavaBeanSearchResult::new );
+	}
+
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		return delegate.fetchTotalHitCountAsync();
+	}
+
+	@Override
+	public SearchScroll<T> scroll(int chunkSize) {
+		return new JavaBeanSearchScroll<>( delegate.scroll( chunkSize ) );
+	}
+
 	@Override
 	public String getQueryString() {
 		return delegate.getQueryString();
 	}
+
+	@Override
+	public String toString() {
+		return "JavaBeanSearchQuery(" + delegate.getQueryString() + ")";
+	}
+
+	IndexSearchQuery<T> getIndexSearchQuery() {
+		return delegate;
+	}
 }
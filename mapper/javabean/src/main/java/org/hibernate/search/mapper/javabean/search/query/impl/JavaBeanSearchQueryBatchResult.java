@@ -0,0 +1,34 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.javabean.search.query.impl;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.engine.search.query.spi.IndexSearchResult;
+import org.hibernate.search.mapper.javabean.search.query.SearchQuery;
+import org.hibernate.search.mapper.javabean.search.query.SearchQueryBatchResult;
+import org.hibernate.search.mapper.javabean.search.query.SearchResult;
+
+class JavaBeanSearchQueryBatchResult implements SearchQueryBatchResult {
+
+	private final Map<SearchQuery<?>, SearchResult<?>> results = new IdentityHashMap<>();
+
+	JavaBeanSearchQueryBatchResult(List<? extends SearchQuery<?>> queries,
+			List<IndexSearchResult<?>> indexResults) {
+		for ( int i = 0; i < queries.size(); i++ ) {
+			results.put( queries.get( i ), new JavaBeanSearchResult<>( indexResults.get( i ) ) );
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked") // Results were created from the query of the same type
+	public <T> SearchResult<T> get(SearchQuery<T> query) {
+		return (SearchResult<T>) results.get( query );
+	}
+}
@@ -8,6 +8,7 @@
 
 import java.util.List;
 
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.query.spi.IndexSearchResult;
 import org.hibernate.search.mapper.javabean.search.query.SearchResult;
 
@@ -28,4 +29,14 @@ public long getTotalHitCount() {
 	public List<T> getHits() {
 		return delegate.getHits();
 	}
+
+	@Override
+	public boolean isTimedOut() {
+		return delegate.isTimedOut();
+	}
+
+	@Override
+	public <A> A getAggregation(AggregationKey<A> key) {
+		return delegate.getAggregation( key );
+	}
 }
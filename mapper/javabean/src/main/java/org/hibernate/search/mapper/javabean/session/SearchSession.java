@@ -12,6 +12,8 @@
 import org.hibernate.search.engine.search.dsl.query.SearchQueryContext;
 import org.hibernate.search.mapper.javabean.search.SearchScope;
 import org.hibernate.search.mapper.javabean.search.dsl.query.SearchQueryResultDefinitionContext;
+import org.hibernate.search.mapper.javabean.search.query.SearchQueryBatch;
+import org.hibernate.search.mapper.javabean.work.SearchWorkExecutor;
 import org.hibernate.search.mapper.javabean.work.SearchWorkPlan;
 
 public interface SearchSession extends AutoCloseable {
@@ -71,9 +73,27 @@ default SearchScope scope(Class<?> type) {
 	 */
 	SearchScope scope(Collection<? extends Class<?>> types);
 
+	/**
+	 * Creates a {@link SearchQueryBatch} to execute multiple search queries together.
+	 * <p>
+	 * This is useful when several independent queries are needed at once,
+	 * for instance to display the results of a search along with related items:
+	 * queries targeting the same backend are executed in as few round trips as possible.
+	 *
+	 * @return The created batch.
+	 * @see SearchQueryBatch
+	 */
+	SearchQueryBatch createQueryBatch();
+
 	/**
 	 * @return The main work plan for this session. It will be executed upon closing this session.
 	 */
 	SearchWorkPlan getMainWorkPlan();
 
+	/**
+	 * @return A new work executor for this session, executing works immediately instead of upon closing this session.
+	 * @see SearchWorkExecutor
+	 */
+	SearchWorkExecutor createWorkExecutor();
+
 }
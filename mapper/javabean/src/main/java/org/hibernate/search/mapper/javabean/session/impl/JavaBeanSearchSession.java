@@ -12,10 +12,14 @@
 import org.hibernate.search.mapper.javabean.mapping.context.impl.JavaBeanMappingContext;
 import org.hibernate.search.mapper.javabean.search.SearchScope;
 import org.hibernate.search.mapper.javabean.search.impl.SearchScopeImpl;
+import org.hibernate.search.mapper.javabean.search.query.SearchQueryBatch;
+import org.hibernate.search.mapper.javabean.search.query.impl.JavaBeanSearchQueryBatch;
 import org.hibernate.search.mapper.javabean.session.SearchSession;
 import org.hibernate.search.mapper.javabean.session.SearchSessionBuilder;
 import org.hibernate.search.mapper.javabean.session.context.impl.JavaBeanSessionContext;
+import org.hibernate.search.mapper.javabean.work.SearchWorkExecutor;
 import org.hibernate.search.mapper.javabean.work.SearchWorkPlan;
+import org.hibernate.search.mapper.javabean.work.impl.SearchWorkExecutorImpl;
 import org.hibernate.search.mapper.javabean.work.impl.SearchWorkPlanImpl;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoMappingDelegate;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
@@ -23,10 +27,15 @@
 import org.hibernate.search.mapper.pojo.session.spi.AbstractPojoSearchSession;
 
 public class JavaBeanSearchSession extends AbstractPojoSearchSession implements SearchSession {
+	private final PojoMappingDelegate mappingDelegate;
+	private final String tenantId;
+
 	private SearchWorkPlanImpl workPlan;
 
 	private JavaBeanSearchSession(JavaBeanSearchSessionBuilder builder) {
 		super( builder );
+		this.mappingDelegate = builder.mappingDelegate;
+		this.tenantId = builder.tenantId;
 	}
 
 	@Override
@@ -44,6 +53,11 @@ public SearchScope scope(Collection<? extends Class<?>> targetedTypes) {
 		);
 	}
 
+	@Override
+	public SearchQueryBatch createQueryBatch() {
+		return new JavaBeanSearchQueryBatch();
+	}
+
 	@Override
 	public SearchWorkPlan getMainWorkPlan() {
 		if ( workPlan == null ) {
@@ -52,13 +66,24 @@ public SearchWorkPlan getMainWorkPlan() {
 		return workPlan;
 	}
 
+	@Override
+	public SearchWorkExecutor createWorkExecutor() {
+		return new SearchWorkExecutorImpl(
+				getDelegate().createSessionWorkExecutor(),
+				mappingDelegate.createMappingWorkExecutor(),
+				tenantId
+		);
+	}
+
 	public static class JavaBeanSearchSessionBuilder extends AbstractBuilder<JavaBeanSearchSession>
 			implements SearchSessionBuilder {
+		private final PojoMappingDelegate mappingDelegate;
 		private final JavaBeanMappingContext mappingContext;
 		private String tenantId;
 
 		public JavaBeanSearchSessionBuilder(PojoMappingDelegate mappingDelegate, JavaBeanMappingContext mappingContext) {
 			super( mappingDelegate );
+			this.mappingDelegate = mappingDelegate;
 			this.mappingContext = mappingContext;
 		}
 
@@ -0,0 +1,65 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.javabean.work;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An executor of works bypassing the {@link SearchWorkPlan work plan},
+ * useful to (re)index a large number of entities, for instance in tests or benchmarks.
+ * <p>
+ * Works are executed as soon as they are submitted,
+ * and are not guaranteed to be visible to searches until the indexes are {@link #flush(Collection) flushed}.
+ */
+public interface SearchWorkExecutor {
+
+	/**
+	 * Add an entity to the index, assuming that the entity is absent from the index.
+	 * <p>
+	 * Shorthand for {@code add(null, entity)}; see {@link #add(Object, Object)}.
+	 *
+	 * @param entity The entity to add to the index.
+	 * @return A future that will be completed when the entity has been added.
+	 */
+	CompletableFuture<?> add(Object entity);
+
+	/**
+	 * Add an entity to the index, assuming that the entity is absent from the index.
+	 *
+	 * @param id The provided ID for the entity.
+	 * If {@code null}, Hibernate Search will attempt to extract the ID from the entity.
+	 * @param entity The entity to add to the index.
+	 * @return A future that will be completed when the entity has been added.
+	 */
+	CompletableFuture<?> add(Object id, Object entity);
+
+	/**
+	 * Delete all documents of the current tenant from the indexes mapped to the given types.
+	 *
+	 * @param types Indexed types, or supertypes of indexed types.
+	 * @return A future that will be completed when the indexes have been purged.
+	 */
+	CompletableFuture<?> purge(Collection<Class<?>> types);
+
+	/**
+	 * Flush the indexes mapped to the given types, so that all executed works are visible to searches.
+	 *
+	 * @param types Indexed types, or supertypes of indexed types.
+	 * @return A future that will be completed when the indexes have been flushed.
+	 */
+	CompletableFuture<?> flush(Collection<Class<?>> types);
+
+	/**
+	 * Optimize the indexes mapped to the given types.
+	 *
+	 * @param types Indexed types, or supertypes of indexed types.
+	 * @return A future that will be completed when the indexes have been optimized.
+	 */
+	CompletableFuture<?> optimize(Collection<Class<?>> types);
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.javabean.work.impl;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.mapper.javabean.work.SearchWorkExecutor;
+import org.hibernate.search.mapper.pojo.work.spi.PojoMappingWorkExecutor;
+import org.hibernate.search.mapper.pojo.work.spi.PojoSessionWorkExecutor;
+
+public class SearchWorkExecutorImpl implements SearchWorkExecutor {
+
+	private final PojoSessionWorkExecutor sessionWorkExecutor;
+	private final PojoMappingWorkExecutor mappingWorkExecutor;
+	private final String tenantId;
+
+	public SearchWorkExecutorImpl(PojoSessionWorkExecutor sessionWorkExecutor,
+			PojoMappingWorkExecutor mappingWorkExecutor, String tenantId) {
+		this.sessionWorkExecutor = sessionWorkExecutor;
+		this.mappingWorkExecutor = mappingWorkExecutor;
+		this.tenantId = tenantId;
+	}
+
+	@Override
+	public CompletableFuture<?> add(Object entity) {
+		return sessionWorkExecutor.add( entity );
+	}
+
+	@Override
+	public CompletableFuture<?> add(Object id, Object entity) {
+		return sessionWorkExecutor.add( id, entity );
+	}
+
+	@Override
+	public CompletableFuture<?> purge(Collection<Class<?>> types) {
+		return mappingWorkExecutor.purge( types, tenantId );
+	}
+
+	@Override
+	public CompletableFuture<?> flush(Collection<Class<?>> types) {
+		return mappingWorkExecutor.flush( types );
+	}
+
+	@Override
+	public CompletableFuture<?> optimize(Collection<Class<?>> types) {
+		return mappingWorkExecutor.optimize( types );
+	}
+}
@@ -11,6 +11,7 @@
 import static org.jboss.logging.Logger.Level.INFO;
 import static org.jboss.logging.Logger.Level.WARN;
 
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
@@ -183,4 +184,25 @@ SearchException cannotFindReadableProperty(@FormatWith(PojoTypeModelFormatter.cl
 	@Message(id = ID_OFFSET_2 + 15,
 			value = "Invalid property handle factory name: '%1$s'. Valid names are: %2$s.")
 	SearchException invalidPropertyHandleFactoryName(String invalidRepresentation, List<String> validRepresentations);
+
+	@LogMessage(level = INFO)
+	@Message(id = ID_OFFSET_2 + 16, value = "Indexing speed: %1$f documents/second; progress: unknown, entities were not counted")
+	void indexingSpeedWithoutProgress(float estimateSpeed);
+
+	@Message(id = ID_OFFSET_2 + 17, value = "Unable to load mass indexing checkpoints of entity type '%1$s' from '%2$s'.")
+	SearchException unableToLoadMassIndexingCheckpoints(String entityName, Path path, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 18, value = "Unable to save mass indexing checkpoints of entity type '%1$s' to '%2$s'.")
+	SearchException unableToSaveMassIndexingCheckpoints(String entityName, Path path, @Cause Exception cause);
+
+	@LogMessage(level = INFO)
+	@Message(id = ID_OFFSET_2 + 19, value = "Resuming mass indexing of entity type '%1$s' from checkpoints %2$s.")
+	void resumingMassIndexing(String entityName, List<?> checkpoints);
+
+	@Message(id = ID_OFFSET_2 + 21, value = "Query '%1$s' was already added to this batch.")
+	SearchException queryAlreadyInBatch(Object query);
+
+	@Message(id = ID_OFFSET_2 + 22, value = "Unable to load entities asynchronously: the entity loading executor rejected the task."
+			+ " The session factory was probably closed.")
+	SearchException unableToLoadEntitiesAsynchronously(@Cause Exception cause);
 }
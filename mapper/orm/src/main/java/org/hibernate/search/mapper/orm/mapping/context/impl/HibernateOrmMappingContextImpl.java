@@ -6,20 +6,51 @@
  */
 package org.hibernate.search.mapper.orm.mapping.context.impl;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 import org.hibernate.SessionFactory;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.search.mapper.orm.mapping.context.HibernateOrmMappingContext;
 import org.hibernate.search.mapper.pojo.mapping.context.spi.AbstractPojoMappingContextImplementor;
+import org.hibernate.search.util.common.impl.SearchThreadFactory;
 
 public class HibernateOrmMappingContextImpl extends AbstractPojoMappingContextImplementor implements HibernateOrmMappingContext {
 	private final SessionFactoryImplementor sessionFactory;
 
+	/*
+	 * Hibernate ORM sessions only support blocking operations,
+	 * so asynchronous searches load entities in these threads instead of backend threads.
+	 * Threads are only started when entities are actually loaded asynchronously.
+	 * Each session submits at most one load at a time, so the queue is unbounded;
+	 * tasks submitted after shutdown are rejected with an exception instead of blocking the submitting thread.
+	 */
+	private final ExecutorService entityLoadingExecutor;
+
 	public HibernateOrmMappingContextImpl(SessionFactoryImplementor sessionFactory) {
 		this.sessionFactory = sessionFactory;
+		int threads = Runtime.getRuntime().availableProcessors();
+		this.entityLoadingExecutor = new ThreadPoolExecutor(
+				threads, threads, 0L, TimeUnit.MILLISECONDS,
+				new LinkedBlockingQueue<>(), new SearchThreadFactory( "Entity loading" ),
+				new ThreadPoolExecutor.AbortPolicy()
+		);
 	}
 
 	@Override
 	public SessionFactory getSessionFactory() {
 		return sessionFactory;
 	}
+
+	public Executor getEntityLoadingExecutor() {
+		return entityLoadingExecutor;
+	}
+
+	public void close() {
+		// Let pending loads run, so that their stages do not remain incomplete forever
+		entityLoadingExecutor.shutdown();
+	}
 }
@@ -35,6 +35,7 @@ public class HibernateOrmMappingImpl extends AbstractPojoMappingImplementor<Hibe
 	HibernateOrmMappingImpl(PojoMappingDelegate mappingDelegate, SessionFactoryImplementor sessionFactoryImplementor) {
 		super( mappingDelegate );
 		this.mappingContext = new HibernateOrmMappingContextImpl( sessionFactoryImplementor );
+		onClose( mappingContext::close );
 	}
 
 	@Override
@@ -9,6 +9,7 @@
 import java.util.concurrent.Future;
 
 import org.hibernate.CacheMode;
+import org.hibernate.search.mapper.orm.massindexing.checkpoint.MassIndexingCheckpointStore;
 
 /**
  * A MassIndexer is useful to rebuild the indexes from the
@@ -37,6 +38,24 @@ public interface MassIndexer {
 	 */
 	MassIndexer threadsToLoadObjects(int numberOfThreads);
 
+	/**
+	 * Sets the number of threads to be used to load the identifiers
+	 * of the root entities, for each entity type.
+	 * <p>
+	 * With more than one thread, the identifiers of each entity type are split into ranges
+	 * of similar width between their minimum and maximum value,
+	 * and each range is loaded by its own thread, in its own transaction.
+	 * This only applies to entity types whose identifier is an integral number;
+	 * other entity types are always handled by a single thread.
+	 * It also does not apply when {@link #limitIndexedObjectsTo(long) limiting the number of indexed objects}.
+	 * <p>
+	 * Defaults to 1.
+	 *
+	 * @param numberOfThreads the number of threads
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer threadsToLoadIdentifiers(int numberOfThreads);
+
 	/**
 	 * Sets the batch size used to load the root entities.
 	 * @param batchSize the batch size
@@ -44,6 +63,41 @@ public interface MassIndexer {
 	 */
 	MassIndexer batchSizeToLoadObjects(int batchSize);
 
+	/**
+	 * Sets the maximum number of batches of loaded entities that each loading thread
+	 * may have submitted to the index backends while they are still being indexed.
+	 * <p>
+	 * With the default value of 1, each loading thread waits for a batch to be indexed
+	 * before it loads the next batch.
+	 * Higher values allow a loading thread to load the next batches from the database
+	 * while the previous ones are still being indexed,
+	 * at the cost of keeping more documents in memory.
+	 *
+	 * @param maxInFlightBatches the maximum number of batches being indexed per loading thread
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer maxInFlightBatchesPerThread(int maxInFlightBatches);
+
+	/**
+	 * Sets whether each batch of root entities should be loaded with a query on a range of identifiers
+	 * instead of a query on a list of identifiers.
+	 * <p>
+	 * Identifiers are then loaded in ascending order, and each batch is loaded with a query
+	 * whose SQL does not depend on the batch size, which the database can prepare and cache once.
+	 * This only applies to entity types with a single, basic identifier;
+	 * other entity types are always loaded with a query on a list of identifiers.
+	 * <p>
+	 * To also bound the number of queries needed to load the associations of each batch,
+	 * for example those traversed by {@code @IndexedEmbedded},
+	 * consider setting {@code hibernate.default_batch_fetch_size} in the Hibernate ORM configuration.
+	 * <p>
+	 * Defaults to {@code false}.
+	 *
+	 * @param loadByIdRange {@code true} to load root entities by range of identifiers
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer loadObjectsByIdRange(boolean loadByIdRange);
+
 	/**
 	 * Sets the cache interaction mode for the data loading tasks.
 	 * Defaults to {@code CacheMode.IGNORE}.
@@ -89,6 +143,43 @@ public interface MassIndexer {
 	 */
 	MassIndexer limitIndexedObjectsTo(long maximum);
 
+	/**
+	 * Whether entities should be counted before loading their identifiers,
+	 * so as to report the total number of entities to index and the progress of indexing.
+	 * <p>
+	 * Counting entities can take a long time on some databases with very large tables,
+	 * in which case it may be preferable to disable it.
+	 * Defaults to {@code true}.
+	 *
+	 * @param countEntities {@code true} to count entities before loading their identifiers
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer countEntitiesBeforeIndexing(boolean countEntities);
+
+	/**
+	 * Sets the store used to record the progress of mass indexing,
+	 * so that it can resume where it stopped if it was interrupted, for example by a crash.
+	 * <p>
+	 * When a store is set, the identifiers of each entity type are loaded in ascending order,
+	 * and a checkpoint recording the last indexed identifier is saved regularly
+	 * for each {@link #threadsToLoadIdentifiers(int) partition of identifiers}.
+	 * On the next execution with the same store, mass indexing of entity types with checkpoints
+	 * resumes after the last indexed identifier of each partition,
+	 * and the indexes of these entity types are not purged, regardless of {@link #purgeAllOnStart(boolean)}.
+	 * Checkpoints of an entity type are cleared once all its entities have been indexed successfully.
+	 * <p>
+	 * Checkpoints are recorded separately for each tenant,
+	 * and the indexes of an entity type are flushed before each checkpoint of that type is saved,
+	 * so that a checkpoint never refers to documents that could be lost in a crash.
+	 * <p>
+	 * By default, no store is set and progress is not recorded.
+	 *
+	 * @param checkpointStore the checkpoint store, or {@code null} to disable checkpoints
+	 * @return {@code this} for method chaining
+	 * @see MassIndexingCheckpointStore#fromDirectory(java.nio.file.Path)
+	 */
+	MassIndexer checkpointStore(MassIndexingCheckpointStore checkpointStore);
+
 	/**
 	 * Starts the indexing process in background (asynchronous).
 	 * Can be called only once.
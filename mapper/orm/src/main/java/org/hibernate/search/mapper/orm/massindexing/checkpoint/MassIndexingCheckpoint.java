@@ -0,0 +1,94 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.checkpoint;
+
+import java.io.Serializable;
+
+/**
+ * The progress of mass indexing in one partition of the identifiers of an entity type.
+ * <p>
+ * Identifiers of each partition are indexed in ascending order,
+ * so all entities whose identifier is lower than or equal to the {@link #getLastIndexedId() last indexed identifier}
+ * are known to be indexed.
+ *
+ * @see MassIndexingCheckpointStore
+ */
+public final class MassIndexingCheckpoint implements Serializable {
+
+	private final int partitionIndex;
+	private final Serializable lowerBoundInclusive;
+	private final Serializable upperBoundExclusive;
+	private final Serializable lastIndexedId;
+	private final boolean completed;
+
+	/**
+	 * @param partitionIndex The index of the partition, unique for a given entity type.
+	 * @param lowerBoundInclusive The lowest identifier in the partition, or {@code null} for no lower bound.
+	 * @param upperBoundExclusive The lowest identifier above the partition, or {@code null} for no upper bound.
+	 * @param lastIndexedId The highest identifier in the partition below which all entities were indexed,
+	 * or {@code null} if no entity was indexed yet.
+	 * @param completed Whether all entities in the partition were indexed.
+	 */
+	public MassIndexingCheckpoint(int partitionIndex, Serializable lowerBoundInclusive, Serializable upperBoundExclusive,
+			Serializable lastIndexedId, boolean completed) {
+		this.partitionIndex = partitionIndex;
+		this.lowerBoundInclusive = lowerBoundInclusive;
+		this.upperBoundExclusive = upperBoundExclusive;
+		this.lastIndexedId = lastIndexedId;
+		this.completed = completed;
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "partitionIndex=" ).append( partitionIndex )
+				.append( ", lowerBoundInclusive=" ).append( lowerBoundInclusive )
+				.append( ", upperBoundExclusive=" ).append( upperBoundExclusive )
+				.append( ", lastIndexedId=" ).append( lastIndexedId )
+				.append( ", completed=" ).append( completed )
+				.append( "]" )
+				.toString();
+	}
+
+	public int getPartitionIndex() {
+		return partitionIndex;
+	}
+
+	public Serializable getLowerBoundInclusive() {
+		return lowerBoundInclusive;
+	}
+
+	public Serializable getUpperBoundExclusive() {
+		return upperBoundExclusive;
+	}
+
+	public Serializable getLastIndexedId() {
+		return lastIndexedId;
+	}
+
+	public boolean isCompleted() {
+		return completed;
+	}
+
+	/**
+	 * @param newLastIndexedId The new last indexed identifier.
+	 * @return A copy of this checkpoint with the given last indexed identifier.
+	 */
+	public MassIndexingCheckpoint withLastIndexedId(Serializable newLastIndexedId) {
+		return new MassIndexingCheckpoint( partitionIndex, lowerBoundInclusive, upperBoundExclusive,
+				newLastIndexedId, completed );
+	}
+
+	/**
+	 * @return A copy of this checkpoint marked as completed.
+	 */
+	public MassIndexingCheckpoint asCompleted() {
+		return new MassIndexingCheckpoint( partitionIndex, lowerBoundInclusive, upperBoundExclusive,
+				lastIndexedId, true );
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.checkpoint;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.hibernate.search.mapper.orm.massindexing.checkpoint.impl.FileMassIndexingCheckpointStore;
+
+/**
+ * Persists the progress of a MassIndexer, so that mass indexing can resume
+ * where it stopped after a crash or a restart.
+ * <p>
+ * Checkpoints are stored per tenant, per entity type, and per partition of the identifiers of that type.
+ * Once all entities of a type have been indexed for a tenant, the checkpoints of that type and tenant are cleared.
+ * <p>
+ * Implementations must be threadsafe.
+ *
+ * @see org.hibernate.search.mapper.orm.massindexing.MassIndexer#checkpointStore(MassIndexingCheckpointStore)
+ */
+public interface MassIndexingCheckpointStore {
+
+	/**
+	 * @param entityName The name of an entity type.
+	 * @param tenantId The identifier of a tenant, or {@code null} if multi-tenancy is disabled.
+	 * @return The checkpoints previously {@link #save(String, String, MassIndexingCheckpoint) saved}
+	 * for this entity type and tenant, or an empty list if there are none.
+	 */
+	List<MassIndexingCheckpoint> load(String entityName, String tenantId);
+
+	/**
+	 * Save a checkpoint, replacing any checkpoint previously saved
+	 * for the same entity type, tenant and {@link MassIndexingCheckpoint#getPartitionIndex() partition}.
+	 *
+	 * @param entityName The name of an entity type.
+	 * @param tenantId The identifier of a tenant, or {@code null} if multi-tenancy is disabled.
+	 * @param checkpoint The checkpoint to save.
+	 */
+	void save(String entityName, String tenantId, MassIndexingCheckpoint checkpoint);
+
+	/**
+	 * Remove all checkpoints of an entity type for a tenant.
+	 *
+	 * @param entityName The name of an entity type.
+	 * @param tenantId The identifier of a tenant, or {@code null} if multi-tenancy is disabled.
+	 */
+	void clear(String entityName, String tenantId);
+
+	/**
+	 * @param directory A directory where checkpoints will be stored, one file per entity type and tenant.
+	 * The directory will be created if necessary.
+	 * @return A checkpoint store persisting checkpoints to the local filesystem.
+	 */
+	static MassIndexingCheckpointStore fromDirectory(Path directory) {
+		return new FileMassIndexingCheckpointStore( directory );
+	}
+
+}
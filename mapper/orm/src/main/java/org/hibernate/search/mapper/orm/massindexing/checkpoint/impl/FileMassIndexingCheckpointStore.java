@@ -0,0 +1,124 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.checkpoint.impl;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UnsupportedEncodingException;
+import java.lang.invoke.MethodHandles;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.massindexing.checkpoint.MassIndexingCheckpoint;
+import org.hibernate.search.mapper.orm.massindexing.checkpoint.MassIndexingCheckpointStore;
+import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A checkpoint store writing the checkpoints of each entity type and tenant to a separate file,
+ * using Java serialization.
+ * <p>
+ * Files are replaced atomically, so that a crash while saving a checkpoint
+ * leaves the previous checkpoints intact.
+ */
+public final class FileMassIndexingCheckpointStore implements MassIndexingCheckpointStore {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String FILE_EXTENSION = ".checkpoints";
+	private static final String TEMPORARY_FILE_EXTENSION = ".tmp";
+	// Cannot appear in entity names, which are Java class names
+	private static final String TENANT_SEPARATOR = "@";
+
+	private final Path directory;
+
+	public FileMassIndexingCheckpointStore(Path directory) {
+		this.directory = directory;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[directory=" + directory + "]";
+	}
+
+	@Override
+	public synchronized List<MassIndexingCheckpoint> load(String entityName, String tenantId) {
+		return new ArrayList<>( read( entityName, tenantId ).values() );
+	}
+
+	@Override
+	public synchronized void save(String entityName, String tenantId, MassIndexingCheckpoint checkpoint) {
+		TreeMap<Integer, MassIndexingCheckpoint> checkpoints = read( entityName, tenantId );
+		checkpoints.put( checkpoint.getPartitionIndex(), checkpoint );
+		write( entityName, tenantId, checkpoints );
+	}
+
+	@Override
+	public synchronized void clear(String entityName, String tenantId) {
+		Path file = getFile( entityName, tenantId );
+		try {
+			Files.deleteIfExists( file );
+		}
+		catch (IOException e) {
+			throw log.unableToSaveMassIndexingCheckpoints( entityName, file, e );
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private TreeMap<Integer, MassIndexingCheckpoint> read(String entityName, String tenantId) {
+		Path file = getFile( entityName, tenantId );
+		if ( !Files.exists( file ) ) {
+			return new TreeMap<>();
+		}
+		try ( ObjectInputStream inputStream = new ObjectInputStream( Files.newInputStream( file ) ) ) {
+			return (TreeMap<Integer, MassIndexingCheckpoint>) inputStream.readObject();
+		}
+		catch (IOException | ClassNotFoundException | ClassCastException e) {
+			throw log.unableToLoadMassIndexingCheckpoints( entityName, file, e );
+		}
+	}
+
+	private void write(String entityName, String tenantId, TreeMap<Integer, MassIndexingCheckpoint> checkpoints) {
+		Path file = getFile( entityName, tenantId );
+		Path temporaryFile = directory.resolve( file.getFileName() + TEMPORARY_FILE_EXTENSION );
+		try {
+			Files.createDirectories( directory );
+			try ( ObjectOutputStream outputStream = new ObjectOutputStream( Files.newOutputStream( temporaryFile ) ) ) {
+				outputStream.writeObject( checkpoints );
+			}
+			Files.move( temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+		}
+		catch (IOException e) {
+			throw log.unableToSaveMassIndexingCheckpoints( entityName, file, e );
+		}
+	}
+
+	private Path getFile(String entityName, String tenantId) {
+		if ( tenantId == null ) {
+			return directory.resolve( entityName + FILE_EXTENSION );
+		}
+		return directory.resolve( entityName + TENANT_SEPARATOR + encodeFileName( tenantId ) + FILE_EXTENSION );
+	}
+
+	private static String encodeFileName(String tenantId) {
+		try {
+			// Tenant identifiers are arbitrary strings: make sure they cannot be interpreted as paths
+			return URLEncoder.encode( tenantId, StandardCharsets.UTF_8.name() );
+		}
+		catch (UnsupportedEncodingException e) {
+			throw new AssertionFailure( "UTF-8 is not supported", e );
+		}
+	}
+}
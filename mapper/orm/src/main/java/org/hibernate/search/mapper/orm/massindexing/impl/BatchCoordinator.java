@@ -7,6 +7,7 @@
 package org.hibernate.search.mapper.orm.massindexing.impl;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
@@ -17,6 +18,7 @@
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.orm.mapping.spi.HibernateOrmMapping;
+import org.hibernate.search.mapper.orm.massindexing.checkpoint.MassIndexingCheckpointStore;
 import org.hibernate.search.mapper.orm.massindexing.monitor.MassIndexingMonitor;
 import org.hibernate.search.mapper.pojo.work.spi.PojoMappingWorkExecutor;
 import org.hibernate.search.util.common.AssertionFailure;
@@ -43,9 +45,13 @@ public class BatchCoordinator extends ErrorHandledRunnable {
 	//TODO: use the workPlan to handle optimize tasks
 
 	private final int typesToIndexInParallel;
+	private final int identifierLoadingThreads;
 	private final int documentBuilderThreads;
+	private final boolean countEntities;
 	private final CacheMode cacheMode;
 	private final int objectLoadingBatchSize;
+	private final int maxInFlightBatchesPerThread;
+	private final boolean loadObjectsByIdRange;
 	private final boolean optimizeAtEnd;
 	private final boolean purgeAtStart;
 	private final boolean optimizeAfterPurge;
@@ -55,24 +61,33 @@ public class BatchCoordinator extends ErrorHandledRunnable {
 	private final int idFetchSize;
 	private final Integer transactionTimeout;
 	private final String tenantId;
+	private final MassIndexingCheckpointStore checkpointStore;
 	private final List<Future<?>> indexingTasks = new ArrayList<>();
 
 	public BatchCoordinator(Set<Class<?>> rootEntities, SessionFactoryImplementor sessionFactory, HibernateOrmMapping mapping,
-							int typesToIndexInParallel, int documentBuilderThreads, CacheMode cacheMode,
-							int objectLoadingBatchSize, long objectsLimit, boolean optimizeAtEnd,
+							int typesToIndexInParallel, int identifierLoadingThreads, int documentBuilderThreads,
+							boolean countEntities, CacheMode cacheMode,
+							int objectLoadingBatchSize, int maxInFlightBatchesPerThread, boolean loadObjectsByIdRange,
+							long objectsLimit, boolean optimizeAtEnd,
 							boolean purgeAtStart, boolean optimizeAfterPurge, MassIndexingMonitor monitor,
-							int idFetchSize, Integer transactionTimeout, String tenantId) {
+							int idFetchSize, Integer transactionTimeout, String tenantId,
+							MassIndexingCheckpointStore checkpointStore) {
 		this.idFetchSize = idFetchSize;
 		this.transactionTimeout = transactionTimeout;
 		this.tenantId = tenantId;
+		this.checkpointStore = checkpointStore;
 		this.rootEntities = rootEntities;
 		this.sessionFactory = sessionFactory;
 		this.mapping = mapping;
 		this.mappingWorkExecutor = mapping.createMappingWorkExecutor();
 		this.typesToIndexInParallel = typesToIndexInParallel;
+		this.identifierLoadingThreads = identifierLoadingThreads;
 		this.documentBuilderThreads = documentBuilderThreads;
+		this.countEntities = countEntities;
 		this.cacheMode = cacheMode;
 		this.objectLoadingBatchSize = objectLoadingBatchSize;
+		this.maxInFlightBatchesPerThread = maxInFlightBatchesPerThread;
+		this.loadObjectsByIdRange = loadObjectsByIdRange;
 		this.optimizeAtEnd = optimizeAtEnd;
 		this.purgeAtStart = purgeAtStart;
 		this.optimizeAfterPurge = optimizeAfterPurge;
@@ -89,7 +104,14 @@ public void runWithErrorHandler() {
 
 		try {
 			beforeBatch(); // purgeAll and pre-optimize activities
-			doBatchWork();
+			mappingWorkExecutor.startBulkIndexing( rootEntities ).join();
+			try {
+				doBatchWork();
+			}
+			finally {
+				// Restore the regular index configuration before flushing, even if indexing failed
+				mappingWorkExecutor.endBulkIndexing( rootEntities ).join();
+			}
 			afterBatch();
 		}
 		catch (InterruptedException e) {
@@ -121,8 +143,10 @@ public void runWithErrorHandler() {
 	private void doBatchWork() throws InterruptedException {
 		ExecutorService executor = Executors.newFixedThreadPool( typesToIndexInParallel, "BatchIndexingWorkspace" );
 		for ( Class<?> type : rootEntities ) {
-			indexingTasks.add( executor.submit( new BatchIndexingWorkspace( sessionFactory, mapping, type, documentBuilderThreads, cacheMode,
-					objectLoadingBatchSize, endAllSignal, monitor, objectsLimit, idFetchSize, transactionTimeout, tenantId
+			indexingTasks.add( executor.submit( new BatchIndexingWorkspace( sessionFactory, mapping, type,
+					identifierLoadingThreads, documentBuilderThreads, countEntities, cacheMode,
+					objectLoadingBatchSize, maxInFlightBatchesPerThread, loadObjectsByIdRange, endAllSignal, monitor, objectsLimit, idFetchSize, transactionTimeout, tenantId,
+					checkpointStore
 			) ) );
 
 		}
@@ -152,11 +176,32 @@ private void afterBatchOnInterruption() {
 	 */
 	private void beforeBatch() {
 		if ( this.purgeAtStart ) {
-			mappingWorkExecutor.purge( rootEntities, tenantId ).join();
+			Set<Class<?>> entitiesToPurge = getEntitiesWithoutCheckpoints();
+			if ( entitiesToPurge.isEmpty() ) {
+				return;
+			}
+			mappingWorkExecutor.purge( entitiesToPurge, tenantId ).join();
 			if ( this.optimizeAfterPurge ) {
-				mappingWorkExecutor.optimize( rootEntities ).join();
+				mappingWorkExecutor.optimize( entitiesToPurge ).join();
+			}
+		}
+	}
+
+	/**
+	 * @return The root entities whose indexing is not being resumed from checkpoints.
+	 * Indexes of entities being resumed must not be purged, or we would lose the documents indexed previously.
+	 */
+	private Set<Class<?>> getEntitiesWithoutCheckpoints() {
+		if ( checkpointStore == null ) {
+			return rootEntities;
+		}
+		Set<Class<?>> result = new HashSet<>();
+		for ( Class<?> type : rootEntities ) {
+			if ( checkpointStore.load( type.getName(), tenantId ).isEmpty() ) {
+				result.add( type );
 			}
 		}
+		return result;
 	}
 
 }
@@ -6,19 +6,26 @@
  */
 package org.hibernate.search.mapper.orm.massindexing.impl;
 
-import java.io.Serializable;
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Future;
 import java.util.concurrent.ThreadPoolExecutor;
 
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.Type;
+
 import org.hibernate.CacheMode;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.orm.mapping.spi.HibernateOrmMapping;
+import org.hibernate.search.mapper.orm.massindexing.checkpoint.MassIndexingCheckpoint;
+import org.hibernate.search.mapper.orm.massindexing.checkpoint.MassIndexingCheckpointStore;
 import org.hibernate.search.mapper.orm.massindexing.monitor.MassIndexingMonitor;
+import org.hibernate.search.mapper.pojo.work.spi.PojoMappingWorkExecutor;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.Executors;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -35,8 +42,9 @@ public class BatchIndexingWorkspace extends ErrorHandledRunnable {
 
 	private final SessionFactoryImplementor sessionFactory;
 
-	private final ProducerConsumerQueue<List<Serializable>> primaryKeyStream;
+	private ProducerConsumerQueue<IdentifierBatch> primaryKeyStream;
 
+	private final int identifierLoadingThreads;
 	private final int documentBuilderThreads;
 	private final Class<?> indexedType;
 	private final String idNameOfIndexedType;
@@ -50,6 +58,9 @@ public class BatchIndexingWorkspace extends ErrorHandledRunnable {
 	// loading options
 	private final CacheMode cacheMode;
 	private final int objectLoadingBatchSize;
+	private final int maxInFlightBatchesPerThread;
+	private final boolean loadByIdRange;
+	private final boolean countEntities;
 
 	private final long objectsLimit;
 
@@ -58,32 +69,35 @@ public class BatchIndexingWorkspace extends ErrorHandledRunnable {
 
 	private final String tenantId;
 	private final HibernateOrmMapping mapping;
+	private final MassIndexingCheckpointStore checkpointStore;
 
 	private final List<Future<?>> tasks = new ArrayList<>();
 
 	public BatchIndexingWorkspace(SessionFactoryImplementor sessionFactory, HibernateOrmMapping mapping, Class<?> type,
-			int objectLoadingThreads, CacheMode cacheMode, int objectLoadingBatchSize,
-			CountDownLatch endAllSignal, MassIndexingMonitor monitor, long objectsLimit,
-			int idFetchSize, Integer transactionTimeout, String tenantId) {
+			int identifierLoadingThreads, int objectLoadingThreads, boolean countEntities, CacheMode cacheMode, int objectLoadingBatchSize, int maxInFlightBatchesPerThread,
+			boolean loadObjectsByIdRange, CountDownLatch endAllSignal, MassIndexingMonitor monitor, long objectsLimit,
+			int idFetchSize, Integer transactionTimeout, String tenantId, MassIndexingCheckpointStore checkpointStore) {
 		this.indexedType = type;
 		this.idFetchSize = idFetchSize;
 		this.transactionTimeout = transactionTimeout;
 		this.tenantId = tenantId;
 
 		this.mapping = mapping;
+		this.checkpointStore = checkpointStore;
 		this.idNameOfIndexedType = sessionFactory.getMetamodel().entity( indexedType ).locateIdAttribute().getName();
 
 		this.sessionFactory = sessionFactory;
 
 		//thread pool sizing:
+		this.identifierLoadingThreads = identifierLoadingThreads;
 		this.documentBuilderThreads = objectLoadingThreads;
 
 		//loading options:
 		this.cacheMode = cacheMode;
 		this.objectLoadingBatchSize = objectLoadingBatchSize;
-
-		//pipelining queues:
-		this.primaryKeyStream = new ProducerConsumerQueue<>( 1 );
+		this.maxInFlightBatchesPerThread = maxInFlightBatchesPerThread;
+		this.loadByIdRange = loadObjectsByIdRange && hasSingleBasicId( sessionFactory.getMetamodel().entity( indexedType ) );
+		this.countEntities = countEntities;
 
 		//end signal shared with other instances:
 		this.endAllSignal = endAllSignal;
@@ -101,16 +115,27 @@ public void runWithErrorHandler() {
 
 		try {
 			final BatchTransactionalContext transactionalContext = new BatchTransactionalContext( sessionFactory );
+			final List<IdentifierPartition> partitions = new ArrayList<>();
+			final List<PartitionCheckpointTracker> checkpointTrackers = new ArrayList<>();
+			preparePartitions( transactionalContext, partitions, checkpointTrackers );
+			if ( partitions.isEmpty() ) {
+				log.debugf( "All partitions of type %s were indexed in a previous execution", indexedType.getName() );
+				checkpointStore.clear( indexedType.getName(), tenantId );
+				return;
+			}
+			//pipelining queues:
+			this.primaryKeyStream = new ProducerConsumerQueue<>( partitions.size() );
 			//first start the consumers, then the producers (reverse order):
 			//from primary keys to LuceneWork ADD operations:
 			//TODO: implement and pass the error handler
 			startTransformationToLuceneWork();
 			//from class definition to all primary keys:
 			//TODO: implement and pass the error handler
-			startProducingPrimaryKeys( transactionalContext );
+			startProducingPrimaryKeys( transactionalContext, partitions, checkpointTrackers );
 			try {
 				producerEndSignal.await(); //await for all work being sent to the backend
 				log.debugf( "All work for type %s has been produced", indexedType.getName() );
+				clearCheckpointsIfCompleted( checkpointTrackers );
 			}
 			catch (InterruptedException e) {
 				// on thread interruption cancel each pending task - thread executing the task must be interrupted
@@ -129,18 +154,103 @@ public void runWithErrorHandler() {
 		}
 	}
 
-	private void startProducingPrimaryKeys(BatchTransactionalContext transactionalContext) {
-		final Runnable primaryKeyOutputter = new OptionallyWrapInJTATransaction( transactionalContext,
-				new IdentifierProducer(
-						primaryKeyStream, sessionFactory, objectLoadingBatchSize,
-						indexedType, monitor, objectsLimit,
-						idFetchSize, tenantId
-				),
-				transactionTimeout, tenantId );
-		//execIdentifiersLoader has size 1 and is not configurable: ensures the list is consistent as produced by one transaction
-		final ThreadPoolExecutor execIdentifiersLoader = Executors.newFixedThreadPool( 1, "identifierloader" );
+	/**
+	 * Determine the partitions of identifiers to load and, if checkpoints are enabled, the tracker of each partition.
+	 * <p>
+	 * When resuming from checkpoints, partitions are not computed again, but restored from checkpoints,
+	 * and partitions that were completely indexed are skipped.
+	 */
+	private void preparePartitions(BatchTransactionalContext transactionalContext,
+			List<IdentifierPartition> partitions, List<PartitionCheckpointTracker> checkpointTrackers) {
+		if ( checkpointStore == null ) {
+			for ( IdentifierPartition partition : partitionIdentifiers( transactionalContext ) ) {
+				partitions.add( partition );
+				checkpointTrackers.add( null );
+			}
+			return;
+		}
+
+		String entityName = indexedType.getName();
+		List<MassIndexingCheckpoint> checkpoints = checkpointStore.load( entityName, tenantId );
+		if ( checkpoints.isEmpty() ) {
+			checkpoints = new ArrayList<>();
+			List<IdentifierPartition> computedPartitions = partitionIdentifiers( transactionalContext );
+			for ( int i = 0; i < computedPartitions.size(); i++ ) {
+				IdentifierPartition partition = computedPartitions.get( i );
+				MassIndexingCheckpoint checkpoint = new MassIndexingCheckpoint( i,
+						partition.getLowerBoundInclusive(), partition.getUpperBoundExclusive(), null, false );
+				// Save partitions upfront, so that they are not computed differently when resuming
+				checkpointStore.save( entityName, tenantId, checkpoint );
+				checkpoints.add( checkpoint );
+			}
+		}
+		else {
+			log.resumingMassIndexing( entityName, checkpoints );
+		}
+
+		PojoMappingWorkExecutor mappingWorkExecutor = mapping.createMappingWorkExecutor();
+		Set<Class<?>> indexedTypes = Collections.singleton( indexedType );
+		for ( MassIndexingCheckpoint checkpoint : checkpoints ) {
+			if ( !checkpoint.isCompleted() ) {
+				partitions.add( new IdentifierPartition( checkpoint.getLowerBoundInclusive(),
+						checkpoint.getUpperBoundExclusive() ) );
+				checkpointTrackers.add( new PartitionCheckpointTracker( checkpointStore, entityName, tenantId,
+						mappingWorkExecutor, indexedTypes, checkpoint ) );
+			}
+		}
+	}
+
+	private void clearCheckpointsIfCompleted(List<PartitionCheckpointTracker> checkpointTrackers) {
+		if ( checkpointStore == null ) {
+			return;
+		}
+		for ( PartitionCheckpointTracker checkpointTracker : checkpointTrackers ) {
+			if ( !checkpointTracker.isCompleted() ) {
+				// Some entities were not indexed: keep the checkpoints so that we can resume later
+				return;
+			}
+		}
+		checkpointStore.clear( indexedType.getName(), tenantId );
+	}
+
+	private List<IdentifierPartition> partitionIdentifiers(BatchTransactionalContext transactionalContext) {
+		if ( identifierLoadingThreads <= 1 || objectsLimit != 0 ) {
+			// The limit on the number of indexed objects is only enforced with a single producer
+			return Collections.singletonList( IdentifierPartition.all() );
+		}
+		IdentifierPartitioner partitioner = new IdentifierPartitioner(
+				sessionFactory, indexedType, idNameOfIndexedType, identifierLoadingThreads, tenantId
+		);
+		new OptionallyWrapInJTATransaction( transactionalContext, partitioner, transactionTimeout, tenantId )
+				.run();
+		return partitioner.getPartitions();
+	}
+
+	/**
+	 * Loading entities by range relies on identifiers being comparable in the database,
+	 * which is not the case for composite identifiers.
+	 */
+	private static boolean hasSingleBasicId(EntityType<?> entityType) {
+		return entityType.hasSingleIdAttribute()
+				&& Type.PersistenceType.BASIC.equals( entityType.getIdType().getPersistenceType() );
+	}
+
+	private void startProducingPrimaryKeys(BatchTransactionalContext transactionalContext,
+			List<IdentifierPartition> partitions, List<PartitionCheckpointTracker> checkpointTrackers) {
+		//each producer loads its own partition in its own transaction, so the list is consistent within a partition
+		final ThreadPoolExecutor execIdentifiersLoader = Executors.newFixedThreadPool( partitions.size(), "identifierloader" );
 		try {
-			tasks.add( execIdentifiersLoader.submit( primaryKeyOutputter ) );
+			for ( int i = 0; i < partitions.size(); i++ ) {
+				final Runnable primaryKeyOutputter = new OptionallyWrapInJTATransaction( transactionalContext,
+						new IdentifierProducer(
+								primaryKeyStream, sessionFactory, objectLoadingBatchSize,
+								indexedType, idNameOfIndexedType, partitions.get( i ), countEntities, checkpointTrackers.get( i ),
+								checkpointStore != null || loadByIdRange,
+								monitor, objectsLimit, idFetchSize, tenantId
+						),
+						transactionTimeout, tenantId );
+				tasks.add( execIdentifiersLoader.submit( primaryKeyOutputter ) );
+			}
 		}
 		finally {
 			execIdentifiersLoader.shutdown();
@@ -150,7 +260,7 @@ private void startProducingPrimaryKeys(BatchTransactionalContext transactionalCo
 	private void startTransformationToLuceneWork() {
 		final Runnable documentOutputter = new IdentifierConsumerDocumentProducer(
 				primaryKeyStream, monitor, sessionFactory,
-				producerEndSignal, cacheMode, indexedType,
+				producerEndSignal, cacheMode, maxInFlightBatchesPerThread, loadByIdRange, indexedType,
 				idNameOfIndexedType, transactionTimeout, tenantId,
 				mapping
 		);
@@ -0,0 +1,53 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * A batch of entity identifiers, passed from an {@link IdentifierProducer}
+ * to an {@link IdentifierConsumerDocumentProducer}.
+ */
+public final class IdentifierBatch {
+
+	private final List<Serializable> ids;
+	private final PartitionCheckpointTracker checkpointTracker;
+	private final long sequenceNumber;
+
+	/**
+	 * @param ids The identifiers.
+	 * @param checkpointTracker The tracker of the partition this batch belongs to,
+	 * or {@code null} if checkpoints are disabled.
+	 * @param sequenceNumber The sequence number of this batch in its partition.
+	 */
+	IdentifierBatch(List<Serializable> ids, PartitionCheckpointTracker checkpointTracker, long sequenceNumber) {
+		this.ids = ids;
+		this.checkpointTracker = checkpointTracker;
+		this.sequenceNumber = sequenceNumber;
+	}
+
+	@Override
+	public String toString() {
+		return ids.toString();
+	}
+
+	List<Serializable> getIds() {
+		return ids;
+	}
+
+	/**
+	 * Signal that all entities of this batch were processed.
+	 *
+	 * @param success Whether all entities of this batch were indexed successfully.
+	 */
+	void indexed(boolean success) {
+		if ( checkpointTracker != null ) {
+			checkpointTracker.batchIndexed( sequenceNumber, ids.get( ids.size() - 1 ), success );
+		}
+	}
+}
@@ -8,8 +8,11 @@
 
 import java.io.Serializable;
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CountDownLatch;
 import javax.transaction.TransactionManager;
 
@@ -39,6 +42,10 @@
  * to the index writing backend.
  * It will finish when the queue it is consuming from will
  * signal there are no more identifiers.
+ * <p>
+ * Each thread running this runnable may keep a bounded number of batches
+ * in flight, i.e. submitted to the backend but not indexed yet,
+ * so that loading the next batch from the database overlaps with indexing the previous ones.
  *
  * @author Sanne Grinovero
  */
@@ -46,9 +53,11 @@ public class IdentifierConsumerDocumentProducer implements Runnable {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
-	private final ProducerConsumerQueue<List<Serializable>> source;
+	private final ProducerConsumerQueue<IdentifierBatch> source;
 	private final SessionFactory sessionFactory;
 	private final CacheMode cacheMode;
+	private final int maxInFlightBatches;
+	private final boolean loadByIdRange;
 	private final Class<?> type;
 	private final MassIndexingMonitor monitor;
 	private final String idName;
@@ -63,13 +72,15 @@ public class IdentifierConsumerDocumentProducer implements Runnable {
 	private final TransactionManager transactionManager;
 
 	public IdentifierConsumerDocumentProducer(
-			ProducerConsumerQueue<List<Serializable>> fromIdentifierListToEntities, MassIndexingMonitor monitor,
+			ProducerConsumerQueue<IdentifierBatch> fromIdentifierListToEntities, MassIndexingMonitor monitor,
 			SessionFactory sessionFactory, CountDownLatch producerEndSignal, CacheMode cacheMode,
-			Class<?> indexedType, String idName, Integer transactionTimeout,
+			int maxInFlightBatches, boolean loadByIdRange, Class<?> indexedType, String idName, Integer transactionTimeout,
 			String tenantId, HibernateOrmMapping mapping) {
 		this.source = fromIdentifierListToEntities;
 		this.sessionFactory = sessionFactory;
 		this.cacheMode = cacheMode;
+		this.maxInFlightBatches = maxInFlightBatches;
+		this.loadByIdRange = loadByIdRange;
 		this.type = indexedType;
 		this.monitor = monitor;
 		this.idName = idName;
@@ -114,17 +125,32 @@ public void run() {
 	}
 
 	private void loadAllFromQueue(SessionImplementor session) throws Exception {
+		// This runnable is shared between threads: keep the batches in flight local to the current thread
+		Deque<InFlightBatch> inFlightBatches = new ArrayDeque<>( maxInFlightBatches );
 		try ( SearchSessionImplementor searchSession = mapping.createSession( session ) ) {
 			PojoSessionWorkExecutor workExecutor = searchSession.createSessionWorkExecutor();
-			List<Serializable> idList;
+			IdentifierBatch batch;
 			do {
-				idList = source.take();
-				if ( idList != null ) {
-					log.tracef( "received list of ids %s", idList );
-					loadList( idList, session, workExecutor );
+				batch = source.take();
+				if ( batch != null ) {
+					log.tracef( "received list of ids %s", batch );
+					InFlightBatch inFlightBatch = loadList( batch, session, workExecutor );
+					if ( inFlightBatch != null ) {
+						inFlightBatches.addLast( inFlightBatch );
+					}
+					else {
+						// None of the entities exist anymore: nothing to index
+						batch.indexed( true );
+					}
+					while ( inFlightBatches.size() >= maxInFlightBatches ) {
+						awaitOldestBatch( inFlightBatches );
+					}
 				}
 			}
-			while ( idList != null );
+			while ( batch != null );
+			while ( !inFlightBatches.isEmpty() ) {
+				awaitOldestBatch( inFlightBatches );
+			}
 		}
 		catch (InterruptedException e) {
 			// just quit
@@ -137,13 +163,16 @@ private void loadAllFromQueue(SessionImplementor session) throws Exception {
 	 * The loaded objects are then transformed into Lucene Documents
 	 * and forwarded to the indexing backend.
 	 *
-	 * @param listIds the list of entity identifiers (of type
+	 * @param batch the batch of entity identifiers
 	 * @param session the session to be used
 	 * @param workExecutor the work executor to be used
+	 * @return The batch being indexed, or {@code null} if no entity was loaded.
 	 */
-	private void loadList(List<Serializable> listIds, SessionImplementor session, PojoSessionWorkExecutor workExecutor) throws Exception {
+	private InFlightBatch loadList(IdentifierBatch batch, SessionImplementor session,
+			PojoSessionWorkExecutor workExecutor) throws Exception {
 		try {
 			beginTransaction( session );
+			List<Serializable> listIds = batch.getIds();
 
 			Criteria criteria = new CriteriaImpl( type.getName(), session )
 					.setCacheMode( cacheMode )
@@ -151,12 +180,21 @@ private void loadList(List<Serializable> listIds, SessionImplementor session, Po
 					.setCacheable( false )
 					.setFlushMode( FlushMode.MANUAL )
 					.setFetchSize( listIds.size() )
-					.setResultTransformer( CriteriaSpecification.DISTINCT_ROOT_ENTITY )
-					.add( Restrictions.in( idName, listIds ) );
+					.setResultTransformer( CriteriaSpecification.DISTINCT_ROOT_ENTITY );
+			if ( loadByIdRange ) {
+				// Identifiers are produced in ascending order, so the batch covers a contiguous range of identifiers.
+				// Entities created in that range after identifiers were loaded will be indexed too, which is harmless.
+				criteria.add( Restrictions.between( idName, listIds.get( 0 ), listIds.get( listIds.size() - 1 ) ) );
+			}
+			else {
+				criteria.add( Restrictions.in( idName, listIds ) );
+			}
 			List<?> list = criteria.list();
 
-			indexAllQueue( workExecutor, list );
+			// Documents are built upon submission, so the session can be cleared without waiting for indexing
+			InFlightBatch inFlightBatch = indexAllQueue( workExecutor, list, batch );
 			session.clear();
+			return inFlightBatch;
 		}
 		finally {
 			// it's read-only, so no need to commit
@@ -191,9 +229,10 @@ private void rollbackTransaction(SessionImplementor session) {
 		}
 	}
 
-	private void indexAllQueue(PojoSessionWorkExecutor workExecutor, List<?> entities) throws InterruptedException {
+	private InFlightBatch indexAllQueue(PojoSessionWorkExecutor workExecutor, List<?> entities,
+			IdentifierBatch batch) throws InterruptedException {
 		if ( entities == null || entities.isEmpty() ) {
-			return;
+			return null;
 		}
 
 		monitor.entitiesLoaded( entities.size() );
@@ -208,9 +247,25 @@ private void indexAllQueue(PojoSessionWorkExecutor workExecutor, List<?> entitie
 			} );
 		}
 		// handle exceptions on a per-work basis
-		CompletableFuture.allOf( futures ).exceptionally( exception -> null ).join();
+		return new InFlightBatch( batch, entities.size(), CompletableFuture.allOf( futures ) );
+	}
 
-		monitor.documentsAdded( entities.size() );
+	private void awaitOldestBatch(Deque<InFlightBatch> inFlightBatches) {
+		InFlightBatch inFlightBatch = inFlightBatches.removeFirst();
+		boolean success = true;
+		try {
+			inFlightBatch.future.join();
+		}
+		catch (CompletionException e) {
+			// Already reported for each entity
+			success = false;
+		}
+		/*
+		 * Signal the batch as indexed from this thread rather than from the thread completing the future,
+		 * which may be a backend thread: saving a checkpoint involves waiting for the backend to flush.
+		 */
+		inFlightBatch.batch.indexed( success );
+		monitor.documentsAdded( inFlightBatch.entityCount );
 	}
 
 	private CompletableFuture<?> index(PojoSessionWorkExecutor workExecutor, Object entity) throws InterruptedException {
@@ -238,4 +293,16 @@ private void handleException(Object entity, Throwable e) {
 		// temporary re-throw the exception
 		throw new RuntimeException( errorMsg, e );
 	}
+
+	private static final class InFlightBatch {
+		private final IdentifierBatch batch;
+		private final int entityCount;
+		private final CompletableFuture<?> future;
+
+		private InFlightBatch(IdentifierBatch batch, int entityCount, CompletableFuture<?> future) {
+			this.batch = batch;
+			this.entityCount = entityCount;
+			this.future = future;
+		}
+	}
 }
@@ -0,0 +1,71 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.io.Serializable;
+
+import org.hibernate.Criteria;
+import org.hibernate.criterion.Restrictions;
+
+/**
+ * A range of entity identifiers, loaded by a single {@link IdentifierProducer}.
+ * <p>
+ * Bounds are optional: a partition without bounds includes all identifiers.
+ *
+ * @see IdentifierPartitioner
+ */
+public final class IdentifierPartition {
+
+	private static final IdentifierPartition ALL = new IdentifierPartition( null, null );
+
+	public static IdentifierPartition all() {
+		return ALL;
+	}
+
+	private final Serializable lowerBoundInclusive;
+	private final Serializable upperBoundExclusive;
+
+	/**
+	 * @param lowerBoundInclusive The lowest identifier in the partition, or {@code null} for no lower bound.
+	 * @param upperBoundExclusive The lowest identifier above the partition, or {@code null} for no upper bound.
+	 */
+	IdentifierPartition(Serializable lowerBoundInclusive, Serializable upperBoundExclusive) {
+		this.lowerBoundInclusive = lowerBoundInclusive;
+		this.upperBoundExclusive = upperBoundExclusive;
+	}
+
+	@Override
+	public String toString() {
+		return "[" + ( lowerBoundInclusive == null ? "" : lowerBoundInclusive )
+				+ ", " + ( upperBoundExclusive == null ? "" : upperBoundExclusive ) + ")";
+	}
+
+	Serializable getLowerBoundInclusive() {
+		return lowerBoundInclusive;
+	}
+
+	Serializable getUpperBoundExclusive() {
+		return upperBoundExclusive;
+	}
+
+	/**
+	 * Restrict a criteria to identifiers in this partition.
+	 *
+	 * @param criteria The criteria to restrict.
+	 * @param idName The name of the identifier property.
+	 * @return The given criteria, for method chaining.
+	 */
+	Criteria restrict(Criteria criteria, String idName) {
+		if ( lowerBoundInclusive != null ) {
+			criteria.add( Restrictions.ge( idName, lowerBoundInclusive ) );
+		}
+		if ( upperBoundExclusive != null ) {
+			criteria.add( Restrictions.lt( idName, upperBoundExclusive ) );
+		}
+		return criteria;
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.criterion.Projections;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.CriteriaImpl;
+import org.hibernate.internal.StatelessSessionImpl;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * This Runnable splits the identifiers of the entities going to be indexed
+ * into ranges of similar width, so that multiple {@link IdentifierProducer}s
+ * can load them in parallel, each with its own transaction and cursor.
+ * <p>
+ * Only integral identifiers can be split; for other identifier types,
+ * or if the entity table is empty, a single partition containing all identifiers is produced.
+ * The first and last partitions are unbounded below and above respectively,
+ * so that all identifiers are included even if the table changes after partitioning.
+ */
+public class IdentifierPartitioner implements StatelessSessionAwareRunnable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final SessionFactory sessionFactory;
+	private final Class<?> indexedType;
+	private final String idName;
+	private final int maxPartitionCount;
+	private final String tenantId;
+
+	private List<IdentifierPartition> partitions;
+
+	/**
+	 * @param sessionFactory the Hibernate SessionFactory to use to query identifiers
+	 * @param indexedType the entity type to be loaded
+	 * @param idName the name of the identifier property of the entity type
+	 * @param maxPartitionCount the maximum number of partitions to produce
+	 * @param tenantId the tenant identifier
+	 */
+	public IdentifierPartitioner(SessionFactory sessionFactory, Class<?> indexedType, String idName,
+			int maxPartitionCount, String tenantId) {
+		this.sessionFactory = sessionFactory;
+		this.indexedType = indexedType;
+		this.idName = idName;
+		this.maxPartitionCount = maxPartitionCount;
+		this.tenantId = tenantId;
+	}
+
+	/**
+	 * @return The partitions, available after this runnable was executed.
+	 */
+	public List<IdentifierPartition> getPartitions() {
+		return partitions;
+	}
+
+	@Override
+	public void run(StatelessSession upperSession) {
+		StatelessSessionImpl session = (StatelessSessionImpl) upperSession;
+		if ( upperSession == null ) {
+			session = (StatelessSessionImpl) sessionFactory.withStatelessOptions()
+					.tenantIdentifier( tenantId )
+					.openStatelessSession();
+		}
+		try {
+			Transaction transaction = session.accessTransaction();
+			final boolean controlTransactions = !transaction.isActive();
+			if ( controlTransactions ) {
+				transaction.begin();
+			}
+			try {
+				partitions = computePartitions( session );
+			}
+			finally {
+				if ( controlTransactions ) {
+					transaction.commit();
+				}
+			}
+		}
+		finally {
+			if ( upperSession == null ) {
+				session.close();
+			}
+		}
+		log.debugf( "Identifiers of type %s split into partitions %s", indexedType.getName(), partitions );
+	}
+
+	private List<IdentifierPartition> computePartitions(StatelessSession session) {
+		Object[] bounds = (Object[]) new CriteriaImpl( indexedType.getName(), (SharedSessionContractImplementor) session )
+				.setProjection( Projections.projectionList()
+						.add( Projections.min( idName ) )
+						.add( Projections.max( idName ) ) )
+				.setCacheable( false )
+				.uniqueResult();
+		Object min = bounds[0];
+		Object max = bounds[1];
+		if ( min == null || max == null ) {
+			// No entity to index
+			return Collections.singletonList( IdentifierPartition.all() );
+		}
+		BigInteger minAsBigInteger = toBigInteger( min );
+		BigInteger maxAsBigInteger = toBigInteger( max );
+		if ( minAsBigInteger == null || maxAsBigInteger == null ) {
+			log.debugf( "Identifiers of type %s cannot be split into ranges: they are not integral numbers",
+					indexedType.getName() );
+			return Collections.singletonList( IdentifierPartition.all() );
+		}
+
+		BigInteger width = maxAsBigInteger.subtract( minAsBigInteger ).add( BigInteger.ONE );
+		int partitionCount = width.min( BigInteger.valueOf( maxPartitionCount ) ).intValue();
+		BigInteger partitionCountAsBigInteger = BigInteger.valueOf( partitionCount );
+		List<IdentifierPartition> result = new ArrayList<>( partitionCount );
+		Serializable lowerBound = null;
+		for ( int i = 1; i < partitionCount; i++ ) {
+			BigInteger upperBoundAsBigInteger = minAsBigInteger.add(
+					width.multiply( BigInteger.valueOf( i ) ).divide( partitionCountAsBigInteger )
+			);
+			Serializable upperBound = fromBigInteger( upperBoundAsBigInteger, min.getClass() );
+			result.add( new IdentifierPartition( lowerBound, upperBound ) );
+			lowerBound = upperBound;
+		}
+		result.add( new IdentifierPartition( lowerBound, null ) );
+		return result;
+	}
+
+	private static BigInteger toBigInteger(Object id) {
+		if ( id instanceof Long || id instanceof Integer || id instanceof Short || id instanceof Byte ) {
+			return BigInteger.valueOf( ( (Number) id ).longValue() );
+		}
+		else if ( id instanceof BigInteger ) {
+			return (BigInteger) id;
+		}
+		else {
+			return null;
+		}
+	}
+
+	private static Serializable fromBigInteger(BigInteger value, Class<?> idType) {
+		if ( Long.class.equals( idType ) ) {
+			return value.longValue();
+		}
+		else if ( Integer.class.equals( idType ) ) {
+			return value.intValue();
+		}
+		else if ( Short.class.equals( idType ) ) {
+			return value.shortValue();
+		}
+		else if ( Byte.class.equals( idType ) ) {
+			return value.byteValue();
+		}
+		else {
+			return value;
+		}
+	}
+
+}
@@ -17,7 +17,9 @@
 import org.hibernate.SessionFactory;
 import org.hibernate.StatelessSession;
 import org.hibernate.Transaction;
+import org.hibernate.criterion.Order;
 import org.hibernate.criterion.Projections;
+import org.hibernate.criterion.Restrictions;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.CriteriaImpl;
 import org.hibernate.internal.StatelessSessionImpl;
@@ -28,9 +30,10 @@
 /**
  * This Runnable is going to feed the indexing queue
  * with the identifiers of all the entities going to be indexed.
- * This step in the indexing process is not parallel (should be
- * done by one thread per type) so that a single transaction is used
- * to define the group of entities to be indexed.
+ * By default this step in the indexing process is not parallel (one thread per type)
+ * so that a single transaction is used to define the group of entities to be indexed.
+ * When the identifiers are split into {@link IdentifierPartition partitions},
+ * each partition is loaded by its own producer, with its own transaction.
  * Produced identifiers are put in the destination queue grouped in List
  * instances: the reason for this is to load them in batches
  * in the next step and reduce contention on the queue.
@@ -41,10 +44,15 @@ public class IdentifierProducer implements StatelessSessionAwareRunnable {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
-	private final ProducerConsumerQueue<List<Serializable>> destination;
+	private final ProducerConsumerQueue<IdentifierBatch> destination;
 	private final SessionFactory sessionFactory;
 	private final int batchSize;
 	private final Class<?> indexedType;
+	private final String idName;
+	private final IdentifierPartition partition;
+	private final boolean countEntities;
+	private final PartitionCheckpointTracker checkpointTracker;
+	private final boolean orderIds;
 	private final MassIndexingMonitor monitor;
 	private final long objectsLimit;
 	private final int idFetchSize;
@@ -55,19 +63,31 @@ public class IdentifierProducer implements StatelessSessionAwareRunnable {
 	 * @param sessionFactory the Hibernate SessionFactory to use to load entities
 	 * @param objectLoadingBatchSize affects mostly the next consumer: IdentifierConsumerEntityProducer
 	 * @param indexedType the entity type to be loaded
+	 * @param idName the name of the identifier property of the entity type
+	 * @param partition the range of identifiers to load
+	 * @param countEntities whether to count entities before loading identifiers, to report the total to the monitor
+	 * @param checkpointTracker the tracker of checkpoints for the partition, or {@code null} if checkpoints are disabled
+	 * @param orderIds whether identifiers must be produced in ascending order
 	 * @param monitor the indexing monitor
 	 * @param objectsLimit if not zero
 	 * @param idFetchSize the fetch size
 	 * @param tenantId the tenant identifier
 	 */
 	public IdentifierProducer(
-			ProducerConsumerQueue<List<Serializable>> fromIdentifierListToEntities, SessionFactory sessionFactory,
-			int objectLoadingBatchSize, Class<?> indexedType, MassIndexingMonitor monitor,
+			ProducerConsumerQueue<IdentifierBatch> fromIdentifierListToEntities, SessionFactory sessionFactory,
+			int objectLoadingBatchSize, Class<?> indexedType, String idName,
+			IdentifierPartition partition, boolean countEntities, PartitionCheckpointTracker checkpointTracker, boolean orderIds,
+			MassIndexingMonitor monitor,
 			long objectsLimit, int idFetchSize, String tenantId) {
 		this.destination = fromIdentifierListToEntities;
 		this.sessionFactory = sessionFactory;
 		this.batchSize = objectLoadingBatchSize;
 		this.indexedType = indexedType;
+		this.idName = idName;
+		this.partition = partition;
+		this.countEntities = countEntities;
+		this.checkpointTracker = checkpointTracker;
+		this.orderIds = orderIds;
 		this.monitor = monitor;
 		this.objectsLimit = objectsLimit;
 		this.idFetchSize = idFetchSize;
@@ -78,8 +98,9 @@ public IdentifierProducer(
 	@Override
 	public void run(StatelessSession upperSession) {
 		log.trace( "started" );
+		boolean completed = false;
 		try {
-			inTransactionWrapper( (StatelessSessionImpl) upperSession );
+			completed = inTransactionWrapper( (StatelessSessionImpl) upperSession );
 		}
 		catch (Exception exception) {
 			String errorMessage = log.massIndexerExceptionWhileFetchingIds();
@@ -89,12 +110,18 @@ public void run(StatelessSession upperSession) {
 			throw new RuntimeException( errorMessage, exception );
 		}
 		finally {
+			if ( checkpointTracker != null ) {
+				checkpointTracker.producerFinished( completed );
+			}
 			destination.producerStopping();
 		}
 		log.trace( "finished" );
 	}
 
-	private void inTransactionWrapper(StatelessSessionImpl upperSession) {
+	/**
+	 * @return {@code true} if all identifiers were loaded, {@code false} if loading was interrupted.
+	 */
+	private boolean inTransactionWrapper(StatelessSessionImpl upperSession) {
 		StatelessSessionImpl session = upperSession;
 		if ( upperSession == null ) {
 			if ( tenantId == null ) {
@@ -118,10 +145,12 @@ private void inTransactionWrapper(StatelessSessionImpl upperSession) {
 					transaction.commit();
 				}
 			}
+			return true;
 		}
 		catch (InterruptedException e) {
 			// just quit
 			Thread.currentThread().interrupt();
+			return false;
 		}
 		finally {
 			if ( upperSession == null ) {
@@ -131,23 +160,33 @@ private void inTransactionWrapper(StatelessSessionImpl upperSession) {
 	}
 
 	private void loadAllIdentifiers(final StatelessSession session) throws InterruptedException {
-		Number countAsNumber = (Number) createCriteria( session )
-			.setProjection( Projections.rowCount() )
-			.setCacheable( false )
-			.uniqueResult();
-		long totalCount = countAsNumber.longValue();
-		if ( objectsLimit != 0 && objectsLimit < totalCount ) {
-			totalCount = objectsLimit;
+		long totalCount;
+		if ( countEntities ) {
+			Number countAsNumber = (Number) createCriteria( session )
+				.setProjection( Projections.rowCount() )
+				.setCacheable( false )
+				.uniqueResult();
+			totalCount = countAsNumber.longValue();
+			if ( objectsLimit != 0 && objectsLimit < totalCount ) {
+				totalCount = objectsLimit;
+			}
+			if ( log.isDebugEnabled() ) {
+				log.debugf( "going to fetch %d primary keys in partition %s", (Long) totalCount, partition );
+			}
+			monitor.addToTotalCount( totalCount );
 		}
-		if ( log.isDebugEnabled() ) {
-			log.debugf( "going to fetch %d primary keys", (Long) totalCount );
+		else {
+			// Zero means no limit
+			totalCount = objectsLimit;
 		}
-		monitor.addToTotalCount( totalCount );
 
 		Criteria criteria = createCriteria( session )
 			.setProjection( Projections.id() )
 			.setCacheable( false )
 			.setFetchSize( idFetchSize );
+		if ( orderIds ) {
+			criteria.addOrder( Order.asc( idName ) );
+		}
 
 		ArrayList<Serializable> destinationList = new ArrayList<>( batchSize );
 		long counter = 0;
@@ -176,12 +215,23 @@ private void loadAllIdentifiers(final StatelessSession session) throws Interrupt
 	}
 
 	private Criteria createCriteria(final StatelessSession session) {
-		return new CriteriaImpl( indexedType.getName(), (SharedSessionContractImplementor) session );
+		Criteria criteria = partition.restrict(
+				new CriteriaImpl( indexedType.getName(), (SharedSessionContractImplementor) session ),
+				idName
+		);
+		if ( checkpointTracker != null ) {
+			Serializable lastIndexedId = checkpointTracker.getLastIndexedId();
+			if ( lastIndexedId != null ) {
+				criteria.add( Restrictions.gt( idName, lastIndexedId ) );
+			}
+		}
+		return criteria;
 	}
 
 	private void enqueueList(final List<Serializable> idsList) throws InterruptedException {
 		if ( ! idsList.isEmpty() ) {
-			destination.put( idsList );
+			long sequenceNumber = checkpointTracker == null ? 0L : checkpointTracker.batchProduced();
+			destination.put( new IdentifierBatch( idsList, checkpointTracker, sequenceNumber ) );
 			log.tracef( "produced a list of ids %s", idsList );
 		}
 	}
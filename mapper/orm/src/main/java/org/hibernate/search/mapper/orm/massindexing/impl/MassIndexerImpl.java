@@ -18,6 +18,7 @@
 import org.hibernate.search.mapper.orm.impl.HibernateSearchContextService;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.orm.mapping.spi.HibernateOrmMapping;
+import org.hibernate.search.mapper.orm.massindexing.checkpoint.MassIndexingCheckpointStore;
 import org.hibernate.search.mapper.orm.massindexing.monitor.MassIndexingMonitor;
 import org.hibernate.search.mapper.orm.massindexing.monitor.impl.SimpleIndexingProgressMonitor;
 import org.hibernate.search.util.common.impl.Executors;
@@ -44,16 +45,21 @@ public class MassIndexerImpl implements MassIndexer {
 
 	// default settings defined here:
 	private int typesToIndexInParallel = 1;
+	private int identifierLoadingThreads = 1;
 	private int documentBuilderThreads = 6; //loading the main entity, also responsible for loading of lazy @IndexedEmbedded collections
 	private int objectLoadingBatchSize = 10;
+	private int maxInFlightBatchesPerThread = 1;
+	private boolean loadObjectsByIdRange = false;
 	private long objectsLimit = 0; //means no limit at all
 	private CacheMode cacheMode = CacheMode.IGNORE;
+	private boolean countEntities = true;
 	private boolean optimizeAtEnd = true;
 	private boolean purgeAtStart = true;
 	private boolean optimizeAfterPurge = true;
 	private MassIndexingMonitor monitor;
 	private int idFetchSize = 100; //reasonable default as we only load IDs
 	private Integer idLoadingTransactionTimeout;
+	private MassIndexingCheckpointStore checkpointStore;
 
 	public MassIndexerImpl(SessionFactoryImplementor sessionFactory, String tenantIdentifier, Class<?>... entities) {
 		this.sessionFactory = sessionFactory;
@@ -145,6 +151,15 @@ public MassIndexer threadsToLoadObjects(int numberOfThreads) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer threadsToLoadIdentifiers(int numberOfThreads) {
+		if ( numberOfThreads < 1 ) {
+			throw new IllegalArgumentException( "numberOfThreads must be at least 1" );
+		}
+		this.identifierLoadingThreads = numberOfThreads;
+		return this;
+	}
+
 	@Override
 	public MassIndexer batchSizeToLoadObjects(int batchSize) {
 		if ( batchSize < 1 ) {
@@ -154,6 +169,21 @@ public MassIndexer batchSizeToLoadObjects(int batchSize) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer maxInFlightBatchesPerThread(int maxInFlightBatches) {
+		if ( maxInFlightBatches < 1 ) {
+			throw new IllegalArgumentException( "maxInFlightBatches must be at least 1" );
+		}
+		this.maxInFlightBatchesPerThread = maxInFlightBatches;
+		return this;
+	}
+
+	@Override
+	public MassIndexer loadObjectsByIdRange(boolean loadByIdRange) {
+		this.loadObjectsByIdRange = loadByIdRange;
+		return this;
+	}
+
 	@Override
 	public MassIndexer optimizeOnFinish(boolean optimize) {
 		this.optimizeAtEnd = optimize;
@@ -172,6 +202,18 @@ public MassIndexer purgeAllOnStart(boolean purgeAll) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer countEntitiesBeforeIndexing(boolean countEntities) {
+		this.countEntities = countEntities;
+		return this;
+	}
+
+	@Override
+	public MassIndexer checkpointStore(MassIndexingCheckpointStore checkpointStore) {
+		this.checkpointStore = checkpointStore;
+		return this;
+	}
+
 	@Override
 	public MassIndexer transactionTimeout(int timeoutInSeconds) {
 		this.idLoadingTransactionTimeout = timeoutInSeconds;
@@ -202,11 +244,11 @@ public void startAndWait() throws InterruptedException {
 	protected BatchCoordinator createCoordinator() {
 		return new BatchCoordinator(
 				rootEntities, sessionFactory, mapping,
-				typesToIndexInParallel, documentBuilderThreads,
-				cacheMode, objectLoadingBatchSize, objectsLimit,
+				typesToIndexInParallel, identifierLoadingThreads, documentBuilderThreads, countEntities,
+				cacheMode, objectLoadingBatchSize, maxInFlightBatchesPerThread, loadObjectsByIdRange, objectsLimit,
 				optimizeAtEnd, purgeAtStart, optimizeAfterPurge,
 				monitor, idFetchSize, idLoadingTransactionTimeout,
-				tenantIdentifier
+				tenantIdentifier, checkpointStore
 		);
 	}
 
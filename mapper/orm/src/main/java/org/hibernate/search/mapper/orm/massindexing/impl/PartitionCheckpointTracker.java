@@ -0,0 +1,184 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.mapper.orm.massindexing.checkpoint.MassIndexingCheckpoint;
+import org.hibernate.search.mapper.orm.massindexing.checkpoint.MassIndexingCheckpointStore;
+import org.hibernate.search.mapper.pojo.work.spi.PojoMappingWorkExecutor;
+
+/**
+ * Tracks the progress of mass indexing in one partition of identifiers,
+ * and saves it to a {@link MassIndexingCheckpointStore}.
+ * <p>
+ * Batches of a partition are produced in ascending identifier order,
+ * but may be indexed in any order by different threads.
+ * The checkpoint only moves past a batch once that batch and all the batches before it were indexed successfully,
+ * so that resuming from the checkpoint never skips an entity.
+ * <p>
+ * Backends do not necessarily commit indexing works as soon as they are executed,
+ * so the indexes are flushed before saving a checkpoint that moves past some entities:
+ * otherwise a crash could lose documents that the checkpoint claims are indexed.
+ * Flushes and saves happen on a snapshot of the checkpoint, outside of the lock protecting the progress,
+ * so that indexing threads are not blocked while the indexes are being flushed.
+ */
+public final class PartitionCheckpointTracker {
+
+	/*
+	 * Saving checkpoints too often would slow down indexing,
+	 * and saving them too rarely would mean more work is repeated after a crash.
+	 * One second is mostly guesswork.
+	 */
+	private static final long SAVE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos( 1 );
+
+	private final MassIndexingCheckpointStore store;
+	private final String entityName;
+	private final String tenantId;
+	private final PojoMappingWorkExecutor mappingWorkExecutor;
+	private final Collection<Class<?>> indexedTypes;
+
+	private MassIndexingCheckpoint checkpoint;
+	private long lastSaveNanos;
+
+	private long producedBatchCount = 0L;
+	private boolean producerFinished = false;
+	private boolean failed = false;
+	private long nextBatchToCheckpoint = 0L;
+	private final Map<Long, Serializable> indexedBatchesAhead = new HashMap<>();
+	private long snapshotCount = 0L;
+
+	// Serializes saves, so that an older checkpoint never overwrites a more recent one
+	private final Object saveLock = new Object();
+	private long savedSnapshotNumber = 0L;
+
+	PartitionCheckpointTracker(MassIndexingCheckpointStore store, String entityName, String tenantId,
+			PojoMappingWorkExecutor mappingWorkExecutor, Collection<Class<?>> indexedTypes,
+			MassIndexingCheckpoint checkpoint) {
+		this.store = store;
+		this.entityName = entityName;
+		this.tenantId = tenantId;
+		this.mappingWorkExecutor = mappingWorkExecutor;
+		this.indexedTypes = indexedTypes;
+		this.checkpoint = checkpoint;
+		this.lastSaveNanos = System.nanoTime();
+	}
+
+	/**
+	 * @return The identifier after which loading should resume, or {@code null} to start from the beginning of the partition.
+	 */
+	synchronized Serializable getLastIndexedId() {
+		return checkpoint.getLastIndexedId();
+	}
+
+	synchronized boolean isCompleted() {
+		return checkpoint.isCompleted();
+	}
+
+	/**
+	 * @return The sequence number of the batch that was just produced.
+	 */
+	synchronized long batchProduced() {
+		return producedBatchCount++;
+	}
+
+	void producerFinished(boolean success) {
+		PendingSave save;
+		synchronized ( this ) {
+			producerFinished = true;
+			failed = failed || !success;
+			save = checkCompletion();
+		}
+		flushAndSave( save );
+	}
+
+	/**
+	 * @param sequenceNumber The sequence number of the batch.
+	 * @param lastId The highest identifier in the batch.
+	 * @param success Whether all entities in the batch were indexed successfully.
+	 */
+	void batchIndexed(long sequenceNumber, Serializable lastId, boolean success) {
+		PendingSave save = null;
+		synchronized ( this ) {
+			if ( !success ) {
+				// Leave a gap, so that the checkpoint never moves past this batch
+				failed = true;
+				return;
+			}
+			indexedBatchesAhead.put( sequenceNumber, lastId );
+			Serializable newLastIndexedId = null;
+			while ( indexedBatchesAhead.containsKey( nextBatchToCheckpoint ) ) {
+				newLastIndexedId = indexedBatchesAhead.remove( nextBatchToCheckpoint );
+				++nextBatchToCheckpoint;
+			}
+			if ( newLastIndexedId != null ) {
+				checkpoint = checkpoint.withLastIndexedId( newLastIndexedId );
+				// Avoid flushing twice if the partition is complete: the completed checkpoint will be saved below
+				long now = System.nanoTime();
+				if ( !isCompletable() && now - lastSaveNanos >= SAVE_INTERVAL_NANOS ) {
+					save = snapshot();
+					lastSaveNanos = now;
+				}
+			}
+			PendingSave completionSave = checkCompletion();
+			if ( completionSave != null ) {
+				save = completionSave;
+			}
+		}
+		flushAndSave( save );
+	}
+
+	private PendingSave checkCompletion() {
+		if ( isCompletable() ) {
+			checkpoint = checkpoint.asCompleted();
+			return snapshot();
+		}
+		return null;
+	}
+
+	private boolean isCompletable() {
+		return producerFinished && !failed && !checkpoint.isCompleted()
+				&& nextBatchToCheckpoint == producedBatchCount;
+	}
+
+	private PendingSave snapshot() {
+		return new PendingSave( ++snapshotCount, checkpoint );
+	}
+
+	/*
+	 * Flushing may take a while: this must not be called while holding the lock on this tracker,
+	 * so that other threads can keep reporting indexed batches meanwhile.
+	 */
+	private void flushAndSave(PendingSave save) {
+		if ( save == null ) {
+			return;
+		}
+		synchronized ( saveLock ) {
+			if ( save.number <= savedSnapshotNumber ) {
+				// A more recent checkpoint was saved by another thread meanwhile
+				return;
+			}
+			mappingWorkExecutor.flush( indexedTypes ).join();
+			store.save( entityName, tenantId, save.checkpoint );
+			savedSnapshotNumber = save.number;
+		}
+	}
+
+	private static final class PendingSave {
+		private final long number;
+		private final MassIndexingCheckpoint checkpoint;
+
+		private PendingSave(long number, MassIndexingCheckpoint checkpoint) {
+			this.number = number;
+			this.checkpoint = checkpoint;
+		}
+	}
+}
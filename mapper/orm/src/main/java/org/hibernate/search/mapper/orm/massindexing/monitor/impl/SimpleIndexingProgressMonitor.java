@@ -96,6 +96,11 @@ protected void printStatusMessage(long startTime, long totalTodoCount, long done
 		long elapsedMs = TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - startTime );
 		log.indexingDocumentsCompleted( doneCount, elapsedMs );
 		float estimateSpeed = doneCount * 1000f / elapsedMs;
+		if ( totalTodoCount <= 0 ) {
+			// Entities were not counted
+			log.indexingSpeedWithoutProgress( estimateSpeed );
+			return;
+		}
 		float estimatePercentileComplete = doneCount * 100f / totalTodoCount;
 		log.indexingSpeed( estimateSpeed, estimatePercentileComplete );
 	}
@@ -17,6 +17,7 @@
 import org.hibernate.search.mapper.orm.search.query.SearchQuery;
 import org.hibernate.search.mapper.orm.search.dsl.query.SearchQueryResultDefinitionContext;
 import org.hibernate.search.mapper.orm.search.query.impl.HibernateOrmSearchQuery;
+import org.hibernate.search.mapper.orm.search.loading.impl.EntityLoadingQueue;
 import org.hibernate.search.mapper.orm.search.loading.impl.MutableObjectLoadingOptions;
 import org.hibernate.search.mapper.orm.search.loading.impl.ObjectLoaderBuilder;
 import org.hibernate.search.mapper.pojo.search.PojoReference;
@@ -30,10 +31,11 @@
 
 	public SearchQueryResultDefinitionContextImpl(
 			PojoSearchScopeDelegate<O, O> searchScopeDelegate,
-			SessionImplementor sessionImplementor) {
+			SessionImplementor sessionImplementor, EntityLoadingQueue entityLoadingQueue) {
 		this.searchScopeDelegate = searchScopeDelegate;
 		this.sessionImplementor = sessionImplementor;
-		this.objectLoaderBuilder = new ObjectLoaderBuilder<>( sessionImplementor, searchScopeDelegate.getIncludedIndexedTypes() );
+		this.objectLoaderBuilder = new ObjectLoaderBuilder<>( sessionImplementor,
+				searchScopeDelegate.getIncludedIndexedTypes(), entityLoadingQueue );
 	}
 
 	@Override
@@ -13,6 +13,7 @@
 import org.hibernate.search.mapper.orm.search.SearchScope;
 import org.hibernate.search.mapper.orm.search.dsl.query.SearchQueryResultDefinitionContext;
 import org.hibernate.search.mapper.orm.search.dsl.query.impl.SearchQueryResultDefinitionContextImpl;
+import org.hibernate.search.mapper.orm.search.loading.impl.EntityLoadingQueue;
 import org.hibernate.search.mapper.pojo.search.PojoReference;
 import org.hibernate.search.mapper.pojo.search.spi.PojoSearchScopeDelegate;
 
@@ -20,16 +21,18 @@
 
 	private final PojoSearchScopeDelegate<O, O> delegate;
 	private final SessionImplementor sessionImplementor;
+	private final EntityLoadingQueue entityLoadingQueue;
 
 	public SearchScopeImpl(PojoSearchScopeDelegate<O, O> delegate,
-			SessionImplementor sessionImplementor) {
+			SessionImplementor sessionImplementor, EntityLoadingQueue entityLoadingQueue) {
 		this.delegate = delegate;
 		this.sessionImplementor = sessionImplementor;
+		this.entityLoadingQueue = entityLoadingQueue;
 	}
 
 	@Override
 	public SearchQueryResultDefinitionContext<O> search() {
-		return new SearchQueryResultDefinitionContextImpl<>( delegate, sessionImplementor );
+		return new SearchQueryResultDefinitionContextImpl<>( delegate, sessionImplementor, entityLoadingQueue );
 	}
 
 	@Override
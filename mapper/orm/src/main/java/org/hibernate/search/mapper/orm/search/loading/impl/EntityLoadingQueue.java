@@ -0,0 +1,59 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.search.loading.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Executes the asynchronous entity loads of a single session, one after the other, in an executor.
+ * <p>
+ * Hibernate ORM sessions only support blocking operations and are not thread-safe:
+ * loads must be executed outside of backend threads,
+ * but two loads must never use the same session concurrently.
+ */
+public final class EntityLoadingQueue {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final Executor executor;
+
+	// The last load submitted to this queue; the next one will only start once it completes
+	private CompletableFuture<?> last = CompletableFuture.completedFuture( null );
+
+	public EntityLoadingQueue(Executor executor) {
+		this.executor = executor;
+	}
+
+	public synchronized <T> CompletionStage<T> submit(Supplier<T> load) {
+		CompletableFuture<T> next = last
+				// Execute the next load even if the previous one failed
+				.handle( (ignoredResult, ignoredThrowable) -> null )
+				.thenCompose( ignored -> execute( load ) );
+		last = next;
+		return next;
+	}
+
+	private <T> CompletableFuture<T> execute(Supplier<T> load) {
+		try {
+			return CompletableFuture.supplyAsync( load, executor );
+		}
+		catch (RejectedExecutionException e) {
+			// Most likely the executor was shut down along with the session factory
+			CompletableFuture<T> failed = new CompletableFuture<>();
+			failed.completeExceptionally( log.unableToLoadEntitiesAsynchronously( e ) );
+			return failed;
+		}
+	}
+}
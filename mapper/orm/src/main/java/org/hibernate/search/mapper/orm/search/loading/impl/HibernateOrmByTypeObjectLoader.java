@@ -12,6 +12,7 @@
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.pojo.search.PojoReference;
@@ -23,9 +24,12 @@
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final Map<Class<? extends O>, HibernateOrmComposableObjectLoader<PojoReference, ? extends T>> delegatesByConcreteType;
+	private final EntityLoadingQueue asyncLoadingQueue;
 
-	public HibernateOrmByTypeObjectLoader(Map<Class<? extends O>, HibernateOrmComposableObjectLoader<PojoReference, ? extends T>> delegatesByConcreteType) {
+	public HibernateOrmByTypeObjectLoader(Map<Class<? extends O>, HibernateOrmComposableObjectLoader<PojoReference, ? extends T>> delegatesByConcreteType,
+			EntityLoadingQueue asyncLoadingQueue) {
 		this.delegatesByConcreteType = delegatesByConcreteType;
+		this.asyncLoadingQueue = asyncLoadingQueue;
 	}
 
 	@Override
@@ -63,6 +67,12 @@ public List<T> loadBlocking(List<PojoReference> references) {
 		return result;
 	}
 
+	@Override
+	public CompletionStage<List<T>> loadAsync(List<PojoReference> references) {
+		// The session only supports blocking operations and is not thread-safe: load in a separate thread, sequentially
+		return asyncLoadingQueue.submit( () -> loadBlocking( references ) );
+	}
+
 	private HibernateOrmComposableObjectLoader<PojoReference, ? extends T> getDelegate(Class<?> entityType) {
 		HibernateOrmComposableObjectLoader<PojoReference, ? extends T> delegate = delegatesByConcreteType.get( entityType );
 		if ( delegate == null ) {
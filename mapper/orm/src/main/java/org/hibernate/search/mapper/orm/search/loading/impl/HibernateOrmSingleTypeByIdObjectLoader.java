@@ -11,6 +11,7 @@
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -23,6 +24,7 @@
 	private final Class<O> entityType;
 	private final MutableObjectLoadingOptions loadingOptions;
 	private final Function<? super O, T> hitTransformer;
+	private final EntityLoadingQueue asyncLoadingQueue;
 
 	private MultiIdentifierLoadAccess<O> multiAccess;
 
@@ -30,11 +32,13 @@ public HibernateOrmSingleTypeByIdObjectLoader(
 			Session session,
 			Class<O> entityType,
 			MutableObjectLoadingOptions loadingOptions,
-			Function<? super O, T> hitTransformer) {
+			Function<? super O, T> hitTransformer,
+			EntityLoadingQueue asyncLoadingQueue) {
 		this.session = session;
 		this.entityType = entityType;
 		this.loadingOptions = loadingOptions;
 		this.hitTransformer = hitTransformer;
+		this.asyncLoadingQueue = asyncLoadingQueue;
 	}
 
 	@Override
@@ -59,6 +63,12 @@ public void loadBlocking(List<PojoReference> references, Map<? super PojoReferen
 		}
 	}
 
+	@Override
+	public CompletionStage<List<T>> loadAsync(List<PojoReference> references) {
+		// The session only supports blocking operations and is not thread-safe: load in a separate thread, sequentially
+		return asyncLoadingQueue.submit( () -> loadBlocking( references ) );
+	}
+
 	private List<O> loadEntities(List<PojoReference> references) {
 		List<Serializable> ids = new ArrayList<>( references.size() );
 		for ( PojoReference reference : references ) {
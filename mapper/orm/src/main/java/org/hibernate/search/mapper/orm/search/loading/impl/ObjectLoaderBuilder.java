@@ -19,10 +19,13 @@
 
 	private final Session session;
 	private final Set<Class<? extends O>> concreteIndexedClasses;
+	private final EntityLoadingQueue asyncLoadingQueue;
 
-	public ObjectLoaderBuilder(Session session, Set<Class<? extends O>> concreteIndexedClasses) {
+	public ObjectLoaderBuilder(Session session, Set<Class<? extends O>> concreteIndexedClasses,
+			EntityLoadingQueue asyncLoadingQueue) {
 		this.session = session;
 		this.concreteIndexedClasses = concreteIndexedClasses;
+		this.asyncLoadingQueue = asyncLoadingQueue;
 	}
 
 	public ObjectLoader<PojoReference, O> build(MutableObjectLoadingOptions mutableLoadingOptions) {
@@ -45,7 +48,8 @@ private <T> HibernateOrmComposableObjectLoader<PojoReference, T> buildForSingleT
 			Function<? super O, T> hitTransformer) {
 		// TODO Add support for entities whose document ID is not the entity ID (natural ID, or other)
 		// TODO Add support for other types of database retrieval and object lookup? See HSearch 5: org.hibernate.search.engine.query.hibernate.impl.ObjectLoaderBuilder#getObjectInitializer
-		return new HibernateOrmSingleTypeByIdObjectLoader<>( session, concreteIndexedType, mutableLoadingOptions, hitTransformer );
+		return new HibernateOrmSingleTypeByIdObjectLoader<>( session, concreteIndexedType, mutableLoadingOptions, hitTransformer,
+				asyncLoadingQueue );
 	}
 
 	private <T> ObjectLoader<PojoReference, T> buildForMultipleTypes(
@@ -61,7 +65,7 @@ private <T> ObjectLoader<PojoReference, T> buildForMultipleTypes(
 					buildForSingleType( mutableLoadingOptions, concreteIndexedClass, hitTransformer );
 			delegateByConcreteType.put( concreteIndexedClass, delegate );
 		}
-		return new HibernateOrmByTypeObjectLoader<>( delegateByConcreteType );
+		return new HibernateOrmByTypeObjectLoader<>( delegateByConcreteType, asyncLoadingQueue );
 	}
 
 }
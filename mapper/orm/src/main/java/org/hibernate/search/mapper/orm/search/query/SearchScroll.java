@@ -0,0 +1,42 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.search.query;
+
+/**
+ * A cursor over the hits of a {@link SearchQuery}, returning hits in chunks of bounded size.
+ * <p>
+ * Scrolls hold resources and must be closed once they are no longer needed.
+ * <p>
+ * Entities loaded by a scroll are added to the session like any other entity:
+ * when scrolling through a large number of hits,
+ * it is recommended to clear the session after processing each chunk.
+ *
+ * @param <T> The type of results.
+ */
+public interface SearchScroll<T> extends AutoCloseable {
+
+	/**
+	 * Fetch the next chunk of hits.
+	 *
+	 * @return A {@link SearchResult} containing the next chunk of hits,
+	 * or no hits at all if every hit has already been returned.
+	 * {@link SearchResult#getTotalHitCount()} always returns the total hit count of the whole query.
+	 * @throws org.hibernate.search.util.common.SearchException If something goes wrong while executing the query.
+	 * @throws org.hibernate.HibernateException If something goes wrong while fetching entities from the database.
+	 * @throws javax.persistence.PersistenceException If something goes wrong while fetching entities from the database.
+	 */
+	SearchResult<T> next();
+
+	/**
+	 * Release the resources held by this scroll.
+	 *
+	 * @throws org.hibernate.search.util.common.SearchException If something goes wrong while releasing resources.
+	 */
+	@Override
+	void close();
+
+}
@@ -9,6 +9,7 @@
 import java.lang.invoke.MethodHandles;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import javax.persistence.TypedQuery;
 
 import org.hibernate.engine.spi.SessionImplementor;
@@ -19,6 +20,7 @@
 import org.hibernate.search.mapper.orm.search.loading.impl.MutableObjectLoadingOptions;
 import org.hibernate.search.mapper.orm.search.query.SearchQuery;
 import org.hibernate.search.mapper.orm.search.query.SearchResult;
+import org.hibernate.search.mapper.orm.search.query.SearchScroll;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 public class HibernateOrmSearchQuery<R> implements SearchQuery<R> {
@@ -71,6 +73,21 @@ public long fetchTotalHitCount() {
 		return delegate.fetchTotalHitCount();
 	}
 
+	@Override
+	public CompletionStage<SearchResult<R>> fetchAsync(Long limit, Long offset) {
+		return delegate.fetchAsync( limit, offset ).thenApply( HibernateOrmSearchResult::new );
+	}
+
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		return delegate.fetchTotalHitCountAsync();
+	}
+
+	@Override
+	public SearchScroll<R> scroll(int chunkSize) {
+		return new HibernateOrmSearchScroll<>( delegate.scroll( chunkSize ) );
+	}
+
 	@Override
 	public Optional<R> fetchSingleHit() {
 		// We don't need to fetch more than two elements to detect a problem
@@ -103,7 +120,6 @@ String getQueryString() {
 	}
 
 	private SearchResult<R> doFetch(Long limit, Long offset) {
-		// TODO HSEARCH-3352 handle timeouts
 		final IndexSearchResult<R> results = delegate.fetch( limit, offset );
 		return new HibernateOrmSearchResult<>( results );
 	}
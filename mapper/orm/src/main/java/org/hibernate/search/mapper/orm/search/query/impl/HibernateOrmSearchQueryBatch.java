@@ -0,0 +1,60 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.search.query.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.search.engine.search.query.spi.CompositeIndexSearchBatch;
+import org.hibernate.search.engine.search.query.spi.IndexSearchResult;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.search.query.SearchQuery;
+import org.hibernate.search.mapper.orm.search.query.SearchQueryBatch;
+import org.hibernate.search.mapper.orm.search.query.SearchQueryBatchResult;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+public class HibernateOrmSearchQueryBatch implements SearchQueryBatch {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final CompositeIndexSearchBatch delegate = new CompositeIndexSearchBatch();
+	private final List<HibernateOrmSearchQuery<?>> queries = new ArrayList<>();
+
+	@Override
+	public String toString() {
+		return "HibernateOrmSearchQueryBatch(" + queries + ")";
+	}
+
+	@Override
+	public SearchQueryBatch add(SearchQuery<?> query, Long limit, Long offset) {
+		HibernateOrmSearchQuery<?> ormQuery = (HibernateOrmSearchQuery<?>) query;
+		for ( HibernateOrmSearchQuery<?> existingQuery : queries ) {
+			if ( existingQuery == ormQuery ) {
+				throw log.queryAlreadyInBatch( ormQuery );
+			}
+		}
+		delegate.add( ormQuery.getIndexSearchQuery(), limit, offset );
+		queries.add( ormQuery );
+		return this;
+	}
+
+	@Override
+	public SearchQueryBatchResult fetch() {
+		return toResult( delegate.fetch() );
+	}
+
+	@Override
+	public CompletionStage<SearchQueryBatchResult> fetchAsync() {
+		return delegate.fetchAsync().thenApply( this::toResult );
+	}
+
+	private SearchQueryBatchResult toResult(List<IndexSearchResult<?>> results) {
+		return new HibernateOrmSearchQueryBatchResult( queries, results );
+	}
+}
@@ -0,0 +1,30 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.search.query.impl;
+
+import org.hibernate.search.engine.search.query.spi.IndexSearchScroll;
+import org.hibernate.search.mapper.orm.search.query.SearchResult;
+import org.hibernate.search.mapper.orm.search.query.SearchScroll;
+
+class HibernateOrmSearchScroll<T> implements SearchScroll<T> {
+
+	private final IndexSearchScroll<T> delegate;
+
+	HibernateOrmSearchScroll(IndexSearchScroll<T> delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public SearchResult<T> next() {
+		return new HibernateOrmSearchResult<>( delegate.next() );
+	}
+
+	@Override
+	public void close() {
+		delegate.close();
+	}
+}
@@ -16,6 +16,7 @@
 import org.hibernate.search.mapper.orm.search.SearchScope;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
 import org.hibernate.search.mapper.orm.search.dsl.query.SearchQueryResultDefinitionContext;
+import org.hibernate.search.mapper.orm.search.query.SearchQueryBatch;
 
 public interface SearchSession {
 
@@ -84,6 +85,18 @@ default <T> SearchScope<T> scope(Class<T> type) {
 	 */
 	MassIndexer createIndexer(Class<?>... types);
 
+	/**
+	 * Creates a {@link SearchQueryBatch} to execute multiple search queries together.
+	 * <p>
+	 * This is useful when several independent queries are needed at once,
+	 * for instance to display the results of a search along with related items:
+	 * queries targeting the same backend are executed in as few round trips as possible.
+	 *
+	 * @return The created batch.
+	 * @see SearchQueryBatch
+	 */
+	SearchQueryBatch createQueryBatch();
+
 	/**
 	 * @return The underlying {@link EntityManager} used by this {@link SearchSession}.
 	 */
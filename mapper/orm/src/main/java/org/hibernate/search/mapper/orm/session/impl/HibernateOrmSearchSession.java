@@ -16,6 +16,9 @@
 import org.hibernate.search.mapper.orm.massindexing.impl.MassIndexerImpl;
 import org.hibernate.search.mapper.orm.search.SearchScope;
 import org.hibernate.search.mapper.orm.search.impl.SearchScopeImpl;
+import org.hibernate.search.mapper.orm.search.loading.impl.EntityLoadingQueue;
+import org.hibernate.search.mapper.orm.search.query.SearchQueryBatch;
+import org.hibernate.search.mapper.orm.search.query.impl.HibernateOrmSearchQueryBatch;
 import org.hibernate.search.mapper.orm.session.SearchSession;
 import org.hibernate.search.mapper.orm.session.spi.SearchSessionImplementor;
 import org.hibernate.search.mapper.orm.session.spi.SearchSessionBuilder;
@@ -34,10 +37,13 @@
 public class HibernateOrmSearchSession extends AbstractPojoSearchSession
 		implements SearchSessionImplementor, SearchSession {
 	private final SessionImplementor sessionImplementor;
+	// Shared by all the queries of this session, so that they never load entities concurrently
+	private final EntityLoadingQueue entityLoadingQueue;
 
 	private HibernateOrmSearchSession(HibernateOrmSearchSessionBuilder builder) {
 		super( builder );
 		this.sessionImplementor = builder.sessionImplementor;
+		this.entityLoadingQueue = new EntityLoadingQueue( builder.mappingContext.getEntityLoadingExecutor() );
 	}
 
 	@Override
@@ -58,7 +64,7 @@ public Session toOrmSession() {
 	@Override
 	public <T> SearchScope<T> scope(Collection<? extends Class<? extends T>> types) {
 		PojoSearchScopeDelegate<T, T> searchScopeDelegate = getDelegate().createPojoSearchScope( types );
-		return new SearchScopeImpl<>( searchScopeDelegate, sessionImplementor );
+		return new SearchScopeImpl<>( searchScopeDelegate, sessionImplementor, entityLoadingQueue );
 	}
 
 	@Override
@@ -71,6 +77,11 @@ public MassIndexer createIndexer(Class<?>... types) {
 		return new MassIndexerImpl( sessionImplementor.getFactory(), sessionImplementor.getTenantIdentifier(), types );
 	}
 
+	@Override
+	public SearchQueryBatch createQueryBatch() {
+		return new HibernateOrmSearchQueryBatch();
+	}
+
 	@Override
 	public PojoWorkPlan createWorkPlan() {
 		return getDelegate().createWorkPlan();
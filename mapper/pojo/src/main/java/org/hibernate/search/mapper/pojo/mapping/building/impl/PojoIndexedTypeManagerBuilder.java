@@ -15,6 +15,7 @@
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.mapper.mapping.building.spi.IndexManagerBuildingState;
 import org.hibernate.search.engine.mapper.mapping.building.spi.IndexBindingContext;
+import org.hibernate.search.engine.metrics.spi.MetricsRegistry;
 import org.hibernate.search.mapper.pojo.bridge.IdentifierBridge;
 import org.hibernate.search.mapper.pojo.bridge.RoutingKeyBridge;
 import org.hibernate.search.mapper.pojo.bridge.mapping.BridgeBuilder;
@@ -26,6 +27,7 @@
 import org.hibernate.search.mapper.pojo.mapping.impl.IdentifierMapping;
 import org.hibernate.search.mapper.pojo.mapping.impl.PojoIndexedTypeManager;
 import org.hibernate.search.mapper.pojo.mapping.impl.PojoIndexedTypeManagerContainer;
+import org.hibernate.search.mapper.pojo.mapping.impl.PojoIndexingMetrics;
 import org.hibernate.search.mapper.pojo.mapping.impl.PropertyIdentifierMapping;
 import org.hibernate.search.mapper.pojo.mapping.impl.RoutingKeyBridgeRoutingKeyProvider;
 import org.hibernate.search.mapper.pojo.mapping.impl.RoutingKeyProvider;
@@ -49,6 +51,7 @@
 	private final PojoTypeAdditionalMetadata typeAdditionalMetadata;
 	private final PojoMappingHelper mappingHelper;
 	private final IndexManagerBuildingState<D> indexManagerBuildingState;
+	private final MetricsRegistry metricsRegistry;
 
 	private final PojoIdentityMappingCollectorImpl identityMappingCollector;
 	private final PojoIndexingProcessorTypeNodeBuilder<E> processorBuilder;
@@ -61,11 +64,13 @@
 			PojoTypeAdditionalMetadata typeAdditionalMetadata,
 			PojoMappingHelper mappingHelper,
 			IndexManagerBuildingState<D> indexManagerBuildingState,
-			IdentifierMapping<?, E> defaultIdentifierMapping) {
+			IdentifierMapping<?, E> defaultIdentifierMapping,
+			MetricsRegistry metricsRegistry) {
 		this.typeModel = typeModel;
 		this.typeAdditionalMetadata = typeAdditionalMetadata;
 		this.mappingHelper = mappingHelper;
 		this.indexManagerBuildingState = indexManagerBuildingState;
+		this.metricsRegistry = metricsRegistry;
 		this.identityMappingCollector = new PojoIdentityMappingCollectorImpl( defaultIdentifierMapping );
 		IndexBindingContext bindingContext = indexManagerBuildingState.getIndexedEntityBindingContext();
 		this.processorBuilder = new PojoIndexingProcessorTypeNodeBuilder<>(
@@ -147,7 +152,8 @@ void buildAndAddTo(PojoIndexedTypeManagerContainer.Builder typeManagersBuilder,
 				identifierMapping, routingKeyProvider,
 				preBuiltIndexingProcessor,
 				indexManagerBuildingState.build(),
-				reindexingResolverOptional.orElseGet( PojoImplicitReindexingResolver::noOp )
+				reindexingResolverOptional.orElseGet( PojoImplicitReindexingResolver::noOp ),
+				new PojoIndexingMetrics( metricsRegistry, indexManagerBuildingState.getIndexName() )
 		);
 		log.createdPojoIndexedTypeManager( typeManager );
 
@@ -23,6 +23,7 @@
 import org.hibernate.search.engine.mapper.mapping.spi.MappingBuildContext;
 import org.hibernate.search.engine.mapper.mapping.spi.MappingPartialBuildState;
 import org.hibernate.search.engine.mapper.model.spi.MappableTypeModel;
+import org.hibernate.search.engine.metrics.spi.MetricsRegistry;
 import org.hibernate.search.engine.reporting.spi.ContextualFailureCollector;
 import org.hibernate.search.mapper.pojo.bridge.impl.BridgeResolver;
 import org.hibernate.search.mapper.pojo.dirtiness.building.impl.PojoAssociationPathInverter;
@@ -60,6 +61,7 @@
 	private final PojoTypeAdditionalMetadataProvider typeAdditionalMetadataProvider;
 	private final ContainerExtractorBinder extractorBinder;
 	private final PojoMappingHelper mappingHelper;
+	private final MetricsRegistry metricsRegistry;
 
 	// Use a LinkedHashMap for deterministic iteration
 	private final Map<PojoRawTypeModel<?>,PojoIndexedTypeManagerBuilder<?, ?>> indexedTypeManagerBuilders =
@@ -73,6 +75,7 @@ public PojoMapper(MappingBuildContext buildContext,
 			boolean implicitProvidedId,
 			Function<PojoMappingDelegate, MPBS> wrapperFactory) {
 		this.failureCollector = buildContext.getFailureCollector();
+		this.metricsRegistry = buildContext.getMetricsRegistry();
 		this.contributorProvider = contributorProvider;
 		this.implicitProvidedId = implicitProvidedId;
 		this.wrapperFactory = wrapperFactory;
@@ -119,7 +122,8 @@ public void addIndexed(MappableTypeModel typeModel, IndexManagerBuildingState<?>
 				typeAdditionalMetadataProvider.get( entityTypeModel ),
 				mappingHelper,
 				indexManagerBuildingState,
-				implicitProvidedId ? ProvidedStringIdentifierMapping.get() : null
+				implicitProvidedId ? ProvidedStringIdentifierMapping.get() : null,
+				metricsRegistry
 		);
 		// Put the builder in the map before anything else, so it will be closed on error
 		indexedTypeManagerBuilders.put( entityTypeModel, builder );
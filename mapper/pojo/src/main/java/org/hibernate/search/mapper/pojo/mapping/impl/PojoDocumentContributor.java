@@ -10,6 +10,7 @@
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.backend.index.spi.DocumentContributor;
+import org.hibernate.search.engine.metrics.spi.Timer;
 import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessor;
 import org.hibernate.search.mapper.pojo.session.context.spi.AbstractPojoSessionContextImplementor;
 
@@ -25,15 +26,20 @@
 
 	private final Supplier<E> entitySupplier;
 
+	private final Timer documentBuildTimer;
+
 	PojoDocumentContributor(PojoIndexingProcessor<E> processor, AbstractPojoSessionContextImplementor sessionContext,
-			Supplier<E> entitySupplier) {
+			Supplier<E> entitySupplier, Timer documentBuildTimer) {
 		this.processor = processor;
 		this.sessionContext = sessionContext;
 		this.entitySupplier = entitySupplier;
+		this.documentBuildTimer = documentBuildTimer;
 	}
 
 	@Override
 	public void contribute(D state) {
+		long startNanos = System.nanoTime();
 		processor.process( state, entitySupplier.get(), sessionContext );
+		documentBuildTimer.recordSince( startNanos );
 	}
 }
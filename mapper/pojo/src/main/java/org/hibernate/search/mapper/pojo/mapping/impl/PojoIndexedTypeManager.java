@@ -41,13 +41,15 @@
 	private final PojoIndexingProcessor<E> processor;
 	private final MappedIndexManager<D> indexManager;
 	private final PojoImplicitReindexingResolver<E, Set<String>> reindexingResolver;
+	private final PojoIndexingMetrics metrics;
 
 	public PojoIndexedTypeManager(Class<E> indexedJavaClass,
 			PojoCaster<E> caster,
 			IdentifierMapping<I, E> identifierMapping,
 			RoutingKeyProvider<E> routingKeyProvider,
 			PojoIndexingProcessor<E> processor, MappedIndexManager<D> indexManager,
-			PojoImplicitReindexingResolver<E, Set<String>> reindexingResolver) {
+			PojoImplicitReindexingResolver<E, Set<String>> reindexingResolver,
+			PojoIndexingMetrics metrics) {
 		this.indexedJavaClass = indexedJavaClass;
 		this.caster = caster;
 		this.identifierMapping = identifierMapping;
@@ -55,6 +57,7 @@ public PojoIndexedTypeManager(Class<E> indexedJavaClass,
 		this.processor = processor;
 		this.indexManager = indexManager;
 		this.reindexingResolver = reindexingResolver;
+		this.metrics = metrics;
 	}
 
 	@Override
@@ -94,6 +97,10 @@ IdentifierMapping<I, E> getIdentifierMapping() {
 		return identifierMapping;
 	}
 
+	PojoIndexingMetrics getMetrics() {
+		return metrics;
+	}
+
 	Class<E> getIndexedJavaClass() {
 		return indexedJavaClass;
 	}
@@ -115,7 +122,7 @@ DocumentReferenceProvider toDocumentReferenceProvider(AbstractPojoSessionContext
 	}
 
 	PojoDocumentContributor<D, E> toDocumentContributor(Supplier<E> entitySupplier, AbstractPojoSessionContextImplementor sessionContext) {
-		return new PojoDocumentContributor<>( processor, sessionContext, entitySupplier );
+		return new PojoDocumentContributor<>( processor, sessionContext, entitySupplier, metrics.getDocumentBuild() );
 	}
 
 	boolean requiresSelfReindexing(Set<String> dirtyPaths) {
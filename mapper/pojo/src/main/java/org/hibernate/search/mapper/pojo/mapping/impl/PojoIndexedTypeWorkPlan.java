@@ -204,6 +204,7 @@ void sendWorkToDelegate() {
 								referenceProvider,
 								typeManager.toDocumentContributor( entitySupplier, sessionContext )
 						);
+						typeManager.getMetrics().getUpdates().increment();
 					}
 				}
 				else {
@@ -211,10 +212,12 @@ void sendWorkToDelegate() {
 							referenceProvider,
 							typeManager.toDocumentContributor( entitySupplier, sessionContext )
 					);
+					typeManager.getMetrics().getAdds().increment();
 				}
 			}
 			else if ( delete ) {
 				delegate.delete( referenceProvider );
+				typeManager.getMetrics().getDeletes().increment();
 			}
 		}
 
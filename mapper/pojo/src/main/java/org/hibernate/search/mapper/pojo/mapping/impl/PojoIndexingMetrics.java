@@ -0,0 +1,58 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.mapping.impl;
+
+import org.hibernate.search.engine.metrics.spi.Counter;
+import org.hibernate.search.engine.metrics.spi.MetricsRegistry;
+import org.hibernate.search.engine.metrics.spi.Timer;
+
+/**
+ * The metrics reported by the POJO mapper for a single index.
+ * <p>
+ * Reported metrics, all tagged with the name of the index:
+ * <ul>
+ *     <li>{@value #DOCUMENT_BUILD}: a timer measuring how long it takes to build documents from entities.
+ *     <li>{@value #INDEXING_WORKS}: a counter of works sent to the backend,
+ *     additionally tagged with the operation ({@code add}, {@code update} or {@code delete}).
+ * </ul>
+ */
+public final class PojoIndexingMetrics {
+
+	public static final String DOCUMENT_BUILD = "hibernate.search.mapper.document.build";
+	public static final String INDEXING_WORKS = "hibernate.search.mapper.indexing.works";
+
+	private static final String INDEX_TAG = "index";
+	private static final String OPERATION_TAG = "operation";
+
+	private final Timer documentBuild;
+	private final Counter adds;
+	private final Counter updates;
+	private final Counter deletes;
+
+	public PojoIndexingMetrics(MetricsRegistry registry, String indexName) {
+		this.documentBuild = registry.timer( DOCUMENT_BUILD, INDEX_TAG, indexName );
+		this.adds = registry.counter( INDEXING_WORKS, INDEX_TAG, indexName, OPERATION_TAG, "add" );
+		this.updates = registry.counter( INDEXING_WORKS, INDEX_TAG, indexName, OPERATION_TAG, "update" );
+		this.deletes = registry.counter( INDEXING_WORKS, INDEX_TAG, indexName, OPERATION_TAG, "delete" );
+	}
+
+	Timer getDocumentBuild() {
+		return documentBuild;
+	}
+
+	Counter getAdds() {
+		return adds;
+	}
+
+	Counter getUpdates() {
+		return updates;
+	}
+
+	Counter getDeletes() {
+		return deletes;
+	}
+}
@@ -31,6 +31,9 @@ public CompletableFuture<?> add(Object providedId, Object entity) {
 		Supplier<E> entitySupplier = typeManager.toEntitySupplier( sessionContext, entity );
 		I identifier = typeManager.getIdentifierMapping().getIdentifier( providedId, entitySupplier );
 		DocumentReferenceProvider referenceProvider = typeManager.toDocumentReferenceProvider( sessionContext, identifier, entitySupplier );
-		return delegate.add( referenceProvider, typeManager.toDocumentContributor( entitySupplier, sessionContext ) );
+		CompletableFuture<?> future =
+				delegate.add( referenceProvider, typeManager.toDocumentContributor( entitySupplier, sessionContext ) );
+		typeManager.getMetrics().getAdds().increment();
+		return future;
 	}
 }
@@ -48,6 +48,16 @@ public CompletableFuture<?> flush(Collection<Class<?>> types) {
 		return doOperationOnTypes( IndexWorkExecutor::flush, types );
 	}
 
+	@Override
+	public CompletableFuture<?> startBulkIndexing(Collection<Class<?>> types) {
+		return doOperationOnTypes( IndexWorkExecutor::startBulkIndexing, types );
+	}
+
+	@Override
+	public CompletableFuture<?> endBulkIndexing(Collection<Class<?>> types) {
+		return doOperationOnTypes( IndexWorkExecutor::endBulkIndexing, types );
+	}
+
 	private CompletableFuture<?> doOperationOnTypes(Function<IndexWorkExecutor, CompletableFuture<?>> operation, Collection<Class<?>> types) {
 		CompletableFuture<?>[] futures = new CompletableFuture<?>[types.size()];
 		int typeCounter = 0;
@@ -17,4 +17,8 @@ public interface PojoMappingWorkExecutor {
 
 	CompletableFuture<?> flush(Collection<Class<?>> types);
 
+	CompletableFuture<?> startBulkIndexing(Collection<Class<?>> types);
+
+	CompletableFuture<?> endBulkIndexing(Collection<Class<?>> types);
+
 }
@@ -12,6 +12,7 @@
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -230,6 +231,23 @@ public BackendMock preparedThenExecuted() {
 			return BackendMock.this;
 		}
 
+		/**
+		 * Expect all works to be prepared, then expect all works to be executed,
+		 * and make each execution fail with the given exception.
+		 *
+		 * @param failure The failure to report when executing the works.
+		 * @return The backend mock, for method chaining.
+		 */
+		public BackendMock preparedThenFailed(Throwable failure) {
+			works.stream()
+					.map( work -> new IndexWorkCall( indexName, IndexWorkCall.WorkPhase.PREPARE, work ) )
+					.forEach( expectationConsumer );
+			works.stream()
+					.map( work -> new IndexWorkCall( indexName, IndexWorkCall.WorkPhase.EXECUTE, work, failure ) )
+					.forEach( expectationConsumer );
+			return BackendMock.this;
+		}
+
 		public BackendMock executed() {
 			works.stream()
 					.map( work -> new IndexWorkCall( indexName, IndexWorkCall.WorkPhase.EXECUTE, work ) )
@@ -329,12 +347,10 @@ public CompletableFuture<?> prepareAndExecuteWork(String indexName, StubIndexWor
 					new IndexWorkCall( indexName, IndexWorkCall.WorkPhase.PREPARE, work ),
 					IndexWorkCall::verify
 			);
-			callQueue.verify(
+			return callQueue.verify(
 					new IndexWorkCall( indexName, IndexWorkCall.WorkPhase.EXECUTE, work ),
 					IndexWorkCall::verify
 			);
-
-			return CompletableFuture.completedFuture( null );
 		}
 
 		@Override
@@ -346,6 +362,15 @@ public <T> IndexSearchResult<T> executeSearchWork(List<String> indexNames, StubS
 					SearchWorkCall::<T>verify );
 		}
 
+		@Override
+		public <T> CompletionStage<IndexSearchResult<T>> executeSearchWorkAsync(List<String> indexNames,
+				StubSearchWork work, FromDocumentFieldValueConvertContext convertContext,
+				ProjectionHitMapper<?, ?> projectionHitMapper, StubSearchProjection<T> rootProjection) {
+			return searchCalls.verify(
+					new SearchWorkCall<>( indexNames, work, convertContext, projectionHitMapper, rootProjection ),
+					SearchWorkCall::<T>verifyAsync );
+		}
+
 		@Override
 		public CompletableFuture<?> executeBulkWork(String indexName, StubIndexWork work) {
 			if ( work.getDocument() != null ) {
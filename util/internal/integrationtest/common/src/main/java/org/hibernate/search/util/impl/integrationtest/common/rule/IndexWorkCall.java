@@ -24,11 +24,21 @@ enum WorkPhase {
 	private final String indexName;
 	private final WorkPhase phase;
 	private final StubIndexWork work;
+	private final Throwable executionFailure;
 
 	IndexWorkCall(String indexName, WorkPhase phase, StubIndexWork work) {
+		this( indexName, phase, work, null );
+	}
+
+	/**
+	 * @param executionFailure The failure to report when executing the work,
+	 * or {@code null} for the execution to succeed.
+	 */
+	IndexWorkCall(String indexName, WorkPhase phase, StubIndexWork work, Throwable executionFailure) {
 		this.indexName = indexName;
 		this.phase = phase;
 		this.work = work;
+		this.executionFailure = executionFailure;
 	}
 
 	public CompletableFuture<?> verify(IndexWorkCall actualCall) {
@@ -42,7 +52,14 @@ public CompletableFuture<?> verify(IndexWorkCall actualCall) {
 		StubIndexWorkAssert.assertThat( actualCall.work )
 				.as( "Incorrect work " + whenThisWorkWasExpected + ":\n" )
 				.matches( work );
-		return CompletableFuture.completedFuture( null );
+		CompletableFuture<?> future = new CompletableFuture<>();
+		if ( executionFailure != null ) {
+			future.completeExceptionally( executionFailure );
+		}
+		else {
+			future.complete( null );
+		}
+		return future;
 	}
 
 	@Override
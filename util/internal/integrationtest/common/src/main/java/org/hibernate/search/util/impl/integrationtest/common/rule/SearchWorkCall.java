@@ -11,6 +11,7 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentFieldValueConvertContext;
 import org.hibernate.search.engine.search.query.spi.IndexSearchResult;
@@ -55,50 +56,53 @@
 	}
 
 	public <U> IndexSearchResult<U> verify(SearchWorkCall<U> actualCall) {
-		assertThat( actualCall.indexNames )
-				.as( "Search work did not target the expected indexes: " )
-				.isEqualTo( indexNames );
-		StubSearchWorkAssert.assertThat( actualCall.work )
-				.as( "Search work on indexes " + indexNames + " did not match: " )
-				.matches( work );
-
-		long totalHitCount = behavior.getTotalHitCount();
-
+		List<Object> extractedElements = verifyAndExtract( actualCall );
+		LoadingResult<?> loadingResult = actualCall.projectionHitMapper.loadBlocking();
 		return new SimpleIndexSearchResult<>(
-				totalHitCount,
-				getResults(
-						actualCall.convertContext,
-						actualCall.projectionHitMapper,
-						actualCall.rootProjection,
-						behavior.getRawHits()
-				)
+				behavior.getTotalHitCount(),
+				transform( actualCall.rootProjection, loadingResult, extractedElements )
 		);
 	}
 
+	public <U> CompletionStage<IndexSearchResult<U>> verifyAsync(SearchWorkCall<U> actualCall) {
+		List<Object> extractedElements = verifyAndExtract( actualCall );
+		long totalHitCount = behavior.getTotalHitCount();
+		return actualCall.projectionHitMapper.loadAsync()
+				.thenApply( loadingResult -> new SimpleIndexSearchResult<>(
+						totalHitCount,
+						transform( actualCall.rootProjection, loadingResult, extractedElements )
+				) );
+	}
+
 	@Override
 	protected boolean isSimilarTo(SearchWorkCall<?> other) {
 		return Objects.equals( indexNames, other.indexNames );
 	}
 
-	private static <U> List<U> getResults(FromDocumentFieldValueConvertContext actualConvertContext,
-			ProjectionHitMapper<?, ?> actualProjectionHitMapper,
-			StubSearchProjection<U> actualRootProjection,
-			List<?> rawHits) {
-		List<Object> extractedElements = new ArrayList<>( rawHits.size() );
+	private List<Object> verifyAndExtract(SearchWorkCall<?> actualCall) {
+		assertThat( actualCall.indexNames )
+				.as( "Search work did not target the expected indexes: " )
+				.isEqualTo( indexNames );
+		StubSearchWorkAssert.assertThat( actualCall.work )
+				.as( "Search work on indexes " + indexNames + " did not match: " )
+				.matches( work );
 
+		List<?> rawHits = behavior.getRawHits();
+		List<Object> extractedElements = new ArrayList<>( rawHits.size() );
 		for ( Object rawHit : rawHits ) {
-			extractedElements.add(
-					actualRootProjection.extract( actualProjectionHitMapper, rawHit, actualConvertContext ) );
+			extractedElements.add( actualCall.rootProjection.extract(
+					actualCall.projectionHitMapper, rawHit, actualCall.convertContext
+			) );
 		}
+		return extractedElements;
+	}
 
-		LoadingResult<?> loadingResult = actualProjectionHitMapper.loadBlocking();
-
-		List<U> results = new ArrayList<>( rawHits.size() );
-
+	private static <U> List<U> transform(StubSearchProjection<U> actualRootProjection,
+			LoadingResult<?> loadingResult, List<Object> extractedElements) {
+		List<U> results = new ArrayList<>( extractedElements.size() );
 		for ( Object extractedElement : extractedElements ) {
 			results.add( actualRootProjection.transform( loadingResult, extractedElement ) );
 		}
-
 		return results;
 	}
 
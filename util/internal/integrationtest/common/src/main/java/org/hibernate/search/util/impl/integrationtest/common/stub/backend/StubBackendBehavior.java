@@ -10,6 +10,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentFieldValueConvertContext;
 import org.hibernate.search.engine.search.query.spi.IndexSearchResult;
@@ -60,6 +61,14 @@ public <T> IndexSearchResult<T> executeSearchWork(List<String> indexNames, StubS
 					+ indexNames + "': " + work );
 		}
 
+		@Override
+		public <T> CompletionStage<IndexSearchResult<T>> executeSearchWorkAsync(List<String> indexNames,
+				StubSearchWork work, FromDocumentFieldValueConvertContext convertContext,
+				ProjectionHitMapper<?, ?> projectionHitMapper, StubSearchProjection<T> rootProjection) {
+			throw new IllegalStateException( "The stub backend behavior was not set when a search work was executed for indexes "
+					+ indexNames + "': " + work );
+		}
+
 		@Override
 		public CompletableFuture<?> executeBulkWork(String indexName, StubIndexWork work) {
 			throw new IllegalStateException( "The stub backend behavior was not set during execution of a bulk work for index '"
@@ -104,6 +113,10 @@ public abstract <T> IndexSearchResult<T> executeSearchWork(List<String> indexNam
 			FromDocumentFieldValueConvertContext convertContext,
 			ProjectionHitMapper<?, ?> projectionHitMapper, StubSearchProjection<T> rootProjection);
 
+	public abstract <T> CompletionStage<IndexSearchResult<T>> executeSearchWorkAsync(List<String> indexNames,
+			StubSearchWork work, FromDocumentFieldValueConvertContext convertContext,
+			ProjectionHitMapper<?, ?> projectionHitMapper, StubSearchProjection<T> rootProjection);
+
 	public abstract CompletableFuture<?> executeBulkWork(String indexName, StubIndexWork work);
 
 	public abstract long executeCountWork(List<String> indexNames);
@@ -6,12 +6,18 @@
  */
 package org.hibernate.search.util.impl.integrationtest.common.stub.backend.search;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentFieldValueConvertContext;
 import org.hibernate.search.engine.search.query.spi.IndexSearchQuery;
 import org.hibernate.search.engine.search.query.spi.IndexSearchResult;
+import org.hibernate.search.engine.search.query.spi.IndexSearchScroll;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
+import org.hibernate.search.engine.search.query.spi.SimpleIndexSearchResult;
+import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.impl.StubBackend;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.projection.impl.StubSearchProjection;
 
@@ -52,4 +58,44 @@ public IndexSearchResult<T> fetch(Long limit, Long offset) {
 	public long fetchTotalHitCount() {
 		return backend.getBehavior().executeCountWork( indexNames );
 	}
+
+	@Override
+	public CompletionStage<IndexSearchResult<T>> fetchAsync(Long limit, Long offset) {
+		// The stub backend executes works synchronously, but loads objects asynchronously like other backends
+		workBuilder.limit( limit ).offset( offset );
+		return Futures.create( () -> backend.getBehavior().executeSearchWorkAsync(
+				indexNames, workBuilder.build(), convertContext, projectionHitMapper, rootProjection
+		).toCompletableFuture() );
+	}
+
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		return Futures.create( () -> CompletableFuture.completedFuture( fetchTotalHitCount() ) );
+	}
+
+	@Override
+	public IndexSearchScroll<T> scroll(int chunkSize) {
+		return new IndexSearchScroll<T>() {
+			private long offset = 0L;
+			private long totalHitCount = 0L;
+			private boolean exhausted = false;
+
+			@Override
+			public IndexSearchResult<T> next() {
+				if ( exhausted ) {
+					return new SimpleIndexSearchResult<>( totalHitCount, Collections.emptyList() );
+				}
+				IndexSearchResult<T> result = fetch( (long) chunkSize, offset );
+				totalHitCount = result.getTotalHitCount();
+				offset += result.getHits().size();
+				exhausted = result.getHits().size() < chunkSize;
+				return result;
+			}
+
+			@Override
+			public void close() {
+				// Nothing to do
+			}
+		};
+	}
 }
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.util.impl.integrationtest.common.stub.backend.search;
 
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentFieldValueConvertContext;
@@ -47,6 +48,16 @@ public void addRoutingKey(String routingKey) {
 		workBuilder.routingKey( routingKey );
 	}
 
+	@Override
+	public void failAfter(long timeout, TimeUnit timeUnit) {
+		workBuilder.failAfter( timeout, timeUnit );
+	}
+
+	@Override
+	public void truncateAfter(long timeout, TimeUnit timeUnit) {
+		workBuilder.truncateAfter( timeout, timeUnit );
+	}
+
 	@Override
 	public <Q> Q build(Function<IndexSearchQuery<T>, Q> searchQueryWrapperFactory) {
 		StubIndexSearchQuery<T> searchQuery = new StubIndexSearchQuery<>(
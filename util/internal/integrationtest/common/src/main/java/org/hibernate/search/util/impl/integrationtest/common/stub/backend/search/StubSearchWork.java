@@ -9,6 +9,7 @@
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 public class StubSearchWork {
 
@@ -26,12 +27,18 @@ public static Builder builder(ResultType resultType) {
 	private final List<String> routingKeys;
 	private final Long offset;
 	private final Long limit;
+	private final Long timeout;
+	private final TimeUnit timeUnit;
+	private final Boolean exceptionOnTimeout;
 
 	private StubSearchWork(Builder builder) {
 		this.resultType = builder.resultType;
 		this.routingKeys = Collections.unmodifiableList( new ArrayList<>( builder.routingKeys ) );
 		this.offset = builder.offset;
 		this.limit = builder.limit;
+		this.timeout = builder.timeout;
+		this.timeUnit = builder.timeUnit;
+		this.exceptionOnTimeout = builder.exceptionOnTimeout;
 	}
 
 	public ResultType getResultType() {
@@ -50,12 +57,27 @@ public Long getLimit() {
 		return limit;
 	}
 
+	public Long getTimeout() {
+		return timeout;
+	}
+
+	public TimeUnit getTimeUnit() {
+		return timeUnit;
+	}
+
+	public Boolean getExceptionOnTimeout() {
+		return exceptionOnTimeout;
+	}
+
 	@Override
 	public String toString() {
 		return "StubSearchWork[" +
 				", routingKeys=" + routingKeys +
 				", offset=" + offset +
 				", limit=" + limit +
+				", timeout=" + timeout +
+				", timeUnit=" + timeUnit +
+				", exceptionOnTimeout=" + exceptionOnTimeout +
 				']';
 	}
 
@@ -65,6 +87,9 @@ public static class Builder {
 		private final List<String> routingKeys = new ArrayList<>();
 		private Long offset;
 		private Long limit;
+		private Long timeout;
+		private TimeUnit timeUnit;
+		private Boolean exceptionOnTimeout;
 
 		private Builder(ResultType resultType) {
 			this.resultType = resultType;
@@ -85,6 +110,21 @@ public Builder limit(Long limit) {
 			return this;
 		}
 
+		public Builder failAfter(long timeout, TimeUnit timeUnit) {
+			return timeout( timeout, timeUnit, true );
+		}
+
+		public Builder truncateAfter(long timeout, TimeUnit timeUnit) {
+			return timeout( timeout, timeUnit, false );
+		}
+
+		private Builder timeout(long timeout, TimeUnit timeUnit, boolean exceptionOnTimeout) {
+			this.timeout = timeout;
+			this.timeUnit = timeUnit;
+			this.exceptionOnTimeout = exceptionOnTimeout;
+			return this;
+		}
+
 		public StubSearchWork build() {
 			return new StubSearchWork( this );
 		}